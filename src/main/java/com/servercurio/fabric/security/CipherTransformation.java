@@ -17,6 +17,8 @@
 package com.servercurio.fabric.security;
 
 import com.servercurio.fabric.security.spi.CryptoPrimitiveSupplier;
+import com.servercurio.fabric.security.spi.SecurityProviders;
+import java.security.GeneralSecurityException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.security.Provider;
@@ -302,8 +304,8 @@ public class CipherTransformation implements Comparable<CipherTransformation>, C
         }
 
         try {
-            return Cipher.getInstance(toCipherTransform());
-        } catch (NoSuchPaddingException | NoSuchAlgorithmException ex) {
+            return SecurityProviders.lookup(() -> Cipher.getInstance(toCipherTransform()));
+        } catch (GeneralSecurityException ex) {
             throw new CryptographyException(ex);
         }
     }
@@ -315,6 +317,10 @@ public class CipherTransformation implements Comparable<CipherTransformation>, C
     public Cipher instance(@NotNull final String provider) {
         throwIfArgIsNull(provider, PROVIDER_PARAM);
 
+        if (SecurityProviders.FALLBACK_PROVIDER_NAME.equals(provider)) {
+            SecurityProviders.registerFallback();
+        }
+
         try {
             return Cipher.getInstance(toCipherTransform(), provider);
         } catch (NoSuchPaddingException | NoSuchAlgorithmException | NoSuchProviderException ex) {
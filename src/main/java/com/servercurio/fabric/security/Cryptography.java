@@ -19,10 +19,18 @@ package com.servercurio.fabric.security;
 import com.servercurio.fabric.security.impl.DefaultCryptographyImpl;
 import com.servercurio.fabric.security.spi.DigestProvider;
 import com.servercurio.fabric.security.spi.EncryptionProvider;
+import com.servercurio.fabric.security.spi.ExecutorConfiguration;
+import com.servercurio.fabric.security.spi.ExecutorMode;
 import com.servercurio.fabric.security.spi.MacProvider;
 import com.servercurio.fabric.security.spi.PrimitiveProvider;
 import com.servercurio.fabric.security.spi.SignatureProvider;
+import com.servercurio.fabric.security.spi.WarmupConfiguration;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
 
 /**
  * Provides the {@code Fabric Unified Cryptography API} primary entry-point. The core API is broken down into multiple
@@ -53,6 +61,40 @@ public interface Cryptography extends AutoCloseable {
         return ServiceLoader.load(Cryptography.class).findFirst().orElseGet(DefaultCryptographyImpl::newInstance);
     }
 
+    /**
+     * Factory method for new instances of the default cryptography implementation which execute all asynchronous
+     * operations using the thread model specified by the {@code executorMode} parameter.
+     *
+     * @param executorMode
+     *         the thread model to be used for asynchronous operations, not null
+     * @return a new {@link Cryptography} instance using the default implementation, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executorMode} parameter is null
+     * @throws UnsupportedOperationException
+     *         if the {@code executorMode} is not supported by the current Java runtime
+     * @see ExecutorMode#isSupported()
+     */
+    static Cryptography newDefaultInstance(final ExecutorMode executorMode) {
+        return DefaultCryptographyImpl.newInstance(executorMode);
+    }
+
+    /**
+     * Factory method for new instances of the default cryptography implementation which execute all asynchronous
+     * operations using an executor sized and bounded according to the {@code configuration} parameter.
+     *
+     * @param configuration
+     *         the configuration of the executor used for asynchronous operations, not null
+     * @return a new {@link Cryptography} instance using the default implementation, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration} parameter is null or if the configured core pool size is greater than the
+     *         maximum pool size
+     * @throws UnsupportedOperationException
+     *         if the configured {@link ExecutorMode} is not supported by the current Java runtime
+     */
+    static Cryptography newDefaultInstance(final ExecutorConfiguration configuration) {
+        return DefaultCryptographyImpl.newInstance(configuration);
+    }
+
     /**
      * Provides all the cryptographic hash functionality.
      *
@@ -88,6 +130,48 @@ public interface Cryptography extends AutoCloseable {
      */
     SignatureProvider signature();
 
+    /**
+     * Asynchronously prepares this instance for production traffic by creating the primitives and running
+     * representative operations for each algorithm in the {@code configuration} until they have been optimized by the
+     * JIT compiler. Invoking this method once at startup prevents the first requests from incurring the cost of
+     * primitive creation and interpreted execution. The default implementation does nothing.
+     *
+     * @param configuration
+     *         the algorithms and limits of the warm-up, not null
+     * @return a {@link CompletableFuture} which is completed once the warm-up has finished or its timeout has elapsed,
+     *         not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration} parameter is null
+     */
+    default CompletableFuture<Void> warmUpAsync(@NotNull final WarmupConfiguration configuration) {
+        throwIfArgIsNull(configuration, "configuration");
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Synchronously prepares this instance for production traffic as described by the {@link
+     * #warmUpAsync(WarmupConfiguration)} method.
+     *
+     * @param configuration
+     *         the algorithms and limits of the warm-up, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration} parameter is null
+     * @throws CryptographyException
+     *         if an error occurs while warming up one of the algorithms
+     */
+    default void warmUpSync(@NotNull final WarmupConfiguration configuration) {
+        try {
+            warmUpAsync(configuration).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw new CryptographyException(ex.getCause());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
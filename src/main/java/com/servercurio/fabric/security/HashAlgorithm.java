@@ -17,6 +17,8 @@
 package com.servercurio.fabric.security;
 
 import com.servercurio.fabric.security.spi.CryptoPrimitiveSupplier;
+import com.servercurio.fabric.security.spi.SecurityProviders;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
@@ -110,7 +112,69 @@ public enum HashAlgorithm implements CryptoPrimitiveSupplier<MessageDigest> {
      * @see <a href="https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.202.pdf">
      *         https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.202.pdf</a>
      */
-    SHA3_512(9, "SHA3-512", 512);
+    SHA3_512(9, "SHA3-512", 512),
+
+    /**
+     * The BLAKE2b algorithm with a 256-bit output as defined by RFC-7693.
+     *
+     * @see <a href="https://tools.ietf.org/html/rfc7693">https://tools.ietf.org/html/rfc7693</a>
+     */
+    BLAKE2B_256(10, "BLAKE2B-256", 256),
+
+    /**
+     * The BLAKE2b algorithm with a 512-bit output as defined by RFC-7693.
+     *
+     * @see <a href="https://tools.ietf.org/html/rfc7693">https://tools.ietf.org/html/rfc7693</a>
+     */
+    BLAKE2B_512(11, "BLAKE2B-512", 512),
+
+    /**
+     * The unkeyed BLAKE3 algorithm with a 256-bit output. The internal tree structure of BLAKE3 allows the digest of a
+     * single large input to be computed by multiple threads; the {@code DigestProvider} does so automatically for large
+     * {@link java.nio.ByteBuffer} and file inputs.
+     *
+     * @see <a href="https://github.com/BLAKE3-team/BLAKE3-specs/blob/master/blake3.pdf">The BLAKE3 specification</a>
+     */
+    BLAKE3_256(12, "BLAKE3-256", 256),
+
+    /**
+     * The CRC-32C (Castagnoli) checksum as defined by RFC-3720 with the value encoded in big endian byte order.
+     *
+     * <p>
+     * <strong>This algorithm is not cryptographic.</strong> It detects accidental corruption only and must never be
+     * used where an adversary may choose the input. Large {@link java.nio.ByteBuffer} and file inputs are divided into
+     * segments which are checksummed in parallel and combined.
+     *
+     * @see <a href="https://tools.ietf.org/html/rfc3720#appendix-B.4">https://tools.ietf.org/html/rfc3720</a>
+     * @see #isCryptographic()
+     */
+    CRC32C(13, "CRC32C", 32, false),
+
+    /**
+     * The 64-bit xxHash (XXH64) algorithm with a seed of zero and the value encoded in the canonical big endian byte
+     * order.
+     *
+     * <p>
+     * <strong>This algorithm is not cryptographic.</strong> It detects accidental corruption only and must never be
+     * used where an adversary may choose the input.
+     *
+     * @see <a href="https://github.com/Cyan4973/xxHash/blob/dev/doc/xxhash_spec.md">The xxHash specification</a>
+     * @see #isCryptographic()
+     */
+    XXHASH_64(14, "XXHASH64", 64, false),
+
+    /**
+     * The 128-bit MurmurHash3 (x64 variant) algorithm with a seed of zero and the value encoded as the two 64-bit
+     * halves in little endian byte order.
+     *
+     * <p>
+     * <strong>This algorithm is not cryptographic.</strong> It detects accidental corruption only and must never be
+     * used where an adversary may choose the input.
+     *
+     * @see <a href="https://github.com/aappleby/smhasher/wiki/MurmurHash3">MurmurHash3</a>
+     * @see #isCryptographic()
+     */
+    MURMUR3_128(15, "MURMUR3-128", 128, false);
 
     /**
      * The {@code NONE} algorithm name represented as a string value.
@@ -175,7 +239,12 @@ public enum HashAlgorithm implements CryptoPrimitiveSupplier<MessageDigest> {
     private final int id;
 
     /**
-     * Enumeration Constructor.
+     * Indicates whether the algorithm is a cryptographic hash function.
+     */
+    private final boolean cryptographic;
+
+    /**
+     * Enumeration Constructor for cryptographic hash algorithms.
      *
      * @param id
      *         the unique identifier for this algorithm
@@ -185,6 +254,23 @@ public enum HashAlgorithm implements CryptoPrimitiveSupplier<MessageDigest> {
      *         the number of bits in the hash value produced by this algorithm, positive and greater than zero
      */
     HashAlgorithm(final int id, @NotNull final String algorithmName, @Positive final int bits) {
+        this(id, algorithmName, bits, true);
+    }
+
+    /**
+     * Enumeration Constructor.
+     *
+     * @param id
+     *         the unique identifier for this algorithm
+     * @param algorithmName
+     *         the standard name for this algorithm as specified by the Java Security documentation, not null
+     * @param bits
+     *         the number of bits in the hash value produced by this algorithm, positive and greater than zero
+     * @param cryptographic
+     *         true if this algorithm is a cryptographic hash function; otherwise false
+     */
+    HashAlgorithm(final int id, @NotNull final String algorithmName, @Positive final int bits,
+                  final boolean cryptographic) {
         throwIfArgIsNull(algorithmName, ALGORITHM_NAME_FIELD);
 
         if (!NONE_ALGORITHM_NAME.equals(algorithmName)) {
@@ -195,6 +281,7 @@ public enum HashAlgorithm implements CryptoPrimitiveSupplier<MessageDigest> {
         this.algorithmName = algorithmName;
         this.bits = bits;
         this.bytes = bits / Byte.SIZE;
+        this.cryptographic = cryptographic;
     }
 
     /**
@@ -244,6 +331,17 @@ public enum HashAlgorithm implements CryptoPrimitiveSupplier<MessageDigest> {
         return bytes;
     }
 
+    /**
+     * Indicates whether this algorithm is a cryptographic hash function. Non-cryptographic algorithms, such as {@link
+     * #CRC32C}, are considerably faster but provide no resistance to deliberate collisions and are therefore only
+     * suitable for detecting accidental corruption on trusted paths.
+     *
+     * @return true if this algorithm is a cryptographic hash function; otherwise false
+     */
+    public boolean isCryptographic() {
+        return cryptographic;
+    }
+
     /**
      * Gets the unique identifier of this algorithm.
      *
@@ -259,8 +357,8 @@ public enum HashAlgorithm implements CryptoPrimitiveSupplier<MessageDigest> {
     @Override
     public MessageDigest instance() {
         try {
-            return MessageDigest.getInstance(algorithmName);
-        } catch (NoSuchAlgorithmException ex) {
+            return SecurityProviders.lookup(() -> MessageDigest.getInstance(algorithmName));
+        } catch (GeneralSecurityException ex) {
             throw new CryptographyException(ex);
         }
     }
@@ -272,6 +370,10 @@ public enum HashAlgorithm implements CryptoPrimitiveSupplier<MessageDigest> {
     public MessageDigest instance(@NotNull final String provider) {
         throwIfArgIsNull(provider, PROVIDER_PARAM);
 
+        if (SecurityProviders.FALLBACK_PROVIDER_NAME.equals(provider)) {
+            SecurityProviders.registerFallback();
+        }
+
         try {
             return MessageDigest.getInstance(algorithmName, provider);
         } catch (NoSuchAlgorithmException | NoSuchProviderException ex) {
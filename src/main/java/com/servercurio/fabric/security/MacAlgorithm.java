@@ -17,6 +17,8 @@
 package com.servercurio.fabric.security;
 
 import com.servercurio.fabric.security.spi.CryptoPrimitiveSupplier;
+import com.servercurio.fabric.security.spi.SecurityProviders;
+import java.security.GeneralSecurityException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.security.Provider;
@@ -25,7 +27,9 @@ import java.util.Map;
 import javax.crypto.Mac;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
 
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
 import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
 
 /**
@@ -94,7 +98,40 @@ public enum MacAlgorithm implements CryptoPrimitiveSupplier<Mac> {
      *
      * @see <a href="https://tools.ietf.org/html/rfc2104">https://tools.ietf.org/html/rfc2104</a>
      */
-    HMAC_SHA3_512(8, "HmacSHA3-512", HashAlgorithm.SHA3_512);
+    HMAC_SHA3_512(8, "HmacSHA3-512", HashAlgorithm.SHA3_512),
+
+    /**
+     * The KMAC128 algorithm as defined by NIST SP 800-185 with an empty customization string and a 256-bit output.
+     * The key may be of any non-zero length; however, a key of at least 128 bits should be used.
+     *
+     * @see <a href="https://doi.org/10.6028/NIST.SP.800-185">NIST SP 800-185</a>
+     */
+    KMAC_128(9, "KMAC128", 256, 0),
+
+    /**
+     * The KMAC256 algorithm as defined by NIST SP 800-185 with an empty customization string and a 512-bit output.
+     * The key may be of any non-zero length; however, a key of at least 256 bits should be used.
+     *
+     * @see <a href="https://doi.org/10.6028/NIST.SP.800-185">NIST SP 800-185</a>
+     */
+    KMAC_256(10, "KMAC256", 512, 0),
+
+    /**
+     * The AES-GMAC algorithm as defined by NIST SP 800-38D using a 128, 192, or 256-bit AES key and a 96-bit nonce.
+     * The nonce must never be reused with the same key.
+     *
+     * @see <a href="https://doi.org/10.6028/NIST.SP.800-38D">NIST SP 800-38D</a>
+     */
+    GMAC_AES(11, "AES-GMAC", 128, 12),
+
+    /**
+     * The Poly1305-AES algorithm as defined by D. J. Bernstein using a 256-bit key, the first half of which is the
+     * Poly1305 key and the second half the AES key, along with a 128-bit nonce. The nonce must never be reused with
+     * the same key.
+     *
+     * @see <a href="https://cr.yp.to/mac/poly1305-20050329.pdf">The Poly1305-AES message-authentication code</a>
+     */
+    POLY1305_AES(12, "POLY1305-AES", 128, 16);
 
     /**
      * The {@code algorithmName} field name represented as a string value.
@@ -111,6 +148,11 @@ public enum MacAlgorithm implements CryptoPrimitiveSupplier<Mac> {
      */
     private static final String HASH_ALGORITHM_FIELD = "hashAlgorithm";
 
+    /**
+     * The {@code bits} parameter name represented as a string value.
+     */
+    private static final String BITS_PARAM = "bits";
+
     /**
      * The {@code provider} parameter name represented as a string value.
      */
@@ -164,6 +206,12 @@ public enum MacAlgorithm implements CryptoPrimitiveSupplier<Mac> {
     @NotNull
     private final HashAlgorithm hashAlgorithm;
 
+    /**
+     * The number of bytes in the nonce required by the algorithm or zero if the algorithm does not accept a nonce.
+     */
+    @PositiveOrZero
+    private final int nonceSize;
+
     /**
      * Enumeration Constructor.
      *
@@ -183,6 +231,32 @@ public enum MacAlgorithm implements CryptoPrimitiveSupplier<Mac> {
         this.hashAlgorithm = hashAlgorithm;
         this.bits = hashAlgorithm.bits();
         this.bytes = bits / Byte.SIZE;
+        this.nonceSize = 0;
+    }
+
+    /**
+     * Enumeration Constructor for algorithms which are not based on an underlying hash algorithm.
+     *
+     * @param id
+     *         the unique identifier for this algorithm
+     * @param algorithmName
+     *         the standard name for this algorithm as specified by the Java Security documentation, not null
+     * @param bits
+     *         the number of bits in the message authentication code produced by this algorithm
+     * @param nonceSize
+     *         the number of bytes in the nonce required by this algorithm or zero if no nonce is accepted
+     */
+    MacAlgorithm(final int id, @NotNull final String algorithmName, @Positive final int bits,
+                 @PositiveOrZero final int nonceSize) {
+        throwIfArgIsNull(algorithmName, ALGORITHM_NAME_FIELD);
+        throwIfArgIsNotPositive(bits, BITS_PARAM);
+
+        this.id = id;
+        this.algorithmName = algorithmName;
+        this.hashAlgorithm = HashAlgorithm.NONE;
+        this.bits = bits;
+        this.bytes = bits / Byte.SIZE;
+        this.nonceSize = nonceSize;
     }
 
     /**
@@ -233,7 +307,9 @@ public enum MacAlgorithm implements CryptoPrimitiveSupplier<Mac> {
     }
 
     /**
-     * Gets the underlying hash algorithm used by this message authentication algorithm.
+     * Gets the underlying hash algorithm used by this message authentication algorithm. Algorithms which are not
+     * based on a hash algorithm, such as {@link #KMAC_128} or {@link #GMAC_AES}, return {@link HashAlgorithm#NONE}
+     * and the {@link Hash} instances they produce are therefore tagged with {@link HashAlgorithm#NONE}.
      *
      * @return the underlying hash algorithm
      */
@@ -241,6 +317,16 @@ public enum MacAlgorithm implements CryptoPrimitiveSupplier<Mac> {
         return hashAlgorithm;
     }
 
+    /**
+     * Gets the number of bytes in the nonce required by this algorithm. Algorithms which require a nonce may only be
+     * used with the overloads of the {@link com.servercurio.fabric.security.spi.MacProvider} which accept a nonce.
+     *
+     * @return the number of bytes in the nonce or zero if this algorithm does not accept a nonce
+     */
+    public int nonceSize() {
+        return nonceSize;
+    }
+
     /**
      * Gets the unique identifier of this algorithm.
      *
@@ -256,8 +342,8 @@ public enum MacAlgorithm implements CryptoPrimitiveSupplier<Mac> {
     @Override
     public Mac instance() {
         try {
-            return Mac.getInstance(algorithmName);
-        } catch (NoSuchAlgorithmException ex) {
+            return SecurityProviders.lookup(() -> Mac.getInstance(algorithmName));
+        } catch (GeneralSecurityException ex) {
             throw new CryptographyException(ex);
         }
     }
@@ -269,6 +355,10 @@ public enum MacAlgorithm implements CryptoPrimitiveSupplier<Mac> {
     public Mac instance(@NotNull final String provider) {
         throwIfArgIsNull(provider, PROVIDER_PARAM);
 
+        if (SecurityProviders.FALLBACK_PROVIDER_NAME.equals(provider)) {
+            SecurityProviders.registerFallback();
+        }
+
         try {
             return Mac.getInstance(algorithmName, provider);
         } catch (NoSuchAlgorithmException | NoSuchProviderException ex) {
@@ -17,6 +17,8 @@
 package com.servercurio.fabric.security;
 
 import com.servercurio.fabric.security.spi.CryptoPrimitiveSupplier;
+import com.servercurio.fabric.security.spi.SecurityProviders;
+import java.security.GeneralSecurityException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.security.Provider;
@@ -36,70 +38,70 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
     /**
      * Represents no algorithm specified or an unknown algorithm was used.
      */
-    NONE(0, "NONE", "NONE"),
+    NONE(0, "NONE", "NONE", HashAlgorithm.NONE),
 
     /**
      * The RSA algorithm as defined by RFC-8017.
      *
      * @see <a href="https://tools.ietf.org/html/rfc8017">https://tools.ietf.org/html/rfc8017</a>
      */
-    RSA(1, "NONEwithRSA", "RSA"),
+    RSA(1, "NONEwithRSA", "RSA", HashAlgorithm.NONE),
 
     /**
      * The RSA with SHA-224 algorithm as defined by RFC-8017.
      *
      * @see <a href="https://tools.ietf.org/html/rfc8017">https://tools.ietf.org/html/rfc8017</a>
      */
-    RSA_SHA_224(2, "SHA224withRSA", "RSA"),
+    RSA_SHA_224(2, "SHA224withRSA", "RSA", HashAlgorithm.SHA_224),
 
     /**
      * The RSA with SHA-256 algorithm as defined by RFC-8017.
      *
      * @see <a href="https://tools.ietf.org/html/rfc8017">https://tools.ietf.org/html/rfc8017</a>
      */
-    RSA_SHA_256(3, "SHA256withRSA", "RSA"),
+    RSA_SHA_256(3, "SHA256withRSA", "RSA", HashAlgorithm.SHA_256),
 
     /**
      * The RSA with SHA-384 algorithm as defined by RFC-8017.
      *
      * @see <a href="https://tools.ietf.org/html/rfc8017">https://tools.ietf.org/html/rfc8017</a>
      */
-    RSA_SHA_384(4, "SHA384withRSA", "RSA"),
+    RSA_SHA_384(4, "SHA384withRSA", "RSA", HashAlgorithm.SHA_384),
 
     /**
      * The RSA with SHA-512 algorithm as defined by RFC-8017.
      *
      * @see <a href="https://tools.ietf.org/html/rfc8017">https://tools.ietf.org/html/rfc8017</a>
      */
-    RSA_SHA_512(5, "SHA512withRSA", "RSA"),
+    RSA_SHA_512(5, "SHA512withRSA", "RSA", HashAlgorithm.SHA_512),
 
     /**
      * The RSA with SHA3-224 algorithm as defined by RFC-8017.
      *
      * @see <a href="https://tools.ietf.org/html/rfc8017">https://tools.ietf.org/html/rfc8017</a>
      */
-    RSA_SHA3_224(6, "SHA3-224withRSA", "RSA"),
+    RSA_SHA3_224(6, "SHA3-224withRSA", "RSA", HashAlgorithm.SHA3_224),
 
     /**
      * The RSA with SHA3-256 algorithm as defined by RFC-8017.
      *
      * @see <a href="https://tools.ietf.org/html/rfc8017">https://tools.ietf.org/html/rfc8017</a>
      */
-    RSA_SHA3_256(7, "SHA3-256withRSA", "RSA"),
+    RSA_SHA3_256(7, "SHA3-256withRSA", "RSA", HashAlgorithm.SHA3_256),
 
     /**
      * The RSA with SHA3-384 algorithm as defined by RFC-8017.
      *
      * @see <a href="https://tools.ietf.org/html/rfc8017">https://tools.ietf.org/html/rfc8017</a>
      */
-    RSA_SHA3_384(8, "SHA3-384withRSA", "RSA"),
+    RSA_SHA3_384(8, "SHA3-384withRSA", "RSA", HashAlgorithm.SHA3_384),
 
     /**
      * The RSA with SHA3-512 algorithm as defined by RFC-8017.
      *
      * @see <a href="https://tools.ietf.org/html/rfc8017">https://tools.ietf.org/html/rfc8017</a>
      */
-    RSA_SHA3_512(9, "SHA3-512withRSA", "RSA"),
+    RSA_SHA3_512(9, "SHA3-512withRSA", "RSA", HashAlgorithm.SHA3_512),
 
     /**
      * The DSA algorithm as defined by NIST FIPS 186-2.
@@ -107,7 +109,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="https://csrc.nist.gov/publications/fips/archive/fips186-2/fips186-2.pdf">
      *         https://csrc.nist.gov/publications/fips/archive/fips186-2/fips186-2.pdf</a>
      */
-    DSA(10, "NONEwithDSA", "DSA"),
+    DSA(10, "NONEwithDSA", "DSA", HashAlgorithm.NONE),
 
     /**
      * The DSA with SHA-224 algorithm as defined by NIST FIPS 186-4.
@@ -115,7 +117,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf">
      *         https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf</a>
      */
-    DSA_SHA_224(11, "SHA224withDSA", "DSA"),
+    DSA_SHA_224(11, "SHA224withDSA", "DSA", HashAlgorithm.SHA_224),
 
     /**
      * The DSA with SHA-256 algorithm as defined by NIST FIPS 186-4.
@@ -123,7 +125,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf">
      *         https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf</a>
      */
-    DSA_SHA_256(12, "SHA256withDSA", "DSA"),
+    DSA_SHA_256(12, "SHA256withDSA", "DSA", HashAlgorithm.SHA_256),
 
     /**
      * The DSA with SHA-384 algorithm as defined by NIST FIPS 186-4.
@@ -131,7 +133,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf">
      *         https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf</a>
      */
-    DSA_SHA_384(13, "SHA384withDSA", "DSA"),
+    DSA_SHA_384(13, "SHA384withDSA", "DSA", HashAlgorithm.SHA_384),
 
     /**
      * The DSA with SHA-512 algorithm as defined by NIST FIPS 186-4.
@@ -139,7 +141,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf">
      *         https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf</a>
      */
-    DSA_SHA_512(14, "SHA512withDSA", "DSA"),
+    DSA_SHA_512(14, "SHA512withDSA", "DSA", HashAlgorithm.SHA_512),
 
     /**
      * The DSA with SHA3-224 algorithm as defined by NIST FIPS 186-4.
@@ -147,7 +149,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf">
      *         https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf</a>
      */
-    DSA_SHA3_224(15, "SHA3-224withDSA", "DSA"),
+    DSA_SHA3_224(15, "SHA3-224withDSA", "DSA", HashAlgorithm.SHA3_224),
 
     /**
      * The DSA with SHA3-256 algorithm as defined by NIST FIPS 186-4.
@@ -155,7 +157,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf">
      *         https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf</a>
      */
-    DSA_SHA3_256(16, "SHA3-256withDSA", "DSA"),
+    DSA_SHA3_256(16, "SHA3-256withDSA", "DSA", HashAlgorithm.SHA3_256),
 
     /**
      * The DSA with SHA3-384 algorithm as defined by NIST FIPS 186-4.
@@ -163,7 +165,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf">
      *         https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf</a>
      */
-    DSA_SHA3_384(17, "SHA3-384withDSA", "DSA"),
+    DSA_SHA3_384(17, "SHA3-384withDSA", "DSA", HashAlgorithm.SHA3_384),
 
     /**
      * The DSA with SHA3-512 algorithm as defined by NIST FIPS 186-4.
@@ -171,7 +173,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf">
      *         https://nvlpubs.nist.gov/nistpubs/FIPS/NIST.FIPS.186-4.pdf</a>
      */
-    DSA_SHA3_512(18, "SHA3-512withDSA", "DSA"),
+    DSA_SHA3_512(18, "SHA3-512withDSA", "DSA", HashAlgorithm.SHA3_512),
 
     /**
      * The ECDSA algorithm as defined by ANSI X9.62.
@@ -179,7 +181,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf">
      *         http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf</a>
      */
-    ECDSA(19, "NONEwithECDSA", "EC"),
+    ECDSA(19, "NONEwithECDSA", "EC", HashAlgorithm.NONE),
 
     /**
      * The ECDSA with SHA-224 algorithm as defined by ANSI X9.62.
@@ -187,7 +189,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf">
      *         http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf</a>
      */
-    ECDSA_SHA_224(20, "SHA224withECDSA", "EC"),
+    ECDSA_SHA_224(20, "SHA224withECDSA", "EC", HashAlgorithm.SHA_224),
 
     /**
      * The ECDSA with SHA-256 algorithm as defined by ANSI X9.62.
@@ -195,7 +197,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf">
      *         http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf</a>
      */
-    ECDSA_SHA_256(21, "SHA256withECDSA", "EC"),
+    ECDSA_SHA_256(21, "SHA256withECDSA", "EC", HashAlgorithm.SHA_256),
 
     /**
      * The ECDSA with SHA-384 algorithm as defined by ANSI X9.62.
@@ -203,7 +205,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf">
      *         http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;amp;rep=rep1&amp;amp;type=pdf</a>
      */
-    ECDSA_SHA_384(22, "SHA384withECDSA", "EC"),
+    ECDSA_SHA_384(22, "SHA384withECDSA", "EC", HashAlgorithm.SHA_384),
 
     /**
      * The ECDSA with SHA-512 algorithm as defined by ANSI X9.62.
@@ -211,7 +213,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;amp;rep=rep1&amp;amp;type=pdf">
      *         http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf</a>
      */
-    ECDSA_SHA_512(23, "SHA512withECDSA", "EC"),
+    ECDSA_SHA_512(23, "SHA512withECDSA", "EC", HashAlgorithm.SHA_512),
 
     /**
      * The ECDSA with SHA3-224 algorithm as defined by ANSI X9.62.
@@ -219,7 +221,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf">
      *         http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf</a>
      */
-    ECDSA_SHA3_224(24, "SHA3-224withECDSA", "EC"),
+    ECDSA_SHA3_224(24, "SHA3-224withECDSA", "EC", HashAlgorithm.SHA3_224),
 
     /**
      * The ECDSA with SHA3-256 algorithm as defined by ANSI X9.62.
@@ -227,7 +229,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf">
      *         http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf</a>
      */
-    ECDSA_SHA3_256(25, "SHA3-256withECDSA", "EC"),
+    ECDSA_SHA3_256(25, "SHA3-256withECDSA", "EC", HashAlgorithm.SHA3_256),
 
     /**
      * The ECDSA with SHA3-384 algorithm as defined by ANSI X9.62.
@@ -235,7 +237,7 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf">
      *         http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf</a>
      */
-    ECDSA_SHA3_384(26, "SHA3-384withECDSA", "EC"),
+    ECDSA_SHA3_384(26, "SHA3-384withECDSA", "EC", HashAlgorithm.SHA3_384),
 
     /**
      * The ECDSA with SHA3-512 algorithm as defined by ANSI X9.62.
@@ -243,7 +245,23 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf">
      *         http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.202.2977&amp;rep=rep1&amp;type=pdf</a>
      */
-    ECDSA_SHA3_512(27, "SHA3-512withECDSA", "EC");
+    ECDSA_SHA3_512(27, "SHA3-512withECDSA", "EC", HashAlgorithm.SHA3_512),
+
+    /**
+     * The Ed25519 algorithm as defined by RFC-8032. Seals are 64 bytes in length. EdDSA signs the entire message in a
+     * single pass, therefore providers may buffer streamed data in memory until the signature is computed.
+     *
+     * @see <a href="https://tools.ietf.org/html/rfc8032">https://tools.ietf.org/html/rfc8032</a>
+     */
+    ED25519(28, "Ed25519", "Ed25519", HashAlgorithm.NONE),
+
+    /**
+     * The Ed448 algorithm as defined by RFC-8032. Seals are 114 bytes in length. EdDSA signs the entire message in a
+     * single pass, therefore providers may buffer streamed data in memory until the signature is computed.
+     *
+     * @see <a href="https://tools.ietf.org/html/rfc8032">https://tools.ietf.org/html/rfc8032</a>
+     */
+    ED448(29, "Ed448", "Ed448", HashAlgorithm.NONE);
 
     /**
      * The {@code algorithmName} field name represented as a string value.
@@ -255,6 +273,11 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      */
     private static final String KEY_ALGORITHM_NAME_FIELD = "keyAlgorithmName";
 
+    /**
+     * The {@code hashAlgorithm} field name represented as a string value.
+     */
+    private static final String HASH_ALGORITHM_FIELD = "hashAlgorithm";
+
     /**
      * The {@code provider} parameter name represented as a string value.
      */
@@ -294,6 +317,13 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
     @NotNull
     private final String algorithmName;
 
+    /**
+     * The message digest algorithm applied to the data before it is signed or {@link HashAlgorithm#NONE} if the data
+     * is signed directly.
+     */
+    @NotNull
+    private final HashAlgorithm hashAlgorithm;
+
     /**
      * A unique identifier for this algorithm. This identifier must remain constant for a given algorithm and must never
      * be reused by another algorithm.
@@ -310,14 +340,19 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
      * @param keyAlgorithmName
      *         the standard name for the key generation algorithm as specified by the Java Security documentation, not
      *         null
+     * @param hashAlgorithm
+     *         the message digest algorithm applied to the data before it is signed, not null
      */
-    SignatureAlgorithm(final int id, @NotNull final String algorithmName, @NotNull final String keyAlgorithmName) {
+    SignatureAlgorithm(final int id, @NotNull final String algorithmName, @NotNull final String keyAlgorithmName,
+                       @NotNull final HashAlgorithm hashAlgorithm) {
         throwIfArgIsNull(algorithmName, ALGORITHM_NAME_FIELD);
         throwIfArgIsNull(keyAlgorithmName, KEY_ALGORITHM_NAME_FIELD);
+        throwIfArgIsNull(hashAlgorithm, HASH_ALGORITHM_FIELD);
 
         this.id = id;
         this.algorithmName = algorithmName;
         this.keyAlgorithmName = keyAlgorithmName;
+        this.hashAlgorithm = hashAlgorithm;
     }
 
     /**
@@ -370,14 +405,45 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
         return keyAlgorithmName;
     }
 
+    /**
+     * Gets the message digest algorithm applied to the data before it is signed.
+     *
+     * @return the hash algorithm or {@link HashAlgorithm#NONE} if the data is signed directly, not null
+     */
+    public HashAlgorithm hashAlgorithm() {
+        return hashAlgorithm;
+    }
+
+    /**
+     * Gets the algorithm which signs a precomputed digest directly without applying the {@link #hashAlgorithm()}. A
+     * signature produced by the prehashed algorithm over a digest, encoded as a {@code DigestInfo} structure in the
+     * case of RSA, is identical to a signature produced by this algorithm over the original data.
+     *
+     * @return the prehashed algorithm, not null
+     */
+    public SignatureAlgorithm prehashedAlgorithm() {
+        //CHECKSTYLE.OFF: IndentationCheck
+        switch (keyAlgorithmName) {
+            case "RSA":
+                return RSA;
+            case "DSA":
+                return DSA;
+            case "EC":
+                return ECDSA;
+            default:
+                return NONE;
+        }
+        //CHECKSTYLE.ON: IndentationCheck
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Signature instance() {
         try {
-            return Signature.getInstance(algorithmName);
-        } catch (NoSuchAlgorithmException ex) {
+            return SecurityProviders.lookup(() -> Signature.getInstance(algorithmName));
+        } catch (GeneralSecurityException ex) {
             throw new CryptographyException(ex);
         }
     }
@@ -389,6 +455,10 @@ public enum SignatureAlgorithm implements CryptoPrimitiveSupplier<Signature> {
     public Signature instance(@NotNull final String provider) {
         throwIfArgIsNull(provider, PROVIDER_PARAM);
 
+        if (SecurityProviders.FALLBACK_PROVIDER_NAME.equals(provider)) {
+            SecurityProviders.registerFallback();
+        }
+
         try {
             return Signature.getInstance(algorithmName, provider);
         } catch (NoSuchAlgorithmException | NoSuchProviderException ex) {
@@ -0,0 +1,604 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.spi.PrimitiveLease;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * Reads a file using an {@link AsynchronousFileChannel} and applies a {@link BlockHandler} to each block of the file in
+ * order. Multiple reads are kept in flight at successive file positions using a fixed ring of direct buffers so that
+ * the next blocks are already being read while the current block is being processed. No thread is blocked while
+ * waiting for a read to complete.
+ *
+ * <p>
+ * The initial reads are submitted to the executor of the operation, which applies its backpressure policy when the
+ * operation is started. Every subsequent read, and the {@link BlockHandler}, is executed on the same executor through a
+ * {@link ChannelExecutor} so that the work is scheduled alongside the other operations of the same class.
+ *
+ * <p>
+ * Blocks may complete out of order, but the {@link BlockHandler} is always applied in file order and never by more
+ * than one thread at a time. Each buffer is only reused for a subsequent read once the {@link CompletionStage}
+ * returned by the {@link BlockHandler} for its previous block has completed.
+ *
+ * @author Nathan Klick
+ */
+final class AsyncFileReader implements CompletionHandler<Integer, AsyncFileReader.Block> {
+
+    /**
+     * The default size of each block read from the file.
+     */
+    static final int DEFAULT_BLOCK_SIZE = 65536;
+
+    /**
+     * The default number of reads kept in flight.
+     */
+    static final int DEFAULT_READ_DEPTH = 4;
+
+    /**
+     * The {@code executor} parameter name represented as a string value.
+     */
+    private static final String EXECUTOR_PARAM = "executor";
+
+    /**
+     * The {@code file} parameter name represented as a string value.
+     */
+    private static final String FILE_PARAM = "file";
+
+    /**
+     * The {@code blockSize} parameter name represented as a string value.
+     */
+    private static final String BLOCK_SIZE_PARAM = "blockSize";
+
+    /**
+     * The {@code readDepth} parameter name represented as a string value.
+     */
+    private static final String READ_DEPTH_PARAM = "readDepth";
+
+    /**
+     * The {@code lease} parameter name represented as a string value.
+     */
+    private static final String LEASE_PARAM = "lease";
+
+    /**
+     * The {@code handler} parameter name represented as a string value.
+     */
+    private static final String HANDLER_PARAM = "handler";
+
+    /**
+     * The {@code finisher} parameter name represented as a string value.
+     */
+    private static final String FINISHER_PARAM = "finisher";
+
+    /**
+     * The channel from which the file is read.
+     */
+    @NotNull
+    private final AsynchronousFileChannel channel;
+
+    /**
+     * The size of the file at the time it was opened.
+     */
+    private final long size;
+
+    /**
+     * The maximum size of each block.
+     */
+    private final int blockSize;
+
+    /**
+     * The total number of blocks in the file.
+     */
+    private final long blockCount;
+
+    /**
+     * The function applied to each block in file order.
+     */
+    @NotNull
+    private final BlockHandler handler;
+
+    /**
+     * The future completed once every block has been handled or an error occurs.
+     */
+    @NotNull
+    private final CompletableFuture<Void> future;
+
+    /**
+     * The blocks which have been read but not yet handled, keyed by their sequence number.
+     */
+    @NotNull
+    private final Map<Long, Block> readBlocks;
+
+    /**
+     * The file position of the next block to be read.
+     */
+    private long nextPosition;
+
+    /**
+     * The sequence number assigned to the next block to be read.
+     */
+    private long nextSequence;
+
+    /**
+     * The sequence number of the next block to be handled.
+     */
+    private long handledSequence;
+
+    /**
+     * Indicates whether a thread is currently applying the {@link BlockHandler}.
+     */
+    private boolean draining;
+
+    /**
+     * Constructs a new reader.
+     *
+     * @param channel
+     *         the channel from which the file is read, not null
+     * @param size
+     *         the size of the file, zero or greater
+     * @param blockSize
+     *         the maximum size of each block, positive integer
+     * @param handler
+     *         the function applied to each block, not null
+     * @param future
+     *         the future to be completed once every block has been handled, not null
+     */
+    private AsyncFileReader(@NotNull final AsynchronousFileChannel channel, final long size,
+                            @Positive final int blockSize, @NotNull final BlockHandler handler,
+                            @NotNull final CompletableFuture<Void> future) {
+        this.channel = channel;
+        this.size = size;
+        this.blockSize = blockSize;
+        this.blockCount = (size + blockSize - 1) / blockSize;
+        this.handler = handler;
+        this.future = future;
+        this.readBlocks = new HashMap<>();
+    }
+
+    /**
+     * Reads the file specified by the {@code file} parameter using the {@link #DEFAULT_BLOCK_SIZE} and {@link
+     * #DEFAULT_READ_DEPTH} and applies the {@code handler} to each block in file order.
+     *
+     * @param executor
+     *         the executor on which the file is read and the blocks are handled, not null
+     * @param file
+     *         the file to be read, not null
+     * @param handler
+     *         the function applied to each block, not null
+     * @return a {@link CompletableFuture} completed once every block has been handled, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executor}, {@code file}, or {@code handler} parameters are null
+     * @see #read(ExecutorService, Path, int, int, BlockHandler)
+     */
+    static CompletableFuture<Void> read(@NotNull final ExecutorService executor, @NotNull final Path file,
+                                        @NotNull final BlockHandler handler) {
+        return read(executor, file, DEFAULT_BLOCK_SIZE, DEFAULT_READ_DEPTH, handler);
+    }
+
+    /**
+     * Reads the file specified by the {@code file} parameter and applies the {@code handler} to each block in file
+     * order. Up to {@code readDepth} reads of {@code blockSize} bytes are kept in flight at any time. Cancelling or
+     * otherwise completing the returned future stops any further blocks from being read or handled and closes the
+     * file. If the {@code executor} rejects the initial reads, the returned future is completed exceptionally with the
+     * {@link RejectedExecutionException}.
+     *
+     * @param executor
+     *         the executor on which the file is read and the blocks are handled, not null
+     * @param file
+     *         the file to be read, not null
+     * @param blockSize
+     *         the maximum size of each block, positive integer
+     * @param readDepth
+     *         the maximum number of reads kept in flight, positive integer
+     * @param handler
+     *         the function applied to each block, not null
+     * @return a {@link CompletableFuture} completed once every block has been handled or completed exceptionally with
+     *         a {@link CryptographyException} if the file could not be read or a block could not be handled, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executor}, {@code file}, or {@code handler} parameters are null or if the {@code
+     *         blockSize} or {@code readDepth} parameters are less than or equal to zero
+     */
+    static CompletableFuture<Void> read(@NotNull final ExecutorService executor, @NotNull final Path file,
+                                        @Positive final int blockSize, @Positive final int readDepth,
+                                        @NotNull final BlockHandler handler) {
+        throwIfArgIsNull(executor, EXECUTOR_PARAM);
+        throwIfArgIsNull(file, FILE_PARAM);
+        throwIfArgIsNotPositive(blockSize, BLOCK_SIZE_PARAM);
+        throwIfArgIsNotPositive(readDepth, READ_DEPTH_PARAM);
+        throwIfArgIsNull(handler, HANDLER_PARAM);
+
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        try {
+            final AsynchronousFileChannel channel = AsynchronousFileChannel.open(file,
+                                                                                 Set.of(StandardOpenOption.READ),
+                                                                                 new ChannelExecutor(executor));
+            future.whenComplete((v, ex) -> closeQuietly(channel));
+
+            final AsyncFileReader reader = new AsyncFileReader(channel, channel.size(), blockSize, handler, future);
+            executor.execute(() -> reader.start(readDepth));
+        } catch (IOException ex) {
+            future.completeExceptionally(new CryptographyException(ex));
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+
+        return future;
+    }
+
+    /**
+     * Reads the file specified by the {@code file} parameter using the {@link #DEFAULT_BLOCK_SIZE} and {@link
+     * #DEFAULT_READ_DEPTH}, applies the {@code handler} to each block in file order, and then applies the {@code
+     * finisher} once every block has been handled. Cancelling or otherwise completing the returned future stops any
+     * further blocks from being read or handled and closes the file.
+     *
+     * <p>
+     * The {@code lease} parameter holds the primitive used by the {@code handler} and {@code finisher}. The lease is
+     * closed once the returned future has completed, but never while the {@code handler} or {@code finisher} is being
+     * applied, and neither is applied after the lease has been closed.
+     *
+     * @param <T>
+     *         the type of the result
+     * @param executor
+     *         the executor on which the file is read and the blocks are handled, not null
+     * @param lease
+     *         the lease of the primitive used by the {@code handler} and {@code finisher}, not null
+     * @param file
+     *         the file to be read, not null
+     * @param handler
+     *         the function applied to each block, not null
+     * @param finisher
+     *         the function applied once every block has been handled, not null
+     * @return a {@link CompletableFuture} completed with the result of the {@code finisher} or completed
+     *         exceptionally with a {@link CryptographyException} if the file could not be read or the operation could
+     *         not be completed, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executor}, {@code lease}, {@code file}, {@code handler}, or {@code finisher} parameters are
+     *         null
+     */
+    static <T> CompletableFuture<T> read(@NotNull final ExecutorService executor,
+                                         @NotNull final PrimitiveLease<?> lease, @NotNull final Path file,
+                                         @NotNull final BlockHandler handler, @NotNull final Finisher<T> finisher) {
+        throwIfArgIsNull(lease, LEASE_PARAM);
+        throwIfArgIsNull(handler, HANDLER_PARAM);
+        throwIfArgIsNull(finisher, FINISHER_PARAM);
+
+        final CompletableFuture<Void> reading = read(executor, file, block -> {
+            synchronized (lease) {
+                throwIfReleased(lease);
+                return handler.apply(block);
+            }
+        });
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        result.whenComplete((v, ex) -> {
+            reading.cancel(false);
+
+            synchronized (lease) {
+                lease.close();
+            }
+        });
+        reading.whenComplete((v, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex);
+                return;
+            }
+
+            final CompletionStage<T> finished;
+
+            try {
+                synchronized (lease) {
+                    throwIfReleased(lease);
+                    finished = finisher.finish();
+                }
+            } catch (IOException | GeneralSecurityException ex2) {
+                result.completeExceptionally(new CryptographyException(ex2));
+                return;
+            } catch (RuntimeException ex2) {
+                result.completeExceptionally(ex2);
+                return;
+            }
+
+            finished.whenComplete((value, cause) -> {
+                if (cause == null) {
+                    result.complete(value);
+                } else if (cause instanceof CompletionException && cause.getCause() != null) {
+                    result.completeExceptionally(cause.getCause());
+                } else {
+                    result.completeExceptionally(cause);
+                }
+            });
+        });
+
+        return result;
+    }
+
+    /**
+     * Throws a {@link CancellationException} if the {@code lease} parameter has already been closed, which only occurs
+     * once the operation has completed.
+     *
+     * @param lease
+     *         the lease to be checked, not null
+     * @throws CancellationException
+     *         if the {@code lease} has been closed
+     */
+    private static void throwIfReleased(@NotNull final PrimitiveLease<?> lease) {
+        if (lease.isClosed()) {
+            throw new CancellationException("The operation completed before the file was fully processed");
+        }
+    }
+
+    /**
+     * Closes the {@code channel} parameter and ignores any errors.
+     *
+     * @param channel
+     *         the channel to be closed, not null
+     */
+    static void closeQuietly(@NotNull final AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing useful can be done if the close fails
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void completed(final Integer bytesRead, @NotNull final Block block) {
+        if (future.isDone()) {
+            return;
+        }
+
+        if (bytesRead < 0) {
+            fail(new EOFException("The file was truncated while being read"));
+            return;
+        }
+
+        if (block.buffer.hasRemaining()) {
+            channel.read(block.buffer, block.position + block.buffer.position(), block, this);
+            return;
+        }
+
+        synchronized (this) {
+            readBlocks.put(block.sequence, block);
+
+            if (draining) {
+                return;
+            }
+
+            draining = true;
+        }
+
+        drain();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void failed(@NotNull final Throwable ex, @NotNull final Block block) {
+        fail(ex);
+    }
+
+    /**
+     * Issues the initial reads.
+     *
+     * @param readDepth
+     *         the maximum number of reads kept in flight, positive integer
+     */
+    private void start(@Positive final int readDepth) {
+        if (blockCount == 0) {
+            future.complete(null);
+            return;
+        }
+
+        try {
+            for (int i = 0; i < readDepth && i < blockCount; i++) {
+                issue(ByteBuffer.allocateDirect(blockSize));
+            }
+        } catch (RuntimeException ex) {
+            fail(ex);
+        }
+    }
+
+    /**
+     * Issues a read of the next block of the file into the {@code buffer} parameter unless the end of the file has
+     * been reached.
+     *
+     * @param buffer
+     *         the buffer into which the block is read, not null
+     */
+    private void issue(@NotNull final ByteBuffer buffer) {
+        final Block block;
+
+        synchronized (this) {
+            if (nextPosition >= size || future.isDone()) {
+                return;
+            }
+
+            block = new Block(buffer, nextSequence++, nextPosition);
+            nextPosition += Math.min(blockSize, size - block.position);
+            buffer.clear().limit((int) (nextPosition - block.position));
+        }
+
+        channel.read(buffer, block.position, block, this);
+    }
+
+    /**
+     * Applies the {@link BlockHandler} to each consecutive block which has been read. Only a single thread may drain
+     * the blocks at any time.
+     */
+    private void drain() {
+        while (true) {
+            final Block block;
+
+            synchronized (this) {
+                block = readBlocks.remove(handledSequence);
+
+                if (block == null || future.isDone()) {
+                    draining = false;
+                    return;
+                }
+
+                handledSequence++;
+            }
+
+            final CompletionStage<?> handled;
+
+            try {
+                block.buffer.flip();
+                handled = handler.apply(block.buffer);
+            } catch (IOException | GeneralSecurityException | RuntimeException ex) {
+                fail(ex);
+                return;
+            }
+
+            if (block.sequence == blockCount - 1) {
+                future.complete(null);
+            } else if (handled == null) {
+                issue(block.buffer);
+            } else {
+                handled.whenComplete((v, ex) -> {
+                    if (ex != null) {
+                        fail(ex);
+                    } else {
+                        issue(block.buffer);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Completes the future exceptionally with the {@code ex} parameter wrapped in a {@link CryptographyException}
+     * where necessary.
+     *
+     * @param ex
+     *         the cause of the failure, not null
+     */
+    private void fail(@NotNull final Throwable ex) {
+        if (ex instanceof CryptographyException) {
+            future.completeExceptionally(ex);
+        } else {
+            future.completeExceptionally(new CryptographyException(ex));
+        }
+    }
+
+    /**
+     * The function applied to each block of the file.
+     */
+    @FunctionalInterface
+    interface BlockHandler {
+
+        /**
+         * Processes the remaining bytes of the {@code block} parameter.
+         *
+         * @param block
+         *         the block to be processed, not null
+         * @return a {@link CompletionStage} which completes once the {@code block} buffer may be reused or {@code
+         *         null} if the buffer may be reused immediately
+         * @throws IOException
+         *         if an I/O error occurs while processing the block
+         * @throws GeneralSecurityException
+         *         if an error occurs while performing the cryptographic operation
+         */
+        CompletionStage<?> apply(@NotNull ByteBuffer block) throws IOException, GeneralSecurityException;
+    }
+
+    /**
+     * The function applied once every block of the file has been handled.
+     *
+     * @param <T>
+     *         the type of the result
+     */
+    @FunctionalInterface
+    interface Finisher<T> {
+
+        /**
+         * Completes the operation once every block of the file has been handled.
+         *
+         * @return a {@link CompletionStage} which completes with the result of the operation, not null
+         * @throws IOException
+         *         if an I/O error occurs while completing the operation
+         * @throws GeneralSecurityException
+         *         if an error occurs while performing the cryptographic operation
+         */
+        CompletionStage<T> finish() throws IOException, GeneralSecurityException;
+    }
+
+    /**
+     * A block of the file which is being read or is waiting to be handled.
+     */
+    static final class Block {
+
+        /**
+         * The buffer into which the block is read.
+         */
+        @NotNull
+        private final ByteBuffer buffer;
+
+        /**
+         * The position of the block within the file sequence.
+         */
+        private final long sequence;
+
+        /**
+         * The file position of the first byte of the block.
+         */
+        private final long position;
+
+        /**
+         * Constructs a new block.
+         *
+         * @param buffer
+         *         the buffer into which the block is read, not null
+         * @param sequence
+         *         the position of the block within the file sequence, zero or greater
+         * @param position
+         *         the file position of the first byte of the block, zero or greater
+         */
+        private Block(@NotNull final ByteBuffer buffer, final long sequence, final long position) {
+            this.buffer = buffer;
+            this.sequence = sequence;
+            this.position = position;
+        }
+    }
+}
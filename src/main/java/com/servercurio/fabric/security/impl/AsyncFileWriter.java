@@ -0,0 +1,297 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.spi.DurabilityPolicy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * Writes sequential blocks to a file using an {@link AsynchronousFileChannel}. Each block is assigned the next file
+ * position when it is submitted, which allows multiple writes to be in flight without blocking the submitting thread.
+ * The writes are executed on the executor of the operation through a {@link ChannelExecutor}.
+ *
+ * <p>
+ * This class is not thread safe; blocks must be submitted by a single thread at a time, such as the thread applying
+ * the {@link AsyncFileReader.BlockHandler}.
+ *
+ * @author Nathan Klick
+ */
+final class AsyncFileWriter implements CompletionHandler<Integer, AsyncFileWriter.Block> {
+
+    /**
+     * The {@code executor} parameter name represented as a string value.
+     */
+    private static final String EXECUTOR_PARAM = "executor";
+
+    /**
+     * The {@code file} parameter name represented as a string value.
+     */
+    private static final String FILE_PARAM = "file";
+
+    /**
+     * The {@code buffer} parameter name represented as a string value.
+     */
+    private static final String BUFFER_PARAM = "buffer";
+
+    /**
+     * The {@code durability} parameter name represented as a string value.
+     */
+    private static final String DURABILITY_PARAM = "durability";
+
+    /**
+     * The channel to which the file is written.
+     */
+    @NotNull
+    private final AsynchronousFileChannel channel;
+
+    /**
+     * The durability policy applied to the file once every write has completed.
+     */
+    @NotNull
+    private final DurabilityPolicy durability;
+
+    /**
+     * The future completed once the writer has been closed and every write has completed.
+     */
+    @NotNull
+    private final CompletableFuture<Void> closed;
+
+    /**
+     * The file position of the next block to be written.
+     */
+    private long nextPosition;
+
+    /**
+     * The number of writes which have been submitted but not yet completed.
+     */
+    private int pendingWrites;
+
+    /**
+     * Indicates whether the {@link #close()} method has been called.
+     */
+    private boolean closing;
+
+    /**
+     * Constructs a new writer.
+     *
+     * @param channel
+     *         the channel to which the file is written, not null
+     * @param durability
+     *         the durability policy applied to the file once every write has completed, not null
+     */
+    private AsyncFileWriter(@NotNull final AsynchronousFileChannel channel,
+                            @NotNull final DurabilityPolicy durability) {
+        this.channel = channel;
+        this.durability = durability;
+        this.closed = new CompletableFuture<>();
+        this.closed.whenComplete((v, ex) -> AsyncFileReader.closeQuietly(channel));
+    }
+
+    /**
+     * Opens the file specified by the {@code file} parameter for writing. The file is created if it does not exist
+     * and truncated if it does exist.
+     *
+     * @param executor
+     *         the executor on which the writes are executed, not null
+     * @param file
+     *         the file to be written, not null
+     * @param durability
+     *         the durability policy applied to the file once every write has completed, not null
+     * @return the writer, not null
+     * @throws IOException
+     *         if the file could not be opened
+     * @throws IllegalArgumentException
+     *         if the {@code executor}, {@code file}, or {@code durability} parameters are null
+     */
+    static AsyncFileWriter open(@NotNull final ExecutorService executor, @NotNull final Path file,
+                                @NotNull final DurabilityPolicy durability) throws IOException {
+        throwIfArgIsNull(executor, EXECUTOR_PARAM);
+        throwIfArgIsNull(file, FILE_PARAM);
+        throwIfArgIsNull(durability, DURABILITY_PARAM);
+
+        final Set<StandardOpenOption> options = Set.of(StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                                       StandardOpenOption.TRUNCATE_EXISTING);
+
+        return new AsyncFileWriter(AsynchronousFileChannel.open(file, options, new ChannelExecutor(executor)),
+                                   durability);
+    }
+
+    /**
+     * Writes the remaining bytes of the {@code buffer} parameter at the current end of the file. The buffer must not
+     * be modified until the returned future has completed.
+     *
+     * @param buffer
+     *         the bytes to be written, not null
+     * @return a {@link CompletableFuture} completed once the bytes have been written, not null
+     * @throws IllegalArgumentException
+     *         if the {@code buffer} parameter is null
+     * @throws IllegalStateException
+     *         if the writer has been closed
+     */
+    CompletableFuture<Void> write(@NotNull final ByteBuffer buffer) {
+        throwIfArgIsNull(buffer, BUFFER_PARAM);
+
+        final Block block;
+
+        synchronized (this) {
+            if (closing) {
+                throw new IllegalStateException("The writer has been closed");
+            }
+
+            if (!buffer.hasRemaining()) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            block = new Block(buffer, nextPosition);
+            nextPosition += buffer.remaining();
+            pendingWrites++;
+        }
+
+        channel.write(buffer, block.position, block, this);
+        return block.written;
+    }
+
+    /**
+     * Stops accepting further blocks and forces the file contents to the storage device as required by the durability
+     * policy once every pending write has completed.
+     *
+     * @return a {@link CompletableFuture} completed once every write has completed and the file has been closed, not
+     *         null
+     */
+    CompletableFuture<Void> close() {
+        synchronized (this) {
+            closing = true;
+
+            if (pendingWrites > 0) {
+                return closed;
+            }
+        }
+
+        force();
+        return closed;
+    }
+
+    /**
+     * Closes the file immediately and discards any pending writes.
+     */
+    void abort() {
+        closed.completeExceptionally(new CryptographyException("The write was aborted"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void completed(final Integer bytesWritten, @NotNull final Block block) {
+        if (block.buffer.hasRemaining()) {
+            channel.write(block.buffer, block.position + block.buffer.position() - block.offset, block, this);
+            return;
+        }
+
+        block.written.complete(null);
+
+        final boolean drained;
+
+        synchronized (this) {
+            pendingWrites--;
+            drained = closing && pendingWrites == 0;
+        }
+
+        if (drained) {
+            force();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void failed(@NotNull final Throwable ex, @NotNull final Block block) {
+        final CryptographyException cause = new CryptographyException(ex);
+
+        block.written.completeExceptionally(cause);
+        closed.completeExceptionally(cause);
+    }
+
+    /**
+     * Forces the file contents to the storage device as required by the durability policy and completes the {@link
+     * #closed} future.
+     */
+    private void force() {
+        try {
+            EncryptionProviderImpl.force(channel::force, durability);
+            closed.complete(null);
+        } catch (IOException ex) {
+            closed.completeExceptionally(new CryptographyException(ex));
+        }
+    }
+
+    /**
+     * A block which is being written to the file.
+     */
+    static final class Block {
+
+        /**
+         * The bytes being written.
+         */
+        @NotNull
+        private final ByteBuffer buffer;
+
+        /**
+         * The file position of the first byte of the block.
+         */
+        private final long position;
+
+        /**
+         * The buffer position of the first byte of the block.
+         */
+        private final int offset;
+
+        /**
+         * The future completed once the block has been written.
+         */
+        @NotNull
+        private final CompletableFuture<Void> written;
+
+        /**
+         * Constructs a new block.
+         *
+         * @param buffer
+         *         the bytes being written, not null
+         * @param position
+         *         the file position of the first byte of the block, zero or greater
+         */
+        private Block(@NotNull final ByteBuffer buffer, final long position) {
+            this.buffer = buffer;
+            this.position = position;
+            this.offset = buffer.position();
+            this.written = new CompletableFuture<>();
+        }
+    }
+}
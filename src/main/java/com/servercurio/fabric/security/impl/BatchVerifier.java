@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.Seal;
+import com.servercurio.fabric.security.SignatureAlgorithm;
+import com.servercurio.fabric.security.spi.PrimitiveProvider;
+import com.servercurio.fabric.security.spi.SignedMessage;
+import java.security.InvalidKeyException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Verifies a portion of a batch of {@link SignedMessage} instances on a single thread. One primitive is borrowed from
+ * the {@link PrimitiveProvider} for each algorithm encountered and is held until the portion has been verified. A
+ * primitive is only re-initialized when the key differs from the key of the previous element of the same algorithm,
+ * which avoids repeating the key setup for consecutive messages from the same signer.
+ *
+ * @author Nathan Klick
+ * @see SignatureProviderImpl#verifyBatchAsync(java.util.List)
+ */
+final class BatchVerifier {
+
+    /**
+     * The {@link PrimitiveProvider} from which the primitives are borrowed.
+     */
+    @NotNull
+    private final PrimitiveProvider primitiveProvider;
+
+    /**
+     * The primitives borrowed by this verifier indexed by algorithm.
+     */
+    @NotNull
+    private final Map<SignatureAlgorithm, Signature> signatures;
+
+    /**
+     * The key with which each primitive was last initialized indexed by algorithm.
+     */
+    @NotNull
+    private final Map<SignatureAlgorithm, PublicKey> keys;
+
+    /**
+     * Constructs a new verifier which borrows primitives from the specified provider.
+     *
+     * @param primitiveProvider
+     *         the {@link PrimitiveProvider} from which the primitives are borrowed, not null
+     */
+    BatchVerifier(@NotNull final PrimitiveProvider primitiveProvider) {
+        this.primitiveProvider = primitiveProvider;
+        this.signatures = new EnumMap<>(SignatureAlgorithm.class);
+        this.keys = new EnumMap<>(SignatureAlgorithm.class);
+    }
+
+    /**
+     * Verifies the specified message. Messages whose signature is malformed or whose key is not valid for the
+     * algorithm of the seal are reported as invalid.
+     *
+     * @param message
+     *         the message to be verified, not null
+     * @return true if the signature is valid; otherwise false
+     */
+    boolean verify(@NotNull final SignedMessage message) {
+        final Seal seal = message.getSeal();
+        final SignatureAlgorithm algorithm = seal.getAlgorithm();
+        final Signature signature = signatures.computeIfAbsent(algorithm, primitiveProvider::primitive);
+
+        try {
+            if (keys.get(algorithm) != message.getKey()) {
+                signature.initVerify(message.getKey());
+                keys.put(algorithm, message.getKey());
+            }
+
+            signature.update(message.getData());
+            return signature.verify(seal.getValue());
+        } catch (InvalidKeyException | SignatureException ex) {
+            keys.remove(algorithm);
+            return false;
+        }
+    }
+
+    /**
+     * Returns each of the borrowed primitives to the {@link PrimitiveProvider}.
+     */
+    void release() {
+        for (final Map.Entry<SignatureAlgorithm, Signature> entry : signatures.entrySet()) {
+            primitiveProvider.release(entry.getKey(), entry.getValue());
+        }
+
+        signatures.clear();
+        keys.clear();
+    }
+}
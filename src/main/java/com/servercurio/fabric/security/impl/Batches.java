@@ -0,0 +1,394 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CryptographyException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositiveOrZero;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.supplyStage;
+
+/**
+ * Utility methods for dividing a batch of independent operations between the calling thread and multiple helper
+ * tasks. Each thread acquires a single primitive or scratch state which is reused for every element it processes.
+ *
+ * @author Nathan Klick
+ */
+final class Batches {
+
+    /**
+     * The {@code executor} parameter name represented as a string value.
+     */
+    private static final String EXECUTOR_PARAM = "executor";
+
+    /**
+     * The {@code count} parameter name represented as a string value.
+     */
+    private static final String COUNT_PARAM = "count";
+
+    /**
+     * The {@code acquire} parameter name represented as a string value.
+     */
+    private static final String ACQUIRE_PARAM = "acquire";
+
+    /**
+     * The {@code release} parameter name represented as a string value.
+     */
+    private static final String RELEASE_PARAM = "release";
+
+    /**
+     * The {@code action} parameter name represented as a string value.
+     */
+    private static final String ACTION_PARAM = "action";
+
+    /**
+     * The {@code cancelled} parameter name represented as a string value.
+     */
+    private static final String CANCELLED_PARAM = "cancelled";
+
+    /**
+     * The minimum number of elements claimed by a thread at once. Smaller portions cost more to distribute than they
+     * save by executing in parallel.
+     */
+    private static final int MINIMUM_TASK_SIZE = 64;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Batches() {
+
+    }
+
+    /**
+     * Asynchronously invokes the {@code action} parameter for every index between zero, inclusive, and the {@code
+     * count} parameter, exclusive. A single task is submitted to the {@code executor} which then processes the batch
+     * using {@link #forEachSync(ExecutorService, int, Supplier, Consumer, ObjIntConsumer, BooleanSupplier)}. Cancelling
+     * the returned future stops any further portions of the batch from being claimed.
+     *
+     * @param <P>
+     *         the type of the primitive used by each thread
+     * @param executor
+     *         the executor on which the tasks are run, not null
+     * @param count
+     *         the number of elements in the batch, zero or greater
+     * @param acquire
+     *         the supplier of the primitive used by each thread, not null
+     * @param release
+     *         the consumer to which the primitive is returned once the thread has finished, not null
+     * @param action
+     *         the operation applied to each index using the primitive of the thread, not null
+     * @return a {@link CompletableFuture} which completes once every index has been processed or completes
+     *         exceptionally if the operation fails, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null or the {@code count} parameter is negative
+     */
+    static <P> CompletableFuture<Void> forEach(@NotNull final ExecutorService executor,
+                                               @PositiveOrZero final int count, @NotNull final Supplier<P> acquire,
+                                               @NotNull final Consumer<P> release,
+                                               @NotNull final ObjIntConsumer<P> action) {
+        throwIfArgIsNull(executor, EXECUTOR_PARAM);
+        throwIfArgIsNotPositiveOrZero(count, COUNT_PARAM);
+        throwIfArgIsNull(acquire, ACQUIRE_PARAM);
+        throwIfArgIsNull(release, RELEASE_PARAM);
+        throwIfArgIsNull(action, ACTION_PARAM);
+
+        return supplyStage(executor, cancelled -> {
+            forEachSync(executor, count, acquire, release, action, cancelled);
+            return null;
+        });
+    }
+
+    /**
+     * Synchronously invokes the {@code action} parameter for every index between zero, inclusive, and the {@code
+     * count} parameter, exclusive. The indices are divided into portions of at least {@link #MINIMUM_TASK_SIZE}
+     * elements which are claimed by the calling thread and any helper tasks accepted by the {@code executor} as
+     * described by {@link #forEachCooperative(ExecutorService, int, Supplier, Consumer, IndexedAction,
+     * BooleanSupplier)}. The calling thread always processes a share of the batch itself and never waits for queue
+     * capacity on the {@code executor}; therefore, this method may be called from a thread owned by the {@code
+     * executor}.
+     *
+     * @param <P>
+     *         the type of the primitive used by each thread
+     * @param executor
+     *         the executor on which the helper tasks are run, not null
+     * @param count
+     *         the number of elements in the batch, zero or greater
+     * @param acquire
+     *         the supplier of the primitive used by each thread, not null
+     * @param release
+     *         the consumer to which the primitive is returned once the thread has finished, not null
+     * @param action
+     *         the operation applied to each index using the primitive of the thread, not null
+     * @param cancelled
+     *         the predicate evaluated before each portion is claimed, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null or the {@code count} parameter is negative
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before every index has been processed
+     * @throws CryptographyException
+     *         if the calling thread is interrupted while waiting for a running helper task
+     */
+    static <P> void forEachSync(@NotNull final ExecutorService executor, @PositiveOrZero final int count,
+                                @NotNull final Supplier<P> acquire, @NotNull final Consumer<P> release,
+                                @NotNull final ObjIntConsumer<P> action, @NotNull final BooleanSupplier cancelled) {
+        throwIfArgIsNotPositiveOrZero(count, COUNT_PARAM);
+        throwIfArgIsNull(action, ACTION_PARAM);
+
+        final int portions = (count + MINIMUM_TASK_SIZE - 1) / MINIMUM_TASK_SIZE;
+
+        forEachCooperative(executor, portions, acquire, release, (primitive, portion) -> {
+            final int end = Math.min(count, (portion + 1) * MINIMUM_TASK_SIZE);
+
+            for (int i = portion * MINIMUM_TASK_SIZE; i < end; i++) {
+                action.accept(primitive, i);
+            }
+        }, cancelled);
+    }
+
+    /**
+     * Synchronously invokes the {@code action} parameter for every index between zero, inclusive, and the {@code
+     * count} parameter, exclusive. The calling thread and up to one helper task per additional available processor
+     * claim indices one at a time until none remain.
+     *
+     * <p>
+     * Helper tasks are offered to the {@code executor} using {@link LaneScheduler#offer(Executor, Runnable)}, which
+     * never waits for queue capacity, and the offers stop at the first helper which is not accepted. The indices which
+     * would have been claimed by the missing helpers are processed by the calling thread. Helper tasks which have not
+     * started by the time every index has been claimed are withdrawn, so the calling thread only waits for helpers
+     * which are already running. This method may therefore be called from a thread owned by the {@code executor}
+     * regardless of its backpressure policy, provided a non-lane executor does not block when a task is submitted.
+     *
+     * @param <S>
+     *         the type of the scratch state used by each thread
+     * @param executor
+     *         the executor on which the helper tasks are run, not null
+     * @param count
+     *         the number of indices, zero or greater
+     * @param state
+     *         the supplier of the scratch state used by each thread, not null
+     * @param action
+     *         the operation applied to each index using the state of the thread, not null
+     * @param cancelled
+     *         the predicate evaluated before each index is claimed, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null or the {@code count} parameter is negative
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before every index has been processed
+     * @throws CryptographyException
+     *         if the {@code action} fails with a checked exception or the calling thread is interrupted
+     */
+    static <S> void forEachCooperative(@NotNull final ExecutorService executor, @PositiveOrZero final int count,
+                                       @NotNull final Supplier<S> state, @NotNull final IndexedAction<S> action,
+                                       @NotNull final BooleanSupplier cancelled) {
+        forEachCooperative(executor, count, state, scratch -> { }, action, cancelled);
+    }
+
+    /**
+     * Synchronously invokes the {@code action} parameter for every index between zero, inclusive, and the {@code
+     * count} parameter, exclusive, and passes the state of each thread to the {@code release} parameter once the
+     * thread has finished claiming indices.
+     *
+     * @param <S>
+     *         the type of the state used by each thread
+     * @param executor
+     *         the executor on which the helper tasks are run, not null
+     * @param count
+     *         the number of indices, zero or greater
+     * @param state
+     *         the supplier of the state used by each thread, not null
+     * @param release
+     *         the consumer to which the state of each thread is passed once the thread has finished, not null
+     * @param action
+     *         the operation applied to each index using the state of the thread, not null
+     * @param cancelled
+     *         the predicate evaluated before each index is claimed, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null or the {@code count} parameter is negative
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before every index has been processed
+     * @throws CryptographyException
+     *         if the {@code action} fails with a checked exception or the calling thread is interrupted
+     * @see #forEachCooperative(ExecutorService, int, Supplier, IndexedAction, BooleanSupplier)
+     */
+    static <S> void forEachCooperative(@NotNull final ExecutorService executor, @PositiveOrZero final int count,
+                                       @NotNull final Supplier<S> state, @NotNull final Consumer<S> release,
+                                       @NotNull final IndexedAction<S> action,
+                                       @NotNull final BooleanSupplier cancelled) {
+        throwIfArgIsNull(executor, EXECUTOR_PARAM);
+        throwIfArgIsNotPositiveOrZero(count, COUNT_PARAM);
+        throwIfArgIsNull(state, ACQUIRE_PARAM);
+        throwIfArgIsNull(release, RELEASE_PARAM);
+        throwIfArgIsNull(action, ACTION_PARAM);
+        throwIfArgIsNull(cancelled, CANCELLED_PARAM);
+
+        final AtomicInteger next = new AtomicInteger();
+        final Runnable worker = () -> {
+            final S scratch = state.get();
+
+            try {
+                for (int i = next.getAndIncrement(); i < count; i = next.getAndIncrement()) {
+                    if (cancelled.getAsBoolean()) {
+                        throw new CancellationException();
+                    }
+
+                    action.apply(scratch, i);
+                }
+            } catch (IOException ex) {
+                next.set(count);
+                throw new CryptographyException(ex);
+            } catch (RuntimeException ex) {
+                next.set(count);
+                throw ex;
+            } finally {
+                release.accept(scratch);
+            }
+        };
+
+        final int helpers = Math.max(0, Math.min(Runtime.getRuntime().availableProcessors(), count) - 1);
+        final List<Helper> futures = new ArrayList<>(helpers);
+
+        for (int h = 0; h < helpers; h++) {
+            final Helper helper = new Helper(worker);
+
+            if (!LaneScheduler.offer(executor, helper)) {
+                // The calling thread processes any indices which are not claimed by the accepted helpers
+                break;
+            }
+
+            futures.add(helper);
+        }
+
+        try {
+            worker.run();
+        } finally {
+            awaitHelpers(futures);
+        }
+    }
+
+    /**
+     * Waits for every helper task which has started and withdraws those which have not.
+     *
+     * @param futures
+     *         the helper tasks, not null
+     * @throws CryptographyException
+     *         if the calling thread is interrupted
+     */
+    private static void awaitHelpers(@NotNull final List<Helper> futures) {
+        for (final Helper future : futures) {
+            if (future.withdraw()) {
+                continue;
+            }
+
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+
+                throw new CryptographyException(ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new CryptographyException(ex);
+            }
+        }
+    }
+
+    /**
+     * A helper task of a cooperative batch which either starts or is withdrawn by the calling thread, but never both.
+     * {@link FutureTask#cancel(boolean)} cannot be used for this purpose because it also succeeds while the task is
+     * running.
+     */
+    private static final class Helper extends FutureTask<Void> {
+
+        /**
+         * Indicates whether the task has either started or been withdrawn.
+         */
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        /**
+         * Constructs a new helper task which runs the {@code worker} parameter.
+         *
+         * @param worker
+         *         the worker which claims and processes indices, not null
+         */
+        Helper(@NotNull final Runnable worker) {
+            super(worker, null);
+        }
+
+        /**
+         * Runs the worker unless the task has already been withdrawn.
+         */
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                super.run();
+            }
+        }
+
+        /**
+         * Withdraws the task if it has not yet started. A withdrawn task does nothing when it is eventually run by the
+         * executor.
+         *
+         * @return true if the task was withdrawn; otherwise false if the task has started and must be awaited
+         */
+        boolean withdraw() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * An operation applied to a single index of a cooperative batch.
+     *
+     * @param <S>
+     *         the type of the scratch state used by each thread
+     * @see #forEachCooperative(ExecutorService, int, Supplier, IndexedAction, BooleanSupplier)
+     */
+    @FunctionalInterface
+    interface IndexedAction<S> {
+
+        /**
+         * Applies the operation to the specified index.
+         *
+         * @param state
+         *         the scratch state of the calling thread, not null
+         * @param index
+         *         the index to be processed
+         * @throws IOException
+         *         if an I/O error occurs while processing the index
+         */
+        void apply(S state, int index) throws IOException;
+    }
+}
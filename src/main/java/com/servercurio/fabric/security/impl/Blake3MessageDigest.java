@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import org.bouncycastle.crypto.digests.Blake3Digest;
+import org.bouncycastle.jcajce.provider.digest.BCMessageDigest;
+
+/**
+ * A {@link java.security.MessageDigest} implementation of the unkeyed BLAKE3 hash algorithm with a 256-bit output using
+ * the lightweight BouncyCastle {@link Blake3Digest} engine, which is not otherwise exposed through the JCA.
+ *
+ * @author Nathan Klick
+ * @see FabricProvider
+ * @see Blake3Tree
+ */
+final class Blake3MessageDigest extends BCMessageDigest {
+
+    /**
+     * The number of bytes in the hash value produced by this implementation.
+     */
+    private static final int DIGEST_LENGTH = 32;
+
+    /**
+     * Constructs a new instance.
+     */
+    Blake3MessageDigest() {
+        super(new Blake3Digest(DIGEST_LENGTH));
+    }
+}
@@ -0,0 +1,512 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CryptographyException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * Computes the unkeyed 256-bit BLAKE3 digest of large inputs using multiple threads. The input is divided into leaves
+ * of {@link #LEAF_LENGTH} bytes, each of which is a complete subtree of the BLAKE3 hash tree, and the chaining values
+ * of the leaves are computed in parallel before being merged into the root by the calling thread. The result is
+ * identical to the sequential digest produced by {@link Blake3MessageDigest}.
+ *
+ * <p>
+ * The leaves are distributed using {@link Batches#forEachCooperative(ExecutorService, int, java.util.function.Supplier,
+ * Batches.IndexedAction, BooleanSupplier)}; therefore, it is safe to call these methods from a thread owned by the same
+ * executor.
+ *
+ * @author Nathan Klick
+ * @see <a href="https://github.com/BLAKE3-team/BLAKE3-specs/blob/master/blake3.pdf">The BLAKE3 specification</a>
+ */
+final class Blake3Tree {
+
+    /**
+     * The number of bytes in a BLAKE3 chunk.
+     */
+    static final int CHUNK_LENGTH = 1024;
+
+    /**
+     * The number of bytes in each leaf processed by a single task. This must be a power of two multiple of the {@link
+     * #CHUNK_LENGTH} so that every leaf is a complete subtree of the hash tree.
+     */
+    static final int LEAF_LENGTH = 256 * CHUNK_LENGTH;
+
+    /**
+     * The minimum number of bytes for which the parallel digest is used. Smaller inputs cost more to schedule than
+     * they save by executing in parallel.
+     */
+    static final long PARALLEL_THRESHOLD = 4L * LEAF_LENGTH;
+
+    /**
+     * The {@code buffer} parameter name represented as a string value.
+     */
+    private static final String BUFFER_PARAM = "buffer";
+
+    /**
+     * The {@code channel} parameter name represented as a string value.
+     */
+    private static final String CHANNEL_PARAM = "channel";
+
+    /**
+     * The {@code length} parameter name represented as a string value.
+     */
+    private static final String LENGTH_PARAM = "length";
+
+    /**
+     * The number of bytes in a BLAKE3 block.
+     */
+    private static final int BLOCK_LENGTH = 64;
+
+    /**
+     * The number of words in a chaining value.
+     */
+    private static final int CV_WORDS = 8;
+
+    /**
+     * The maximum depth of the subtree within a single leaf.
+     */
+    private static final int MAX_LEAF_DEPTH = Integer.numberOfTrailingZeros(LEAF_LENGTH / CHUNK_LENGTH) + 1;
+
+    /**
+     * The domain separation flag of the first block of a chunk.
+     */
+    private static final int CHUNK_START = 1;
+
+    /**
+     * The domain separation flag of the last block of a chunk.
+     */
+    private static final int CHUNK_END = 1 << 1;
+
+    /**
+     * The domain separation flag of a parent node.
+     */
+    private static final int PARENT = 1 << 2;
+
+    /**
+     * The domain separation flag of the root node.
+     */
+    private static final int ROOT = 1 << 3;
+
+    /**
+     * The number of rounds applied by the compression function.
+     */
+    private static final int ROUNDS = 7;
+
+    /**
+     * The BLAKE3 initialization vector which is also the key of the unkeyed hash mode.
+     */
+    private static final int[] IV = {
+            0x6A09E667, 0xBB67AE85, 0x3C6EF372, 0xA54FF53A, 0x510E527F, 0x9B05688C, 0x1F83D9AB, 0x5BE0CD19
+    };
+
+    /**
+     * The permutation applied to the message words between rounds.
+     */
+    private static final int[] PERMUTATION = {2, 6, 3, 10, 7, 0, 4, 13, 1, 11, 12, 5, 9, 14, 15, 8};
+
+    /**
+     * The message word schedule of each round derived from the {@link #PERMUTATION}.
+     */
+    private static final int[][] SCHEDULE = new int[ROUNDS][];
+
+    static {
+        SCHEDULE[0] = new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15};
+
+        for (int r = 1; r < ROUNDS; r++) {
+            SCHEDULE[r] = new int[PERMUTATION.length];
+
+            for (int i = 0; i < PERMUTATION.length; i++) {
+                SCHEDULE[r][i] = SCHEDULE[r - 1][PERMUTATION[i]];
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Blake3Tree() {
+
+    }
+
+    /**
+     * Determines whether an input of the specified length is large enough to benefit from the parallel digest.
+     *
+     * @param length
+     *         the number of bytes in the input
+     * @return true if the parallel digest should be used; otherwise false
+     */
+    static boolean isParallel(final long length) {
+        return length >= PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * Computes the digest of the {@link ByteBuffer} specified by the {@code buffer} parameter from the current position
+     * until the limit. Upon successful completion the position of the buffer is advanced to its limit.
+     *
+     * @param executor
+     *         the executor on which the helper tasks are run, not null
+     * @param buffer
+     *         the buffer to be hashed which must contain more than {@link #LEAF_LENGTH} bytes, not null
+     * @param cancelled
+     *         the predicate evaluated before each leaf is processed, not null
+     * @return the 256-bit digest, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null or if the buffer contains {@link #LEAF_LENGTH} bytes or fewer
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before every leaf has been processed
+     */
+    static byte[] digest(@NotNull final ExecutorService executor, @NotNull final ByteBuffer buffer,
+                         @NotNull final BooleanSupplier cancelled) {
+        throwIfArgIsNull(buffer, BUFFER_PARAM);
+
+        final byte[] digest = digest(executor, buffer.remaining(), SegmentSource.of(buffer), cancelled);
+
+        buffer.position(buffer.limit());
+        return digest;
+    }
+
+    /**
+     * Computes the digest of the entire file specified by the {@code channel} parameter. The leaves are memory mapped
+     * and the position of the channel is not modified.
+     *
+     * @param executor
+     *         the executor on which the helper tasks are run, not null
+     * @param channel
+     *         the file to be hashed which must contain more than {@link #LEAF_LENGTH} bytes, not null
+     * @param cancelled
+     *         the predicate evaluated before each leaf is processed, not null
+     * @return the 256-bit digest, not null
+     * @throws IOException
+     *         if the size of the file cannot be determined
+     * @throws IllegalArgumentException
+     *         if any parameter is null or if the file contains {@link #LEAF_LENGTH} bytes or fewer
+     * @throws CryptographyException
+     *         if a leaf of the file cannot be read
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before every leaf has been processed
+     */
+    static byte[] digest(@NotNull final ExecutorService executor, @NotNull final FileChannel channel,
+                         @NotNull final BooleanSupplier cancelled) throws IOException {
+        throwIfArgIsNull(channel, CHANNEL_PARAM);
+
+        return digest(executor, channel.size(), SegmentSource.of(channel), cancelled);
+    }
+
+    /**
+     * Computes the digest of an input of {@code length} bytes whose leaves are supplied by the {@code source}
+     * parameter.
+     *
+     * @param executor
+     *         the executor on which the helper tasks are run, not null
+     * @param length
+     *         the number of bytes in the input which must be greater than {@link #LEAF_LENGTH}
+     * @param source
+     *         the supplier of the leaves, not null
+     * @param cancelled
+     *         the predicate evaluated before each leaf is processed, not null
+     * @return the 256-bit digest, not null
+     */
+    private static byte[] digest(@NotNull final ExecutorService executor, @PositiveOrZero final long length,
+                                 @NotNull final SegmentSource source, @NotNull final BooleanSupplier cancelled) {
+        if (length <= LEAF_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format("The %s parameter must be greater than %d bytes", LENGTH_PARAM, LEAF_LENGTH));
+        }
+
+        final int leaves = (int) ((length + LEAF_LENGTH - 1) / LEAF_LENGTH);
+        final int[] chainingValues = new int[leaves * CV_WORDS];
+
+        Batches.forEachCooperative(executor, leaves, Compressor::new, (compressor, leaf) -> {
+            final long offset = (long) leaf * LEAF_LENGTH;
+            final int leafLength = (int) Math.min(LEAF_LENGTH, length - offset);
+
+            compressor.leaf(source.segment(offset, leafLength), leafLength, offset / CHUNK_LENGTH, chainingValues,
+                            leaf * CV_WORDS);
+        }, cancelled);
+
+        return new Compressor().root(chainingValues, leaves);
+    }
+
+    /**
+     * The BLAKE3 compression function along with the scratch state required to compute the chaining value of a leaf.
+     * Instances are not thread safe and are used by a single worker.
+     */
+    private static final class Compressor {
+
+        /**
+         * The working state of the compression function.
+         */
+        private final int[] state = new int[16];
+
+        /**
+         * The message words of the current block.
+         */
+        private final int[] message = new int[16];
+
+        /**
+         * The current chaining value.
+         */
+        private final int[] chainingValue = new int[CV_WORDS];
+
+        /**
+         * The stack of chaining values of the completed subtrees which have not yet been merged.
+         */
+        private final int[] stack = new int[MAX_LEAF_DEPTH * CV_WORDS];
+
+        /**
+         * The zero padded copy of a partial block.
+         */
+        private final byte[] partial = new byte[BLOCK_LENGTH];
+
+        /**
+         * Computes the chaining value of a complete subtree consisting of one leaf.
+         *
+         * @param leaf
+         *         the little endian buffer containing the leaf, not null
+         * @param length
+         *         the number of bytes in the leaf
+         * @param chunkCounter
+         *         the index of the first chunk of the leaf within the input
+         * @param output
+         *         the array to which the chaining value is written, not null
+         * @param outputOffset
+         *         the index of the first word of the chaining value within the {@code output} array
+         */
+        void leaf(@NotNull final ByteBuffer leaf, final int length, final long chunkCounter,
+                  @NotNull final int[] output, final int outputOffset) {
+            int depth = 0;
+            long chunks = 0;
+
+            for (int offset = 0; offset < length; offset += CHUNK_LENGTH) {
+                chunk(leaf, offset, Math.min(CHUNK_LENGTH, length - offset), chunkCounter + chunks);
+                chunks++;
+
+                for (long total = chunks; (total & 1) == 0; total >>>= 1) {
+                    depth--;
+                    parent(stack, depth * CV_WORDS, chainingValue, 0, 0);
+                }
+
+                System.arraycopy(chainingValue, 0, stack, depth * CV_WORDS, CV_WORDS);
+                depth++;
+            }
+
+            depth--;
+            System.arraycopy(stack, depth * CV_WORDS, chainingValue, 0, CV_WORDS);
+
+            while (depth > 0) {
+                depth--;
+                parent(stack, depth * CV_WORDS, chainingValue, 0, 0);
+            }
+
+            System.arraycopy(chainingValue, 0, output, outputOffset, CV_WORDS);
+        }
+
+        /**
+         * Merges the chaining values of the leaves into the root node and returns the 256-bit digest.
+         *
+         * @param chainingValues
+         *         the chaining values of every leaf in input order, not null
+         * @param leaves
+         *         the number of leaves which must be at least two
+         * @return the 256-bit digest, not null
+         */
+        byte[] root(@NotNull final int[] chainingValues, final int leaves) {
+            merge(chainingValues, 0, leaves, true);
+
+            final ByteBuffer digest = ByteBuffer.allocate(CV_WORDS * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (final int word : chainingValue) {
+                digest.putInt(word);
+            }
+
+            return digest.array();
+        }
+
+        /**
+         * Computes the chaining value of the left balanced subtree over {@code count} leaves and stores it in the
+         * {@link #chainingValue}.
+         *
+         * @param chainingValues
+         *         the chaining values of every leaf, not null
+         * @param from
+         *         the index of the first leaf of the subtree
+         * @param count
+         *         the number of leaves in the subtree
+         * @param root
+         *         true if the subtree is the root of the hash tree
+         */
+        private void merge(@NotNull final int[] chainingValues, final int from, final int count,
+                           final boolean root) {
+            if (count == 1) {
+                System.arraycopy(chainingValues, from * CV_WORDS, chainingValue, 0, CV_WORDS);
+                return;
+            }
+
+            final int left = Integer.highestOneBit(count - 1);
+
+            merge(chainingValues, from, left, false);
+            final int[] leftValue = Arrays.copyOf(chainingValue, CV_WORDS);
+
+            merge(chainingValues, from + left, count - left, false);
+            parent(leftValue, 0, chainingValue, 0, root ? ROOT : 0);
+        }
+
+        /**
+         * Computes the chaining value of a parent node and stores it in the {@link #chainingValue}.
+         *
+         * @param left
+         *         the array containing the chaining value of the left child, not null
+         * @param leftOffset
+         *         the index of the first word of the left child
+         * @param right
+         *         the array containing the chaining value of the right child, not null
+         * @param rightOffset
+         *         the index of the first word of the right child
+         * @param flags
+         *         the additional domain separation flags
+         */
+        private void parent(@NotNull final int[] left, final int leftOffset, @NotNull final int[] right,
+                            final int rightOffset, final int flags) {
+            System.arraycopy(left, leftOffset, message, 0, CV_WORDS);
+            System.arraycopy(right, rightOffset, message, CV_WORDS, CV_WORDS);
+            System.arraycopy(IV, 0, chainingValue, 0, CV_WORDS);
+
+            compress(0, BLOCK_LENGTH, PARENT | flags);
+        }
+
+        /**
+         * Computes the chaining value of a single chunk and stores it in the {@link #chainingValue}.
+         *
+         * @param leaf
+         *         the little endian buffer containing the chunk, not null
+         * @param offset
+         *         the index of the first byte of the chunk
+         * @param length
+         *         the number of bytes in the chunk
+         * @param counter
+         *         the index of the chunk within the input
+         */
+        private void chunk(@NotNull final ByteBuffer leaf, final int offset, final int length, final long counter) {
+            final int blocks = Math.max(1, (length + BLOCK_LENGTH - 1) / BLOCK_LENGTH);
+
+            System.arraycopy(IV, 0, chainingValue, 0, CV_WORDS);
+
+            for (int b = 0; b < blocks; b++) {
+                final int blockOffset = offset + b * BLOCK_LENGTH;
+                final int blockLength = Math.min(BLOCK_LENGTH, length - b * BLOCK_LENGTH);
+
+                if (blockLength == BLOCK_LENGTH) {
+                    for (int i = 0; i < message.length; i++) {
+                        message[i] = leaf.getInt(blockOffset + i * Integer.BYTES);
+                    }
+                } else {
+                    Arrays.fill(partial, (byte) 0);
+
+                    for (int i = 0; i < blockLength; i++) {
+                        partial[i] = leaf.get(blockOffset + i);
+                    }
+
+                    ByteBuffer.wrap(partial).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(message);
+                }
+
+                final int flags = ((b == 0) ? CHUNK_START : 0) | ((b == blocks - 1) ? CHUNK_END : 0);
+                compress(counter, blockLength, flags);
+            }
+        }
+
+        /**
+         * Applies the compression function to the {@link #chainingValue} and {@link #message} and stores the
+         * truncated output in the {@link #chainingValue}.
+         *
+         * @param counter
+         *         the chunk counter
+         * @param blockLength
+         *         the number of bytes in the block
+         * @param flags
+         *         the domain separation flags
+         */
+        private void compress(final long counter, final int blockLength, final int flags) {
+            final int[] v = state;
+            final int[] m = message;
+
+            System.arraycopy(chainingValue, 0, v, 0, CV_WORDS);
+            System.arraycopy(IV, 0, v, CV_WORDS, 4);
+            v[12] = (int) counter;
+            v[13] = (int) (counter >>> Integer.SIZE);
+            v[14] = blockLength;
+            v[15] = flags;
+
+            for (final int[] s : SCHEDULE) {
+                g(v, 0, 4, 8, 12, m[s[0]], m[s[1]]);
+                g(v, 1, 5, 9, 13, m[s[2]], m[s[3]]);
+                g(v, 2, 6, 10, 14, m[s[4]], m[s[5]]);
+                g(v, 3, 7, 11, 15, m[s[6]], m[s[7]]);
+                g(v, 0, 5, 10, 15, m[s[8]], m[s[9]]);
+                g(v, 1, 6, 11, 12, m[s[10]], m[s[11]]);
+                g(v, 2, 7, 8, 13, m[s[12]], m[s[13]]);
+                g(v, 3, 4, 9, 14, m[s[14]], m[s[15]]);
+            }
+
+            for (int i = 0; i < CV_WORDS; i++) {
+                chainingValue[i] = v[i] ^ v[i + CV_WORDS];
+            }
+        }
+
+        /**
+         * The BLAKE3 quarter round function.
+         *
+         * @param v
+         *         the working state, not null
+         * @param a
+         *         the index of the first word
+         * @param b
+         *         the index of the second word
+         * @param c
+         *         the index of the third word
+         * @param d
+         *         the index of the fourth word
+         * @param x
+         *         the first message word
+         * @param y
+         *         the second message word
+         */
+        private static void g(@NotNull final int[] v, final int a, final int b, final int c, final int d,
+                              final int x, final int y) {
+            v[a] = v[a] + v[b] + x;
+            v[d] = Integer.rotateRight(v[d] ^ v[a], 16);
+            v[c] = v[c] + v[d];
+            v[b] = Integer.rotateRight(v[b] ^ v[c], 12);
+            v[a] = v[a] + v[b] + y;
+            v[d] = Integer.rotateRight(v[d] ^ v[a], 8);
+            v[c] = v[c] + v[d];
+            v[b] = Integer.rotateRight(v[b] ^ v[c], 7);
+        }
+    }
+}
@@ -0,0 +1,627 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.spi.PrimitiveLease;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Base {@link Flow.Processor} implementation which applies a cryptographic primitive to each {@link ByteBuffer} chunk
+ * received from the upstream publisher. A processor accepts a single downstream subscriber and only requests a chunk
+ * from the upstream publisher while the downstream subscriber has outstanding demand which is not already satisfied by
+ * the items awaiting delivery. A single chunk is requested at a time and the next chunk is only requested once the
+ * previous chunk has been processed, therefore neither the upstream publisher nor the processor ever block while
+ * waiting for the downstream subscriber.
+ *
+ * <p>
+ * The signals of the downstream subscriber are delivered in order using the executor supplied to the constructor or by
+ * the signalling thread if the executor rejects the delivery. Each processor exclusively owns its leased cryptographic
+ * primitive until the processor completes, fails or is cancelled, at which point the lease is closed and the primitive
+ * is returned to the {@link com.servercurio.fabric.security.spi.PrimitiveProvider} that issued it.
+ *
+ * @param <T>
+ *         the type of the items published by this processor
+ * @author Nathan Klick
+ */
+abstract class BufferProcessor<T> implements Flow.Processor<ByteBuffer, T> {
+
+    /**
+     * The {@code subscriber} parameter name represented as a string value.
+     */
+    private static final String SUBSCRIBER_PARAM = "subscriber";
+
+    /**
+     * The {@code subscription} parameter name represented as a string value.
+     */
+    private static final String SUBSCRIPTION_PARAM = "subscription";
+
+    /**
+     * The {@code item} parameter name represented as a string value.
+     */
+    private static final String ITEM_PARAM = "item";
+
+    /**
+     * The {@code throwable} parameter name represented as a string value.
+     */
+    private static final String THROWABLE_PARAM = "throwable";
+
+    /**
+     * The executor used to deliver signals to the downstream subscriber.
+     */
+    private final Executor executor;
+
+    /**
+     * The lease of the cryptographic primitive exclusively owned by this processor.
+     */
+    private final PrimitiveLease<?> lease;
+
+    /**
+     * The lock which guards the mutable state of this processor.
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * The items which have been produced but not yet delivered to the downstream subscriber.
+     */
+    private final Deque<T> items;
+
+    /**
+     * The subscription issued to the downstream subscriber.
+     */
+    private final Flow.Subscription downstreamSubscription;
+
+    /**
+     * The subscription to the upstream publisher or {@code null} if not yet subscribed.
+     */
+    private Flow.Subscription upstream;
+
+    /**
+     * The downstream subscriber or {@code null} if not yet subscribed.
+     */
+    private Flow.Subscriber<? super T> downstream;
+
+    /**
+     * The number of items requested by the downstream subscriber which have not yet been delivered.
+     */
+    private long demand;
+
+    /**
+     * Indicates whether the {@link #downstreamSubscription} has been delivered to the downstream subscriber.
+     */
+    private boolean announced;
+
+    /**
+     * Indicates whether a chunk has been requested from the upstream publisher but not yet received.
+     */
+    private boolean requested;
+
+    /**
+     * Indicates whether the cryptographic primitive is currently being used by an upstream signal.
+     */
+    private boolean processing;
+
+    /**
+     * Indicates whether the upstream publisher has completed and the final items have been produced.
+     */
+    private boolean completed;
+
+    /**
+     * The error which will be delivered to the downstream subscriber or {@code null} if no error has occurred.
+     */
+    private Throwable failure;
+
+    /**
+     * Indicates whether a terminal signal has been delivered to the downstream subscriber or the downstream
+     * subscription has been cancelled.
+     */
+    private boolean terminated;
+
+    /**
+     * Indicates whether a delivery task is currently scheduled or running.
+     */
+    private boolean draining;
+
+    /**
+     * Indicates whether the {@link #lease} has been closed.
+     */
+    private boolean released;
+
+    /**
+     * Constructs a new processor which delivers items to the downstream subscriber using the specified {@link
+     * Executor}.
+     *
+     * @param executor
+     *         the executor used to deliver signals to the downstream subscriber, not null
+     * @param lease
+     *         the lease of the cryptographic primitive exclusively owned by this processor, not null
+     */
+    protected BufferProcessor(@NotNull final Executor executor, @NotNull final PrimitiveLease<?> lease) {
+        this.executor = executor;
+        this.lease = lease;
+        this.lock = new ReentrantLock();
+        this.items = new ArrayDeque<>();
+        this.downstreamSubscription = new DownstreamSubscription();
+    }
+
+    /**
+     * Throws a {@link NullPointerException} if the {@code value} parameter is null as required by the reactive streams
+     * specification for the {@link Flow} signals.
+     *
+     * @param value
+     *         the value to be checked
+     * @param name
+     *         the name of the parameter
+     * @throws NullPointerException
+     *         if the {@code value} parameter is null
+     */
+    private static void throwIfSignalIsNull(final Object value, @NotNull final String name) {
+        if (value == null) {
+            throw new NullPointerException(String.format("The %s parameter must not be null", name));
+        }
+    }
+
+    /**
+     * Applies the cryptographic primitive to the remaining bytes of the {@code chunk} parameter.
+     *
+     * @param chunk
+     *         the chunk to be processed, not null
+     * @throws GeneralSecurityException
+     *         if an error occurs while performing the cryptographic operation
+     */
+    protected abstract void update(@NotNull final ByteBuffer chunk) throws GeneralSecurityException;
+
+    /**
+     * Completes the cryptographic operation after the upstream publisher has completed and publishes any final items.
+     *
+     * @throws GeneralSecurityException
+     *         if an error occurs while performing the cryptographic operation
+     */
+    protected abstract void finish() throws GeneralSecurityException;
+
+    /**
+     * Queues an item for delivery to the downstream subscriber. Must only be called by the {@link #update(ByteBuffer)}
+     * and {@link #finish()} methods.
+     *
+     * @param item
+     *         the item to be delivered, not null
+     */
+    protected final void publish(@NotNull final T item) {
+        lock.lock();
+        try {
+            if (!terminated && failure == null) {
+                items.add(item);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(@NotNull final Flow.Subscriber<? super T> subscriber) {
+        throwIfSignalIsNull(subscriber, SUBSCRIBER_PARAM);
+
+        final boolean accepted;
+
+        lock.lock();
+        try {
+            accepted = downstream == null;
+
+            if (accepted) {
+                downstream = subscriber;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!accepted) {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new IllegalStateException("The processor only supports a single subscriber"));
+            return;
+        }
+
+        signal();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSubscribe(@NotNull final Flow.Subscription subscription) {
+        throwIfSignalIsNull(subscription, SUBSCRIPTION_PARAM);
+
+        final boolean accepted;
+
+        lock.lock();
+        try {
+            accepted = upstream == null && !terminated && failure == null;
+
+            if (upstream == null) {
+                upstream = subscription;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!accepted) {
+            subscription.cancel();
+            return;
+        }
+
+        signal();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onNext(@NotNull final ByteBuffer item) {
+        throwIfSignalIsNull(item, ITEM_PARAM);
+
+        lock.lock();
+        try {
+            requested = false;
+
+            if (terminated || failure != null || completed) {
+                return;
+            }
+
+            processing = true;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            update(item);
+        } catch (GeneralSecurityException ex) {
+            fail(new CryptographyException(ex), true);
+        } catch (RuntimeException ex) {
+            fail(ex, true);
+        } finally {
+            idle();
+        }
+
+        signal();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onError(@NotNull final Throwable throwable) {
+        throwIfSignalIsNull(throwable, THROWABLE_PARAM);
+
+        fail(throwable, false);
+        release();
+        signal();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onComplete() {
+        lock.lock();
+        try {
+            if (terminated || failure != null || completed) {
+                return;
+            }
+
+            processing = true;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            finish();
+
+            lock.lock();
+            try {
+                completed = true;
+            } finally {
+                lock.unlock();
+            }
+        } catch (GeneralSecurityException ex) {
+            fail(new CryptographyException(ex), false);
+        } catch (RuntimeException ex) {
+            fail(ex, false);
+        } finally {
+            idle();
+        }
+
+        signal();
+    }
+
+    /**
+     * Records the {@code cause} parameter as the error to be delivered to the downstream subscriber unless a terminal
+     * signal has already been delivered or the downstream subscription has been cancelled.
+     *
+     * @param cause
+     *         the error to be delivered, not null
+     * @param cancelUpstream
+     *         true if the subscription to the upstream publisher should be cancelled; otherwise false
+     */
+    private void fail(@NotNull final Throwable cause, final boolean cancelUpstream) {
+        Flow.Subscription subscription = null;
+
+        lock.lock();
+        try {
+            if (terminated || failure != null) {
+                return;
+            }
+
+            failure = cause;
+            items.clear();
+
+            if (cancelUpstream && !completed) {
+                subscription = upstream;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Marks the cryptographic primitive as no longer in use by an upstream signal and releases it if this processor
+     * has reached a terminal state.
+     */
+    private void idle() {
+        lock.lock();
+        try {
+            processing = false;
+        } finally {
+            lock.unlock();
+        }
+
+        release();
+    }
+
+    /**
+     * Closes the {@link #lease} once this processor has reached a terminal state and the cryptographic primitive is no
+     * longer in use. Only the first eligible invocation has any effect.
+     */
+    private void release() {
+        final boolean eligible;
+
+        lock.lock();
+        try {
+            eligible = !released && !processing && (terminated || completed || failure != null);
+
+            if (eligible) {
+                released = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (eligible) {
+            lease.close();
+        }
+    }
+
+    /**
+     * Requests the next chunk from the upstream publisher if the downstream demand is not satisfied by the items
+     * awaiting delivery and schedules the delivery of any pending downstream signals. The delivery is performed by
+     * the calling thread if the executor cannot accept it without waiting.
+     */
+    private void signal() {
+        Flow.Subscription subscription = null;
+        boolean schedule = false;
+
+        lock.lock();
+        try {
+            if (upstream != null && !requested && !processing && !terminated && !completed && failure == null
+                    && demand > items.size()) {
+                requested = true;
+                subscription = upstream;
+            }
+
+            if (!draining && hasPendingSignal()) {
+                draining = true;
+                schedule = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (subscription != null) {
+            subscription.request(1);
+        }
+
+        // A saturated lane must not block the publisher, which may itself be running on that lane
+        if (schedule && !LaneScheduler.offer(executor, this::drain)) {
+            drain();
+        }
+    }
+
+    /**
+     * Determines whether a signal is waiting to be delivered to the downstream subscriber. Must be called while holding
+     * the {@link #lock}.
+     *
+     * @return true if a signal is waiting to be delivered; otherwise false
+     */
+    private boolean hasPendingSignal() {
+        if (downstream == null) {
+            return false;
+        }
+
+        if (!announced) {
+            return true;
+        }
+
+        return !terminated && (failure != null || (demand > 0 && !items.isEmpty()) || (completed && items.isEmpty()));
+    }
+
+    /**
+     * Delivers the pending signals to the downstream subscriber in order until no further signal may be delivered. Only
+     * a single invocation is active at any time.
+     */
+    private void drain() {
+        while (true) {
+            final Flow.Subscriber<? super T> subscriber;
+            T item = null;
+            Throwable error = null;
+            boolean subscribe = false;
+            boolean complete = false;
+
+            lock.lock();
+            try {
+                subscriber = downstream;
+
+                if (!hasPendingSignal()) {
+                    draining = false;
+                    break;
+                }
+
+                if (!announced) {
+                    announced = true;
+                    subscribe = true;
+                } else if (failure != null) {
+                    terminated = true;
+                    error = failure;
+                } else if (!items.isEmpty()) {
+                    item = items.poll();
+
+                    if (demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                } else {
+                    terminated = true;
+                    complete = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                if (subscribe) {
+                    subscriber.onSubscribe(downstreamSubscription);
+                } else if (error != null) {
+                    subscriber.onError(error);
+                } else if (complete) {
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onNext(item);
+                }
+            } catch (RuntimeException ex) {
+                downstreamSubscription.cancel();
+            }
+        }
+
+        signal();
+    }
+
+    /**
+     * The {@link Flow.Subscription} issued to the downstream subscriber.
+     */
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void request(final long n) {
+            lock.lock();
+            try {
+                if (terminated) {
+                    return;
+                }
+
+                if (n > 0) {
+                    demand = (demand + n < 0) ? Long.MAX_VALUE : demand + n;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (n <= 0) {
+                fail(new IllegalArgumentException(
+                        String.format("The n parameter must be greater than zero (n = %d)", n)), true);
+                release();
+            }
+
+            signal();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            Flow.Subscription subscription = null;
+
+            lock.lock();
+            try {
+                if (terminated) {
+                    return;
+                }
+
+                terminated = true;
+                items.clear();
+
+                if (!completed && failure == null) {
+                    subscription = upstream;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (subscription != null) {
+                subscription.cancel();
+            }
+
+            release();
+        }
+    }
+
+    /**
+     * The {@link Flow.Subscription} issued to a subscriber which could not be accepted because the processor already
+     * has a downstream subscriber. Requests and cancellations have no effect.
+     */
+    private static final class RejectedSubscription implements Flow.Subscription {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void request(final long n) {
+            // The subscriber is immediately terminated with an error, therefore demand is ignored.
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            // The subscriber is immediately terminated with an error, therefore there is nothing to cancel.
+        }
+    }
+}
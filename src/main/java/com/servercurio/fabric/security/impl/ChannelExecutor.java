@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import java.nio.channels.AsynchronousFileChannel;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * An {@link ExecutorService} adapter used to open an {@link AsynchronousFileChannel} on one of the lanes of the
+ * {@link LaneScheduler}. Each read or write issued on the channel is offered to the lane without applying the
+ * backpressure policy, because the operation which issued it has already been admitted and a blocked or rejected I/O
+ * task would stall or abandon an operation which is partially complete. A task which the lane refuses is executed by
+ * the calling thread instead.
+ *
+ * <p>
+ * Tasks executed by the calling thread commonly issue the next read or write before returning. Such tasks are queued
+ * and executed once the current task has returned, rather than recursively, so that a saturated lane cannot exhaust
+ * the stack of the calling thread.
+ *
+ * <p>
+ * Shutting down this adapter has no effect because the underlying lane is owned by the {@link LaneScheduler}.
+ *
+ * @author Nathan Klick
+ */
+final class ChannelExecutor extends AbstractExecutorService {
+
+    /**
+     * The {@code executor} parameter name represented as a string value.
+     */
+    private static final String EXECUTOR_PARAM = "executor";
+
+    /**
+     * The tasks waiting to be executed by the current thread, or null if the current thread is not executing a
+     * refused task.
+     */
+    private static final ThreadLocal<ArrayDeque<Runnable>> DEFERRED = new ThreadLocal<>();
+
+    /**
+     * The lane on which the tasks are executed.
+     */
+    @NotNull
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a new adapter for the {@code executor} parameter.
+     *
+     * @param executor
+     *         the lane on which the tasks are executed, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executor} parameter is null
+     */
+    ChannelExecutor(@NotNull final ExecutorService executor) {
+        throwIfArgIsNull(executor, EXECUTOR_PARAM);
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(@NotNull final Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+
+        if (LaneScheduler.offer(executor, command)) {
+            return;
+        }
+
+        final ArrayDeque<Runnable> deferred = DEFERRED.get();
+
+        if (deferred != null) {
+            deferred.addLast(command);
+            return;
+        }
+
+        runInline(command);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        // The lane is owned by the scheduler and is never shutdown by the channel
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTerminated() {
+        return executor.isTerminated();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean awaitTermination(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Executes the {@code command} parameter on the current thread followed by any tasks it defers. Every deferred
+     * task is executed even if an earlier task fails; the first failure is rethrown once all of them have completed.
+     *
+     * @param command
+     *         the task to be executed, not null
+     */
+    private static void runInline(@NotNull final Runnable command) {
+        final ArrayDeque<Runnable> deferred = new ArrayDeque<>();
+        RuntimeException failure = null;
+
+        DEFERRED.set(deferred);
+        try {
+            Runnable next = command;
+
+            while (next != null) {
+                try {
+                    next.run();
+                } catch (RuntimeException ex) {
+                    if (failure == null) {
+                        failure = ex;
+                    }
+                }
+
+                next = deferred.pollFirst();
+            }
+        } finally {
+            DEFERRED.remove();
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
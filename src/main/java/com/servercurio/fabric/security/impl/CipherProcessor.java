@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.spi.PrimitiveLease;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import javax.crypto.Cipher;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A {@link BufferProcessor} which encrypts or decrypts each chunk received from the upstream publisher and publishes
+ * the transformed chunks. Depending on the cipher mode, the output may lag behind the input by up to one block and
+ * authenticated modes may withhold the decrypted output until the upstream publisher has completed.
+ *
+ * <p>
+ * The cipher output is written into a single buffer which is reused for every chunk and is only enlarged when the
+ * cipher reports a larger output size than its capacity. Each published chunk is an exactly sized copy of the output
+ * so that downstream subscribers may retain it.
+ *
+ * @author Nathan Klick
+ */
+final class CipherProcessor extends BufferProcessor<ByteBuffer> {
+
+    /**
+     * The largest capacity to which the {@link #output} buffer is enlarged by doubling.
+     */
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * An empty input used to complete the cipher operation.
+     */
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+    /**
+     * The initialized cipher primitive exclusively owned by this processor.
+     */
+    private final Cipher cipher;
+
+    /**
+     * The reusable buffer into which the cipher output is written.
+     */
+    private ByteBuffer output;
+
+    /**
+     * Constructs a new processor.
+     *
+     * @param executor
+     *         the executor used to deliver items to the downstream subscribers, not null
+     * @param lease
+     *         the lease of the initialized cipher primitive exclusively owned by this processor, not null
+     */
+    CipherProcessor(@NotNull final Executor executor, @NotNull final PrimitiveLease<Cipher> lease) {
+        super(executor, lease);
+
+        this.cipher = lease.get();
+        this.output = ByteBuffer.allocate(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void update(@NotNull final ByteBuffer chunk) throws GeneralSecurityException {
+        ensureCapacity(cipher.getOutputSize(chunk.remaining()));
+        cipher.update(chunk, output);
+        publishOutput();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void finish() throws GeneralSecurityException {
+        ensureCapacity(cipher.getOutputSize(0));
+        cipher.doFinal(EMPTY_BUFFER.duplicate(), output);
+        publishOutput();
+    }
+
+    /**
+     * Clears the {@link #output} buffer and enlarges it if its capacity is less than the {@code required} number of
+     * bytes. The capacity is at least doubled when enlarged so that authenticated modes, which report the size of all
+     * the buffered input on every chunk, only cause a logarithmic number of allocations.
+     *
+     * @param required
+     *         the number of bytes which the cipher may write into the buffer
+     */
+    private void ensureCapacity(final int required) {
+        if (output.capacity() < required) {
+            final long doubled = Math.min(MAXIMUM_CAPACITY, 2L * output.capacity());
+            output = ByteBuffer.allocate((int) Math.max(required, doubled));
+        }
+
+        output.clear();
+    }
+
+    /**
+     * Publishes a copy of the bytes written into the {@link #output} buffer, if any.
+     */
+    private void publishOutput() {
+        if (output.position() > 0) {
+            publish(ByteBuffer.wrap(Arrays.copyOf(output.array(), output.position())));
+        }
+    }
+}
@@ -0,0 +1,442 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CipherTransformation;
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.spi.CipherSession;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitivePoolConfiguration;
+import com.servercurio.fabric.security.spi.PrimitiveProvider;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.concurrent.Future;
+import javax.crypto.Cipher;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+import static com.servercurio.fabric.lang.Validators.throwIfArgumentIsEmpty;
+
+/**
+ * Default {@link CipherSession} implementation which retains a separate {@link PrimitivePool} of ciphers for each
+ * cipher mode. Every pooled cipher has only ever been initialized with the session key, which allows the underlying
+ * provider to reuse the expanded key schedule when the cipher is reinitialized with a new nonce.
+ *
+ * @author Nathan Klick
+ * @see EncryptionProviderImpl#session(CipherTransformation, Key)
+ */
+final class CipherSessionImpl implements CipherSession {
+
+    /**
+     * The {@code primitiveProvider} parameter name represented as a string value.
+     */
+    private static final String PRIMITIVE_PROVIDER_PARAM = "primitiveProvider";
+
+    /**
+     * The {@code algorithm} parameter name represented as a string value.
+     */
+    private static final String ALGORITHM_PARAM = "algorithm";
+
+    /**
+     * The {@code key} parameter name represented as a string value.
+     */
+    private static final String KEY_PARAM = "key";
+
+    /**
+     * The {@code iv} parameter name represented as a string value.
+     */
+    private static final String IV_PARAM = "iv";
+
+    /**
+     * The {@code data} parameter name represented as a string value.
+     */
+    private static final String DATA_PARAM = "data";
+
+    /**
+     * The {@code buffer} parameter name represented as a string value.
+     */
+    private static final String BUFFER_PARAM = "buffer";
+
+    /**
+     * The {@link PrimitiveProvider} which supplies the secure random and executor services.
+     */
+    @NotNull
+    private final PrimitiveProvider primitiveProvider;
+
+    /**
+     * The transformation used by this session.
+     */
+    @NotNull
+    private final CipherTransformation algorithm;
+
+    /**
+     * The key to which this session is bound.
+     */
+    @NotNull
+    private final Key key;
+
+    /**
+     * The block size in bytes of the transformation.
+     */
+    private final int blockSize;
+
+    /**
+     * The ciphers previously initialized with the {@link #key} keyed by cipher mode.
+     */
+    @NotNull
+    private final PrimitivePool<Integer, Cipher> ciphers;
+
+    /**
+     * Constructs a new session bound to the specified key. A primitive is initialized with the key before this
+     * constructor returns in order to validate the key and to prime the pool.
+     *
+     * @param primitiveProvider
+     *         the {@link PrimitiveProvider} which supplies the secure random and executor services, not null
+     * @param algorithm
+     *         the transformation used by the session, not null
+     * @param key
+     *         the key to which the session is bound, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null
+     * @throws CryptographyException
+     *         if the key is not valid for the transformation
+     */
+    CipherSessionImpl(@NotNull final PrimitiveProvider primitiveProvider,
+                      @NotNull final CipherTransformation algorithm, @NotNull final Key key) {
+        throwIfArgIsNull(primitiveProvider, PRIMITIVE_PROVIDER_PARAM);
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        this.primitiveProvider = primitiveProvider;
+        this.algorithm = algorithm;
+        this.key = key;
+        this.ciphers = new PrimitivePool<>(new PrimitivePoolConfiguration(), mode -> algorithm.instance(),
+                                           cipher -> { });
+
+        final Cipher cipher = ciphers.borrow(Cipher.DECRYPT_MODE);
+        this.blockSize = cipher.getBlockSize();
+
+        final byte[] iv = new byte[EncryptionProviderImpl.deriveNonceSize(algorithm, blockSize)];
+
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, key, EncryptionProviderImpl.deriveParameters(algorithm, blockSize, iv),
+                        primitiveProvider.random());
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        }
+
+        ciphers.release(Cipher.DECRYPT_MODE, cipher);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CipherTransformation getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Key getKey() {
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<byte[]> decryptAsync(@NotEmpty final byte[] iv, @NotEmpty final byte[] data) {
+        return primitiveProvider.executorService(OperationClass.DECRYPT).submit(() -> decryptSync(iv, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<ByteBuffer> decryptAsync(@NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer) {
+        return primitiveProvider.executorService(OperationClass.DECRYPT).submit(() -> decryptSync(iv, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] decryptSync(@NotEmpty final byte[] iv, @NotEmpty final byte[] data) {
+        throwIfArgumentIsEmpty(data, DATA_PARAM);
+
+        return transform(Cipher.DECRYPT_MODE, iv, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer decryptSync(@NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer) {
+        throwIfArgIsNull(buffer, BUFFER_PARAM);
+
+        return transform(Cipher.DECRYPT_MODE, iv, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int decryptSync(@NotEmpty final byte[] iv, @NotNull final byte[] input, final int inputOffset,
+                           final int inputLength, @NotNull final byte[] output, final int outputOffset) {
+        EncryptionProviderImpl.throwIfRangeInvalid(input, inputOffset, inputLength, output, outputOffset);
+
+        return transform(Cipher.DECRYPT_MODE, iv, input, inputOffset, inputLength, output, outputOffset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int decryptSync(@NotEmpty final byte[] iv, @NotNull final ByteBuffer input,
+                           @NotNull final ByteBuffer output) {
+        EncryptionProviderImpl.throwIfBuffersInvalid(input, output);
+
+        return transform(Cipher.DECRYPT_MODE, iv, input, output);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<byte[]> encryptAsync(@NotEmpty final byte[] iv, @NotEmpty final byte[] data) {
+        return primitiveProvider.executorService(OperationClass.ENCRYPT).submit(() -> encryptSync(iv, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<ByteBuffer> encryptAsync(@NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer) {
+        return primitiveProvider.executorService(OperationClass.ENCRYPT).submit(() -> encryptSync(iv, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] encryptSync(@NotEmpty final byte[] iv, @NotEmpty final byte[] data) {
+        throwIfArgumentIsEmpty(data, DATA_PARAM);
+
+        return transform(Cipher.ENCRYPT_MODE, iv, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer encryptSync(@NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer) {
+        throwIfArgIsNull(buffer, BUFFER_PARAM);
+
+        return transform(Cipher.ENCRYPT_MODE, iv, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int encryptSync(@NotEmpty final byte[] iv, @NotNull final byte[] input, final int inputOffset,
+                           final int inputLength, @NotNull final byte[] output, final int outputOffset) {
+        EncryptionProviderImpl.throwIfRangeInvalid(input, inputOffset, inputLength, output, outputOffset);
+
+        return transform(Cipher.ENCRYPT_MODE, iv, input, inputOffset, inputLength, output, outputOffset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int encryptSync(@NotEmpty final byte[] iv, @NotNull final ByteBuffer input,
+                           @NotNull final ByteBuffer output) {
+        EncryptionProviderImpl.throwIfBuffersInvalid(input, output);
+
+        return transform(Cipher.ENCRYPT_MODE, iv, input, output);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        ciphers.close();
+    }
+
+    /**
+     * Borrows a cipher for the specified mode and initializes it with the session key and the {@code iv} parameter.
+     *
+     * @param mode
+     *         the cipher mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param iv
+     *         the nonce to be used by the operation, not null
+     * @return the initialized cipher, not null
+     * @throws IllegalArgumentException
+     *         if the {@code iv} parameter is null or empty
+     * @throws GeneralSecurityException
+     *         if the cipher could not be initialized
+     */
+    private Cipher borrow(final int mode, @NotEmpty final byte[] iv) throws GeneralSecurityException {
+        throwIfArgumentIsEmpty(iv, IV_PARAM);
+
+        final Cipher cipher = ciphers.borrow(mode);
+
+        try {
+            cipher.init(mode, key, EncryptionProviderImpl.deriveParameters(algorithm, blockSize, iv),
+                        primitiveProvider.random());
+        } catch (GeneralSecurityException | RuntimeException ex) {
+            ciphers.release(mode, cipher);
+            throw ex;
+        }
+
+        return cipher;
+    }
+
+    /**
+     * Transforms the content of the {@code data} parameter using a pooled cipher.
+     *
+     * @param mode
+     *         the cipher mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param iv
+     *         the nonce to be used by the operation, not null
+     * @param data
+     *         the input to be transformed, not null
+     * @return the transformed output, not null
+     * @throws CryptographyException
+     *         if an error occurs while performing the operation
+     */
+    private byte[] transform(final int mode, @NotEmpty final byte[] iv, @NotNull final byte[] data) {
+        try {
+            final Cipher cipher = borrow(mode, iv);
+
+            try {
+                return cipher.doFinal(data);
+            } finally {
+                ciphers.release(mode, cipher);
+            }
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
+    /**
+     * Transforms the remaining content of the {@code buffer} parameter using a pooled cipher.
+     *
+     * @param mode
+     *         the cipher mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param iv
+     *         the nonce to be used by the operation, not null
+     * @param buffer
+     *         the input to be transformed, not null
+     * @return a {@link ByteBuffer} containing the transformed output, not null
+     * @throws CryptographyException
+     *         if an error occurs while performing the operation
+     */
+    private ByteBuffer transform(final int mode, @NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer) {
+        try {
+            final Cipher cipher = borrow(mode, iv);
+
+            try {
+                final ByteBuffer output = ByteBuffer.allocate(cipher.getOutputSize(buffer.remaining()));
+                cipher.doFinal(buffer, output);
+
+                return output.flip();
+            } finally {
+                ciphers.release(mode, cipher);
+            }
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
+    /**
+     * Transforms {@code inputLength} bytes of the {@code input} array into the {@code output} array using a pooled
+     * cipher.
+     *
+     * @param mode
+     *         the cipher mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param iv
+     *         the nonce to be used by the operation, not null
+     * @param input
+     *         the array from which the input is read, not null
+     * @param inputOffset
+     *         the offset in the {@code input} array at which the input begins
+     * @param inputLength
+     *         the number of bytes of input
+     * @param output
+     *         the array into which the output is written, not null
+     * @param outputOffset
+     *         the offset in the {@code output} array at which the output is written
+     * @return the number of bytes written to the {@code output} array
+     * @throws CryptographyException
+     *         if an error occurs while performing the operation
+     */
+    private int transform(final int mode, @NotEmpty final byte[] iv, @NotNull final byte[] input,
+                          final int inputOffset, final int inputLength, @NotNull final byte[] output,
+                          final int outputOffset) {
+        try {
+            final Cipher cipher = borrow(mode, iv);
+
+            try {
+                return cipher.doFinal(input, inputOffset, inputLength, output, outputOffset);
+            } finally {
+                ciphers.release(mode, cipher);
+            }
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
+    /**
+     * Transforms the remaining content of the {@code input} buffer into the {@code output} buffer using a pooled
+     * cipher.
+     *
+     * @param mode
+     *         the cipher mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param iv
+     *         the nonce to be used by the operation, not null
+     * @param input
+     *         the buffer from which the input is read, not null
+     * @param output
+     *         the buffer into which the output is written, not null
+     * @return the number of bytes written to the {@code output} buffer
+     * @throws CryptographyException
+     *         if an error occurs while performing the operation
+     */
+    private int transform(final int mode, @NotEmpty final byte[] iv, @NotNull final ByteBuffer input,
+                          @NotNull final ByteBuffer output) {
+        try {
+            final Cipher cipher = borrow(mode, iv);
+
+            try {
+                return cipher.doFinal(input, output);
+            } finally {
+                ciphers.release(mode, cipher);
+            }
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CipherMode;
+import com.servercurio.fabric.security.CipherTransformation;
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.spi.NonceCheckpoint;
+import com.servercurio.fabric.security.spi.NonceConfiguration;
+import com.servercurio.fabric.security.spi.NonceGenerator;
+import java.io.IOException;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * A {@link NonceGenerator} which issues deterministic nonces composed of a random fixed field followed by a 64-bit
+ * big-endian invocation counter. The counter is a single atomic value, therefore issuing a nonce requires neither a
+ * lock nor a request to the {@link SecureRandom} once the generator has been created. The high-water mark is only
+ * written to the {@link NonceCheckpoint} when a new block of invocation values is reserved.
+ *
+ * @author Nathan Klick
+ * @see NonceConfiguration
+ */
+final class CounterNonceGenerator implements NonceGenerator {
+
+    /**
+     * The {@code algorithm} parameter name represented as a string value.
+     */
+    private static final String ALGORITHM_PARAM = "algorithm";
+
+    /**
+     * The {@code key} parameter name represented as a string value.
+     */
+    private static final String KEY_PARAM = "key";
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
+
+    /**
+     * The {@code random} parameter name represented as a string value.
+     */
+    private static final String RANDOM_PARAM = "random";
+
+    /**
+     * The length in bytes of the invocation field.
+     */
+    private static final int INVOCATION_FIELD_SIZE = Long.BYTES;
+
+    /**
+     * The transformation for which the nonces are issued.
+     */
+    @NotNull
+    private final CipherTransformation algorithm;
+
+    /**
+     * The key to which this generator is bound.
+     */
+    @NotNull
+    private final Key key;
+
+    /**
+     * The randomly chosen fixed field which prefixes every nonce.
+     */
+    @NotNull
+    private final byte[] fixedField;
+
+    /**
+     * The exclusive upper bound of the invocation values which may be issued.
+     */
+    private final long invocationLimit;
+
+    /**
+     * The number of invocation values reserved by each write to the {@link #checkpoint}.
+     */
+    private final long reservationSize;
+
+    /**
+     * The durable store for the high-water mark or {@code null} if the high-water mark is not persisted.
+     */
+    private final NonceCheckpoint checkpoint;
+
+    /**
+     * The next invocation value to be issued.
+     */
+    @NotNull
+    private final AtomicLong invocation;
+
+    /**
+     * The exclusive upper bound of the invocation values which have been reserved.
+     */
+    private volatile long reserved;
+
+    /**
+     * Constructs a new generator bound to the specified key.
+     *
+     * @param algorithm
+     *         the transformation for which the nonces are issued, not null
+     * @param key
+     *         the key to which the generator is bound, not null
+     * @param nonceSize
+     *         the length in bytes of the nonces, greater than the length of the invocation field
+     * @param configuration
+     *         the reservation and checkpoint configuration, not null
+     * @param random
+     *         the source of the fixed field, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null, if the transformation does not use {@link CipherMode#GCM} or {@link
+     *         CipherMode#CTR} mode, or if the {@code nonceSize} is too small to hold a fixed field
+     * @throws CryptographyException
+     *         if the high-water mark could not be loaded from the checkpoint
+     */
+    CounterNonceGenerator(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                          @Positive final int nonceSize, @NotNull final NonceConfiguration configuration,
+                          @NotNull final SecureRandom random) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+        throwIfArgIsNull(random, RANDOM_PARAM);
+
+        if (algorithm.getMode() != CipherMode.GCM && algorithm.getMode() != CipherMode.CTR) {
+            throw new IllegalArgumentException(
+                    String.format("Deterministic nonces are not supported by the %s mode", algorithm.getMode()));
+        }
+
+        if (nonceSize <= INVOCATION_FIELD_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("A nonce size of %d bytes is too small to hold a fixed field", nonceSize));
+        }
+
+        this.algorithm = algorithm;
+        this.key = key;
+        this.fixedField = new byte[nonceSize - INVOCATION_FIELD_SIZE];
+        this.invocationLimit = configuration.getInvocationLimit();
+        this.reservationSize = configuration.getReservationSize();
+        this.checkpoint = configuration.getCheckpoint();
+
+        random.nextBytes(fixedField);
+
+        if (checkpoint != null) {
+            try {
+                final long highWaterMark = checkpoint.load();
+
+                this.invocation = new AtomicLong(Math.max(0, highWaterMark));
+                this.reserved = invocation.get();
+            } catch (IOException ex) {
+                throw new CryptographyException(ex);
+            }
+        } else {
+            this.invocation = new AtomicLong();
+            this.reserved = invocationLimit;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CipherTransformation getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Key getKey() {
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long remaining() {
+        final long next = invocation.get();
+        return (next >= 0 && next < invocationLimit) ? invocationLimit - next : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] next() {
+        final long value = invocation.getAndIncrement();
+
+        if (value < 0 || value >= invocationLimit) {
+            throw new CryptographyException(
+                    "The nonce invocation field has been exhausted and the key must be replaced");
+        }
+
+        if (value >= reserved) {
+            reserve(value);
+        }
+
+        final byte[] nonce = new byte[fixedField.length + INVOCATION_FIELD_SIZE];
+        System.arraycopy(fixedField, 0, nonce, 0, fixedField.length);
+
+        for (int i = nonce.length - 1; i >= fixedField.length; i--) {
+            nonce[i] = (byte) (value >>> ((nonce.length - 1 - i) * Byte.SIZE));
+        }
+
+        return nonce;
+    }
+
+    /**
+     * Reserves blocks of invocation values, writing the new high-water mark to the {@link #checkpoint} before each
+     * block is made available, until the {@code value} parameter has been reserved.
+     *
+     * @param value
+     *         the invocation value to be issued
+     * @throws CryptographyException
+     *         if the high-water mark could not be persisted
+     */
+    private synchronized void reserve(final long value) {
+        while (value >= reserved) {
+            final long current = reserved;
+            final long next = (reservationSize >= invocationLimit - current)
+                    ? invocationLimit : current + reservationSize;
+
+            try {
+                checkpoint.store(next);
+            } catch (IOException ex) {
+                throw new CryptographyException(ex);
+            }
+
+            reserved = next;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
+import java.util.zip.CRC32C;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * Computes the CRC-32C checksum of large inputs using multiple threads. The input is divided into segments of {@link
+ * #SEGMENT_LENGTH} bytes whose checksums are computed in parallel and then combined in order using the GF(2) matrix
+ * method popularized by zlib. The result is identical to the sequential checksum produced by {@link
+ * Crc32cMessageDigest}.
+ *
+ * @author Nathan Klick
+ * @see Batches#forEachCooperative(ExecutorService, int, java.util.function.Supplier, Batches.IndexedAction,
+ *         BooleanSupplier)
+ */
+final class Crc32cCombiner {
+
+    /**
+     * The number of bytes in each segment processed by a single task.
+     */
+    static final int SEGMENT_LENGTH = 1 << 20;
+
+    /**
+     * The minimum number of bytes for which the parallel checksum is used. The intrinsified checksum runs close to
+     * memory bandwidth; therefore, smaller inputs cost more to schedule than they save by executing in parallel.
+     */
+    static final long PARALLEL_THRESHOLD = 4L * SEGMENT_LENGTH;
+
+    /**
+     * The {@code buffer} parameter name represented as a string value.
+     */
+    private static final String BUFFER_PARAM = "buffer";
+
+    /**
+     * The {@code channel} parameter name represented as a string value.
+     */
+    private static final String CHANNEL_PARAM = "channel";
+
+    /**
+     * The reversed CRC-32C (Castagnoli) polynomial.
+     */
+    private static final int POLYNOMIAL = 0x82F63B78;
+
+    /**
+     * The number of bits in the checksum and therefore the dimension of the GF(2) matrices.
+     */
+    private static final int DIMENSION = Integer.SIZE;
+
+    /**
+     * The GF(2) matrix which appends {@link #SEGMENT_LENGTH} zero bytes to a checksum. Every segment except the last is
+     * combined using this precomputed matrix instead of the general {@link #combine(int, int, long)} method.
+     */
+    private static final int[] SEGMENT_SHIFT = new int[DIMENSION];
+
+    static {
+        for (int i = 0; i < DIMENSION; i++) {
+            SEGMENT_SHIFT[i] = combine(1 << i, 0, SEGMENT_LENGTH);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Crc32cCombiner() {
+
+    }
+
+    /**
+     * Determines whether an input of the specified length is large enough to benefit from the parallel checksum.
+     *
+     * @param length
+     *         the number of bytes in the input
+     * @return true if the parallel checksum should be used; otherwise false
+     */
+    static boolean isParallel(final long length) {
+        return length >= PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * Computes the checksum of the {@link ByteBuffer} specified by the {@code buffer} parameter from the current
+     * position until the limit. Upon successful completion the position of the buffer is advanced to its limit.
+     *
+     * @param executor
+     *         the executor on which the helper tasks are run, not null
+     * @param buffer
+     *         the buffer to be checksummed, not null
+     * @param cancelled
+     *         the predicate evaluated before each segment is processed, not null
+     * @return the checksum in big endian byte order, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before every segment has been processed
+     */
+    static byte[] digest(@NotNull final ExecutorService executor, @NotNull final ByteBuffer buffer,
+                         @NotNull final BooleanSupplier cancelled) {
+        throwIfArgIsNull(buffer, BUFFER_PARAM);
+
+        final byte[] digest = digest(executor, buffer.remaining(), SegmentSource.of(buffer), cancelled);
+
+        buffer.position(buffer.limit());
+        return digest;
+    }
+
+    /**
+     * Computes the checksum of the entire file specified by the {@code channel} parameter. The segments are memory
+     * mapped and the position of the channel is not modified.
+     *
+     * @param executor
+     *         the executor on which the helper tasks are run, not null
+     * @param channel
+     *         the file to be checksummed, not null
+     * @param cancelled
+     *         the predicate evaluated before each segment is processed, not null
+     * @return the checksum in big endian byte order, not null
+     * @throws IOException
+     *         if the size of the file cannot be determined
+     * @throws IllegalArgumentException
+     *         if any parameter is null
+     * @throws com.servercurio.fabric.security.CryptographyException
+     *         if a segment of the file cannot be read
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before every segment has been processed
+     */
+    static byte[] digest(@NotNull final ExecutorService executor, @NotNull final FileChannel channel,
+                         @NotNull final BooleanSupplier cancelled) throws IOException {
+        throwIfArgIsNull(channel, CHANNEL_PARAM);
+
+        return digest(executor, channel.size(), SegmentSource.of(channel), cancelled);
+    }
+
+    /**
+     * Computes the checksum of an input of {@code length} bytes whose segments are supplied by the {@code source}
+     * parameter.
+     *
+     * @param executor
+     *         the executor on which the helper tasks are run, not null
+     * @param length
+     *         the number of bytes in the input, zero or greater
+     * @param source
+     *         the supplier of the segments, not null
+     * @param cancelled
+     *         the predicate evaluated before each segment is processed, not null
+     * @return the checksum in big endian byte order, not null
+     */
+    private static byte[] digest(@NotNull final ExecutorService executor, @PositiveOrZero final long length,
+                                 @NotNull final SegmentSource source, @NotNull final BooleanSupplier cancelled) {
+        final int segments = (int) ((length + SEGMENT_LENGTH - 1) / SEGMENT_LENGTH);
+        final int[] checksums = new int[segments];
+
+        Batches.forEachCooperative(executor, segments, CRC32C::new, (checksum, segment) -> {
+            final long offset = (long) segment * SEGMENT_LENGTH;
+            final int segmentLength = (int) Math.min(SEGMENT_LENGTH, length - offset);
+
+            checksum.reset();
+            checksum.update(source.segment(offset, segmentLength));
+            checksums[segment] = (int) checksum.getValue();
+        }, cancelled);
+
+        int value = 0;
+
+        for (int s = 0; s < segments - 1; s++) {
+            value = times(SEGMENT_SHIFT, value) ^ checksums[s];
+        }
+
+        if (segments > 0) {
+            value = combine(value, checksums[segments - 1], length - (long) (segments - 1) * SEGMENT_LENGTH);
+        }
+
+        return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+    }
+
+    /**
+     * Combines the checksums of two adjacent inputs into the checksum of their concatenation.
+     *
+     * @param first
+     *         the checksum of the first input
+     * @param second
+     *         the checksum of the second input
+     * @param secondLength
+     *         the number of bytes in the second input
+     * @return the checksum of the first input followed by the second input
+     */
+    static int combine(final int first, final int second, final long secondLength) {
+        if (secondLength <= 0) {
+            return first;
+        }
+
+        final int[] even = new int[DIMENSION];
+        final int[] odd = new int[DIMENSION];
+
+        odd[0] = POLYNOMIAL;
+        for (int n = 1, row = 1; n < DIMENSION; n++, row <<= 1) {
+            odd[n] = row;
+        }
+
+        square(even, odd);
+        square(odd, even);
+
+        int crc = first;
+        long remaining = secondLength;
+
+        do {
+            square(even, odd);
+            if ((remaining & 1) != 0) {
+                crc = times(even, crc);
+            }
+            remaining >>>= 1;
+
+            if (remaining == 0) {
+                break;
+            }
+
+            square(odd, even);
+            if ((remaining & 1) != 0) {
+                crc = times(odd, crc);
+            }
+            remaining >>>= 1;
+        } while (remaining != 0);
+
+        return crc ^ second;
+    }
+
+    /**
+     * Multiplies the GF(2) {@code matrix} by the {@code vector}.
+     *
+     * @param matrix
+     *         the matrix, not null
+     * @param vector
+     *         the vector
+     * @return the product
+     */
+    private static int times(@NotNull final int[] matrix, final int vector) {
+        int sum = 0;
+
+        for (int i = 0, v = vector; v != 0; i++, v >>>= 1) {
+            if ((v & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Stores the square of the GF(2) {@code matrix} in the {@code square} array.
+     *
+     * @param square
+     *         the array to which the result is written, not null
+     * @param matrix
+     *         the matrix to be squared, not null
+     */
+    private static void square(@NotNull final int[] square, @NotNull final int[] matrix) {
+        for (int n = 0; n < DIMENSION; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.zip.CRC32C;
+
+/**
+ * A {@link MessageDigest} implementation of the non-cryptographic CRC-32C (Castagnoli) checksum backed by the JDK
+ * {@link CRC32C} implementation, which is intrinsified on most platforms. The checksum is returned in big endian byte
+ * order.
+ *
+ * @author Nathan Klick
+ * @see FabricProvider
+ * @see Crc32cCombiner
+ */
+final class Crc32cMessageDigest extends MessageDigest {
+
+    /**
+     * The underlying checksum implementation.
+     */
+    private final CRC32C checksum = new CRC32C();
+
+    /**
+     * Constructs a new instance.
+     */
+    Crc32cMessageDigest() {
+        super("CRC32C");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int engineGetDigestLength() {
+        return Integer.BYTES;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineUpdate(final byte input) {
+        checksum.update(input);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineUpdate(final byte[] input, final int offset, final int len) {
+        checksum.update(input, offset, len);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineUpdate(final ByteBuffer input) {
+        checksum.update(input);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected byte[] engineDigest() {
+        final int value = (int) checksum.getValue();
+
+        checksum.reset();
+        return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineReset() {
+        checksum.reset();
+    }
+}
@@ -19,17 +19,27 @@ package com.servercurio.fabric.security.impl;
 import com.servercurio.fabric.security.Cryptography;
 import com.servercurio.fabric.security.spi.DigestProvider;
 import com.servercurio.fabric.security.spi.EncryptionProvider;
+import com.servercurio.fabric.security.spi.ExecutorConfiguration;
+import com.servercurio.fabric.security.spi.ExecutorMode;
 import com.servercurio.fabric.security.spi.MacProvider;
 import com.servercurio.fabric.security.spi.PrimitiveProvider;
 import com.servercurio.fabric.security.spi.SignatureProvider;
+import com.servercurio.fabric.security.spi.WarmupConfiguration;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.GeneralSecurityException;
-import java.security.Security;
+import java.time.Duration;
 import java.util.ServiceLoader;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
 import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
 import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
@@ -63,22 +73,90 @@ public class DefaultCryptographyImpl implements Cryptography {
      */
     private static final String BLOCK_SIZE_PARAM = "blockSize";
 
-    static {
-        Security.addProvider(new BouncyCastleProvider());
-    }
+    /**
+     * The {@code primitiveProvider} parameter name represented as a string value.
+     */
+    private static final String PRIMITIVE_PROVIDER_PARAM = "primitiveProvider";
+
+    /**
+     * The {@code cancelled} parameter name represented as a string value.
+     */
+    private static final String CANCELLED_PARAM = "cancelled";
+
+    /**
+     * The {@code executor} parameter name represented as a string value.
+     */
+    private static final String EXECUTOR_PARAM = "executor";
+
+    /**
+     * The {@code timeout} parameter name represented as a string value.
+     */
+    private static final String TIMEOUT_PARAM = "timeout";
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
 
     /**
      * The {@link PrimitiveProvider} implementation to be used by this instance.
      */
     private final PrimitiveProvider primitiveProvider;
 
+    /**
+     * The {@link DigestProvider} implementation resolved when this instance was constructed.
+     */
+    private final DigestProvider digestProvider;
+
+    /**
+     * The {@link EncryptionProvider} implementation resolved when this instance was constructed.
+     */
+    private final EncryptionProvider encryptionProvider;
+
+    /**
+     * The {@link MacProvider} implementation resolved when this instance was constructed.
+     */
+    private final MacProvider macProvider;
+
+    /**
+     * The {@link SignatureProvider} implementation resolved when this instance was constructed.
+     */
+    private final SignatureProvider signatureProvider;
+
 
     /**
      * Private default constructor.
      */
     protected DefaultCryptographyImpl() {
-        this.primitiveProvider = ServiceLoader.load(PrimitiveProvider.class)
-                                              .findFirst().orElseGet(PrimitiveProviderImpl::new);
+        this(ServiceLoader.load(PrimitiveProvider.class).findFirst().orElseGet(PrimitiveProviderImpl::new));
+    }
+
+    /**
+     * Constructs a new instance bound to the specified {@link PrimitiveProvider}. The digest, encryption, MAC and
+     * signature providers are resolved once by this constructor, therefore the {@link ServiceLoader} is not consulted
+     * again when the providers are requested.
+     *
+     * @param primitiveProvider
+     *         the {@link PrimitiveProvider} implementation to be used by this instance, not null
+     * @throws IllegalArgumentException
+     *         if the {@code primitiveProvider} parameter is null
+     */
+    protected DefaultCryptographyImpl(@NotNull final PrimitiveProvider primitiveProvider) {
+        throwIfArgIsNull(primitiveProvider, PRIMITIVE_PROVIDER_PARAM);
+
+        this.primitiveProvider = primitiveProvider;
+        this.digestProvider = ServiceLoader.load(DigestProvider.class)
+                                           .findFirst()
+                                           .orElseGet(() -> new DigestProviderImpl(primitiveProvider));
+        this.encryptionProvider = ServiceLoader.load(EncryptionProvider.class)
+                                               .findFirst()
+                                               .orElseGet(() -> new EncryptionProviderImpl(primitiveProvider));
+        this.macProvider = ServiceLoader.load(MacProvider.class)
+                                        .findFirst()
+                                        .orElseGet(() -> new MacProviderImpl(primitiveProvider));
+        this.signatureProvider = ServiceLoader.load(SignatureProvider.class)
+                                              .findFirst()
+                                              .orElseGet(() -> new SignatureProviderImpl(primitiveProvider));
     }
 
     /**
@@ -101,7 +179,34 @@ public class DefaultCryptographyImpl implements Cryptography {
                                      @NotNull final TriConsumer<byte[], Integer, Integer> fn) throws
                                                                                               IOException,
                                                                                               GeneralSecurityException {
-        applyToStream(stream, STREAM_BUFFER_SIZE, fn);
+        applyToStream(stream, STREAM_BUFFER_SIZE, () -> false, fn);
+    }
+
+    /**
+     * Utility method that applies reads {@link #STREAM_BUFFER_SIZE} blocks from the {@code stream} parameter and
+     * applies the {@code fn} lambda function to each block. This method will read from the stream until it reaches the
+     * end of the stream or the {@code cancelled} predicate returns true.
+     *
+     * @param stream
+     *         the input stream from which blocks are read, not null
+     * @param cancelled
+     *         the predicate evaluated before each block is read, not null
+     * @param fn
+     *         the lambda function to be applied to each block, not null
+     * @throws IOException
+     *         if an error occurs while reading from the input stream
+     * @throws GeneralSecurityException
+     *         if an errors occurs while performing a cryptographic operation
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before the end of the stream is reached
+     * @throws IllegalArgumentException
+     *         if the {@code stream}, {@code cancelled}, or the {@code fn} parameters are null
+     */
+    public static void applyToStream(@NotNull final InputStream stream, @NotNull final BooleanSupplier cancelled,
+                                     @NotNull final TriConsumer<byte[], Integer, Integer> fn) throws
+                                                                                              IOException,
+                                                                                              GeneralSecurityException {
+        applyToStream(stream, STREAM_BUFFER_SIZE, cancelled, fn);
     }
 
     /**
@@ -127,20 +232,145 @@ public class DefaultCryptographyImpl implements Cryptography {
                                      @NotNull final TriConsumer<byte[], Integer, Integer> fn) throws
                                                                                               IOException,
                                                                                               GeneralSecurityException {
+        applyToStream(stream, blockSize, () -> false, fn);
+    }
+
+    /**
+     * Utility method that applies reads {@code blockSize} blocks from the {@code stream} parameter and applies the
+     * {@code fn} lambda function to each block. This method will read from the stream until it reaches the end of the
+     * stream or the {@code cancelled} predicate returns true.
+     *
+     * @param stream
+     *         the input stream from which blocks are read, not null
+     * @param blockSize
+     *         the maximum size of each block to read, positive integer
+     * @param cancelled
+     *         the predicate evaluated before each block is read, not null
+     * @param fn
+     *         the lambda function to be applied to each block, not null
+     * @throws IOException
+     *         if an error occurs while reading from the input stream
+     * @throws GeneralSecurityException
+     *         if an errors occurs while performing a cryptographic operation
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before the end of the stream is reached
+     * @throws IllegalArgumentException
+     *         if the {@code stream}, {@code cancelled}, or {@code fn} parameters are null or if the {@code blockSize}
+     *         paramter is less than or equal to zero
+     */
+    public static void applyToStream(@NotNull final InputStream stream, @Positive final int blockSize,
+                                     @NotNull final BooleanSupplier cancelled,
+                                     @NotNull final TriConsumer<byte[], Integer, Integer> fn) throws
+                                                                                              IOException,
+                                                                                              GeneralSecurityException {
         throwIfArgIsNull(stream, STREAM_PARAM);
         throwIfArgIsNotPositive(blockSize, BLOCK_SIZE_PARAM);
+        throwIfArgIsNull(cancelled, CANCELLED_PARAM);
         throwIfArgIsNull(fn, FN_PARAM);
 
         final byte[] buffer = new byte[blockSize];
 
+        throwIfCancelled(cancelled);
         int bytesRead = stream.readNBytes(buffer, 0, buffer.length);
 
         while (bytesRead > 0) {
             fn.apply(buffer, 0, bytesRead);
+
+            throwIfCancelled(cancelled);
             bytesRead = stream.readNBytes(buffer, 0, buffer.length);
         }
     }
 
+    /**
+     * Throws a {@link CancellationException} if the {@code cancelled} predicate returns true.
+     *
+     * @param cancelled
+     *         the predicate to be evaluated, not null
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true
+     */
+    private static void throwIfCancelled(@NotNull final BooleanSupplier cancelled) {
+        if (cancelled.getAsBoolean()) {
+            throw new CancellationException("The operation was cancelled before the end of the stream was reached");
+        }
+    }
+
+    /**
+     * Utility method that executes the {@code fn} lambda function using the {@code executor} parameter and returns a
+     * {@link CompletableFuture} which is completed with the result. The {@code fn} lambda function is passed a
+     * predicate which returns true once the returned future has been cancelled or otherwise completed, allowing long
+     * running operations to stop early. The {@code fn} lambda function is not invoked if the returned future is
+     * already complete when the task is started. If the {@code executor} rejects the task, the returned future is
+     * completed exceptionally with the {@link RejectedExecutionException} instead of the exception being thrown.
+     *
+     * @param executor
+     *         the executor used to run the {@code fn} lambda function, not null
+     * @param fn
+     *         the lambda function which computes the result, not null
+     * @param <T>
+     *         the type of the result
+     * @return a {@link CompletableFuture} that when completed will return the result of the {@code fn} lambda
+     *         function, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executor} or {@code fn} parameters are null
+     */
+    public static <T> CompletableFuture<T> supplyStage(@NotNull final ExecutorService executor,
+                                                       @NotNull final Function<BooleanSupplier, T> fn) {
+        throwIfArgIsNull(executor, EXECUTOR_PARAM);
+        throwIfArgIsNull(fn, FN_PARAM);
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+
+                try {
+                    future.complete(fn.apply(future::isDone));
+                } catch (Throwable ex) {
+                    future.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+
+        return future;
+    }
+
+    /**
+     * Utility method that executes the {@code fn} lambda function using the {@code executor} parameter and returns a
+     * {@link CompletableFuture} which is completed with the result or is completed exceptionally with a {@link
+     * TimeoutException} if the {@code timeout} elapses first.
+     *
+     * @param executor
+     *         the executor used to run the {@code fn} lambda function, not null
+     * @param timeout
+     *         the maximum amount of time allowed for the operation to complete, including any time spent queued, not
+     *         null
+     * @param fn
+     *         the lambda function which computes the result, not null
+     * @param <T>
+     *         the type of the result
+     * @return a {@link CompletableFuture} that when completed will return the result of the {@code fn} lambda
+     *         function, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executor}, {@code timeout}, or {@code fn} parameters are null
+     * @see #supplyStage(ExecutorService, Function)
+     */
+    public static <T> CompletableFuture<T> supplyStage(@NotNull final ExecutorService executor,
+                                                       @NotNull final Duration timeout,
+                                                       @NotNull final Function<BooleanSupplier, T> fn) {
+        throwIfArgIsNull(timeout, TIMEOUT_PARAM);
+
+        final CompletableFuture<T> future = supplyStage(executor, fn);
+
+        future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        return future;
+    }
+
     /**
      * Factory method that creates a new instance on every invocation.
      *
@@ -150,15 +380,61 @@ public class DefaultCryptographyImpl implements Cryptography {
         return new DefaultCryptographyImpl();
     }
 
+    /**
+     * Factory method that creates a new instance on every invocation. The new instance will use the specified {@link
+     * PrimitiveProvider} which allows the {@link ExecutorMode} and other primitive provider options to be selected.
+     *
+     * @param primitiveProvider
+     *         the {@link PrimitiveProvider} implementation to be used by the new instance, not null
+     * @return a new {@linkplain Cryptography} instance, not null
+     * @throws IllegalArgumentException
+     *         if the {@code primitiveProvider} parameter is null
+     */
+    public static Cryptography newInstance(@NotNull final PrimitiveProvider primitiveProvider) {
+        return new DefaultCryptographyImpl(primitiveProvider);
+    }
+
+    /**
+     * Factory method that creates a new instance on every invocation. The new instance will use a {@link
+     * PrimitiveProviderImpl} configured with the specified {@link ExecutorMode}.
+     *
+     * @param executorMode
+     *         the thread model to be used for asynchronous operations, not null
+     * @return a new {@linkplain Cryptography} instance, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executorMode} parameter is null
+     * @throws UnsupportedOperationException
+     *         if the {@code executorMode} is not supported by the current Java runtime
+     */
+    public static Cryptography newInstance(@NotNull final ExecutorMode executorMode) {
+        return new DefaultCryptographyImpl(new PrimitiveProviderImpl(executorMode));
+    }
+
+    /**
+     * Factory method that creates a new instance on every invocation. The new instance will use a {@link
+     * PrimitiveProviderImpl} whose executor is sized and bounded according to the specified {@link
+     * ExecutorConfiguration}.
+     *
+     * @param configuration
+     *         the configuration of the executor used for asynchronous operations, not null
+     * @return a new {@linkplain Cryptography} instance, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration} parameter is null or if the configured core pool size is greater than the
+     *         maximum pool size
+     * @throws UnsupportedOperationException
+     *         if the configured {@link ExecutorMode} is not supported by the current Java runtime
+     */
+    public static Cryptography newInstance(@NotNull final ExecutorConfiguration configuration) {
+        return new DefaultCryptographyImpl(new PrimitiveProviderImpl(configuration));
+    }
+
 
     /**
      * {@inheritDoc}
      */
     @Override
     public DigestProvider digest() {
-        return ServiceLoader.load(DigestProvider.class)
-                            .findFirst()
-                            .orElseGet(() -> new DigestProviderImpl(primitiveProvider));
+        return digestProvider;
     }
 
     /**
@@ -166,9 +442,7 @@ public class DefaultCryptographyImpl implements Cryptography {
      */
     @Override
     public EncryptionProvider encryption() {
-        return ServiceLoader.load(EncryptionProvider.class)
-                            .findFirst()
-                            .orElseGet(() -> new EncryptionProviderImpl(primitiveProvider));
+        return encryptionProvider;
     }
 
     /**
@@ -176,9 +450,7 @@ public class DefaultCryptographyImpl implements Cryptography {
      */
     @Override
     public MacProvider mac() {
-        return ServiceLoader.load(MacProvider.class)
-                            .findFirst()
-                            .orElseGet(() -> new MacProviderImpl(primitiveProvider));
+        return macProvider;
     }
 
     /**
@@ -186,9 +458,7 @@ public class DefaultCryptographyImpl implements Cryptography {
      */
     @Override
     public SignatureProvider signature() {
-        return ServiceLoader.load(SignatureProvider.class)
-                            .findFirst()
-                            .orElseGet(() -> new SignatureProviderImpl(primitiveProvider));
+        return signatureProvider;
     }
 
     /**
@@ -199,6 +469,20 @@ public class DefaultCryptographyImpl implements Cryptography {
         return primitiveProvider;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The primitive pools are filled and the operations are run by tasks on the executor lane of each operation class,
+     * so this method returns immediately.
+     */
+    @Override
+    public CompletableFuture<Void> warmUpAsync(@NotNull final WarmupConfiguration configuration) {
+        throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+
+        return new WarmupRoutine(this, configuration).run();
+    }
+
     /**
      * {@inheritDoc}
      */
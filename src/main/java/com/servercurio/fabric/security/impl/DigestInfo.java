@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.HashAlgorithm;
+import java.util.Arrays;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Utility methods for encoding a precomputed digest as the DER {@code DigestInfo} structure which is signed by the
+ * RSASSA-PKCS1-v1_5 signature scheme.
+ *
+ * @author Nathan Klick
+ * @see <a href="https://tools.ietf.org/html/rfc8017#section-9.2">https://tools.ietf.org/html/rfc8017#section-9.2</a>
+ */
+final class DigestInfo {
+
+    /**
+     * The DER encoding of the SHA-1 {@code AlgorithmIdentifier} including the NULL parameters.
+     */
+    private static final byte[] SHA1_ALGORITHM_IDENTIFIER = {
+            0x30, 0x09, 0x06, 0x05, 0x2b, 0x0e, 0x03, 0x02, 0x1a, 0x05, 0x00
+    };
+
+    /**
+     * The DER encoding of the NIST hash algorithm {@code AlgorithmIdentifier} including the NULL parameters. The final
+     * arc of the object identifier is located at {@link #NIST_ARC_INDEX}.
+     */
+    private static final byte[] NIST_ALGORITHM_IDENTIFIER = {
+            0x30, 0x0d, 0x06, 0x09, 0x60, (byte) 0x86, 0x48, 0x01, 0x65, 0x03, 0x04, 0x02, 0x00, 0x05, 0x00
+    };
+
+    /**
+     * The index of the final object identifier arc within the {@link #NIST_ALGORITHM_IDENTIFIER}.
+     */
+    private static final int NIST_ARC_INDEX = 12;
+
+    /**
+     * The DER tag of a {@code SEQUENCE}.
+     */
+    private static final byte SEQUENCE_TAG = 0x30;
+
+    /**
+     * The DER tag of an {@code OCTET STRING}.
+     */
+    private static final byte OCTET_STRING_TAG = 0x04;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DigestInfo() {
+
+    }
+
+    /**
+     * Encodes the specified digest as a DER {@code DigestInfo} structure.
+     *
+     * @param hash
+     *         the precomputed digest, not null
+     * @return the encoded structure, not null
+     * @throws IllegalArgumentException
+     *         if the algorithm of the digest does not have a registered object identifier
+     */
+    static byte[] encode(@NotNull final Hash hash) {
+        final byte[] algorithmIdentifier = algorithmIdentifier(hash.getAlgorithm());
+        final byte[] digest = hash.getValue();
+        final int contentLength = algorithmIdentifier.length + 2 + digest.length;
+        final byte[] encoded = new byte[2 + contentLength];
+
+        encoded[0] = SEQUENCE_TAG;
+        encoded[1] = (byte) contentLength;
+        System.arraycopy(algorithmIdentifier, 0, encoded, 2, algorithmIdentifier.length);
+        encoded[2 + algorithmIdentifier.length] = OCTET_STRING_TAG;
+        encoded[3 + algorithmIdentifier.length] = (byte) digest.length;
+        System.arraycopy(digest, 0, encoded, 4 + algorithmIdentifier.length, digest.length);
+
+        return encoded;
+    }
+
+    /**
+     * Gets the DER encoded {@code AlgorithmIdentifier} of the specified hash algorithm.
+     *
+     * @param algorithm
+     *         the hash algorithm, not null
+     * @return the encoded algorithm identifier, not null
+     * @throws IllegalArgumentException
+     *         if the algorithm does not have a registered object identifier
+     */
+    private static byte[] algorithmIdentifier(@NotNull final HashAlgorithm algorithm) {
+        final byte arc;
+
+        //CHECKSTYLE.OFF: IndentationCheck
+        switch (algorithm) {
+            case SHA1:
+                return SHA1_ALGORITHM_IDENTIFIER;
+            case SHA_256:
+                arc = 0x01;
+                break;
+            case SHA_384:
+                arc = 0x02;
+                break;
+            case SHA_512:
+                arc = 0x03;
+                break;
+            case SHA_224:
+                arc = 0x04;
+                break;
+            case SHA3_224:
+                arc = 0x07;
+                break;
+            case SHA3_256:
+                arc = 0x08;
+                break;
+            case SHA3_384:
+                arc = 0x09;
+                break;
+            case SHA3_512:
+                arc = 0x0a;
+                break;
+            default:
+                throw new IllegalArgumentException(
+                        String.format("The %s algorithm does not have a DigestInfo encoding", algorithm));
+        }
+        //CHECKSTYLE.ON: IndentationCheck
+
+        final byte[] identifier = Arrays.copyOf(NIST_ALGORITHM_IDENTIFIER, NIST_ALGORITHM_IDENTIFIER.length);
+        identifier[NIST_ARC_INDEX] = arc;
+
+        return identifier;
+    }
+}
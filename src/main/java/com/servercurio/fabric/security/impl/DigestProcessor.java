@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.HashAlgorithm;
+import com.servercurio.fabric.security.spi.PrimitiveLease;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.concurrent.Executor;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A {@link BufferProcessor} which computes the digest of all the chunks received from the upstream publisher and
+ * publishes a single {@link Hash} once the upstream publisher has completed.
+ *
+ * @author Nathan Klick
+ */
+final class DigestProcessor extends BufferProcessor<Hash> {
+
+    /**
+     * The algorithm of the computed {@link Hash}.
+     */
+    private final HashAlgorithm algorithm;
+
+    /**
+     * The message digest primitive exclusively owned by this processor.
+     */
+    private final MessageDigest digest;
+
+    /**
+     * Constructs a new processor.
+     *
+     * @param executor
+     *         the executor used to deliver items to the downstream subscribers, not null
+     * @param algorithm
+     *         the algorithm of the computed {@link Hash}, not null
+     * @param lease
+     *         the lease of the message digest primitive exclusively owned by this processor, not null
+     */
+    DigestProcessor(@NotNull final Executor executor, @NotNull final HashAlgorithm algorithm,
+                    @NotNull final PrimitiveLease<MessageDigest> lease) {
+        super(executor, lease);
+
+        this.algorithm = algorithm;
+        this.digest = lease.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void update(@NotNull final ByteBuffer chunk) {
+        digest.update(chunk);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void finish() {
+        publish(new Hash(algorithm, digest.digest()));
+    }
+}
@@ -21,19 +21,31 @@ import com.servercurio.fabric.security.CryptographyException;
 import com.servercurio.fabric.security.Hash;
 import com.servercurio.fabric.security.HashAlgorithm;
 import com.servercurio.fabric.security.spi.DigestProvider;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitiveLease;
 import com.servercurio.fabric.security.spi.PrimitiveProvider;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
 import static com.servercurio.fabric.lang.Validators.throwIfArgumentIsEmpty;
 import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.applyToStream;
+import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.supplyStage;
 
 /**
  * Default {@code Fabric Unified Cryptography API} provider implementation that encapsulates all of the available
@@ -76,6 +88,16 @@ public class DigestProviderImpl implements DigestProvider {
      */
     private static final String BUFFER_PARAM = "buffer";
 
+    /**
+     * The {@code timeout} parameter name represented as a string value.
+     */
+    private static final String TIMEOUT_PARAM = "timeout";
+
+    /**
+     * The {@code file} parameter name represented as a string value.
+     */
+    private static final String FILE_PARAM = "file";
+
     /**
      * The {@link PrimitiveProvider} implementation to which this provider is bound.
      */
@@ -94,12 +116,36 @@ public class DigestProviderImpl implements DigestProvider {
         this.primitiveProvider = primitiveProvider;
     }
 
+    /**
+     * Determines whether an input of the specified length should be hashed by multiple threads. Only the {@link
+     * HashAlgorithm#BLAKE3_256} and {@link HashAlgorithm#CRC32C} algorithms can divide a single input without changing
+     * the result.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param length
+     *         the number of bytes in the input
+     * @return true if the input should be hashed by multiple threads; otherwise false
+     */
+    private static boolean isParallel(@NotNull final HashAlgorithm algorithm, final long length) {
+        //CHECKSTYLE.OFF: IndentationCheck
+        switch (algorithm) {
+            case BLAKE3_256:
+                return Blake3Tree.isParallel(length);
+            case CRC32C:
+                return Crc32cCombiner.isParallel(length);
+            default:
+                return false;
+        }
+        //CHECKSTYLE.ON: IndentationCheck
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Future<Hash> digestAsync(@NotNull final HashAlgorithm algorithm, @NotNull final InputStream stream) {
-        return primitiveProvider.executorService().submit(() -> digestSync(algorithm, stream));
+        return primitiveProvider.executorService(OperationClass.DIGEST).submit(() -> digestSync(algorithm, stream));
     }
 
     /**
@@ -107,7 +153,7 @@ public class DigestProviderImpl implements DigestProvider {
      */
     @Override
     public Future<Hash> digestAsync(@NotNull final HashAlgorithm algorithm, @NotNull final byte[] data) {
-        return primitiveProvider.executorService().submit(() -> digestSync(algorithm, data));
+        return primitiveProvider.executorService(OperationClass.DIGEST).submit(() -> digestSync(algorithm, data));
     }
 
     /**
@@ -115,7 +161,7 @@ public class DigestProviderImpl implements DigestProvider {
      */
     @Override
     public Future<Hash> digestAsync(@NotNull final HashAlgorithm algorithm, @NotEmpty final Hash... hashes) {
-        return primitiveProvider.executorService().submit(() -> digestSync(algorithm, hashes));
+        return primitiveProvider.executorService(OperationClass.DIGEST).submit(() -> digestSync(algorithm, hashes));
     }
 
     /**
@@ -123,7 +169,91 @@ public class DigestProviderImpl implements DigestProvider {
      */
     @Override
     public Future<Hash> digestAsync(@NotNull final HashAlgorithm algorithm, @NotNull final ByteBuffer buffer) {
-        return primitiveProvider.executorService().submit(() -> digestSync(algorithm, buffer));
+        return primitiveProvider.executorService(OperationClass.DIGEST).submit(() -> digestSync(algorithm, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm,
+                                               @NotNull final InputStream stream) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.DIGEST),
+                           cancelled -> digestSync(algorithm, stream, cancelled));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm,
+                                               @NotNull final InputStream stream, @NotNull final Duration timeout) {
+        throwIfArgIsNull(timeout, TIMEOUT_PARAM);
+
+        return supplyStage(primitiveProvider.executorService(OperationClass.DIGEST), timeout,
+                           cancelled -> digestSync(algorithm, stream, cancelled));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm, @NotNull final byte[] data) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.DIGEST),
+                           cancelled -> digestSync(algorithm, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm,
+                                               @NotEmpty final Hash... hashes) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.DIGEST),
+                           cancelled -> digestSync(algorithm, hashes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm,
+                                               @NotNull final ByteBuffer buffer) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.DIGEST),
+                           cancelled -> digestSync(algorithm, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm, @NotNull final Path file) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(file, FILE_PARAM);
+
+        if (isParallel(algorithm, Long.MAX_VALUE)) {
+            return supplyStage(primitiveProvider.executorService(OperationClass.DIGEST),
+                               cancelled -> digestMapped(algorithm, file, cancelled));
+        }
+
+        final PrimitiveLease<MessageDigest> lease = primitiveProvider.lease(algorithm);
+        final MessageDigest digest = lease.get();
+
+        return AsyncFileReader.read(primitiveProvider.executorService(OperationClass.DIGEST), lease, file, block -> {
+            digest.update(block);
+            return null;
+        }, () -> CompletableFuture.completedFuture(new Hash(algorithm, digest.digest())));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flow.Processor<ByteBuffer, Hash> digestProcessor(@NotNull final HashAlgorithm algorithm) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+
+        return new DigestProcessor(primitiveProvider.executorService(OperationClass.DIGEST), algorithm,
+                                   primitiveProvider.lease(algorithm));
     }
 
     /**
@@ -131,18 +261,73 @@ public class DigestProviderImpl implements DigestProvider {
      */
     @Override
     public Hash digestSync(@NotNull final HashAlgorithm algorithm, @NotNull final InputStream stream) {
+        return digestSync(algorithm, stream, () -> false);
+    }
+
+    /**
+     * Synchronously computes the digest of the {@link InputStream} specified by the {@code stream} parameter and stops
+     * reading the stream once the {@code cancelled} predicate returns true.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param stream
+     *         the stream to be hashed, not null
+     * @param cancelled
+     *         the predicate evaluated before each block is read, not null
+     * @return the computed {@link Hash}, not null
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before the end of the stream is reached
+     */
+    private Hash digestSync(@NotNull final HashAlgorithm algorithm, @NotNull final InputStream stream,
+                            @NotNull final BooleanSupplier cancelled) {
         throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
         throwIfArgIsNull(stream, STREAM_PARAM);
 
         final MessageDigest digest = primitiveProvider.primitive(algorithm);
 
         try {
-            applyToStream(stream, digest::update);
+            applyToStream(stream, cancelled, digest::update);
+            return new Hash(algorithm, digest.digest());
         } catch (IOException | GeneralSecurityException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, digest);
         }
+    }
 
-        return new Hash(algorithm, digest.digest());
+    /**
+     * Synchronously computes the digest of the file specified by the {@code file} parameter using an algorithm which
+     * supports parallel hashing. Files large enough to benefit are memory mapped and hashed by multiple threads;
+     * smaller files are memory mapped and hashed by the calling thread.
+     *
+     * @param algorithm
+     *         the algorithm to use which must support parallel hashing, not null
+     * @param file
+     *         the file to be hashed, not null
+     * @param cancelled
+     *         the predicate evaluated before each segment is hashed, not null
+     * @return the computed {@link Hash}, not null
+     * @throws CryptographyException
+     *         if the file cannot be read
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before the digest has been computed
+     * @see #isParallel(HashAlgorithm, long)
+     */
+    private Hash digestMapped(@NotNull final HashAlgorithm algorithm, @NotNull final Path file,
+                              @NotNull final BooleanSupplier cancelled) {
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (!isParallel(algorithm, channel.size())) {
+                return digestSync(algorithm, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+
+            final ExecutorService executor = primitiveProvider.executorService(OperationClass.DIGEST);
+
+            return new Hash(algorithm, (algorithm == HashAlgorithm.CRC32C)
+                                       ? Crc32cCombiner.digest(executor, channel, cancelled)
+                                       : Blake3Tree.digest(executor, channel, cancelled));
+        } catch (IOException ex) {
+            throw new CryptographyException(ex);
+        }
     }
 
     /**
@@ -155,8 +340,12 @@ public class DigestProviderImpl implements DigestProvider {
 
         final MessageDigest digest = primitiveProvider.primitive(algorithm);
 
-        digest.update(data);
-        return new Hash(algorithm, digest.digest());
+        try {
+            digest.update(data);
+            return new Hash(algorithm, digest.digest());
+        } finally {
+            primitiveProvider.release(algorithm, digest);
+        }
     }
 
     /**
@@ -169,15 +358,19 @@ public class DigestProviderImpl implements DigestProvider {
 
         final MessageDigest digest = primitiveProvider.primitive(algorithm);
 
-        for (final Hash hash : hashes) {
-            if (hash != null) {
-                digest.update(hash.getValue());
-            } else {
-                digest.update(Hash.EMPTY.getValue());
+        try {
+            for (final Hash hash : hashes) {
+                if (hash != null) {
+                    digest.update(hash.getValue());
+                } else {
+                    digest.update(Hash.EMPTY.getValue());
+                }
             }
-        }
 
-        return new Hash(algorithm, digest.digest());
+            return new Hash(algorithm, digest.digest());
+        } finally {
+            primitiveProvider.release(algorithm, digest);
+        }
     }
 
     /**
@@ -188,10 +381,22 @@ public class DigestProviderImpl implements DigestProvider {
         throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
         throwIfArgIsNull(buffer, BUFFER_PARAM);
 
+        if (isParallel(algorithm, buffer.remaining())) {
+            final ExecutorService executor = primitiveProvider.executorService(OperationClass.DIGEST);
+
+            return new Hash(algorithm, (algorithm == HashAlgorithm.CRC32C)
+                                       ? Crc32cCombiner.digest(executor, buffer, () -> false)
+                                       : Blake3Tree.digest(executor, buffer, () -> false));
+        }
+
         final MessageDigest digest = primitiveProvider.primitive(algorithm);
 
-        digest.update(buffer);
-        return new Hash(algorithm, digest.digest());
+        try {
+            digest.update(buffer);
+            return new Hash(algorithm, digest.digest());
+        } finally {
+            primitiveProvider.release(algorithm, digest);
+        }
     }
 
 }
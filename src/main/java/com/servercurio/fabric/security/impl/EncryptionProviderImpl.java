@@ -22,21 +22,49 @@ import com.servercurio.fabric.security.CipherPadding;
 import com.servercurio.fabric.security.CipherTransformation;
 import com.servercurio.fabric.security.Cryptography;
 import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.spi.CipherSession;
+import com.servercurio.fabric.security.spi.DurabilityPolicy;
 import com.servercurio.fabric.security.spi.EncryptionProvider;
+import com.servercurio.fabric.security.spi.NonceConfiguration;
+import com.servercurio.fabric.security.spi.NonceGenerator;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitiveLease;
 import com.servercurio.fabric.security.spi.PrimitiveProvider;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.SecureRandom;
 import java.security.spec.AlgorithmParameterSpec;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
 import javax.crypto.Cipher;
 import javax.crypto.CipherInputStream;
 import javax.crypto.CipherOutputStream;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.validation.constraints.NotEmpty;
@@ -46,6 +74,8 @@ import javax.validation.constraints.Positive;
 import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
 import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
 import static com.servercurio.fabric.lang.Validators.throwIfArgumentIsEmpty;
+import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.applyToStream;
+import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.supplyStage;
 
 /**
  * Default {@code Fabric Unified Cryptography API} provider implementation that encapsulates all of the available
@@ -112,6 +142,61 @@ public class EncryptionProviderImpl implements EncryptionProvider {
      */
     private static final String BUFFER_PARAM = "buffer";
 
+    /**
+     * The {@code input} parameter name represented as a string value.
+     */
+    private static final String INPUT_PARAM = "input";
+
+    /**
+     * The {@code output} parameter name represented as a string value.
+     */
+    private static final String OUTPUT_PARAM = "output";
+
+    /**
+     * The {@code timeout} parameter name represented as a string value.
+     */
+    private static final String TIMEOUT_PARAM = "timeout";
+
+    /**
+     * The {@code clearFile} parameter name represented as a string value.
+     */
+    private static final String CLEAR_FILE_PARAM = "clearFile";
+
+    /**
+     * The {@code cipherFile} parameter name represented as a string value.
+     */
+    private static final String CIPHER_FILE_PARAM = "cipherFile";
+
+    /**
+     * The {@code clearChannel} parameter name represented as a string value.
+     */
+    private static final String CLEAR_CHANNEL_PARAM = "clearChannel";
+
+    /**
+     * The {@code cipherChannel} parameter name represented as a string value.
+     */
+    private static final String CIPHER_CHANNEL_PARAM = "cipherChannel";
+
+    /**
+     * The {@code durability} parameter name represented as a string value.
+     */
+    private static final String DURABILITY_PARAM = "durability";
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
+
+    /**
+     * The {@code source} parameter name represented as a string value.
+     */
+    private static final String SOURCE_PARAM = "source";
+
+    /**
+     * The {@code destination} parameter name represented as a string value.
+     */
+    private static final String DESTINATION_PARAM = "destination";
+
     /**
      * The preferred and largest nonce size in bytes supported by {@link CipherMode#GCM} that does not require an extra
      * block to be computed.
@@ -129,12 +214,24 @@ public class EncryptionProviderImpl implements EncryptionProvider {
      */
     private static final int CTR_COUNTER_SIZE = 4;
 
+    /**
+     * The largest size in bytes of the direct buffers used when transforming the content of a channel.
+     */
+    static final int CHANNEL_BUFFER_SIZE = 1 << 20;
+
     /**
      * The {@link PrimitiveProvider} implementation to which this provider is bound.
      */
     @NotNull
     private final PrimitiveProvider primitiveProvider;
 
+    /**
+     * The absolute paths of the files written with the {@link DurabilityPolicy#DEFERRED} policy which have not yet been
+     * committed.
+     */
+    @NotNull
+    private final Set<Path> deferredFiles;
+
     /**
      * Constructs a new provider instance bound to the given {@link Cryptography} implementation.
      *
@@ -145,6 +242,7 @@ public class EncryptionProviderImpl implements EncryptionProvider {
         throwIfArgIsNull(primitiveProvider, PRIMITIVE_PROVIDER_FIELD);
 
         this.primitiveProvider = primitiveProvider;
+        this.deferredFiles = ConcurrentHashMap.newKeySet();
     }
 
     /**
@@ -185,15 +283,33 @@ public class EncryptionProviderImpl implements EncryptionProvider {
         throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
 
         final Cipher cipher = primitiveProvider.primitive(algorithm);
+        final int blockSize = cipher.getBlockSize();
+        primitiveProvider.release(algorithm, cipher);
+
+        return deriveNonceSize(algorithm, blockSize);
+    }
+
+    /**
+     * Computes the appropriate nonce size for the transformation given by the {@code algorithm} parameter using a
+     * previously determined block size.
+     *
+     * @param algorithm
+     *         the chosen transformation, not null
+     * @param blockSize
+     *         the block size in bytes of the transformation, zero or greater
+     * @return a positive integer representing the number of bytes that should be used for the nonce
+     */
+    static int deriveNonceSize(@NotNull final CipherTransformation algorithm, final int blockSize) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
 
         //CHECKSTYLE.OFF: IndentationCheck
         switch (algorithm.getMode()) {
             case GCM:
                 return GCM_NONCE_SIZE;
             case CTR:
-                return cipher.getBlockSize() - CTR_COUNTER_SIZE;
+                return blockSize - CTR_COUNTER_SIZE;
             default:
-                return cipher.getBlockSize();
+                return blockSize;
         }
         //CHECKSTYLE.ON: IndentationCheck
     }
@@ -214,19 +330,678 @@ public class EncryptionProviderImpl implements EncryptionProvider {
         throwIfArgumentIsEmpty(iv, IV_PARAM);
 
         final Cipher cipher = primitiveProvider.primitive(algorithm);
+        final int blockSize = cipher.getBlockSize();
+        primitiveProvider.release(algorithm, cipher);
+
+        return deriveParameters(algorithm, blockSize, iv);
+    }
+
+    /**
+     * Creates the appropriate initialization parameters for the transformation given by the {@code algorithm} parameter
+     * and the user supplied nonce given by the {@code iv} parameter using a previously determined block size.
+     *
+     * @param algorithm
+     *         the chosen transformation, not null
+     * @param blockSize
+     *         the block size in bytes of the transformation, zero or greater
+     * @param iv
+     *         the user-supplied nonce to be used for cipher initialization, not null
+     * @return the {@link AlgorithmParameterSpec} to be used for cipher initialization, not null
+     */
+    static AlgorithmParameterSpec deriveParameters(@NotNull final CipherTransformation algorithm, final int blockSize,
+                                                   @NotEmpty final byte[] iv) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgumentIsEmpty(iv, IV_PARAM);
 
         //CHECKSTYLE.OFF: IndentationCheck
         switch (algorithm.getMode()) {
             case GCM:
                 return new GCMParameterSpec(GCM_TAG_SIZE, iv);
             case CTR:
-                return new IvParameterSpec(deriveCounterIv(cipher.getBlockSize(), CTR_COUNTER_SIZE, iv));
+                return new IvParameterSpec(deriveCounterIv(blockSize, CTR_COUNTER_SIZE, iv));
             default:
                 return new IvParameterSpec(iv);
         }
         //CHECKSTYLE.ON: IndentationCheck
     }
 
+    /**
+     * Validates the arrays and bounds supplied to an operation which writes its output into a caller-provided array.
+     *
+     * @param input
+     *         the array from which the input is read, not null
+     * @param inputOffset
+     *         the offset in the {@code input} array at which the input begins
+     * @param inputLength
+     *         the number of bytes of input
+     * @param output
+     *         the array into which the output is written, not null
+     * @param outputOffset
+     *         the offset in the {@code output} array at which the output is written
+     * @throws IllegalArgumentException
+     *         if the {@code input} or {@code output} parameters are null
+     * @throws IndexOutOfBoundsException
+     *         if the {@code inputOffset}, {@code inputLength}, or {@code outputOffset} parameters lie outside the
+     *         bounds of their arrays
+     */
+    static void throwIfRangeInvalid(@NotNull final byte[] input, final int inputOffset, final int inputLength,
+                                    @NotNull final byte[] output, final int outputOffset) {
+        throwIfArgIsNull(input, INPUT_PARAM);
+        throwIfArgIsNull(output, OUTPUT_PARAM);
+
+        Objects.checkFromIndexSize(inputOffset, inputLength, input.length);
+        Objects.checkFromIndexSize(outputOffset, 0, output.length);
+    }
+
+    /**
+     * Validates the buffers supplied to an operation which writes its output into a caller-provided buffer.
+     *
+     * @param input
+     *         the buffer from which the input is read, not null
+     * @param output
+     *         the buffer into which the output is written, not null
+     * @throws IllegalArgumentException
+     *         if either parameter is null, if both parameters are the same object, or if the {@code output} buffer is
+     *         read-only
+     */
+    static void throwIfBuffersInvalid(@NotNull final ByteBuffer input, @NotNull final ByteBuffer output) {
+        throwIfArgIsNull(input, INPUT_PARAM);
+        throwIfArgIsNull(output, OUTPUT_PARAM);
+
+        if (input == output) {
+            throw new IllegalArgumentException(
+                    String.format("The %s and %s parameters must not be the same object, pass a duplicate of the "
+                                          + "buffer to transform it in place", INPUT_PARAM, OUTPUT_PARAM));
+        }
+
+        if (output.isReadOnly()) {
+            throw new IllegalArgumentException(
+                    String.format("The %s parameter must not be a read-only buffer", OUTPUT_PARAM));
+        }
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if the {@code source} and {@code destination} parameters refer to the
+     * same file, including through a link, because the destination is truncated before the source is read.
+     *
+     * @param source
+     *         the file from which the input is read, not null
+     * @param destination
+     *         the file to which the output is written, not null
+     * @throws IllegalArgumentException
+     *         if the {@code source} and {@code destination} parameters refer to the same file
+     * @throws CryptographyException
+     *         if the files cannot be compared
+     */
+    private static void throwIfSameFile(@NotNull final Path source, @NotNull final Path destination) {
+        try {
+            if (Files.exists(destination) && Files.isSameFile(source, destination)) {
+                throw new IllegalArgumentException(
+                        String.format("The %s and %s parameters must not refer to the same file", SOURCE_PARAM,
+                                      DESTINATION_PARAM));
+            }
+        } catch (IOException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if the {@code durability} parameter is null or is the {@link
+     * DurabilityPolicy#DEFERRED} policy, which cannot be applied to a channel owned by the caller.
+     *
+     * @param durability
+     *         the durability policy to be validated
+     * @throws IllegalArgumentException
+     *         if the {@code durability} parameter is null or is the {@link DurabilityPolicy#DEFERRED} policy
+     */
+    private static void throwIfDurabilityDeferred(final DurabilityPolicy durability) {
+        throwIfArgIsNull(durability, DURABILITY_PARAM);
+
+        if (durability == DurabilityPolicy.DEFERRED) {
+            throw new IllegalArgumentException(
+                    String.format("The %s policy requires a file path and may not be used with a channel",
+                                  durability));
+        }
+    }
+
+    /**
+     * Computes the size of the buffers used to transform the content of the {@code channel} parameter. The size is
+     * limited to the remaining content when the channel is a {@link SeekableByteChannel} so that small files do not
+     * incur the cost of allocating a full sized direct buffer.
+     *
+     * @param channel
+     *         the channel from which the input is read, not null
+     * @return the buffer size in bytes, positive integer
+     * @throws IOException
+     *         if the size or position of the channel cannot be determined
+     */
+    private static int channelBufferSize(@NotNull final ReadableByteChannel channel) throws IOException {
+        if (channel instanceof SeekableByteChannel) {
+            final SeekableByteChannel seekable = (SeekableByteChannel) channel;
+            final long remaining = seekable.size() - seekable.position();
+
+            return (int) Math.max(1, Math.min(CHANNEL_BUFFER_SIZE, remaining));
+        }
+
+        return CHANNEL_BUFFER_SIZE;
+    }
+
+    /**
+     * Reads from the {@code channel} parameter until the {@code buffer} is full or the end of the stream is reached.
+     *
+     * @param channel
+     *         the blocking channel from which the input is read, not null
+     * @param buffer
+     *         the buffer to be filled, not null
+     * @return true if the buffer was filled, false if the end of the stream was reached
+     * @throws IOException
+     *         if an error occurs while reading from the channel
+     */
+    private static boolean fill(@NotNull final ReadableByteChannel channel, @NotNull final ByteBuffer buffer)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes the content of the {@code buffer} parameter to the {@code channel} parameter and clears the buffer.
+     *
+     * @param buffer
+     *         the buffer containing the output to be written in write mode, not null
+     * @param channel
+     *         the blocking channel to which the output is written, not null
+     * @throws IOException
+     *         if an error occurs while writing to the channel
+     */
+    private static void drain(@NotNull final ByteBuffer buffer, @NotNull final WritableByteChannel channel)
+            throws IOException {
+        buffer.flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+    /**
+     * Determines whether the cipher withholds all of its output until the operation is completed. Authenticated modes
+     * do this when decrypting because no plaintext may be released before the authentication tag has been verified.
+     *
+     * @param mode
+     *         the cipher operation mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param algorithm
+     *         the algorithm in use, not null
+     * @return true if the output is withheld until the operation is completed; otherwise false
+     */
+    static boolean withholdsOutput(final int mode, @NotNull final CipherTransformation algorithm) {
+        return mode == Cipher.DECRYPT_MODE
+                && (algorithm.getMode() == CipherMode.GCM || algorithm.getMode() == CipherMode.CCM);
+    }
+
+    /**
+     * Writes the {@code released} parameter to the {@code channel} parameter.
+     *
+     * @param released
+     *         the output released by the cipher, may be null if no output was released
+     * @param channel
+     *         the blocking channel to which the output is written, not null
+     * @throws IOException
+     *         if an error occurs while writing to the channel
+     */
+    private static void write(final byte[] released, @NotNull final WritableByteChannel channel) throws IOException {
+        if (released == null) {
+            return;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.wrap(released);
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Transforms the remaining content of the {@code input} buffer into the {@code output} buffer. If the cipher
+     * reports that the {@code output} buffer is too small, a direct buffer of at least twice the capacity is allocated
+     * and returned so that the caller reuses it for the following blocks. The cost of growing the buffer is therefore
+     * amortized over the whole operation. Modes which withhold all of their output until the operation is completed
+     * should not be transformed using this method, see {@link #withholdsOutput(int, CipherTransformation)}.
+     *
+     * @param cipher
+     *         the initialized cipher, not null
+     * @param input
+     *         the buffer containing the input in read mode, not null
+     * @param output
+     *         the empty buffer into which the output is written, not null
+     * @param last
+     *         true if the {@code input} buffer contains the final block of input
+     * @return the buffer containing the output in write mode, either the {@code output} parameter or a larger buffer
+     *         which replaces it
+     * @throws GeneralSecurityException
+     *         if an error occurs while performing the cryptographic operation
+     */
+    private static ByteBuffer apply(@NotNull final Cipher cipher, @NotNull final ByteBuffer input,
+                                    @NotNull final ByteBuffer output, final boolean last)
+            throws GeneralSecurityException {
+        if (last) {
+            final int outputSize = cipher.getOutputSize(input.remaining());
+            final ByteBuffer target = (outputSize > output.capacity()) ? ByteBuffer.allocate(outputSize) : output;
+
+            cipher.doFinal(input, target);
+            return target;
+        }
+
+        try {
+            cipher.update(input, output);
+            return output;
+        } catch (ShortBufferException ex) {
+            // The input has not been consumed and the call may be repeated with a larger buffer
+            final int outputSize = cipher.getOutputSize(input.remaining());
+            final ByteBuffer target = ByteBuffer.allocateDirect(Math.max(outputSize, output.capacity() * 2));
+
+            cipher.update(input, target);
+            return target;
+        }
+    }
+
+    /**
+     * Flushes the {@code stream} parameter and, if it writes to a file, forces the content and metadata of the file to
+     * the storage device. Must only be called once all of the output, including the final block produced by the
+     * cipher, has been written to the stream.
+     *
+     * @param stream
+     *         the stream to be flushed and forced, not null
+     * @throws IOException
+     *         if an error occurs while flushing or forcing the stream
+     */
+    private static void forceIfFile(@NotNull final OutputStream stream) throws IOException {
+        stream.flush();
+
+        if (stream instanceof FileOutputStream) {
+            force(((FileOutputStream) stream).getChannel()::force, DurabilityPolicy.FULL);
+        }
+    }
+
+    /**
+     * Forces the content of the {@code channel} parameter to the storage device as required by the {@code durability}
+     * parameter. The {@link DurabilityPolicy#NONE} and {@link DurabilityPolicy#DEFERRED} policies do not force the
+     * channel; files written with the {@link DurabilityPolicy#DEFERRED} policy are recorded using the {@link
+     * #deferIfRequired(Path, DurabilityPolicy)} method instead.
+     *
+     * @param channel
+     *         the channel to be forced, not null
+     * @param durability
+     *         the durability policy to be applied, not null
+     * @throws IOException
+     *         if an error occurs while forcing the channel
+     */
+    static void force(@NotNull final Forcible channel, @NotNull final DurabilityPolicy durability)
+            throws IOException {
+        //CHECKSTYLE.OFF: IndentationCheck
+        switch (durability) {
+            case DATA:
+                channel.force(false);
+                break;
+            case FULL:
+                channel.force(true);
+                break;
+            default:
+                break;
+        }
+        //CHECKSTYLE.ON: IndentationCheck
+    }
+
+    /**
+     * Applies the cipher transformation given by the {@code algorithm} parameter to the file specified by the {@code
+     * source} parameter and writes the result to the file specified by the {@code destination} parameter. Both files
+     * are accessed using an {@link AsynchronousFileChannel} and the next block is only read into a buffer once the
+     * output produced from the previous block in that buffer has been written. The cipher is leased for the duration of
+     * the operation and the file I/O is executed on the lane of the operation class.
+     *
+     * <p>
+     * The output buffers are recycled once their content has been written and are only replaced when the cipher
+     * reports a larger output size than their capacity, therefore at most one output buffer exists for each block in
+     * flight. When the cipher withholds its output until the operation is completed, such as an authenticated mode
+     * decrypting, the blocks are passed to the cipher without an output buffer and the output is written once by the
+     * final step.
+     *
+     * @param mode
+     *         the cipher operation mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param source
+     *         the file from which the input is read, not null
+     * @param destination
+     *         the file to which the output is written, not null
+     * @param durability
+     *         the durability policy applied to the destination file, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code null} once the output has been forced
+     *         to the storage device as required by the {@code durability} parameter, not null
+     * @throws IllegalArgumentException
+     *         if the {@code durability} parameter is null or if the {@code source} and {@code destination} parameters
+     *         refer to the same file
+     */
+    private CompletableFuture<Void> transformFile(final int mode, @NotNull final CipherTransformation algorithm,
+                                                  @NotNull final Key key, @NotEmpty final byte[] iv,
+                                                  @NotNull final Path source, @NotNull final Path destination,
+                                                  @NotNull final DurabilityPolicy durability) {
+        throwIfArgIsNull(durability, DURABILITY_PARAM);
+        throwIfSameFile(source, destination);
+
+        final ExecutorService executor = primitiveProvider.executorService(
+                (mode == Cipher.ENCRYPT_MODE) ? OperationClass.ENCRYPT : OperationClass.DECRYPT);
+        final PrimitiveLease<Cipher> lease = primitiveProvider.lease(algorithm);
+        final Cipher cipher;
+        final AsyncFileWriter writer;
+
+        try {
+            cipher = lease.initialize(c -> c.init(mode, key, deriveParameters(algorithm, iv),
+                                                  primitiveProvider.random()));
+            writer = AsyncFileWriter.open(executor, destination, durability);
+        } catch (IOException | GeneralSecurityException ex) {
+            lease.close();
+            return CompletableFuture.failedFuture(new CryptographyException(ex));
+        }
+
+        final boolean withheld = withholdsOutput(mode, algorithm);
+        final byte[] withheldBlock = withheld ? new byte[AsyncFileReader.DEFAULT_BLOCK_SIZE] : null;
+        final Queue<ByteBuffer> outputs = new ConcurrentLinkedQueue<>();
+
+        final CompletableFuture<Void> future = AsyncFileReader.read(executor, lease, source, block -> {
+            if (withheld) {
+                final int length = block.remaining();
+                block.get(withheldBlock, 0, length);
+
+                final byte[] released = cipher.update(withheldBlock, 0, length);
+                return (released != null) ? writer.write(ByteBuffer.wrap(released)) : null;
+            }
+
+            final int outputSize = cipher.getOutputSize(block.remaining());
+            ByteBuffer output = outputs.poll();
+
+            if (output == null || output.capacity() < outputSize) {
+                output = ByteBuffer.allocateDirect(outputSize);
+            }
+
+            output.clear();
+            cipher.update(block, output);
+
+            final ByteBuffer written = output;
+            return writer.write(output.flip()).whenComplete((v, ex) -> outputs.offer(written));
+        }, () -> {
+            writer.write(ByteBuffer.wrap(cipher.doFinal()));
+            return writer.close().thenRun(() -> deferIfRequired(destination, durability));
+        });
+
+        future.whenComplete((v, ex) -> {
+            if (ex != null) {
+                writer.abort();
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Applies the cipher transformation given by the {@code algorithm} parameter to {@code inputLength} bytes of the
+     * {@code input} array and writes the result into the {@code output} array without allocating an output array.
+     *
+     * @param mode
+     *         the cipher operation mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param input
+     *         the array from which the input is read, not null
+     * @param inputOffset
+     *         the offset in the {@code input} array at which the input begins
+     * @param inputLength
+     *         the number of bytes of input
+     * @param output
+     *         the array into which the output is written, may be the same array as the {@code input}, not null
+     * @param outputOffset
+     *         the offset in the {@code output} array at which the output is written
+     * @return the number of bytes written to the {@code output} array
+     */
+    private int transform(final int mode, @NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                          @NotEmpty final byte[] iv, @NotNull final byte[] input, final int inputOffset,
+                          final int inputLength, @NotNull final byte[] output, final int outputOffset) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgumentIsEmpty(iv, IV_PARAM);
+        throwIfRangeInvalid(input, inputOffset, inputLength, output, outputOffset);
+
+        final Cipher cipher = primitiveProvider.primitive(algorithm);
+
+        try {
+            cipher.init(mode, key, deriveParameters(algorithm, cipher.getBlockSize(), iv), primitiveProvider.random());
+
+            return cipher.doFinal(input, inputOffset, inputLength, output, outputOffset);
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, cipher);
+        }
+    }
+
+    /**
+     * Applies the cipher transformation given by the {@code algorithm} parameter to the remaining content of the
+     * {@code input} buffer and writes the result into the {@code output} buffer without allocating an output buffer.
+     *
+     * @param mode
+     *         the cipher operation mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param input
+     *         the buffer from which the input is read, not null
+     * @param output
+     *         the buffer into which the output is written, not null
+     * @return the number of bytes written to the {@code output} buffer
+     */
+    private int transform(final int mode, @NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                          @NotEmpty final byte[] iv, @NotNull final ByteBuffer input,
+                          @NotNull final ByteBuffer output) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgumentIsEmpty(iv, IV_PARAM);
+        throwIfBuffersInvalid(input, output);
+
+        final Cipher cipher = primitiveProvider.primitive(algorithm);
+
+        try {
+            cipher.init(mode, key, deriveParameters(algorithm, cipher.getBlockSize(), iv), primitiveProvider.random());
+
+            return cipher.doFinal(input, output);
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, cipher);
+        }
+    }
+
+    /**
+     * Applies the cipher transformation given by the {@code algorithm} parameter to the content read from the {@code
+     * source} channel and writes the result to the {@code destination} channel. The content is transformed in blocks
+     * of up to {@link #CHANNEL_BUFFER_SIZE} bytes held in direct buffers. Modes which withhold their output until the
+     * authentication tag is verified are passed the input in heap blocks instead and release the output once.
+     *
+     * @param mode
+     *         the cipher operation mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param source
+     *         the blocking channel from which the input is read until the end of the stream is reached, not null
+     * @param destination
+     *         the blocking channel to which the output is written, not null
+     * @throws IOException
+     *         if an error occurs while reading or writing the channels
+     */
+    private void transformChannel(final int mode, @NotNull final CipherTransformation algorithm,
+                                  @NotNull final Key key, @NotEmpty final byte[] iv,
+                                  @NotNull final ReadableByteChannel source,
+                                  @NotNull final WritableByteChannel destination) throws IOException {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgumentIsEmpty(iv, IV_PARAM);
+
+        final Cipher cipher = primitiveProvider.primitive(algorithm);
+
+        try {
+            cipher.init(mode, key, deriveParameters(algorithm, cipher.getBlockSize(), iv), primitiveProvider.random());
+
+            final int bufferSize = channelBufferSize(source);
+
+            if (withholdsOutput(mode, algorithm)) {
+                // No plaintext is released before the tag is verified, so the input is passed without an output buffer
+                final ByteBuffer input = ByteBuffer.allocate(bufferSize);
+
+                while (fill(source, input)) {
+                    write(cipher.update(input.array(), 0, input.position()), destination);
+                    input.clear();
+                }
+
+                write(cipher.doFinal(input.array(), 0, input.position()), destination);
+                return;
+            }
+
+            final ByteBuffer input = ByteBuffer.allocateDirect(bufferSize);
+            ByteBuffer output = ByteBuffer.allocateDirect(cipher.getOutputSize(bufferSize));
+
+            while (fill(source, input)) {
+                output = apply(cipher, input.flip(), output, false);
+                drain(output, destination);
+                input.clear();
+            }
+
+            output = apply(cipher, input.flip(), output, true);
+            drain(output, destination);
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, cipher);
+        }
+    }
+
+    /**
+     * Applies the cipher transformation given by the {@code algorithm} parameter to the file specified by the {@code
+     * source} parameter, writes the result to the file specified by the {@code destination} parameter, and applies the
+     * {@code durability} policy to the destination file.
+     *
+     * @param mode
+     *         the cipher operation mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param source
+     *         the file from which the input is read, not null
+     * @param destination
+     *         the file to which the output is written, created or truncated, not null
+     * @param durability
+     *         the durability policy applied to the destination file, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null or if the {@code source} and {@code destination} parameters refer to the same
+     *         file
+     */
+    private void transformFileSync(final int mode, @NotNull final CipherTransformation algorithm,
+                                   @NotNull final Key key, @NotEmpty final byte[] iv, @NotNull final Path source,
+                                   @NotNull final Path destination, @NotNull final DurabilityPolicy durability) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgumentIsEmpty(iv, IV_PARAM);
+        throwIfArgIsNull(source, SOURCE_PARAM);
+        throwIfArgIsNull(destination, DESTINATION_PARAM);
+        throwIfArgIsNull(durability, DURABILITY_PARAM);
+        throwIfSameFile(source, destination);
+
+        try (FileChannel input = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel output = FileChannel.open(destination, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                   StandardOpenOption.TRUNCATE_EXISTING)) {
+            transformChannel(mode, algorithm, key, iv, input, output);
+            force(output::force, durability);
+        } catch (IOException ex) {
+            throw new CryptographyException(ex);
+        }
+
+        deferIfRequired(destination, durability);
+    }
+
+    /**
+     * Records the {@code file} parameter to be forced by the next call to the {@link #commitSync()} method if the
+     * {@code durability} parameter is the {@link DurabilityPolicy#DEFERRED} policy.
+     *
+     * @param file
+     *         the file which has been written, not null
+     * @param durability
+     *         the durability policy applied to the file, not null
+     */
+    private void deferIfRequired(@NotNull final Path file, @NotNull final DurabilityPolicy durability) {
+        if (durability == DurabilityPolicy.DEFERRED) {
+            deferredFiles.add(file.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Applies the cipher transformation given by the {@code algorithm} parameter to the content read from the {@code
+     * source} channel, writes the result to the {@code destination} channel, and applies the {@code durability} policy
+     * if the destination is a {@link FileChannel}.
+     *
+     * @param mode
+     *         the cipher operation mode, either {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param source
+     *         the blocking channel from which the input is read, not null
+     * @param destination
+     *         the blocking channel to which the output is written, not null
+     * @param durability
+     *         the durability policy applied to the destination channel, not null
+     */
+    private void transformChannelSync(final int mode, @NotNull final CipherTransformation algorithm,
+                                      @NotNull final Key key, @NotEmpty final byte[] iv,
+                                      @NotNull final ReadableByteChannel source,
+                                      @NotNull final WritableByteChannel destination,
+                                      @NotNull final DurabilityPolicy durability) {
+        throwIfDurabilityDeferred(durability);
+
+        try {
+            transformChannel(mode, algorithm, key, iv, source, destination);
+
+            if (destination instanceof FileChannel) {
+                force(((FileChannel) destination)::force, durability);
+            }
+        } catch (IOException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -234,7 +1009,7 @@ public class EncryptionProviderImpl implements EncryptionProvider {
     public Future<?> decryptAsync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                                   @NotEmpty final byte[] iv, @NotNull final InputStream cipherStream,
                                   @NotNull final OutputStream clearStream) {
-        return primitiveProvider.executorService()
+        return primitiveProvider.executorService(OperationClass.DECRYPT)
                                 .submit(() -> decryptSync(algorithm, key, iv, cipherStream, clearStream));
     }
 
@@ -244,7 +1019,8 @@ public class EncryptionProviderImpl implements EncryptionProvider {
     @Override
     public Future<byte[]> decryptAsync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                                        @NotEmpty final byte[] iv, @NotEmpty final byte[] data) {
-        return primitiveProvider.executorService().submit(() -> decryptSync(algorithm, key, iv, data));
+        return primitiveProvider.executorService(OperationClass.DECRYPT)
+                                .submit(() -> decryptSync(algorithm, key, iv, data));
     }
 
     /**
@@ -253,7 +1029,99 @@ public class EncryptionProviderImpl implements EncryptionProvider {
     @Override
     public Future<ByteBuffer> decryptAsync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                                            @NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer) {
-        return primitiveProvider.executorService().submit(() -> decryptSync(algorithm, key, iv, buffer));
+        return primitiveProvider.executorService(OperationClass.DECRYPT)
+                                .submit(() -> decryptSync(algorithm, key, iv, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> decryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                                @NotEmpty final byte[] iv, @NotNull final InputStream cipherStream,
+                                                @NotNull final OutputStream clearStream) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.DECRYPT), cancelled -> {
+            decryptSync(algorithm, key, iv, cipherStream, clearStream, cancelled);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> decryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                                @NotEmpty final byte[] iv, @NotNull final InputStream cipherStream,
+                                                @NotNull final OutputStream clearStream,
+                                                @NotNull final Duration timeout) {
+        throwIfArgIsNull(timeout, TIMEOUT_PARAM);
+
+        return supplyStage(primitiveProvider.executorService(OperationClass.DECRYPT), timeout, cancelled -> {
+            decryptSync(algorithm, key, iv, cipherStream, clearStream, cancelled);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<byte[]> decryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                                  @NotEmpty final byte[] iv, @NotEmpty final byte[] data) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.DECRYPT),
+                           cancelled -> decryptSync(algorithm, key, iv, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ByteBuffer> decryptStage(@NotNull final CipherTransformation algorithm,
+                                                      @NotNull final Key key, @NotEmpty final byte[] iv,
+                                                      @NotNull final ByteBuffer buffer) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.DECRYPT),
+                           cancelled -> decryptSync(algorithm, key, iv, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> decryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                                @NotEmpty final byte[] iv, @NotNull final Path cipherFile,
+                                                @NotNull final Path clearFile,
+                                                @NotNull final DurabilityPolicy durability) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgumentIsEmpty(iv, IV_PARAM);
+        throwIfArgIsNull(cipherFile, CIPHER_FILE_PARAM);
+        throwIfArgIsNull(clearFile, CLEAR_FILE_PARAM);
+
+        return transformFile(Cipher.DECRYPT_MODE, algorithm, key, iv, cipherFile, clearFile, durability);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flow.Processor<ByteBuffer, ByteBuffer> decryptProcessor(@NotNull final CipherTransformation algorithm,
+                                                                    @NotNull final Key key,
+                                                                    @NotEmpty final byte[] iv) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgumentIsEmpty(iv, IV_PARAM);
+
+        final PrimitiveLease<Cipher> lease = primitiveProvider.lease(algorithm);
+
+        try {
+            lease.initialize(c -> c.init(Cipher.DECRYPT_MODE, key, deriveParameters(algorithm, iv),
+                                         primitiveProvider.random()));
+        } catch (GeneralSecurityException ex) {
+            lease.close();
+            throw new CryptographyException(ex);
+        }
+
+        return new CipherProcessor(primitiveProvider.executorService(OperationClass.DECRYPT), lease);
     }
 
     /**
@@ -263,6 +1131,32 @@ public class EncryptionProviderImpl implements EncryptionProvider {
     public void decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                             @NotEmpty final byte[] iv, @NotNull final InputStream cipherStream,
                             @NotNull final OutputStream clearStream) {
+        decryptSync(algorithm, key, iv, cipherStream, clearStream, () -> false);
+    }
+
+    /**
+     * Synchronously decrypts the cipher text read from the {@link InputStream} specified by the {@code cipherStream}
+     * parameter, writes the resulting clear text to the {@link OutputStream} specified by the {@code clearStream}
+     * parameter, and stops reading the stream once the {@code cancelled} predicate returns true.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param cipherStream
+     *         the input stream from which the cipher text is read, not null
+     * @param clearStream
+     *         the output stream to which the clear text is written, not null
+     * @param cancelled
+     *         the predicate evaluated before each block is read, not null
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before the end of the stream is reached
+     */
+    private void decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                             @NotEmpty final byte[] iv, @NotNull final InputStream cipherStream,
+                             @NotNull final OutputStream clearStream, @NotNull final BooleanSupplier cancelled) {
         throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
         throwIfArgIsNull(key, KEY_PARAM);
         throwIfArgumentIsEmpty(iv, IV_PARAM);
@@ -275,17 +1169,14 @@ public class EncryptionProviderImpl implements EncryptionProvider {
             final AlgorithmParameterSpec parameterSpec = deriveParameters(algorithm, iv);
             cipher.init(Cipher.DECRYPT_MODE, key, parameterSpec, primitiveProvider.random());
 
+            // The cipher stream only reaches the end once the final block has been written to the clear stream
             final CipherInputStream iStream = new CipherInputStream(cipherStream, cipher);
-            iStream.transferTo(clearStream);
-            clearStream.flush();
-
-            if (clearStream instanceof FileOutputStream) {
-                final FileOutputStream fos = (FileOutputStream) clearStream;
-                fos.getChannel().force(true);
-                fos.getFD().sync();
-            }
+            applyToStream(iStream, cancelled, clearStream::write);
+            forceIfFile(clearStream);
         } catch (IOException | GeneralSecurityException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, cipher);
         }
     }
 
@@ -303,12 +1194,14 @@ public class EncryptionProviderImpl implements EncryptionProvider {
         final Cipher cipher = primitiveProvider.primitive(algorithm);
 
         try {
-            final AlgorithmParameterSpec parameterSpec = deriveParameters(algorithm, iv);
+            final AlgorithmParameterSpec parameterSpec = deriveParameters(algorithm, cipher.getBlockSize(), iv);
             cipher.init(Cipher.DECRYPT_MODE, key, parameterSpec, primitiveProvider.random());
 
             return cipher.doFinal(data);
         } catch (GeneralSecurityException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, cipher);
         }
     }
 
@@ -326,18 +1219,68 @@ public class EncryptionProviderImpl implements EncryptionProvider {
         final Cipher cipher = primitiveProvider.primitive(algorithm);
 
         try {
-            final AlgorithmParameterSpec parameterSpec = deriveParameters(algorithm, iv);
+            final AlgorithmParameterSpec parameterSpec = deriveParameters(algorithm, cipher.getBlockSize(), iv);
             cipher.init(Cipher.DECRYPT_MODE, key, parameterSpec, primitiveProvider.random());
 
-            final ByteBuffer clearText = ByteBuffer.allocate(cipher.getOutputSize(buffer.capacity()));
+            final ByteBuffer clearText = ByteBuffer.allocate(cipher.getOutputSize(buffer.remaining()));
             cipher.doFinal(buffer, clearText);
 
             return clearText.flip();
         } catch (GeneralSecurityException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, cipher);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                           @NotEmpty final byte[] iv, @NotNull final byte[] input, final int inputOffset,
+                           final int inputLength, @NotNull final byte[] output, final int outputOffset) {
+        return transform(Cipher.DECRYPT_MODE, algorithm, key, iv, input, inputOffset, inputLength, output,
+                         outputOffset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                           @NotEmpty final byte[] iv, @NotNull final ByteBuffer input,
+                           @NotNull final ByteBuffer output) {
+        return transform(Cipher.DECRYPT_MODE, algorithm, key, iv, input, output);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                            @NotEmpty final byte[] iv, @NotNull final Path cipherFile, @NotNull final Path clearFile,
+                            @NotNull final DurabilityPolicy durability) {
+        throwIfArgIsNull(cipherFile, CIPHER_FILE_PARAM);
+        throwIfArgIsNull(clearFile, CLEAR_FILE_PARAM);
+
+        transformFileSync(Cipher.DECRYPT_MODE, algorithm, key, iv, cipherFile, clearFile, durability);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                            @NotEmpty final byte[] iv, @NotNull final ReadableByteChannel cipherChannel,
+                            @NotNull final WritableByteChannel clearChannel,
+                            @NotNull final DurabilityPolicy durability) {
+        throwIfArgIsNull(cipherChannel, CIPHER_CHANNEL_PARAM);
+        throwIfArgIsNull(clearChannel, CLEAR_CHANNEL_PARAM);
+
+        transformChannelSync(Cipher.DECRYPT_MODE, algorithm, key, iv, cipherChannel, clearChannel, durability);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -345,7 +1288,7 @@ public class EncryptionProviderImpl implements EncryptionProvider {
     public Future<?> encryptAsync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                                   @NotEmpty final byte[] iv, @NotNull final InputStream clearStream,
                                   @NotNull final OutputStream cipherStream) {
-        return primitiveProvider.executorService()
+        return primitiveProvider.executorService(OperationClass.ENCRYPT)
                                 .submit(() -> encryptSync(algorithm, key, iv, clearStream, cipherStream));
     }
 
@@ -355,7 +1298,8 @@ public class EncryptionProviderImpl implements EncryptionProvider {
     @Override
     public Future<byte[]> encryptAsync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                                        @NotEmpty final byte[] iv, @NotEmpty final byte[] data) {
-        return primitiveProvider.executorService().submit(() -> encryptSync(algorithm, key, iv, data));
+        return primitiveProvider.executorService(OperationClass.ENCRYPT)
+                                .submit(() -> encryptSync(algorithm, key, iv, data));
     }
 
     /**
@@ -364,7 +1308,99 @@ public class EncryptionProviderImpl implements EncryptionProvider {
     @Override
     public Future<ByteBuffer> encryptAsync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                                            @NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer) {
-        return primitiveProvider.executorService().submit(() -> encryptSync(algorithm, key, iv, buffer));
+        return primitiveProvider.executorService(OperationClass.ENCRYPT)
+                                .submit(() -> encryptSync(algorithm, key, iv, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> encryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                                @NotEmpty final byte[] iv, @NotNull final InputStream clearStream,
+                                                @NotNull final OutputStream cipherStream) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.ENCRYPT), cancelled -> {
+            encryptSync(algorithm, key, iv, clearStream, cipherStream, cancelled);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> encryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                                @NotEmpty final byte[] iv, @NotNull final InputStream clearStream,
+                                                @NotNull final OutputStream cipherStream,
+                                                @NotNull final Duration timeout) {
+        throwIfArgIsNull(timeout, TIMEOUT_PARAM);
+
+        return supplyStage(primitiveProvider.executorService(OperationClass.ENCRYPT), timeout, cancelled -> {
+            encryptSync(algorithm, key, iv, clearStream, cipherStream, cancelled);
+            return null;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<byte[]> encryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                                  @NotEmpty final byte[] iv, @NotEmpty final byte[] data) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.ENCRYPT),
+                           cancelled -> encryptSync(algorithm, key, iv, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<ByteBuffer> encryptStage(@NotNull final CipherTransformation algorithm,
+                                                      @NotNull final Key key, @NotEmpty final byte[] iv,
+                                                      @NotNull final ByteBuffer buffer) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.ENCRYPT),
+                           cancelled -> encryptSync(algorithm, key, iv, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> encryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                                @NotEmpty final byte[] iv, @NotNull final Path clearFile,
+                                                @NotNull final Path cipherFile,
+                                                @NotNull final DurabilityPolicy durability) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgumentIsEmpty(iv, IV_PARAM);
+        throwIfArgIsNull(clearFile, CLEAR_FILE_PARAM);
+        throwIfArgIsNull(cipherFile, CIPHER_FILE_PARAM);
+
+        return transformFile(Cipher.ENCRYPT_MODE, algorithm, key, iv, clearFile, cipherFile, durability);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flow.Processor<ByteBuffer, ByteBuffer> encryptProcessor(@NotNull final CipherTransformation algorithm,
+                                                                    @NotNull final Key key,
+                                                                    @NotEmpty final byte[] iv) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgumentIsEmpty(iv, IV_PARAM);
+
+        final PrimitiveLease<Cipher> lease = primitiveProvider.lease(algorithm);
+
+        try {
+            lease.initialize(c -> c.init(Cipher.ENCRYPT_MODE, key, deriveParameters(algorithm, iv),
+                                         primitiveProvider.random()));
+        } catch (GeneralSecurityException ex) {
+            lease.close();
+            throw new CryptographyException(ex);
+        }
+
+        return new CipherProcessor(primitiveProvider.executorService(OperationClass.ENCRYPT), lease);
     }
 
     /**
@@ -374,6 +1410,32 @@ public class EncryptionProviderImpl implements EncryptionProvider {
     public void encryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                             @NotEmpty final byte[] iv, @NotNull final InputStream clearStream,
                             @NotNull final OutputStream cipherStream) {
+        encryptSync(algorithm, key, iv, clearStream, cipherStream, () -> false);
+    }
+
+    /**
+     * Synchronously encrypts the clear text read from the {@link InputStream} specified by the {@code clearStream}
+     * parameter, writes the resulting cipher text to the {@link OutputStream} specified by the {@code cipherStream}
+     * parameter, and stops reading the stream once the {@code cancelled} predicate returns true.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param clearStream
+     *         the input stream from which the clear text is read, not null
+     * @param cipherStream
+     *         the output stream to which the cipher text is written, not null
+     * @param cancelled
+     *         the predicate evaluated before each block is read, not null
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before the end of the stream is reached
+     */
+    private void encryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                             @NotEmpty final byte[] iv, @NotNull final InputStream clearStream,
+                             @NotNull final OutputStream cipherStream, @NotNull final BooleanSupplier cancelled) {
         throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
         throwIfArgIsNull(key, KEY_PARAM);
         throwIfArgumentIsEmpty(iv, IV_PARAM);
@@ -386,20 +1448,18 @@ public class EncryptionProviderImpl implements EncryptionProvider {
             final AlgorithmParameterSpec parameterSpec = deriveParameters(algorithm, iv);
             cipher.init(Cipher.ENCRYPT_MODE, key, parameterSpec, primitiveProvider.random());
 
-            try (CipherOutputStream oStream = new CipherOutputStream(cipherStream, cipher)) {
-
-                clearStream.transferTo(oStream);
-                oStream.flush();
-                cipherStream.flush();
-
-                if (cipherStream instanceof FileOutputStream) {
-                    final FileOutputStream fos = (FileOutputStream) cipherStream;
-                    fos.getChannel().force(true);
-                    fos.getFD().sync();
+            try (OutputStream output = cipherStream) {
+                try (CipherOutputStream oStream = new CipherOutputStream(new RetainingOutputStream(output), cipher)) {
+                    applyToStream(clearStream, cancelled, oStream::write);
                 }
+
+                // Closing the cipher stream writes the final block, which must precede forcing the file
+                forceIfFile(output);
             }
         } catch (IOException | GeneralSecurityException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, cipher);
         }
     }
 
@@ -417,12 +1477,14 @@ public class EncryptionProviderImpl implements EncryptionProvider {
         final Cipher cipher = primitiveProvider.primitive(algorithm);
 
         try {
-            final AlgorithmParameterSpec parameterSpec = deriveParameters(algorithm, iv);
+            final AlgorithmParameterSpec parameterSpec = deriveParameters(algorithm, cipher.getBlockSize(), iv);
             cipher.init(Cipher.ENCRYPT_MODE, key, parameterSpec, primitiveProvider.random());
 
             return cipher.doFinal(data);
         } catch (GeneralSecurityException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, cipher);
         }
     }
 
@@ -440,18 +1502,115 @@ public class EncryptionProviderImpl implements EncryptionProvider {
         final Cipher cipher = primitiveProvider.primitive(algorithm);
 
         try {
-            final AlgorithmParameterSpec parameterSpec = deriveParameters(algorithm, iv);
+            final AlgorithmParameterSpec parameterSpec = deriveParameters(algorithm, cipher.getBlockSize(), iv);
             cipher.init(Cipher.ENCRYPT_MODE, key, parameterSpec, primitiveProvider.random());
 
-            final ByteBuffer cipherText = ByteBuffer.allocate(cipher.getOutputSize(buffer.capacity()));
+            final ByteBuffer cipherText = ByteBuffer.allocate(cipher.getOutputSize(buffer.remaining()));
             cipher.doFinal(buffer, cipherText);
 
             return cipherText.flip();
         } catch (GeneralSecurityException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, cipher);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int encryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                           @NotEmpty final byte[] iv, @NotNull final byte[] input, final int inputOffset,
+                           final int inputLength, @NotNull final byte[] output, final int outputOffset) {
+        return transform(Cipher.ENCRYPT_MODE, algorithm, key, iv, input, inputOffset, inputLength, output,
+                         outputOffset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int encryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                           @NotEmpty final byte[] iv, @NotNull final ByteBuffer input,
+                           @NotNull final ByteBuffer output) {
+        return transform(Cipher.ENCRYPT_MODE, algorithm, key, iv, input, output);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void encryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                            @NotEmpty final byte[] iv, @NotNull final Path clearFile, @NotNull final Path cipherFile,
+                            @NotNull final DurabilityPolicy durability) {
+        throwIfArgIsNull(clearFile, CLEAR_FILE_PARAM);
+        throwIfArgIsNull(cipherFile, CIPHER_FILE_PARAM);
+
+        transformFileSync(Cipher.ENCRYPT_MODE, algorithm, key, iv, clearFile, cipherFile, durability);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void encryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                            @NotEmpty final byte[] iv, @NotNull final ReadableByteChannel clearChannel,
+                            @NotNull final WritableByteChannel cipherChannel,
+                            @NotNull final DurabilityPolicy durability) {
+        throwIfArgIsNull(clearChannel, CLEAR_CHANNEL_PARAM);
+        throwIfArgIsNull(cipherChannel, CIPHER_CHANNEL_PARAM);
+
+        transformChannelSync(Cipher.ENCRYPT_MODE, algorithm, key, iv, clearChannel, cipherChannel, durability);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void commitSync() {
+        for (final Path file : deferredFiles) {
+            // Removing the file before forcing it ensures that a concurrent write of the same file remains pending
+            if (!deferredFiles.remove(file)) {
+                continue;
+            }
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                force(channel::force, DurabilityPolicy.FULL);
+            } catch (NoSuchFileException ex) {
+                // A file which has been deleted since it was written no longer needs to be committed
+            } catch (IOException ex) {
+                deferredFiles.add(file);
+                throw new CryptographyException(ex);
+            }
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CipherSession session(@NotNull final CipherTransformation algorithm, @NotNull final Key key) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        return new CipherSessionImpl(primitiveProvider, algorithm, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NonceGenerator nonceGenerator(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                         @NotNull final NonceConfiguration configuration) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+
+        return new CounterNonceGenerator(algorithm, key, deriveNonceSize(algorithm), configuration,
+                                         primitiveProvider.random());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -474,4 +1633,56 @@ public class EncryptionProviderImpl implements EncryptionProvider {
         random.nextBytes(nonce);
         return nonce;
     }
+
+    /**
+     * A channel which can be forced to the storage device, such as a {@link FileChannel} or an {@link
+     * AsynchronousFileChannel}.
+     */
+    @FunctionalInterface
+    interface Forcible {
+
+        /**
+         * Forces any updates to the channel to be written to the storage device.
+         *
+         * @param metaData
+         *         true if updates to the file metadata must also be written; otherwise false
+         * @throws IOException
+         *         if an error occurs while forcing the channel
+         */
+        void force(boolean metaData) throws IOException;
+    }
+
+    /**
+     * An {@link OutputStream} which writes to another stream and flushes, rather than closes, that stream when it is
+     * closed. This permits a {@link CipherOutputStream} to be closed, which writes the final block, while the
+     * underlying stream remains open to be forced.
+     */
+    private static final class RetainingOutputStream extends FilterOutputStream {
+
+        /**
+         * Constructs a new stream which writes to the {@code out} parameter.
+         *
+         * @param out
+         *         the stream to which the output is written, not null
+         */
+        private RetainingOutputStream(@NotNull final OutputStream out) {
+            super(out);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(@NotNull final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
 }
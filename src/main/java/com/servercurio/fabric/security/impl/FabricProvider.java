@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.spi.SecurityProviders;
+import java.security.Provider;
+import java.util.function.Supplier;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A JCA {@link Provider} which exposes the primitives required by the {@code Fabric Unified Cryptography API} that are
+ * not available from the Java runtime or the BouncyCastle provider under a standard algorithm name. The provider is
+ * registered with the lowest preference; therefore primitives supplied by other providers are always preferred.
+ *
+ * <p>
+ * The provider is registered by {@link SecurityProviders#ensureRegistered()} through the {@link FabricProviderFactory}
+ * service.
+ *
+ * @author Nathan Klick
+ * @see FabricProviderFactory
+ */
+final class FabricProvider extends Provider {
+
+    /**
+     * The serialization version of this class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The name of this provider.
+     */
+    static final String PROVIDER_NAME = "Fabric";
+
+    /**
+     * The JCA service type of message authentication code implementations.
+     */
+    private static final String MAC_TYPE = "Mac";
+
+    /**
+     * The JCA service type of message digest implementations.
+     */
+    private static final String MESSAGE_DIGEST_TYPE = "MessageDigest";
+
+    /**
+     * Constructs a new provider and registers each of the supported services.
+     */
+    FabricProvider() {
+        super(PROVIDER_NAME, "1.0", "Fabric Unified Cryptography API Provider");
+
+        put(MAC_TYPE, "KMAC128", KmacSpi.class, () -> new KmacSpi(128));
+        put(MAC_TYPE, "KMAC256", KmacSpi.class, () -> new KmacSpi(256));
+        put(MESSAGE_DIGEST_TYPE, "BLAKE3-256", Blake3MessageDigest.class, Blake3MessageDigest::new);
+        put(MESSAGE_DIGEST_TYPE, "CRC32C", Crc32cMessageDigest.class, Crc32cMessageDigest::new);
+        put(MESSAGE_DIGEST_TYPE, "XXHASH64", XxHash64MessageDigest.class, XxHash64MessageDigest::new);
+        put(MESSAGE_DIGEST_TYPE, "MURMUR3-128", Murmur3MessageDigest.class, Murmur3MessageDigest::new);
+    }
+
+    /**
+     * Registers a service whose instances are created by the {@code factory} parameter.
+     *
+     * @param type
+     *         the JCA service type, not null
+     * @param algorithm
+     *         the standard name of the algorithm, not null
+     * @param implementation
+     *         the class of the instances created by the {@code factory} parameter, not null
+     * @param factory
+     *         the supplier of new service instances, not null
+     */
+    private void put(@NotNull final String type, @NotNull final String algorithm,
+                     @NotNull final Class<?> implementation, @NotNull final Supplier<?> factory) {
+        putService(new Service(this, type, algorithm, implementation.getName(), null, null) {
+            @Override
+            public Object newInstance(final Object constructorParameter) {
+                return factory.get();
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.spi.ProviderFactory;
+import java.security.Provider;
+
+/**
+ * The {@link ProviderFactory} service which supplies the {@link FabricProvider}.
+ *
+ * @author Nathan Klick
+ * @see FabricProvider
+ */
+public final class FabricProviderFactory implements ProviderFactory {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Provider newProvider() {
+        return new FabricProvider();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.spi.NonceCheckpoint;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.PositiveOrZero;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositiveOrZero;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * A {@link NonceCheckpoint} which stores the high-water mark in a file. Each value is written to a temporary sibling
+ * file, forced to stable storage, and then atomically moved over the previous file so that a crash during a write
+ * always leaves either the previous or the new high-water mark in place.
+ *
+ * @author Nathan Klick
+ * @see NonceCheckpoint
+ */
+public final class FileNonceCheckpoint implements NonceCheckpoint {
+
+    /**
+     * The {@code file} parameter name represented as a string value.
+     */
+    private static final String FILE_PARAM = "file";
+
+    /**
+     * The {@code highWaterMark} parameter name represented as a string value.
+     */
+    private static final String HIGH_WATER_MARK_PARAM = "highWaterMark";
+
+    /**
+     * The suffix appended to the file name of the temporary file.
+     */
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * The file in which the high-water mark is stored.
+     */
+    @NotNull
+    private final Path file;
+
+    /**
+     * The temporary file to which each new high-water mark is written before being moved over the {@link #file}.
+     */
+    @NotNull
+    private final Path temporaryFile;
+
+    /**
+     * Constructs a new checkpoint which stores the high-water mark in the specified file.
+     *
+     * @param file
+     *         the file in which the high-water mark is stored, not null
+     * @throws IllegalArgumentException
+     *         if the {@code file} parameter is null
+     */
+    public FileNonceCheckpoint(@NotNull final Path file) {
+        throwIfArgIsNull(file, FILE_PARAM);
+
+        this.file = file;
+        this.temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long load() throws IOException {
+        try {
+            final byte[] content = Files.readAllBytes(file);
+
+            if (content.length != Long.BYTES) {
+                throw new IOException(String.format("The checkpoint file %s is corrupt", file));
+            }
+
+            return ByteBuffer.wrap(content).getLong();
+        } catch (NoSuchFileException ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void store(@PositiveOrZero final long highWaterMark) throws IOException {
+        throwIfArgIsNotPositiveOrZero(highWaterMark, HIGH_WATER_MARK_PARAM);
+
+        final ByteBuffer content = ByteBuffer.allocate(Long.BYTES).putLong(highWaterMark).flip();
+
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+
+            channel.force(true);
+        }
+
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return file.toString();
+    }
+}
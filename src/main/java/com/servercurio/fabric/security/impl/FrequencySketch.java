@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import javax.validation.constraints.Positive;
+
+/**
+ * A Count-Min sketch of four-bit counters which estimates the number of times each key has been seen. The counters
+ * are halved once the number of increments reaches ten times the maximum size of the cache, so that the estimates
+ * reflect recent history. Instances are not thread safe.
+ *
+ * @author Nathan Klick
+ * @see VerificationCacheImpl
+ */
+final class FrequencySketch {
+
+    /**
+     * The seeds used to derive an independent index for each row of the sketch.
+     */
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    /**
+     * The largest value which may be held by a counter.
+     */
+    private static final int MAXIMUM_FREQUENCY = 15;
+
+    /**
+     * The number of increments, relative to the maximum size of the cache, after which the counters are halved.
+     */
+    private static final int SAMPLE_FACTOR = 10;
+
+    /**
+     * The counters of each row of the sketch.
+     */
+    private final byte[][] table;
+
+    /**
+     * The mask applied to a hash in order to derive an index within a row.
+     */
+    private final int mask;
+
+    /**
+     * The number of increments after which the counters are halved.
+     */
+    private final int sampleSize;
+
+    /**
+     * The number of increments since the counters were last halved.
+     */
+    private int additions;
+
+    /**
+     * Constructs a new sketch sized for a cache of the specified maximum size.
+     *
+     * @param maximumSize
+     *         the maximum number of entries retained by the cache, positive integer
+     */
+    FrequencySketch(@Positive final int maximumSize) {
+        final int width = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 29)) * 2 - 1);
+
+        this.table = new byte[SEEDS.length][width];
+        this.mask = width - 1;
+        this.sampleSize = (int) Math.min(Integer.MAX_VALUE, (long) SAMPLE_FACTOR * maximumSize);
+    }
+
+    /**
+     * Increments the estimated frequency of the key with the specified hash.
+     *
+     * @param hash
+     *         the hash of the key
+     */
+    void increment(final long hash) {
+        boolean added = false;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int index = index(hash, i);
+
+            if (table[i][index] < MAXIMUM_FREQUENCY) {
+                table[i][index]++;
+                added = true;
+            }
+        }
+
+        if (added && ++additions >= sampleSize) {
+            halve();
+        }
+    }
+
+    /**
+     * Gets the estimated frequency of the key with the specified hash.
+     *
+     * @param hash
+     *         the hash of the key
+     * @return the estimated frequency, zero or greater
+     */
+    int frequency(final long hash) {
+        int frequency = MAXIMUM_FREQUENCY;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, table[i][index(hash, i)]);
+        }
+
+        return frequency;
+    }
+
+    /**
+     * Derives the index of the counter within the specified row for the key with the specified hash.
+     *
+     * @param hash
+     *         the hash of the key
+     * @param row
+     *         the row of the sketch
+     * @return the index of the counter
+     */
+    private int index(final long hash, final int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h ^= h >>> 32;
+
+        return (int) h & mask;
+    }
+
+    /**
+     * Halves every counter in order to age the estimated frequencies.
+     */
+    private void halve() {
+        for (final byte[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>= 1;
+            }
+        }
+
+        additions /= 2;
+    }
+}
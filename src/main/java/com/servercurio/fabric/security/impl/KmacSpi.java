@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.spec.AlgorithmParameterSpec;
+import javax.crypto.MacSpi;
+import org.bouncycastle.crypto.macs.KMAC;
+import org.bouncycastle.crypto.params.KeyParameter;
+
+/**
+ * A {@link MacSpi} implementation of the KMAC128 and KMAC256 algorithms defined by NIST SP 800-185 using the
+ * lightweight BouncyCastle {@link KMAC} engine, which is not otherwise exposed through the JCA. The customization
+ * string is empty and the output length is twice the security strength, which yields 256 and 512 bit tags
+ * respectively.
+ *
+ * @author Nathan Klick
+ * @see FabricProvider
+ */
+final class KmacSpi extends MacSpi {
+
+    /**
+     * The underlying KMAC engine.
+     */
+    private final KMAC kmac;
+
+    /**
+     * Constructs a new instance with the specified security strength.
+     *
+     * @param bitLength
+     *         the security strength of the algorithm, either 128 or 256
+     */
+    KmacSpi(final int bitLength) {
+        this.kmac = new KMAC(bitLength, new byte[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int engineGetMacLength() {
+        return kmac.getMacSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineInit(final Key key, final AlgorithmParameterSpec params)
+            throws InvalidKeyException, InvalidAlgorithmParameterException {
+        if (params != null) {
+            throw new InvalidAlgorithmParameterException("KMAC does not accept algorithm parameters");
+        }
+
+        final byte[] encoded = (key != null) ? key.getEncoded() : null;
+
+        if (encoded == null || encoded.length == 0) {
+            throw new InvalidKeyException("KMAC requires a key with a non-empty raw encoding");
+        }
+
+        kmac.init(new KeyParameter(encoded));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineUpdate(final byte input) {
+        kmac.update(input);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineUpdate(final byte[] input, final int offset, final int len) {
+        kmac.update(input, offset, len);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected byte[] engineDoFinal() {
+        final byte[] output = new byte[kmac.getMacSize()];
+
+        kmac.doFinal(output, 0);
+        return output;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineReset() {
+        kmac.reset();
+    }
+}
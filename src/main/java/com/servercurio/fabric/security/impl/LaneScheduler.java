@@ -0,0 +1,648 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.spi.BackpressurePolicy;
+import com.servercurio.fabric.security.spi.ExecutorConfiguration;
+import com.servercurio.fabric.security.spi.ExecutorStatistics;
+import com.servercurio.fabric.security.spi.OperationClass;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A scheduler which multiplexes a separate lane for each {@link OperationClass} onto a single bounded thread pool.
+ * Whenever a thread becomes available, the next operation is taken from the eligible lane selected by a smooth weighted
+ * round robin over the lane weights. A lane is eligible if it has queued operations and is below its concurrency
+ * limit. Each thread continues to drain the lanes until no lane is eligible, at which point it is returned to the pool.
+ *
+ * <p>
+ * The core threads of the pool are started eagerly and retained even when idle. Additional threads, up to the maximum
+ * pool size, are only created when an operation is dispatched while no idle thread is available and are terminated
+ * once they have been idle for the configured keep alive duration.
+ *
+ * @author Nathan Klick
+ * @see ExecutorConfiguration
+ */
+final class LaneScheduler implements ExecutorStatistics {
+
+    /**
+     * The threads which execute the operations from all lanes.
+     */
+    private final ThreadPoolExecutor workers;
+
+    /**
+     * The lanes indexed by operation class.
+     */
+    private final EnumMap<OperationClass, Lane> lanes;
+
+    /**
+     * The lock which guards all of the mutable lane state.
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * The condition signalled whenever a queued operation is removed from any lane.
+     */
+    private final Condition notFull;
+
+    /**
+     * The maximum number of operations which may be executing concurrently across all lanes.
+     */
+    private final int maximumConcurrency;
+
+    /**
+     * The maximum number of operations which may be queued on each lane.
+     */
+    private final int queueCapacity;
+
+    /**
+     * The strategy applied when an operation is submitted to a full lane.
+     */
+    private final BackpressurePolicy backpressurePolicy;
+
+    /**
+     * The number of operations which were rejected because the lane was full.
+     */
+    private final AtomicLong rejectedCount;
+
+    /**
+     * The number of operations currently executing across all lanes.
+     */
+    private int running;
+
+    /**
+     * Indicates whether this scheduler has been shutdown.
+     */
+    private volatile boolean shutdown;
+
+    /**
+     * Constructs a new scheduler as described by the {@code configuration} parameter.
+     *
+     * @param configuration
+     *         the configuration of the thread pool and lanes, not null
+     * @throws IllegalArgumentException
+     *         if the configured core pool size is greater than the maximum pool size
+     */
+    LaneScheduler(@NotNull final ExecutorConfiguration configuration) {
+        if (configuration.getCorePoolSize() > configuration.getMaximumPoolSize()) {
+            throw new IllegalArgumentException("The core pool size may not be greater than the maximum pool size");
+        }
+
+        this.maximumConcurrency = configuration.getMaximumPoolSize();
+        this.queueCapacity = configuration.getQueueCapacity();
+        this.backpressurePolicy = configuration.getBackpressurePolicy();
+        this.rejectedCount = new AtomicLong();
+        this.lock = new ReentrantLock();
+        this.notFull = lock.newCondition();
+        this.lanes = new EnumMap<>(OperationClass.class);
+
+        for (final OperationClass operationClass : OperationClass.values()) {
+            lanes.put(operationClass, new Lane(configuration.getLaneWeight(operationClass),
+                                               configuration.getLaneConcurrency(operationClass)));
+        }
+
+        this.workers = new ThreadPoolExecutor(configuration.getCorePoolSize(), maximumConcurrency,
+                                              configuration.getKeepAlive().toNanos(), TimeUnit.NANOSECONDS,
+                                              new HandoffQueue(), HandoffQueue::enqueue);
+        this.workers.prestartAllCoreThreads();
+    }
+
+    /**
+     * Gets the {@link ExecutorService} which queues operations on the lane of the specified {@link OperationClass}.
+     *
+     * @param operationClass
+     *         the operation class of the lane, not null
+     * @return the executor service for the lane, not null
+     */
+    ExecutorService lane(@NotNull final OperationClass operationClass) {
+        return lanes.get(operationClass);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int queueDepth() {
+        lock.lock();
+        try {
+            int depth = 0;
+            for (final Lane lane : lanes.values()) {
+                depth += lane.queue.size();
+            }
+            return depth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int activeCount() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int poolSize() {
+        return workers.getPoolSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long completedCount() {
+        lock.lock();
+        try {
+            long completed = 0;
+            for (final Lane lane : lanes.values()) {
+                completed += lane.completed;
+            }
+            return completed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long rejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * Submits the {@code command} to the {@code executor} only if it can be accepted without waiting. A lane of a
+     * {@link LaneScheduler} accepts the command only if it has spare queue capacity and never applies the {@link
+     * BackpressurePolicy}. Any other executor is given the command directly and is assumed not to block.
+     *
+     * <p>
+     * This allows a thread owned by the executor to offer optional work to its own lane without risking a deadlock
+     * when the lane is saturated.
+     *
+     * @param executor
+     *         the executor to which the command is offered, not null
+     * @param command
+     *         the command to be executed, not null
+     * @return true if the command was accepted; otherwise false if it was not accepted and will never be executed
+     */
+    static boolean offer(@NotNull final Executor executor, @NotNull final Runnable command) {
+        if (executor instanceof Lane) {
+            return ((Lane) executor).offer(command);
+        }
+
+        try {
+            executor.execute(command);
+            return true;
+        } catch (RejectedExecutionException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Queues the {@code command} on the specified lane and applies the {@link #backpressurePolicy} if the lane is
+     * full.
+     *
+     * @param lane
+     *         the lane on which the command is queued, not null
+     * @param command
+     *         the command to be executed, not null
+     * @throws RejectedExecutionException
+     *         if this scheduler has been shutdown or if the lane is full and the {@link BackpressurePolicy#FAIL_FAST}
+     *         policy is configured
+     */
+    private void enqueue(@NotNull final Lane lane, @NotNull final Runnable command) {
+        lock.lock();
+        try {
+            throwIfShutdown();
+
+            if (lane.queue.size() >= queueCapacity) {
+                //CHECKSTYLE.OFF: IndentationCheck
+                switch (backpressurePolicy) {
+                    case BLOCK:
+                        try {
+                            awaitCapacity(lane);
+                        } catch (RejectedExecutionException ex) {
+                            rejectedCount.incrementAndGet();
+                            throw ex;
+                        }
+                        break;
+                    case CALLER_RUNS:
+                        lock.unlock();
+                        try {
+                            command.run();
+                        } finally {
+                            lock.lock();
+                        }
+                        return;
+                    default:
+                        rejectedCount.incrementAndGet();
+                        throw new RejectedExecutionException("The executor is saturated");
+                }
+                //CHECKSTYLE.ON: IndentationCheck
+            }
+
+            lane.queue.add(command);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks the calling thread until the specified lane has room for another operation. Must be called while holding
+     * the {@link #lock}.
+     *
+     * @param lane
+     *         the lane which is full, not null
+     * @throws RejectedExecutionException
+     *         if the calling thread is interrupted or this scheduler is shutdown while waiting
+     */
+    private void awaitCapacity(@NotNull final Lane lane) {
+        try {
+            while (lane.queue.size() >= queueCapacity) {
+                notFull.await();
+                throwIfShutdown();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(ex);
+        }
+    }
+
+    /**
+     * Throws a {@link RejectedExecutionException} if this scheduler has been shutdown.
+     *
+     * @throws RejectedExecutionException
+     *         if this scheduler has been shutdown
+     */
+    private void throwIfShutdown() {
+        if (shutdown) {
+            throw new RejectedExecutionException("The executor has been shutdown");
+        }
+    }
+
+    /**
+     * Starts a new worker for each eligible lane while the {@link #maximumConcurrency} has not been reached. Must be
+     * called while holding the {@link #lock}.
+     */
+    private void dispatch() {
+        Lane next;
+
+        while (running < maximumConcurrency && (next = nextLane()) != null) {
+            final Lane lane = next;
+            final Runnable command = take(lane);
+
+            workers.execute(() -> drain(lane, command));
+        }
+    }
+
+    /**
+     * Executes the {@code command} and then continues executing queued operations from the next eligible lane until no
+     * lane is eligible. An exception thrown by an operation is passed to the uncaught exception handler of the current
+     * thread and does not prevent the remaining operations from being executed.
+     *
+     * @param lane
+     *         the lane from which the {@code command} was taken, not null
+     * @param command
+     *         the first command to be executed, not null
+     */
+    private void drain(@NotNull final Lane lane, @NotNull final Runnable command) {
+        Lane currentLane = lane;
+        Runnable currentCommand = command;
+
+        while (currentCommand != null) {
+            try {
+                currentCommand.run();
+            } catch (Throwable ex) {
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+            }
+
+            lock.lock();
+            try {
+                currentLane.running--;
+                currentLane.completed++;
+                running--;
+
+                currentLane = nextLane();
+                currentCommand = (currentLane != null) ? take(currentLane) : null;
+
+                if (shutdown && running == 0 && currentCommand == null) {
+                    workers.shutdown();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes the next operation from the specified lane and records it as running. Must be called while holding the
+     * {@link #lock}.
+     *
+     * @param lane
+     *         the lane from which the operation is removed, not null
+     * @return the operation, not null
+     */
+    private Runnable take(@NotNull final Lane lane) {
+        lane.running++;
+        running++;
+        notFull.signalAll();
+
+        return lane.queue.poll();
+    }
+
+    /**
+     * Selects the next eligible lane using a smooth weighted round robin. Must be called while holding the {@link
+     * #lock}.
+     *
+     * @return the selected lane or {@code null} if no lane is eligible
+     */
+    private Lane nextLane() {
+        Lane selected = null;
+        int totalWeight = 0;
+
+        for (final Lane lane : lanes.values()) {
+            if (lane.queue.isEmpty() || lane.running >= lane.concurrency) {
+                continue;
+            }
+
+            lane.currentWeight += lane.weight;
+            totalWeight += lane.weight;
+
+            if (selected == null || lane.currentWeight > selected.currentWeight) {
+                selected = lane;
+            }
+        }
+
+        if (selected != null) {
+            selected.currentWeight -= totalWeight;
+        }
+
+        return selected;
+    }
+
+    /**
+     * Initiates an orderly shutdown in which previously queued operations are executed but no new operations are
+     * accepted.
+     */
+    private void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            notFull.signalAll();
+
+            if (running == 0) {
+                workers.shutdown();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Attempts to stop all executing operations and halts the processing of queued operations.
+     *
+     * @return the operations which were never executed, not null
+     */
+    private List<Runnable> shutdownNow() {
+        final List<Runnable> pending = new ArrayList<>();
+
+        lock.lock();
+        try {
+            shutdown = true;
+            notFull.signalAll();
+
+            for (final Lane lane : lanes.values()) {
+                pending.addAll(lane.queue);
+                lane.queue.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        workers.shutdownNow();
+        return pending;
+    }
+
+    /**
+     * The {@link ExecutorService} view of a single lane. The lifecycle methods apply to the scheduler as a whole.
+     */
+    private final class Lane extends AbstractExecutorService {
+
+        /**
+         * The operations waiting to be executed.
+         */
+        private final ArrayDeque<Runnable> queue;
+
+        /**
+         * The relative share of the thread pool given to this lane.
+         */
+        private final int weight;
+
+        /**
+         * The maximum number of operations from this lane which may be executing concurrently.
+         */
+        private final int concurrency;
+
+        /**
+         * The smooth weighted round robin counter of this lane.
+         */
+        private int currentWeight;
+
+        /**
+         * The number of operations from this lane which are currently executing.
+         */
+        private int running;
+
+        /**
+         * The number of operations from this lane which have completed execution.
+         */
+        private long completed;
+
+        /**
+         * Constructs a new lane.
+         *
+         * @param weight
+         *         the relative share of the thread pool given to this lane
+         * @param concurrency
+         *         the maximum number of operations from this lane which may be executing concurrently
+         */
+        private Lane(final int weight, final int concurrency) {
+            this.queue = new ArrayDeque<>();
+            this.weight = weight;
+            this.concurrency = concurrency;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void execute(@NotNull final Runnable command) {
+            if (command == null) {
+                throw new NullPointerException();
+            }
+
+            enqueue(this, command);
+        }
+
+        /**
+         * Queues the {@code command} on this lane if the lane has spare capacity and the scheduler has not been
+         * shutdown. The {@link #backpressurePolicy} is never applied and a refused command is not counted as
+         * rejected.
+         *
+         * @param command
+         *         the command to be executed, not null
+         * @return true if the command was queued; otherwise false
+         */
+        private boolean offer(@NotNull final Runnable command) {
+            lock.lock();
+            try {
+                if (shutdown || queue.size() >= queueCapacity) {
+                    return false;
+                }
+
+                queue.add(command);
+                dispatch();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void shutdown() {
+            LaneScheduler.this.shutdown();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<Runnable> shutdownNow() {
+            return LaneScheduler.this.shutdownNow();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isTerminated() {
+            return workers.isTerminated();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean awaitTermination(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException {
+            return workers.awaitTermination(timeout, unit);
+        }
+    }
+
+    /**
+     * A queue which hands each task directly to an idle thread of the pool. The {@link ThreadPoolExecutor} only creates
+     * threads in excess of the core pool size when its queue refuses a task, therefore {@link #offer(Runnable)} refuses
+     * any task which no idle thread is waiting to receive. A task which is refused once the pool has reached its
+     * maximum size is queued by {@link #enqueue(Runnable, ThreadPoolExecutor)} instead and is received by the next
+     * thread to finish its current task.
+     */
+    private static final class HandoffQueue extends LinkedTransferQueue<Runnable> {
+
+        /**
+         * The serialization version of this class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Transfers the {@code task} to an idle thread if one is waiting.
+         *
+         * @param task
+         *         the task to be transferred, not null
+         * @return true if the task was received by an idle thread; otherwise false
+         */
+        @Override
+        public boolean offer(@NotNull final Runnable task) {
+            return tryTransfer(task);
+        }
+
+        /**
+         * Queues a task refused by the {@code executor} because the pool has reached its maximum size. The scheduler
+         * never dispatches more tasks than the maximum pool size, therefore the task is only queued while a thread is
+         * returning to the pool after finishing its last task.
+         *
+         * @param task
+         *         the task which was refused, not null
+         * @param executor
+         *         the executor which refused the task, not null
+         * @throws RejectedExecutionException
+         *         if the {@code executor} has been shutdown
+         */
+        private static void enqueue(@NotNull final Runnable task, @NotNull final ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("The executor has been shutdown");
+            }
+
+            ((HandoffQueue) executor.getQueue()).force(task);
+        }
+
+        /**
+         * Queues the {@code task} regardless of whether an idle thread is waiting to receive it.
+         *
+         * @param task
+         *         the task to be queued, not null
+         */
+        private void force(@NotNull final Runnable task) {
+            super.offer(task);
+        }
+    }
+}
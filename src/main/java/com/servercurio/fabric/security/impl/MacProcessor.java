@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.MacAlgorithm;
+import com.servercurio.fabric.security.spi.PrimitiveLease;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import javax.crypto.Mac;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A {@link BufferProcessor} which computes the message authentication code of all the chunks received from the
+ * upstream publisher and publishes a single {@link Hash} once the upstream publisher has completed.
+ *
+ * @author Nathan Klick
+ */
+final class MacProcessor extends BufferProcessor<Hash> {
+
+    /**
+     * The algorithm of the computed message authentication code.
+     */
+    private final MacAlgorithm algorithm;
+
+    /**
+     * The initialized message authentication code primitive exclusively owned by this processor.
+     */
+    private final Mac mac;
+
+    /**
+     * Constructs a new processor.
+     *
+     * @param executor
+     *         the executor used to deliver items to the downstream subscribers, not null
+     * @param algorithm
+     *         the algorithm of the computed message authentication code, not null
+     * @param lease
+     *         the lease of the initialized message authentication code primitive exclusively owned by this processor,
+     *         not null
+     */
+    MacProcessor(@NotNull final Executor executor, @NotNull final MacAlgorithm algorithm,
+                 @NotNull final PrimitiveLease<Mac> lease) {
+        super(executor, lease);
+
+        this.algorithm = algorithm;
+        this.mac = lease.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void update(@NotNull final ByteBuffer chunk) {
+        mac.update(chunk);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void finish() {
+        publish(new Hash(algorithm.hashAlgorithm(), mac.doFinal()));
+    }
+}
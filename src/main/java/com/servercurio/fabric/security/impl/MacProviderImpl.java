@@ -21,21 +21,32 @@ import com.servercurio.fabric.security.CryptographyException;
 import com.servercurio.fabric.security.Hash;
 import com.servercurio.fabric.security.MacAlgorithm;
 import com.servercurio.fabric.security.spi.MacProvider;
+import com.servercurio.fabric.security.spi.MacSession;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitiveLease;
 import com.servercurio.fabric.security.spi.PrimitiveProvider;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.Key;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
 import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
 import static com.servercurio.fabric.lang.Validators.throwIfArgumentIsEmpty;
 import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.applyToStream;
+import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.supplyStage;
 
 /**
  * Default {@code Fabric Unified Cryptography API} provider implementation that encapsulates all of the available
@@ -83,6 +94,21 @@ public class MacProviderImpl implements MacProvider {
      */
     private static final String BUFFER_PARAM = "buffer";
 
+    /**
+     * The {@code timeout} parameter name represented as a string value.
+     */
+    private static final String TIMEOUT_PARAM = "timeout";
+
+    /**
+     * The {@code file} parameter name represented as a string value.
+     */
+    private static final String FILE_PARAM = "file";
+
+    /**
+     * The {@code nonce} parameter name represented as a string value.
+     */
+    private static final String NONCE_PARAM = "nonce";
+
     /**
      * The {@link PrimitiveProvider} implementation to which this provider is bound.
      */
@@ -101,13 +127,74 @@ public class MacProviderImpl implements MacProvider {
         this.primitiveProvider = primitiveProvider;
     }
 
+    /**
+     * Initializes the {@code mac} parameter with the specified key for an algorithm which does not accept a nonce.
+     *
+     * @param mac
+     *         the primitive to be initialized, not null
+     * @param algorithm
+     *         the algorithm implemented by the primitive, not null
+     * @param key
+     *         the key to use, not null
+     * @throws IllegalArgumentException
+     *         if the algorithm requires a nonce
+     * @throws InvalidKeyException
+     *         if the key is not valid for the algorithm
+     */
+    private static void initialize(@NotNull final Mac mac, @NotNull final MacAlgorithm algorithm,
+                                   @NotNull final Key key) throws InvalidKeyException {
+        if (algorithm.nonceSize() > 0) {
+            throw new IllegalArgumentException(
+                    String.format("The %s algorithm requires a nonce and may only be used with the overloads that "
+                                          + "accept the %s parameter", algorithm, NONCE_PARAM));
+        }
+
+        mac.init(key);
+    }
+
+    /**
+     * Initializes the {@code mac} parameter with the specified key and nonce for an algorithm which requires a nonce.
+     * Some providers refuse to initialize the same primitive twice with an identical key and nonce, which is required
+     * to verify a message authentication code; therefore, the primitives passed to this method are never pooled.
+     *
+     * @param mac
+     *         the primitive to be initialized, not null
+     * @param algorithm
+     *         the algorithm implemented by the primitive, not null
+     * @param key
+     *         the key to use, not null
+     * @param nonce
+     *         the nonce to use, not null
+     * @throws IllegalArgumentException
+     *         if the algorithm does not accept a nonce or if the nonce is not of the required length
+     * @throws GeneralSecurityException
+     *         if the key or nonce is not valid for the algorithm
+     */
+    private static void initialize(@NotNull final Mac mac, @NotNull final MacAlgorithm algorithm,
+                                   @NotNull final Key key, @NotNull final byte[] nonce)
+            throws GeneralSecurityException {
+        if (algorithm.nonceSize() == 0) {
+            throw new IllegalArgumentException(
+                    String.format("The %s algorithm does not accept the %s parameter", algorithm, NONCE_PARAM));
+        }
+
+        if (nonce.length != algorithm.nonceSize()) {
+            throw new IllegalArgumentException(
+                    String.format("The %s parameter must be exactly %d bytes in length for the %s algorithm",
+                                  NONCE_PARAM, algorithm.nonceSize(), algorithm));
+        }
+
+        mac.init(key, new IvParameterSpec(nonce));
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Future<Hash> authenticateAsync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
                                           @NotNull final InputStream stream) {
-        return primitiveProvider.executorService().submit(() -> authenticateSync(algorithm, key, stream));
+        return primitiveProvider.executorService(OperationClass.MAC)
+                                .submit(() -> authenticateSync(algorithm, key, stream));
     }
 
     /**
@@ -116,7 +203,8 @@ public class MacProviderImpl implements MacProvider {
     @Override
     public Future<Hash> authenticateAsync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
                                           @NotNull final byte[] data) {
-        return primitiveProvider.executorService().submit(() -> authenticateSync(algorithm, key, data));
+        return primitiveProvider.executorService(OperationClass.MAC)
+                                .submit(() -> authenticateSync(algorithm, key, data));
     }
 
     /**
@@ -125,7 +213,8 @@ public class MacProviderImpl implements MacProvider {
     @Override
     public Future<Hash> authenticateAsync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
                                           @NotEmpty final Hash... hashes) {
-        return primitiveProvider.executorService().submit(() -> authenticateSync(algorithm, key, hashes));
+        return primitiveProvider.executorService(OperationClass.MAC)
+                                .submit(() -> authenticateSync(algorithm, key, hashes));
     }
 
     /**
@@ -134,7 +223,139 @@ public class MacProviderImpl implements MacProvider {
     @Override
     public Future<Hash> authenticateAsync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
                                           @NotNull final ByteBuffer buffer) {
-        return primitiveProvider.executorService().submit(() -> authenticateSync(algorithm, key, buffer));
+        return primitiveProvider.executorService(OperationClass.MAC)
+                                .submit(() -> authenticateSync(algorithm, key, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Hash> authenticateAsync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                          @NotNull final byte[] nonce, @NotNull final byte[] data) {
+        return primitiveProvider.executorService(OperationClass.MAC)
+                                .submit(() -> authenticateSync(algorithm, key, nonce, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Hash> authenticateAsync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                          @NotNull final byte[] nonce, @NotNull final ByteBuffer buffer) {
+        return primitiveProvider.executorService(OperationClass.MAC)
+                                .submit(() -> authenticateSync(algorithm, key, nonce, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                                     @NotNull final InputStream stream) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.MAC),
+                           cancelled -> authenticateSync(algorithm, key, stream, cancelled));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                                     @NotNull final InputStream stream,
+                                                     @NotNull final Duration timeout) {
+        throwIfArgIsNull(timeout, TIMEOUT_PARAM);
+
+        return supplyStage(primitiveProvider.executorService(OperationClass.MAC), timeout,
+                           cancelled -> authenticateSync(algorithm, key, stream, cancelled));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                                     @NotEmpty final byte[] data) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.MAC),
+                           cancelled -> authenticateSync(algorithm, key, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                                     @NotEmpty final Hash... hashes) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.MAC),
+                           cancelled -> authenticateSync(algorithm, key, hashes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                                     @NotNull final ByteBuffer buffer) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.MAC),
+                           cancelled -> authenticateSync(algorithm, key, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                                     @NotNull final Path file) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(file, FILE_PARAM);
+
+        final PrimitiveLease<Mac> lease = primitiveProvider.lease(algorithm);
+        final Mac mac;
+
+        try {
+            mac = lease.initialize(m -> initialize(m, algorithm, key));
+        } catch (GeneralSecurityException ex) {
+            lease.close();
+            return CompletableFuture.failedFuture(new CryptographyException(ex));
+        }
+
+        return AsyncFileReader.read(primitiveProvider.executorService(OperationClass.MAC), lease, file, block -> {
+            mac.update(block);
+            return null;
+        }, () -> CompletableFuture.completedFuture(new Hash(algorithm.hashAlgorithm(), mac.doFinal())));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MacSession session(@NotNull final MacAlgorithm algorithm, @NotNull final Key key) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        return new MacSessionImpl(primitiveProvider, algorithm, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flow.Processor<ByteBuffer, Hash> authenticateProcessor(@NotNull final MacAlgorithm algorithm,
+                                                                  @NotNull final Key key) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        final PrimitiveLease<Mac> lease = primitiveProvider.lease(algorithm);
+
+        try {
+            lease.initialize(m -> initialize(m, algorithm, key));
+        } catch (GeneralSecurityException ex) {
+            lease.close();
+            throw new CryptographyException(ex);
+        }
+
+        return new MacProcessor(primitiveProvider.executorService(OperationClass.MAC), algorithm, lease);
     }
 
     /**
@@ -143,6 +364,27 @@ public class MacProviderImpl implements MacProvider {
     @Override
     public Hash authenticateSync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
                                  @NotNull final InputStream stream) {
+        return authenticateSync(algorithm, key, stream, () -> false);
+    }
+
+    /**
+     * Synchronously computes the message authentication code of the {@link InputStream} specified by the {@code
+     * stream} parameter and stops reading the stream once the {@code cancelled} predicate returns true.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param stream
+     *         the stream to be authenticated, not null
+     * @param cancelled
+     *         the predicate evaluated before each block is read, not null
+     * @return the computed message authentication code, not null
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before the end of the stream is reached
+     */
+    private Hash authenticateSync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                  @NotNull final InputStream stream, @NotNull final BooleanSupplier cancelled) {
         throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
         throwIfArgIsNull(key, KEY_PARAM);
         throwIfArgIsNull(stream, STREAM_PARAM);
@@ -150,13 +392,14 @@ public class MacProviderImpl implements MacProvider {
         final Mac mac = primitiveProvider.primitive(algorithm);
 
         try {
-            mac.init(key);
-            applyToStream(stream, mac::update);
+            initialize(mac, algorithm, key);
+            applyToStream(stream, cancelled, mac::update);
+            return new Hash(algorithm.hashAlgorithm(), mac.doFinal());
         } catch (IOException | GeneralSecurityException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, mac);
         }
-
-        return new Hash(algorithm.hashAlgorithm(), mac.doFinal());
     }
 
     /**
@@ -172,11 +415,13 @@ public class MacProviderImpl implements MacProvider {
         final Mac mac = primitiveProvider.primitive(algorithm);
 
         try {
-            mac.init(key);
+            initialize(mac, algorithm, key);
             mac.update(data);
             return new Hash(algorithm.hashAlgorithm(), mac.doFinal());
         } catch (InvalidKeyException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, mac);
         }
     }
 
@@ -193,7 +438,7 @@ public class MacProviderImpl implements MacProvider {
         final Mac mac = primitiveProvider.primitive(algorithm);
 
         try {
-            mac.init(key);
+            initialize(mac, algorithm, key);
 
             for (final Hash hash : hashes) {
                 if (hash != null) {
@@ -206,6 +451,8 @@ public class MacProviderImpl implements MacProvider {
             return new Hash(algorithm.hashAlgorithm(), mac.doFinal());
         } catch (InvalidKeyException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, mac);
         }
     }
 
@@ -222,11 +469,57 @@ public class MacProviderImpl implements MacProvider {
         final Mac mac = primitiveProvider.primitive(algorithm);
 
         try {
-            mac.init(key);
+            initialize(mac, algorithm, key);
             mac.update(buffer);
             return new Hash(algorithm.hashAlgorithm(), mac.doFinal());
         } catch (InvalidKeyException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, mac);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash authenticateSync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                 @NotNull final byte[] nonce, @NotNull final byte[] data) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(nonce, NONCE_PARAM);
+        throwIfArgIsNull(data, DATA_PARAM);
+
+        final Mac mac = algorithm.instance();
+
+        try {
+            initialize(mac, algorithm, key, nonce);
+            mac.update(data);
+            return new Hash(algorithm.hashAlgorithm(), mac.doFinal());
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash authenticateSync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                 @NotNull final byte[] nonce, @NotNull final ByteBuffer buffer) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(nonce, NONCE_PARAM);
+        throwIfArgIsNull(buffer, BUFFER_PARAM);
+
+        final Mac mac = algorithm.instance();
+
+        try {
+            initialize(mac, algorithm, key, nonce);
+            mac.update(buffer);
+            return new Hash(algorithm.hashAlgorithm(), mac.doFinal());
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
         }
     }
 }
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.MacAlgorithm;
+import com.servercurio.fabric.security.spi.MacSession;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitivePoolConfiguration;
+import com.servercurio.fabric.security.spi.PrimitiveProvider;
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Future;
+import javax.crypto.Mac;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+import static com.servercurio.fabric.lang.Validators.throwIfArgumentIsEmpty;
+
+/**
+ * Default {@link MacSession} implementation. The pooled primitives are cloned from a prototype which was initialized
+ * with the session key. Providers which do not support cloning fall back to initializing each new primitive with the
+ * key.
+ *
+ * @author Nathan Klick
+ * @see MacProviderImpl#session(MacAlgorithm, Key)
+ */
+final class MacSessionImpl implements MacSession {
+
+    /**
+     * The {@code primitiveProvider} parameter name represented as a string value.
+     */
+    private static final String PRIMITIVE_PROVIDER_PARAM = "primitiveProvider";
+
+    /**
+     * The {@code algorithm} parameter name represented as a string value.
+     */
+    private static final String ALGORITHM_PARAM = "algorithm";
+
+    /**
+     * The {@code key} parameter name represented as a string value.
+     */
+    private static final String KEY_PARAM = "key";
+
+    /**
+     * The {@code data} parameter name represented as a string value.
+     */
+    private static final String DATA_PARAM = "data";
+
+    /**
+     * The {@code buffer} parameter name represented as a string value.
+     */
+    private static final String BUFFER_PARAM = "buffer";
+
+    /**
+     * The {@code hashes} parameter name represented as a string value.
+     */
+    private static final String HASHES_PARAM = "hashes";
+
+    /**
+     * The {@code mac} parameter name represented as a string value.
+     */
+    private static final String MAC_PARAM = "mac";
+
+    /**
+     * The {@code messages} parameter name represented as a string value.
+     */
+    private static final String MESSAGES_PARAM = "messages";
+
+    /**
+     * The {@code macs} parameter name represented as a string value.
+     */
+    private static final String MACS_PARAM = "macs";
+
+    /**
+     * The {@link PrimitiveProvider} which supplies the executor service and constant time comparison.
+     */
+    @NotNull
+    private final PrimitiveProvider primitiveProvider;
+
+    /**
+     * The algorithm used by this session.
+     */
+    @NotNull
+    private final MacAlgorithm algorithm;
+
+    /**
+     * The key to which this session is bound.
+     */
+    @NotNull
+    private final Key key;
+
+    /**
+     * The primitive initialized with the {@link #key} from which the pooled primitives are cloned. The prototype is
+     * never used to compute a message authentication code.
+     */
+    @NotNull
+    private final Mac prototype;
+
+    /**
+     * The pooled primitives which have been initialized with the {@link #key}.
+     */
+    @NotNull
+    private final PrimitivePool<MacAlgorithm, Mac> macs;
+
+    /**
+     * Constructs a new session bound to the specified key.
+     *
+     * @param primitiveProvider
+     *         the {@link PrimitiveProvider} which supplies the executor service and constant time comparison, not
+     *         null
+     * @param algorithm
+     *         the algorithm used by the session, not null
+     * @param key
+     *         the key to which the session is bound, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null or if the algorithm requires a nonce
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm
+     */
+    MacSessionImpl(@NotNull final PrimitiveProvider primitiveProvider, @NotNull final MacAlgorithm algorithm,
+                   @NotNull final Key key) {
+        throwIfArgIsNull(primitiveProvider, PRIMITIVE_PROVIDER_PARAM);
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        if (algorithm.nonceSize() > 0) {
+            throw new IllegalArgumentException(
+                    String.format("The %s algorithm requires a unique nonce per message and may not be used with a "
+                                          + "session", algorithm));
+        }
+
+        this.primitiveProvider = primitiveProvider;
+        this.algorithm = algorithm;
+        this.key = key;
+        this.prototype = initialize(algorithm.instance());
+        this.macs = new PrimitivePool<>(new PrimitivePoolConfiguration(), k -> derive(), Mac::reset);
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if the {@code messages} and {@code macs} parameters do not contain
+     * the same number of elements.
+     *
+     * @param messages
+     *         the messages to be verified, not null
+     * @param macs
+     *         the expected message authentication codes, not null
+     * @throws IllegalArgumentException
+     *         if the parameters are not the same size
+     */
+    private static void throwIfSizeMismatch(@NotNull final List<byte[]> messages, @NotNull final List<Hash> macs) {
+        if (messages.size() != macs.size()) {
+            throw new IllegalArgumentException(
+                    String.format("The %s and %s parameters must contain the same number of elements",
+                                  MESSAGES_PARAM, MACS_PARAM));
+        }
+    }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MacAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Key getKey() {
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Hash> authenticateAsync(@NotNull final byte[] data) {
+        return primitiveProvider.executorService(OperationClass.MAC).submit(() -> authenticateSync(data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Hash> authenticateAsync(@NotNull final ByteBuffer buffer) {
+        return primitiveProvider.executorService(OperationClass.MAC).submit(() -> authenticateSync(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<List<Hash>> authenticateAsync(@NotNull final List<byte[]> messages) {
+        throwIfArgIsNull(messages, MESSAGES_PARAM);
+
+        final Hash[] results = new Hash[messages.size()];
+
+        return Batches.forEach(primitiveProvider.executorService(OperationClass.MAC), results.length,
+                               () -> macs.borrow(algorithm), mac -> macs.release(algorithm, mac),
+                               (mac, i) -> results[i] = compute(mac, messages.get(i)))
+                      .thenApply(v -> Arrays.asList(results));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash authenticateSync(@NotNull final byte[] data) {
+        throwIfArgIsNull(data, DATA_PARAM);
+
+        final Mac mac = macs.borrow(algorithm);
+
+        try {
+            return compute(mac, data);
+        } finally {
+            macs.release(algorithm, mac);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash authenticateSync(@NotNull final ByteBuffer buffer) {
+        throwIfArgIsNull(buffer, BUFFER_PARAM);
+
+        final Mac mac = macs.borrow(algorithm);
+
+        try {
+            mac.update(buffer);
+            return new Hash(algorithm.hashAlgorithm(), mac.doFinal());
+        } finally {
+            macs.release(algorithm, mac);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Hash authenticateSync(@NotEmpty final Hash... hashes) {
+        throwIfArgumentIsEmpty(hashes, HASHES_PARAM);
+
+        final Mac mac = macs.borrow(algorithm);
+
+        try {
+            for (final Hash hash : hashes) {
+                if (hash != null) {
+                    mac.update(hash.getValue());
+                } else {
+                    mac.update(Hash.EMPTY.getValue());
+                }
+            }
+
+            return new Hash(algorithm.hashAlgorithm(), mac.doFinal());
+        } finally {
+            macs.release(algorithm, mac);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Hash> authenticateSync(@NotNull final List<byte[]> messages) {
+        throwIfArgIsNull(messages, MESSAGES_PARAM);
+
+        final Hash[] results = new Hash[messages.size()];
+        final Mac mac = macs.borrow(algorithm);
+
+        try {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = compute(mac, messages.get(i));
+            }
+        } finally {
+            macs.release(algorithm, mac);
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<boolean[]> verifyAsync(@NotNull final List<byte[]> messages, @NotNull final List<Hash> macs) {
+        throwIfArgIsNull(messages, MESSAGES_PARAM);
+        throwIfArgIsNull(macs, MACS_PARAM);
+        throwIfSizeMismatch(messages, macs);
+
+        final boolean[] results = new boolean[messages.size()];
+
+        return Batches.forEach(primitiveProvider.executorService(OperationClass.MAC), results.length,
+                               () -> this.macs.borrow(algorithm), mac -> this.macs.release(algorithm, mac),
+                               (mac, i) -> results[i] = verify(mac, messages.get(i), macs.get(i)))
+                      .thenApply(v -> results);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verifySync(@NotNull final byte[] data, @NotNull final Hash mac) {
+        throwIfArgIsNull(data, DATA_PARAM);
+        throwIfArgIsNull(mac, MAC_PARAM);
+
+        final Mac primitive = macs.borrow(algorithm);
+
+        try {
+            return verify(primitive, data, mac);
+        } finally {
+            macs.release(algorithm, primitive);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean[] verifySync(@NotNull final List<byte[]> messages, @NotNull final List<Hash> macs) {
+        throwIfArgIsNull(messages, MESSAGES_PARAM);
+        throwIfArgIsNull(macs, MACS_PARAM);
+        throwIfSizeMismatch(messages, macs);
+
+        final boolean[] results = new boolean[messages.size()];
+        final Mac primitive = this.macs.borrow(algorithm);
+
+        try {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = verify(primitive, messages.get(i), macs.get(i));
+            }
+        } finally {
+            this.macs.release(algorithm, primitive);
+        }
+
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        macs.close();
+    }
+
+    /**
+     * Initializes the {@code mac} parameter with the session key.
+     *
+     * @param mac
+     *         the primitive to be initialized, not null
+     * @return the initialized primitive, not null
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm
+     */
+    private Mac initialize(@NotNull final Mac mac) {
+        try {
+            mac.init(key);
+            return mac;
+        } catch (InvalidKeyException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
+    /**
+     * Creates a new primitive initialized with the session key by cloning the {@link #prototype} or, if cloning is
+     * not supported by the provider, by initializing a new primitive.
+     *
+     * @return the initialized primitive, not null
+     */
+    private Mac derive() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException ex) {
+            return initialize(algorithm.instance());
+        }
+    }
+
+    /**
+     * Computes the message authentication code of the {@code data} parameter using an initialized primitive.
+     *
+     * @param mac
+     *         the initialized primitive, not null
+     * @param data
+     *         the data to be authenticated, not null
+     * @return the message authentication code, not null
+     * @throws IllegalArgumentException
+     *         if the {@code data} parameter is null
+     */
+    private Hash compute(@NotNull final Mac mac, @NotNull final byte[] data) {
+        throwIfArgIsNull(data, DATA_PARAM);
+
+        return new Hash(algorithm.hashAlgorithm(), mac.doFinal(data));
+    }
+
+    /**
+     * Verifies the message authentication code of the {@code data} parameter in constant time using an initialized
+     * primitive.
+     *
+     * @param mac
+     *         the initialized primitive, not null
+     * @param data
+     *         the data to be verified, not null
+     * @param expected
+     *         the expected message authentication code or {@code null} which is never valid
+     * @return true if the message authentication code is valid; otherwise false
+     * @throws IllegalArgumentException
+     *         if the {@code data} parameter is null
+     */
+    private boolean verify(@NotNull final Mac mac, @NotNull final byte[] data, final Hash expected) {
+        throwIfArgIsNull(data, DATA_PARAM);
+
+        final byte[] actual = mac.doFinal(data);
+
+        return expected != null && expected.getAlgorithm() == algorithm.hashAlgorithm()
+                && primitiveProvider.secureEquals(actual, expected.getValue());
+    }
+}
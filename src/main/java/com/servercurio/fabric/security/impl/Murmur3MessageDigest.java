@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A {@link java.security.MessageDigest} implementation of the non-cryptographic 128-bit MurmurHash3 algorithm (x64
+ * variant) with a seed of zero. The hash value is returned as the two 64-bit halves in little endian byte order.
+ *
+ * @author Nathan Klick
+ * @see FabricProvider
+ * @see <a href="https://github.com/aappleby/smhasher/wiki/MurmurHash3">MurmurHash3</a>
+ */
+final class Murmur3MessageDigest extends StripedMessageDigest {
+
+    /**
+     * The first mixing constant.
+     */
+    private static final long C1 = 0x87C37B91114253D5L;
+
+    /**
+     * The second mixing constant.
+     */
+    private static final long C2 = 0x4CF5AD432745937FL;
+
+    /**
+     * The number of bytes in each stripe.
+     */
+    private static final int STRIPE_LENGTH = 16;
+
+    /**
+     * The first half of the hash state.
+     */
+    private long h1;
+
+    /**
+     * The second half of the hash state.
+     */
+    private long h2;
+
+    /**
+     * Constructs a new instance.
+     */
+    Murmur3MessageDigest() {
+        super("MURMUR3-128", STRIPE_LENGTH);
+    }
+
+    /**
+     * Mixes the first 64-bit lane of a stripe.
+     *
+     * @param k1
+     *         the first lane
+     * @return the mixed lane
+     */
+    private static long mixK1(final long k1) {
+        return Long.rotateLeft(k1 * C1, 31) * C2;
+    }
+
+    /**
+     * Mixes the second 64-bit lane of a stripe.
+     *
+     * @param k2
+     *         the second lane
+     * @return the mixed lane
+     */
+    private static long mixK2(final long k2) {
+        return Long.rotateLeft(k2 * C2, 33) * C1;
+    }
+
+    /**
+     * The finalization mix which forces all bits of the hash state to avalanche.
+     *
+     * @param k
+     *         the value to be mixed
+     * @return the mixed value
+     */
+    private static long fmix(final long k) {
+        long h = k;
+
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int engineGetDigestLength() {
+        return 2 * Long.BYTES;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void stripe(@NotNull final ByteBuffer input, final int index) {
+        h1 ^= mixK1(input.getLong(index));
+        h1 = (Long.rotateLeft(h1, 27) + h2) * 5 + 0x52DCE729;
+
+        h2 ^= mixK2(input.getLong(index + Long.BYTES));
+        h2 = (Long.rotateLeft(h2, 31) + h1) * 5 + 0x38495AB5;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected byte[] finish(@NotNull final ByteBuffer tail, final long length) {
+        long k1 = 0;
+        long k2 = 0;
+
+        for (int i = tail.limit() - 1; i >= 0; i--) {
+            if (i >= Long.BYTES) {
+                k2 = (k2 << Byte.SIZE) | Byte.toUnsignedLong(tail.get(i));
+            } else {
+                k1 = (k1 << Byte.SIZE) | Byte.toUnsignedLong(tail.get(i));
+            }
+        }
+
+        h1 ^= mixK1(k1);
+        h2 ^= mixK2(k2);
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        return ByteBuffer.allocate(2 * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(h1).putLong(h2).array();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void resetState() {
+        h1 = 0;
+        h2 = 0;
+    }
+}
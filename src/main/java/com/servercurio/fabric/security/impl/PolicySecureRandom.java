@@ -0,0 +1,324 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.spi.RandomConfiguration;
+import com.servercurio.fabric.security.spi.ReseedPolicy;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.SecureRandomParameters;
+import java.security.SecureRandomSpi;
+import java.util.Arrays;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * A {@link SecureRandom} which wraps a DRBG instance and reseeds it according to the {@link ReseedPolicy} of a {@link
+ * RandomConfiguration}. When buffering is enabled, small requests are served from a prefilled block of random bytes
+ * and each byte is cleared from the block once it has been served. Buffering is never applied with the {@link
+ * ReseedPolicy#PREDICTION_RESISTANCE} policy.
+ *
+ * <p>
+ * Instances are safe for use by multiple threads, however the {@link PrimitiveProviderImpl} assigns a separate instance
+ * to each stripe in order to limit contention.
+ *
+ * @author Nathan Klick
+ * @see RandomConfiguration
+ */
+final class PolicySecureRandom extends SecureRandom {
+
+    /**
+     * The serialization version of this class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
+
+    /**
+     * The {@link SecureRandom} algorithm of the underlying DRBG instance.
+     */
+    private static final String SECURE_RANDOM_ALGORITHM = "DRBG";
+
+    /**
+     * The security strength in bits requested from the underlying DRBG instance.
+     */
+    private static final int SECURITY_STRENGTH = 256;
+
+    /**
+     * The fraction of the buffer size which may be served from the buffer by a single request.
+     */
+    private static final int BUFFERED_REQUEST_DIVISOR = 4;
+
+    /**
+     * Constructs a new instance backed by a newly instantiated DRBG.
+     *
+     * @param configuration
+     *         the reseed policy and buffering configuration, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration} parameter is null
+     * @throws CryptographyException
+     *         if the DRBG algorithm is not available
+     */
+    PolicySecureRandom(@NotNull final RandomConfiguration configuration) {
+        this(new PolicySpi(configuration));
+    }
+
+    /**
+     * Constructs a new instance which delegates to the specified service provider implementation.
+     *
+     * @param spi
+     *         the service provider implementation, not null
+     */
+    private PolicySecureRandom(@NotNull final PolicySpi spi) {
+        super(spi, spi.delegate.getProvider());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getAlgorithm() {
+        return SECURE_RANDOM_ALGORITHM;
+    }
+
+    /**
+     * The service provider implementation which applies the reseed policy and buffering to the underlying DRBG.
+     */
+    private static final class PolicySpi extends SecureRandomSpi {
+
+        /**
+         * The serialization version of this class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The underlying DRBG instance.
+         */
+        @NotNull
+        private final SecureRandom delegate;
+
+        /**
+         * The strategy used to decide when the {@link #delegate} is reseeded.
+         */
+        @NotNull
+        private final ReseedPolicy policy;
+
+        /**
+         * The number of requests or bytes between reseed operations.
+         */
+        private final long reseedInterval;
+
+        /**
+         * The number of nanoseconds between reseed operations.
+         */
+        private final long reseedPeriodNanos;
+
+        /**
+         * The prefilled block of random bytes or {@code null} if buffering is disabled.
+         */
+        private final byte[] buffer;
+
+        /**
+         * The largest request which may be served from the {@link #buffer}.
+         */
+        private final int bufferedRequestLimit;
+
+        /**
+         * The position of the first unserved byte in the {@link #buffer}.
+         */
+        private int bufferPosition;
+
+        /**
+         * The number of requests or bytes served by the {@link #delegate} since the last reseed operation.
+         */
+        private long usage;
+
+        /**
+         * The {@link System#nanoTime()} of the last reseed operation.
+         */
+        private long lastReseed;
+
+        /**
+         * Constructs a new service provider implementation backed by a newly instantiated DRBG.
+         *
+         * @param configuration
+         *         the reseed policy and buffering configuration, not null
+         * @throws IllegalArgumentException
+         *         if the {@code configuration} parameter is null
+         * @throws CryptographyException
+         *         if the DRBG algorithm is not available
+         */
+        private PolicySpi(@NotNull final RandomConfiguration configuration) {
+            throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+
+            this.policy = configuration.getReseedPolicy();
+            this.reseedInterval = configuration.getReseedInterval();
+            this.reseedPeriodNanos = configuration.getReseedPeriod().toNanos();
+
+            final DrbgParameters.Capability capability = (policy == ReseedPolicy.PREDICTION_RESISTANCE)
+                    ? DrbgParameters.Capability.PR_AND_RESEED : DrbgParameters.Capability.RESEED_ONLY;
+
+            try {
+                this.delegate = SecureRandom.getInstance(SECURE_RANDOM_ALGORITHM,
+                                                         DrbgParameters.instantiation(SECURITY_STRENGTH, capability,
+                                                                                      null));
+            } catch (NoSuchAlgorithmException ex) {
+                throw new CryptographyException(ex);
+            }
+
+            // Buffered bytes are generated ahead of the request and cannot provide prediction resistance
+            if (configuration.getBufferSize() > 0 && policy != ReseedPolicy.PREDICTION_RESISTANCE) {
+                this.buffer = new byte[configuration.getBufferSize()];
+                this.bufferedRequestLimit = configuration.getBufferSize() / BUFFERED_REQUEST_DIVISOR;
+                this.bufferPosition = buffer.length;
+            } else {
+                this.buffer = null;
+                this.bufferedRequestLimit = 0;
+            }
+
+            this.lastReseed = System.nanoTime();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected synchronized void engineSetSeed(final byte[] seed) {
+            delegate.setSeed(seed);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected synchronized void engineNextBytes(final byte[] bytes) {
+            if (buffer == null || bytes.length > bufferedRequestLimit) {
+                reseedIfDue(bytes.length);
+                delegate.nextBytes(bytes);
+                return;
+            }
+
+            if (buffer.length - bufferPosition < bytes.length) {
+                reseedIfDue(buffer.length);
+                delegate.nextBytes(buffer);
+                bufferPosition = 0;
+            }
+
+            System.arraycopy(buffer, bufferPosition, bytes, 0, bytes.length);
+            Arrays.fill(buffer, bufferPosition, bufferPosition + bytes.length, (byte) 0);
+            bufferPosition += bytes.length;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected synchronized void engineNextBytes(final byte[] bytes, final SecureRandomParameters params) {
+            reseedIfDue(bytes.length);
+            delegate.nextBytes(bytes, params);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected byte[] engineGenerateSeed(final int numBytes) {
+            return delegate.generateSeed(numBytes);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected synchronized void engineReseed(final SecureRandomParameters params) {
+            if (params != null) {
+                delegate.reseed(params);
+            } else {
+                delegate.reseed();
+            }
+
+            reseeded();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected SecureRandomParameters engineGetParameters() {
+            return delegate.getParameters();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return delegate.toString() + "," + policy.name().toLowerCase();
+        }
+
+        /**
+         * Reseeds the {@link #delegate} if required by the reseed policy and then records a request for the specified
+         * number of bytes.
+         *
+         * @param numBytes
+         *         the number of bytes about to be requested from the {@link #delegate}
+         */
+        private void reseedIfDue(final int numBytes) {
+            if (isReseedDue()) {
+                delegate.reseed();
+                reseeded();
+            }
+
+            usage += (policy == ReseedPolicy.BYTE_COUNT) ? numBytes : 1;
+        }
+
+        /**
+         * Determines whether the {@link #delegate} must be reseeded before the next request according to the reseed
+         * policy.
+         *
+         * @return true if a reseed operation is required; otherwise false
+         */
+        private boolean isReseedDue() {
+            //CHECKSTYLE.OFF: IndentationCheck
+            switch (policy) {
+                case CALL_COUNT:
+                case BYTE_COUNT:
+                    return usage >= reseedInterval;
+                case TIME:
+                    return System.nanoTime() - lastReseed >= reseedPeriodNanos;
+                default:
+                    return false;
+            }
+            //CHECKSTYLE.ON: IndentationCheck
+        }
+
+        /**
+         * Resets the reseed counters following a reseed operation.
+         */
+        private void reseeded() {
+            usage = 0;
+            lastReseed = System.nanoTime();
+        }
+    }
+}
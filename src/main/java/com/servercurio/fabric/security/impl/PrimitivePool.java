@@ -0,0 +1,550 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.spi.PrimitivePoolConfiguration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * A bounded pool of cryptographic primitives keyed by algorithm which is owned by a single provider instance. The idle
+ * primitives of each algorithm are held on a set of lock-free stacks, called stripes, and each thread borrows from and
+ * releases to the stripe selected by its thread identifier. A thread only visits the remaining stripes if its own
+ * stripe is empty or full, which keeps contention low without binding primitives to a thread.
+ *
+ * <p>
+ * Each stripe also has a single hot slot which is checked before the stack. In the uncontended case, where a thread
+ * releases a primitive and then borrows it again, the hot slot is exchanged using a single compare and set operation
+ * without allocating a stack node.
+ *
+ * <p>
+ * A borrowed primitive is exclusively owned by the borrower until it is released. Primitives which are never released
+ * are simply reclaimed by the garbage collector.
+ *
+ * @param <K>
+ *         the type of the algorithm used as the pool key
+ * @param <T>
+ *         the type of the JCE algorithm primitive
+ * @author Nathan Klick
+ */
+final class PrimitivePool<K, T> {
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
+
+    /**
+     * The {@code factory} parameter name represented as a string value.
+     */
+    private static final String FACTORY_PARAM = "factory";
+
+    /**
+     * The {@code reset} parameter name represented as a string value.
+     */
+    private static final String RESET_PARAM = "reset";
+
+    /**
+     * The {@code key} parameter name represented as a string value.
+     */
+    private static final String KEY_PARAM = "key";
+
+    /**
+     * The {@code primitive} parameter name represented as a string value.
+     */
+    private static final String PRIMITIVE_PARAM = "primitive";
+
+    /**
+     * The multiplicative constant used to spread thread identifiers across the stripes.
+     */
+    private static final long STRIPE_SPREAD = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The stripes of idle primitives for each algorithm.
+     */
+    @NotNull
+    private final ConcurrentHashMap<K, Stripes<T>> pools;
+
+    /**
+     * The function used to create a new primitive when no idle primitives are available.
+     */
+    @NotNull
+    private final Function<K, T> factory;
+
+    /**
+     * The function used to reset a primitive before it is returned to the pool.
+     */
+    @NotNull
+    private final Consumer<T> reset;
+
+    /**
+     * The number of stripes per algorithm, always a power of two.
+     */
+    private final int stripeCount;
+
+    /**
+     * The maximum number of idle primitives held by each stripe, including the hot slot, before the remainder of the
+     * maximum idle count is distributed.
+     */
+    private final int stripeCapacity;
+
+    /**
+     * The number of stripes, starting from the first stripe, which hold one additional idle primitive so that the
+     * capacities of all the stripes sum to the maximum idle count.
+     */
+    private final int extendedStripes;
+
+    /**
+     * The amount of time in nanoseconds an idle primitive is retained or zero if idle primitives are never evicted.
+     */
+    private final long idleTimeoutNanos;
+
+    /**
+     * The {@link System#nanoTime()} at or after which the next eviction sweep is performed.
+     */
+    @NotNull
+    private final AtomicLong nextEviction;
+
+    /**
+     * Indicates whether the pool has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new, empty pool.
+     *
+     * @param configuration
+     *         the configuration of the pool, not null
+     * @param factory
+     *         the function used to create a new primitive when no idle primitives are available, not null
+     * @param reset
+     *         the function used to reset a primitive before it is returned to the pool, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration}, {@code factory}, or {@code reset} parameters are null
+     */
+    PrimitivePool(@NotNull final PrimitivePoolConfiguration configuration, @NotNull final Function<K, T> factory,
+                  @NotNull final Consumer<T> reset) {
+        throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+        throwIfArgIsNull(factory, FACTORY_PARAM);
+        throwIfArgIsNull(reset, RESET_PARAM);
+
+        final int maximumIdle = configuration.getMaximumIdle();
+
+        this.pools = new ConcurrentHashMap<>();
+        this.factory = factory;
+        this.reset = reset;
+        this.stripeCount = Math.min(stripeCount(), Integer.highestOneBit(maximumIdle));
+        this.stripeCapacity = maximumIdle / stripeCount;
+        this.extendedStripes = maximumIdle % stripeCount;
+        this.idleTimeoutNanos = configuration.getIdleTimeout().toNanos();
+        this.nextEviction = new AtomicLong(System.nanoTime() + idleTimeoutNanos);
+    }
+
+    /**
+     * Computes the default number of stripes, which is the smallest power of two greater than or equal to the number
+     * of available processors.
+     *
+     * @return the number of stripes, positive power of two
+     */
+    static int stripeCount() {
+        final int processors = Runtime.getRuntime().availableProcessors();
+
+        return (processors <= 1) ? 1 : Integer.highestOneBit(processors - 1) << 1;
+    }
+
+    /**
+     * Computes the stripe assigned to the current thread.
+     *
+     * @param stripeCount
+     *         the number of stripes, positive power of two
+     * @return the index of the stripe, zero or greater
+     */
+    static int stripe(final int stripeCount) {
+        return (int) ((Thread.currentThread().getId() * STRIPE_SPREAD) >>> 32) & (stripeCount - 1);
+    }
+
+    /**
+     * Borrows an idle primitive for the algorithm specified by the {@code key} parameter or creates a new primitive if
+     * no idle primitives are available. The returned primitive is exclusively owned by the caller until it is passed
+     * to the {@link #release(Object, Object)} method.
+     *
+     * @param key
+     *         the algorithm of the primitive, not null
+     * @return the primitive, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key} parameter is null
+     */
+    T borrow(@NotNull final K key) {
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        final Stripes<T> stripes = pools.get(key);
+
+        if (stripes != null) {
+            final int home = stripe(stripeCount);
+            final T hot = stripes.hot.get(home);
+
+            if (hot != null && stripes.hot.compareAndSet(home, hot, null)) {
+                return hot;
+            }
+
+            for (int i = 0; i < stripeCount; i++) {
+                final int index = (home + i) & (stripeCount - 1);
+                final Node<T> node = pop(stripes.stacks, index);
+
+                if (node != null) {
+                    evictIfDue();
+                    return node.value;
+                }
+
+                final T other = (i > 0) ? stripes.hot.get(index) : null;
+
+                if (other != null && stripes.hot.compareAndSet(index, other, null)) {
+                    return other;
+                }
+            }
+        }
+
+        return factory.apply(key);
+    }
+
+    /**
+     * Resets the {@code primitive} parameter and returns it to the pool for the algorithm specified by the {@code key}
+     * parameter. The primitive is discarded if the pool has been closed or all the stripes are full.
+     *
+     * @param key
+     *         the algorithm of the primitive, not null
+     * @param primitive
+     *         the primitive previously acquired from the {@link #borrow(Object)} method, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key} or {@code primitive} parameters are null
+     */
+    void release(@NotNull final K key, @NotNull final T primitive) {
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(primitive, PRIMITIVE_PARAM);
+
+        if (closed) {
+            return;
+        }
+
+        reset.accept(primitive);
+        offer(key, primitive);
+
+        // The pool may have been closed and cleared after the flag was checked, discard anything offered since then
+        if (closed) {
+            pools.clear();
+            return;
+        }
+
+        evictIfDue();
+    }
+
+    /**
+     * Places the {@code primitive} parameter in the hot slot of the current stripe or, if that slot is occupied, on the
+     * stack or in the hot slot of the first stripe with spare capacity. The primitive is discarded if all the stripes
+     * are full.
+     *
+     * @param key
+     *         the algorithm of the primitive, not null
+     * @param primitive
+     *         the reset primitive, not null
+     */
+    private void offer(@NotNull final K key, @NotNull final T primitive) {
+        final Stripes<T> stripes = pools.computeIfAbsent(key, k -> new Stripes<>(stripeCount));
+        final int home = stripe(stripeCount);
+        final long now = System.nanoTime();
+
+        if (offerHot(stripes, home, primitive, now)) {
+            return;
+        }
+
+        for (int i = 0; i < stripeCount; i++) {
+            final int index = (home + i) & (stripeCount - 1);
+
+            if (push(stripes.stacks, index, primitive, now) || (i > 0 && offerHot(stripes, index, primitive, now))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Places the {@code primitive} parameter in the hot slot of the specified stripe if that slot is empty.
+     *
+     * @param <T>
+     *         the type of the JCE algorithm primitive
+     * @param stripes
+     *         the stripes of the algorithm, not null
+     * @param index
+     *         the index of the stripe
+     * @param primitive
+     *         the reset primitive, not null
+     * @param idleSince
+     *         the {@link System#nanoTime()} at which the primitive became idle
+     * @return true if the primitive was placed in the hot slot; otherwise false if the slot is occupied
+     */
+    private static <T> boolean offerHot(@NotNull final Stripes<T> stripes, final int index,
+                                        @NotNull final T primitive, final long idleSince) {
+        if (stripes.hot.get(index) != null) {
+            return false;
+        }
+
+        stripes.hotSince.set(index, idleSince);
+        return stripes.hot.compareAndSet(index, null, primitive);
+    }
+
+    /**
+     * Counts the idle primitives currently held by the pool for the algorithm specified by the {@code key} parameter.
+     * The returned value is a point in time approximation.
+     *
+     * @param key
+     *         the algorithm of the primitives, not null
+     * @return the number of idle primitives, zero or greater
+     * @throws IllegalArgumentException
+     *         if the {@code key} parameter is null
+     */
+    int idleCount(@NotNull final K key) {
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        final Stripes<T> stripes = pools.get(key);
+        int count = 0;
+
+        if (stripes != null) {
+            for (int i = 0; i < stripeCount; i++) {
+                final Node<T> head = stripes.stacks.get(i);
+                count += (head != null) ? head.depth : 0;
+                count += (stripes.hot.get(i) != null) ? 1 : 0;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Evicts every idle primitive which has not been borrowed for longer than the configured idle timeout.
+     */
+    void evictIdle() {
+        final long now = System.nanoTime();
+
+        for (final Stripes<T> stripes : pools.values()) {
+            for (int i = 0; i < stripeCount; i++) {
+                final T hot = stripes.hot.get(i);
+
+                if (hot != null && now - stripes.hotSince.get(i) >= idleTimeoutNanos) {
+                    stripes.hot.compareAndSet(i, hot, null);
+                }
+
+                Node<T> node = stripes.stacks.getAndSet(i, null);
+
+                while (node != null) {
+                    if (now - node.idleSince < idleTimeoutNanos) {
+                        push(stripes.stacks, i, node.value, node.idleSince);
+                    }
+
+                    node = node.next;
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards every idle primitive and stops accepting released primitives. A primitive released concurrently with
+     * this method is discarded by the releasing thread. Primitives may still be borrowed after the pool has been
+     * closed, but each borrow creates a new primitive.
+     */
+    void close() {
+        closed = true;
+        pools.clear();
+    }
+
+    /**
+     * Performs an eviction sweep if idle eviction is enabled and the previous sweep occurred more than one idle timeout
+     * ago. Only a single thread performs each sweep.
+     */
+    private void evictIfDue() {
+        if (idleTimeoutNanos <= 0) {
+            return;
+        }
+
+        final long now = System.nanoTime();
+        final long due = nextEviction.get();
+
+        if (now - due >= 0 && nextEviction.compareAndSet(due, now + idleTimeoutNanos)) {
+            evictIdle();
+        }
+    }
+
+    /**
+     * Removes the head of the specified stripe.
+     *
+     * @param <T>
+     *         the type of the JCE algorithm primitive
+     * @param stripes
+     *         the stripes of the algorithm, not null
+     * @param index
+     *         the index of the stripe
+     * @return the removed node or {@code null} if the stripe is empty
+     */
+    private static <T> Node<T> pop(@NotNull final AtomicReferenceArray<Node<T>> stripes, final int index) {
+        Node<T> head;
+
+        do {
+            head = stripes.get(index);
+
+            if (head == null) {
+                return null;
+            }
+        } while (!stripes.compareAndSet(index, head, head.next));
+
+        return head;
+    }
+
+    /**
+     * Gets the maximum number of idle primitives held by the specified stripe, including the hot slot. The first
+     * {@link #extendedStripes} stripes hold one more primitive than the others.
+     *
+     * @param index
+     *         the index of the stripe
+     * @return the capacity of the stripe, positive integer
+     */
+    private int stripeCapacity(final int index) {
+        return (index < extendedStripes) ? stripeCapacity + 1 : stripeCapacity;
+    }
+
+    /**
+     * Pushes the {@code value} parameter onto the stack of the specified stripe unless the stripe is full. The stack
+     * holds one fewer primitive than the stripe capacity in order to leave room for the hot slot.
+     *
+     * @param stripes
+     *         the stripes of the algorithm, not null
+     * @param index
+     *         the index of the stripe
+     * @param value
+     *         the primitive to be pushed, not null
+     * @param idleSince
+     *         the {@link System#nanoTime()} at which the primitive became idle
+     * @return true if the primitive was pushed; otherwise false if the stripe is full
+     */
+    private boolean push(@NotNull final AtomicReferenceArray<Node<T>> stripes, final int index,
+                         @NotNull final T value, final long idleSince) {
+        Node<T> head;
+        Node<T> node;
+
+        do {
+            head = stripes.get(index);
+
+            if (((head != null) ? head.depth : 0) >= stripeCapacity(index) - 1) {
+                return false;
+            }
+
+            node = new Node<>(value, head, idleSince);
+        } while (!stripes.compareAndSet(index, head, node));
+
+        return true;
+    }
+
+    /**
+     * The stripes of idle primitives for a single algorithm.
+     *
+     * @param <T>
+     *         the type of the JCE algorithm primitive
+     */
+    private static final class Stripes<T> {
+
+        /**
+         * The lock-free stack of each stripe.
+         */
+        @NotNull
+        private final AtomicReferenceArray<Node<T>> stacks;
+
+        /**
+         * The hot slot of each stripe.
+         */
+        @NotNull
+        private final AtomicReferenceArray<T> hot;
+
+        /**
+         * The {@link System#nanoTime()} at which the primitive in each hot slot became idle.
+         */
+        @NotNull
+        private final AtomicLongArray hotSince;
+
+        /**
+         * Constructs a new set of empty stripes.
+         *
+         * @param stripeCount
+         *         the number of stripes, positive power of two
+         */
+        private Stripes(final int stripeCount) {
+            this.stacks = new AtomicReferenceArray<>(stripeCount);
+            this.hot = new AtomicReferenceArray<>(stripeCount);
+            this.hotSince = new AtomicLongArray(stripeCount);
+        }
+    }
+
+    /**
+     * An immutable entry of a stripe. A new node is created for every push which prevents the ABA problem.
+     *
+     * @param <T>
+     *         the type of the JCE algorithm primitive
+     */
+    private static final class Node<T> {
+
+        /**
+         * The idle primitive.
+         */
+        @NotNull
+        private final T value;
+
+        /**
+         * The next node in the stripe or {@code null} if this is the last node.
+         */
+        private final Node<T> next;
+
+        /**
+         * The number of nodes in the stripe from this node to the last node, inclusive.
+         */
+        private final int depth;
+
+        /**
+         * The {@link System#nanoTime()} at which the primitive became idle.
+         */
+        private final long idleSince;
+
+        /**
+         * Constructs a new node.
+         *
+         * @param value
+         *         the idle primitive, not null
+         * @param next
+         *         the next node in the stripe or {@code null} if this is the last node
+         * @param idleSince
+         *         the {@link System#nanoTime()} at which the primitive became idle
+         */
+        private Node(@NotNull final T value, final Node<T> next, final long idleSince) {
+            this.value = value;
+            this.next = next;
+            this.depth = (next != null) ? next.depth + 1 : 1;
+            this.idleSince = idleSince;
+        }
+    }
+}
@@ -17,141 +17,291 @@
 package com.servercurio.fabric.security.impl;
 
 import com.servercurio.fabric.security.CipherTransformation;
-import com.servercurio.fabric.security.CryptographyException;
 import com.servercurio.fabric.security.HashAlgorithm;
 import com.servercurio.fabric.security.MacAlgorithm;
 import com.servercurio.fabric.security.SignatureAlgorithm;
-import com.servercurio.fabric.security.spi.CryptoPrimitiveSupplier;
+import com.servercurio.fabric.security.spi.BackpressurePolicy;
+import com.servercurio.fabric.security.spi.ExecutorConfiguration;
+import com.servercurio.fabric.security.spi.ExecutorMode;
+import com.servercurio.fabric.security.spi.ExecutorStatistics;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitivePoolConfiguration;
 import com.servercurio.fabric.security.spi.PrimitiveProvider;
-import java.security.DrbgParameters;
+import com.servercurio.fabric.security.spi.ProviderSelectionConfiguration;
+import com.servercurio.fabric.security.spi.RandomConfiguration;
+import com.servercurio.fabric.security.spi.ReseedPolicy;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.Signature;
-import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.crypto.Cipher;
 import javax.crypto.Mac;
 import javax.validation.constraints.NotNull;
-import org.apache.commons.lang3.tuple.Pair;
 
 import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
 
 public class PrimitiveProviderImpl implements PrimitiveProvider {
 
     /**
-     * The {@code threadLocal} parameter name represented as a string value.
+     * The {@code algorithm} parameter name represented as a string value.
      */
-    private static final String THREAD_LOCAL_PARAM = "threadLocal";
+    private static final String ALGORITHM_PARAM = "algorithm";
 
     /**
-     * The {@code algorithm} parameter name represented as a string value.
+     * The {@code primitive} parameter name represented as a string value.
      */
-    private static final String ALGORITHM_PARAM = "algorithm";
+    private static final String PRIMITIVE_PARAM = "primitive";
+
+    /**
+     * The {@code executorMode} parameter name represented as a string value.
+     */
+    private static final String EXECUTOR_MODE_PARAM = "executorMode";
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
+
+    /**
+     * The {@code poolConfiguration} parameter name represented as a string value.
+     */
+    private static final String POOL_CONFIGURATION_PARAM = "poolConfiguration";
+
+    /**
+     * The {@code randomConfiguration} parameter name represented as a string value.
+     */
+    private static final String RANDOM_CONFIGURATION_PARAM = "randomConfiguration";
+
+    /**
+     * The {@code operationClass} parameter name represented as a string value.
+     */
+    private static final String OPERATION_CLASS_PARAM = "operationClass";
 
     /**
-     * The number of times a thread may acquire a cached {@link SecureRandom} instance before a reseed operation is
-     * required.
+     * The {@code selectionConfiguration} parameter name represented as a string value.
      */
-    private static final int RESEED_INTERVAL = 100;
+    private static final String SELECTION_CONFIGURATION_PARAM = "selectionConfiguration";
 
     /**
-     * The default {@link SecureRandom} implementation to use for all instances.
+     * The selector which creates each primitive using the provider selected for the algorithm.
      */
-    private static final String SECURE_RANDOM_ALGORITHM = "DRBG";
+    private final ProviderSelector providerSelector;
 
     /**
-     * The thread local instance for the {@link HashAlgorithm} cache.
+     * The pool of {@link HashAlgorithm} primitives.
      */
-    private static final ThreadLocal<HashMap<HashAlgorithm, MessageDigest>> hashAlgorithmCache = ThreadLocal
-            .withInitial(
-                    HashMap::new);
+    private final PrimitivePool<HashAlgorithm, MessageDigest> hashPool;
 
     /**
-     * The thread local instance for the {@link SignatureAlgorithm} cache.
+     * The pool of {@link SignatureAlgorithm} primitives.
      */
-    private static final ThreadLocal<HashMap<SignatureAlgorithm, Signature>> signatureAlgorithmCache = ThreadLocal
-            .withInitial(
-                    HashMap::new);
+    private final PrimitivePool<SignatureAlgorithm, Signature> signaturePool;
 
     /**
-     * The thread local instance for the {@link CipherTransformation} cache.
+     * The pool of {@link CipherTransformation} primitives.
      */
-    private static final ThreadLocal<HashMap<CipherTransformation, Cipher>> cipherAlgorithmCache = ThreadLocal
-            .withInitial(
-                    HashMap::new);
+    private final PrimitivePool<CipherTransformation, Cipher> cipherPool;
 
     /**
-     * The thread local instance for the {@link MacAlgorithm} cache.
+     * The pool of {@link MacAlgorithm} primitives.
      */
-    private static final ThreadLocal<HashMap<MacAlgorithm, Mac>> macAlgorithmCache = ThreadLocal
-            .withInitial(HashMap::new);
+    private final PrimitivePool<MacAlgorithm, Mac> macPool;
 
     /**
-     * The thread local instance for the {@link SecureRandom} cache.
+     * The configuration of the {@link SecureRandom} instances.
      */
-    private static final ThreadLocal<Pair<AtomicInteger, SecureRandom>> secureRandomCache =
-            ThreadLocal.withInitial(PrimitiveProviderImpl::acquireRandom);
+    private final RandomConfiguration randomConfiguration;
 
     /**
-     * The shared thread pool used by all the provider implementations.
+     * The lazily created {@link SecureRandom} instances. The instances are thread safe, therefore each thread uses the
+     * stripe selected by its thread identifier in order to limit contention.
+     */
+    private final AtomicReferenceArray<SecureRandom> randoms;
+
+    /**
+     * The thread model used by the {@link #executorService}.
+     */
+    private final ExecutorMode executorMode;
+
+    /**
+     * The scheduler which provides a separate lane for each {@link OperationClass} or {@code null} when using the
+     * {@link ExecutorMode#VIRTUAL} mode.
+     */
+    private final LaneScheduler laneScheduler;
+
+    /**
+     * The live statistics of the {@link #executorService}.
+     */
+    private final ExecutorStatistics executorStatistics;
+
+    /**
+     * The shared thread pool used by all the provider implementations for operations of the {@link
+     * OperationClass#GENERAL} class.
      */
     private final ExecutorService executorService;
 
 
     /**
-     * Constructs a new provider instance.
+     * Constructs a new provider instance using the default {@link ExecutorConfiguration}.
      */
     public PrimitiveProviderImpl() {
-        this.executorService = Executors.newCachedThreadPool();
+        this(new ExecutorConfiguration());
     }
 
     /**
-     * Acquires an instance of the cryptographic primitive specified by the {@code algorithm} parameter and retrieved
-     * from the {@code threadLocal} cache.
+     * Constructs a new provider instance using the specified executor mode and the default values for all other
+     * executor settings.
      *
-     * @param algorithm
-     *         the type of the algorithm to instantiate, not null
-     * @param threadLocal
-     *         the thread local cache, not null
-     * @param <T>
-     *         the type of the JCE algorithm primitive
-     * @param <E>
-     *         the type of algorithm enumeration
-     * @return the primitive instance, not null
-     */
-    //CHECKSTYLE.OFF: IndentationCheck
-    private static <T, E extends CryptoPrimitiveSupplier<T>>
-    T acquireAlgorithm(@NotNull final E algorithm, @NotNull final ThreadLocal<HashMap<E, T>> threadLocal) {
-        //CHECKSTYLE.ON: IndentationCheck
-        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
-        throwIfArgIsNull(threadLocal, THREAD_LOCAL_PARAM);
-
-        final HashMap<E, T> cache = threadLocal.get();
+     * @param executorMode
+     *         the thread model to be used for asynchronous operations, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executorMode} parameter is null
+     * @throws UnsupportedOperationException
+     *         if the {@code executorMode} is not supported by the current Java runtime
+     * @see #PrimitiveProviderImpl(ExecutorConfiguration)
+     */
+    public PrimitiveProviderImpl(@NotNull final ExecutorMode executorMode) {
+        this(new ExecutorConfiguration(executorMode));
+    }
 
-        if (!cache.containsKey(algorithm)) {
-            cache.put(algorithm, algorithm.instance());
-        }
+    /**
+     * Constructs a new provider instance using the specified executor configuration and the default {@link
+     * PrimitivePoolConfiguration}.
+     *
+     * @param configuration
+     *         the configuration of the executor used for asynchronous operations, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration} parameter is null or if the configured core pool size is greater than the
+     *         maximum pool size
+     * @throws UnsupportedOperationException
+     *         if the configured {@link ExecutorMode} is not supported by the current Java runtime
+     * @see #PrimitiveProviderImpl(ExecutorConfiguration, PrimitivePoolConfiguration)
+     */
+    public PrimitiveProviderImpl(@NotNull final ExecutorConfiguration configuration) {
+        this(configuration, new PrimitivePoolConfiguration());
+    }
 
-        return cache.get(algorithm);
+    /**
+     * Constructs a new provider instance using the specified executor and primitive pool configurations and the default
+     * {@link RandomConfiguration}.
+     *
+     * @param configuration
+     *         the configuration of the executor used for asynchronous operations, not null
+     * @param poolConfiguration
+     *         the configuration of the primitive pools, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration} or {@code poolConfiguration} parameters are null or if the configured core
+     *         pool size is greater than the maximum pool size
+     * @throws UnsupportedOperationException
+     *         if the configured {@link ExecutorMode} is not supported by the current Java runtime
+     * @see #PrimitiveProviderImpl(ExecutorConfiguration, PrimitivePoolConfiguration, RandomConfiguration)
+     */
+    public PrimitiveProviderImpl(@NotNull final ExecutorConfiguration configuration,
+                                 @NotNull final PrimitivePoolConfiguration poolConfiguration) {
+        this(configuration, poolConfiguration, new RandomConfiguration());
     }
 
     /**
-     * Factory method to create a new {@link SecureRandom} instance using the default algorithm specified by the {@link
-     * #SECURE_RANDOM_ALGORITHM} constant.
+     * Constructs a new provider instance using the specified executor, primitive pool and random configurations and the
+     * default {@link ProviderSelectionConfiguration} which requests every primitive from the highest priority provider.
      *
-     * @return a new {@link SecureRandom} instance, not null
+     * @param configuration
+     *         the configuration of the executor used for asynchronous operations, not null
+     * @param poolConfiguration
+     *         the configuration of the primitive pools, not null
+     * @param randomConfiguration
+     *         the configuration of the secure random instances, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration}, {@code poolConfiguration} or {@code randomConfiguration} parameters are
+     *         null or if the configured core pool size is greater than the maximum pool size
+     * @throws UnsupportedOperationException
+     *         if the configured {@link ExecutorMode} is not supported by the current Java runtime
+     * @see #PrimitiveProviderImpl(ExecutorConfiguration, PrimitivePoolConfiguration, RandomConfiguration,
+     *         ProviderSelectionConfiguration)
      */
-    private static Pair<AtomicInteger, SecureRandom> acquireRandom() {
-        DrbgParameters.Instantiation params =
-                DrbgParameters.instantiation(256, DrbgParameters.Capability.PR_AND_RESEED, null);
+    public PrimitiveProviderImpl(@NotNull final ExecutorConfiguration configuration,
+                                 @NotNull final PrimitivePoolConfiguration poolConfiguration,
+                                 @NotNull final RandomConfiguration randomConfiguration) {
+        this(configuration, poolConfiguration, randomConfiguration, new ProviderSelectionConfiguration());
+    }
 
-        try {
-            return Pair.of(new AtomicInteger(), SecureRandom.getInstance(SECURE_RANDOM_ALGORITHM, params));
-        } catch (NoSuchAlgorithmException ex) {
-            throw new CryptographyException(ex);
+    /**
+     * Constructs a new provider instance using the specified executor, primitive pool, random and provider selection
+     * configurations.
+     *
+     * <p>
+     * When using the {@link ExecutorMode#PLATFORM} mode, the executor is a bounded thread pool shared by a separate
+     * lane for each {@link OperationClass}. The configured {@link BackpressurePolicy} is applied once a lane is full.
+     *
+     * <p>
+     * Primitives are borrowed from pools owned by this instance rather than being bound to a thread, therefore the
+     * same primitives are shared by platform and virtual threads alike. Closing this instance discards every pooled
+     * primitive.
+     *
+     * <p>
+     * The {@link #random()} method returns a separate DRBG instance for each stripe of threads which is reseeded
+     * according to the {@link ReseedPolicy} of the random configuration.
+     *
+     * <p>
+     * Each primitive is created by the {@link java.security.Provider} selected for its algorithm by the provider
+     * selection configuration. When calibration is enabled and no usable selection file exists, the providers are
+     * benchmarked before this constructor returns.
+     *
+     * @param configuration
+     *         the configuration of the executor used for asynchronous operations, not null
+     * @param poolConfiguration
+     *         the configuration of the primitive pools, not null
+     * @param randomConfiguration
+     *         the configuration of the secure random instances, not null
+     * @param selectionConfiguration
+     *         the configuration of the provider selection, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration}, {@code poolConfiguration}, {@code randomConfiguration} or {@code
+     *         selectionConfiguration} parameters are null or if the configured core pool size is greater than the
+     *         maximum pool size
+     * @throws UnsupportedOperationException
+     *         if the configured {@link ExecutorMode} is not supported by the current Java runtime
+     * @throws com.servercurio.fabric.security.CryptographyException
+     *         if the selection file could not be read or written
+     */
+    public PrimitiveProviderImpl(@NotNull final ExecutorConfiguration configuration,
+                                 @NotNull final PrimitivePoolConfiguration poolConfiguration,
+                                 @NotNull final RandomConfiguration randomConfiguration,
+                                 @NotNull final ProviderSelectionConfiguration selectionConfiguration) {
+        throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+        throwIfArgIsNull(configuration.getExecutorMode(), EXECUTOR_MODE_PARAM);
+        throwIfArgIsNull(poolConfiguration, POOL_CONFIGURATION_PARAM);
+        throwIfArgIsNull(randomConfiguration, RANDOM_CONFIGURATION_PARAM);
+        throwIfArgIsNull(selectionConfiguration, SELECTION_CONFIGURATION_PARAM);
+
+        this.executorMode = configuration.getExecutorMode();
+        this.providerSelector = ProviderSelector.of(selectionConfiguration);
+        this.hashPool = new PrimitivePool<>(poolConfiguration, providerSelector::instance, MessageDigest::reset);
+        // Keyed primitives keep their key when released, every borrower initializes them with its own key
+        this.signaturePool = new PrimitivePool<>(poolConfiguration, providerSelector::instance, signature -> { });
+        this.cipherPool = new PrimitivePool<>(poolConfiguration, providerSelector::instance, cipher -> { });
+        this.macPool = new PrimitivePool<>(poolConfiguration, providerSelector::instance, Mac::reset);
+        this.randomConfiguration = randomConfiguration;
+        this.randoms = new AtomicReferenceArray<>(PrimitivePool.stripeCount());
+
+        if (executorMode == ExecutorMode.VIRTUAL) {
+            final CountingExecutorService virtualExecutor =
+                    new CountingExecutorService(executorMode.newExecutorService());
+
+            this.laneScheduler = null;
+            this.executorService = virtualExecutor;
+            this.executorStatistics = virtualExecutor;
+        } else {
+            this.laneScheduler = new LaneScheduler(configuration);
+            this.executorService = laneScheduler.lane(OperationClass.GENERAL);
+            this.executorStatistics = laneScheduler;
         }
     }
 
@@ -163,12 +313,48 @@ public class PrimitiveProviderImpl implements PrimitiveProvider {
         return executorService;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutorService executorService(@NotNull final OperationClass operationClass) {
+        throwIfArgIsNull(operationClass, OPERATION_CLASS_PARAM);
+
+        return (laneScheduler != null) ? laneScheduler.lane(operationClass) : executorService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutorMode executorMode() {
+        return executorMode;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ExecutorStatistics executorStatistics() {
+        return executorStatistics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, String> selectedProviders() {
+        return providerSelector.selections();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Cipher primitive(@NotNull final CipherTransformation algorithm) {
-        return acquireAlgorithm(algorithm, cipherAlgorithmCache);
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+
+        return cipherPool.borrow(algorithm);
     }
 
     /**
@@ -176,7 +362,9 @@ public class PrimitiveProviderImpl implements PrimitiveProvider {
      */
     @Override
     public Signature primitive(@NotNull final SignatureAlgorithm algorithm) {
-        return acquireAlgorithm(algorithm, signatureAlgorithmCache);
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+
+        return signaturePool.borrow(algorithm);
     }
 
     /**
@@ -184,7 +372,9 @@ public class PrimitiveProviderImpl implements PrimitiveProvider {
      */
     @Override
     public MessageDigest primitive(@NotNull final HashAlgorithm algorithm) {
-        return acquireAlgorithm(algorithm, hashAlgorithmCache);
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+
+        return hashPool.borrow(algorithm);
     }
 
     /**
@@ -192,7 +382,53 @@ public class PrimitiveProviderImpl implements PrimitiveProvider {
      */
     @Override
     public Mac primitive(@NotNull final MacAlgorithm algorithm) {
-        return acquireAlgorithm(algorithm, macAlgorithmCache);
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+
+        return macPool.borrow(algorithm);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(@NotNull final CipherTransformation algorithm, @NotNull final Cipher primitive) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(primitive, PRIMITIVE_PARAM);
+
+        cipherPool.release(algorithm, primitive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(@NotNull final SignatureAlgorithm algorithm, @NotNull final Signature primitive) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(primitive, PRIMITIVE_PARAM);
+
+        signaturePool.release(algorithm, primitive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(@NotNull final HashAlgorithm algorithm, @NotNull final MessageDigest primitive) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(primitive, PRIMITIVE_PARAM);
+
+        hashPool.release(algorithm, primitive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(@NotNull final MacAlgorithm algorithm, @NotNull final Mac primitive) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(primitive, PRIMITIVE_PARAM);
+
+        macPool.release(algorithm, primitive);
     }
 
     /**
@@ -200,15 +436,15 @@ public class PrimitiveProviderImpl implements PrimitiveProvider {
      */
     @Override
     public SecureRandom random() {
-        final Pair<AtomicInteger, SecureRandom> randomPair = secureRandomCache.get();
-        final AtomicInteger reseedCounter = randomPair.getLeft();
-        final SecureRandom random = randomPair.getRight();
+        final int stripe = PrimitivePool.stripe(randoms.length());
+        SecureRandom random = randoms.get(stripe);
 
-        final int counterValue = reseedCounter.incrementAndGet();
+        if (random == null) {
+            random = new PolicySecureRandom(randomConfiguration);
 
-        if (counterValue >= RESEED_INTERVAL) {
-            random.reseed(DrbgParameters.reseed(true, null));
-            reseedCounter.set(0);
+            if (!randoms.compareAndSet(stripe, null, random)) {
+                random = randoms.get(stripe);
+            }
         }
 
         return random;
@@ -220,10 +456,144 @@ public class PrimitiveProviderImpl implements PrimitiveProvider {
     @Override
     public void close() {
         executorService.shutdownNow();
-        hashAlgorithmCache.remove();
-        macAlgorithmCache.remove();
-        cipherAlgorithmCache.remove();
-        signatureAlgorithmCache.remove();
-        secureRandomCache.remove();
+        hashPool.close();
+        signaturePool.close();
+        cipherPool.close();
+        macPool.close();
+
+        for (int i = 0; i < randoms.length(); i++) {
+            randoms.set(i, null);
+        }
+    }
+
+    /**
+     * An {@link ExecutorService} decorator which tracks the number of active and completed tasks of an executor which
+     * does not otherwise expose statistics, such as the virtual thread per task executor.
+     */
+    private static final class CountingExecutorService extends AbstractExecutorService implements ExecutorStatistics {
+
+        /**
+         * The underlying executor service which executes the tasks.
+         */
+        private final ExecutorService delegate;
+
+        /**
+         * The number of tasks currently executing.
+         */
+        private final AtomicInteger activeCount;
+
+        /**
+         * The number of tasks which have completed execution.
+         */
+        private final AtomicLong completedCount;
+
+        /**
+         * Constructs a new decorator for the given executor service.
+         *
+         * @param delegate
+         *         the underlying executor service, not null
+         */
+        private CountingExecutorService(@NotNull final ExecutorService delegate) {
+            this.delegate = delegate;
+            this.activeCount = new AtomicInteger();
+            this.completedCount = new AtomicLong();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void execute(@NotNull final Runnable command) {
+            delegate.execute(() -> {
+                activeCount.incrementAndGet();
+
+                try {
+                    command.run();
+                } finally {
+                    activeCount.decrementAndGet();
+                    completedCount.incrementAndGet();
+                }
+            });
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int queueDepth() {
+            return 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int activeCount() {
+            return activeCount.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int poolSize() {
+            return activeCount.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long completedCount() {
+            return completedCount.get();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long rejectedCount() {
+            return 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean awaitTermination(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
     }
 }
@@ -0,0 +1,510 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CipherMode;
+import com.servercurio.fabric.security.CipherTransformation;
+import com.servercurio.fabric.security.HashAlgorithm;
+import com.servercurio.fabric.security.MacAlgorithm;
+import com.servercurio.fabric.security.SignatureAlgorithm;
+import com.servercurio.fabric.security.spi.ProviderSelectionConfiguration;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Provider;
+import java.security.Security;
+import java.security.Signature;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * Benchmarks every installed {@link Provider} which supports an algorithm and selects the provider with the highest
+ * throughput. Each candidate must first produce the same output as the highest priority provider, or in the case of
+ * signatures a signature which the highest priority provider accepts, before it is measured. Algorithms supported by a
+ * single provider, cipher transformations without a mode and cipher algorithms bound to a specific provider are not
+ * calibrated.
+ *
+ * <p>
+ * Each candidate is warmed up and then measured for the configured period. A candidate replaces the highest priority
+ * provider only if it is faster by more than the {@link #SELECTION_MARGIN} which prevents measurement noise from
+ * changing the selections between runs.
+ *
+ * @author Nathan Klick
+ * @see ProviderSelector
+ */
+final class ProviderCalibrator {
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
+
+    /**
+     * The factor by which a candidate must be faster than the highest priority provider in order to be selected.
+     */
+    private static final double SELECTION_MARGIN = 1.1;
+
+    /**
+     * The length in bytes of the keys used to calibrate the MAC and cipher algorithms.
+     */
+    static final int KEY_LENGTH = 32;
+
+    /**
+     * The length in bytes of the nonce used by cipher modes without a block sized initialization vector.
+     */
+    private static final int NONCE_LENGTH = 12;
+
+    /**
+     * The length in bytes of the digest signed by the signature algorithms which do not hash their input.
+     */
+    private static final int PREHASHED_LENGTH = 32;
+
+    /**
+     * The configuration of the calibration.
+     */
+    @NotNull
+    private final ProviderSelectionConfiguration configuration;
+
+    /**
+     * The data processed by each benchmarked operation.
+     */
+    @NotNull
+    private final byte[] sample;
+
+    /**
+     * The key pairs used to calibrate the signature algorithms keyed by the key algorithm name.
+     */
+    @NotNull
+    private final Map<String, KeyPair> keyPairs;
+
+    /**
+     * Constructs a new calibrator using the specified configuration.
+     *
+     * @param configuration
+     *         the provider selection configuration, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration} parameter is null
+     */
+    ProviderCalibrator(@NotNull final ProviderSelectionConfiguration configuration) {
+        throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+
+        this.configuration = configuration;
+        this.sample = new byte[configuration.getSampleSize()];
+        this.keyPairs = new HashMap<>();
+
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = (byte) i;
+        }
+    }
+
+    /**
+     * Creates a deterministic key or nonce whose first bytes contain the specified counter so that repeated operations
+     * never reuse a nonce.
+     *
+     * @param length
+     *         the length of the value in bytes, positive integer
+     * @param counter
+     *         the number of previous operations
+     * @return the new value, not null
+     */
+    private static byte[] counterValue(@Positive final int length, final long counter) {
+        final byte[] value = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            value[i] = (byte) (i + 1);
+        }
+
+        if (length >= Long.BYTES) {
+            ByteBuffer.wrap(value).putLong(0, counter);
+        }
+
+        return value;
+    }
+
+    /**
+     * Gets the key length in bytes of the specified cipher transformation.
+     *
+     * @param algorithm
+     *         the cipher transformation, not null
+     * @return the key length in bytes or zero if the transformation is not a symmetric cipher
+     */
+    static int keyLength(@NotNull final CipherTransformation algorithm) {
+        //CHECKSTYLE.OFF: IndentationCheck
+        switch (algorithm.getAlgorithm()) {
+            case AES_128:
+                return 16;
+            case AES_192:
+                return 24;
+            case AES:
+            case AES_256:
+            case CHACHA20:
+            case CHACHA20_POLY1305:
+                return KEY_LENGTH;
+            default:
+                return 0;
+        }
+        //CHECKSTYLE.ON: IndentationCheck
+    }
+
+    /**
+     * Benchmarks the providers of every algorithm and returns the selected provider of each algorithm which is
+     * supported by more than one provider.
+     *
+     * @return the selected providers keyed by the selection key, not null
+     */
+    Map<String, Provider> calibrate() {
+        final Map<String, Provider> selections = new TreeMap<>();
+
+        for (final HashAlgorithm algorithm : HashAlgorithm.values()) {
+            if (algorithm != HashAlgorithm.NONE) {
+                select(selections, ProviderSelector.key(algorithm), provider -> digest(algorithm, provider),
+                       Arrays::equals);
+            }
+        }
+
+        for (final MacAlgorithm algorithm : MacAlgorithm.values()) {
+            if (algorithm != MacAlgorithm.NONE) {
+                select(selections, ProviderSelector.key(algorithm), provider -> mac(algorithm, provider),
+                       Arrays::equals);
+            }
+        }
+
+        for (final CipherTransformation algorithm : configuration.getTransformations()) {
+            if (keyLength(algorithm) > 0 && algorithm.getMode() != null
+                    && algorithm.getAlgorithm().providerName() == null) {
+                select(selections, ProviderSelector.key(algorithm), provider -> cipher(algorithm, provider),
+                       Arrays::equals);
+            }
+        }
+
+        for (final SignatureAlgorithm algorithm : SignatureAlgorithm.values()) {
+            if (algorithm != SignatureAlgorithm.NONE) {
+                select(selections, ProviderSelector.key(algorithm), provider -> signature(algorithm, provider),
+                       (reference, output) -> verify(algorithm, output));
+            }
+        }
+
+        return selections;
+    }
+
+    /**
+     * Benchmarks every provider which supports an algorithm and records the selected provider if more than one
+     * provider supports the algorithm. The first provider able to create the operation is the highest priority
+     * provider and serves as the reference for both the output and the throughput.
+     *
+     * @param selections
+     *         the map in which the selected provider is recorded, not null
+     * @param key
+     *         the selection key of the algorithm, not null
+     * @param factory
+     *         creates the benchmarked operation for a provider, not null
+     * @param check
+     *         compares the output of a candidate with the output of the reference provider, not null
+     */
+    private void select(@NotNull final Map<String, Provider> selections, @NotNull final String key,
+                        @NotNull final OperationFactory factory, @NotNull final OutputCheck check) {
+        byte[] reference = null;
+        Provider selected = null;
+        double best = 0;
+        int candidates = 0;
+
+        for (final Provider provider : Security.getProviders()) {
+            try {
+                final byte[] output = factory.create(provider).apply();
+
+                if (reference == null) {
+                    reference = output;
+                } else if (!check.matches(reference, output)) {
+                    continue;
+                }
+
+                final double throughput = measure(factory.create(provider));
+
+                if (selected == null || throughput > best * SELECTION_MARGIN) {
+                    selected = provider;
+                    best = throughput;
+                }
+
+                candidates++;
+            } catch (GeneralSecurityException | RuntimeException ex) {
+                // the provider does not support the algorithm or the parameters used for calibration
+            }
+        }
+
+        if (candidates > 1) {
+            selections.put(key, selected);
+        }
+    }
+
+    /**
+     * Warms up and then measures the throughput of the specified operation.
+     *
+     * @param operation
+     *         the operation to be measured, not null
+     * @return the number of operations completed per nanosecond
+     * @throws GeneralSecurityException
+     *         if the operation fails
+     */
+    private double measure(@NotNull final Operation operation) throws GeneralSecurityException {
+        final long period = configuration.getMeasurementPeriod().toNanos();
+        final long warmupEnd = System.nanoTime() + period;
+
+        while (System.nanoTime() - warmupEnd < 0) {
+            operation.apply();
+        }
+
+        final long start = System.nanoTime();
+        long elapsed;
+        long count = 0;
+
+        do {
+            operation.apply();
+            count++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < period);
+
+        return (double) count / elapsed;
+    }
+
+    /**
+     * Creates an operation which digests the sample using the specified provider.
+     *
+     * @param algorithm
+     *         the hash algorithm, not null
+     * @param provider
+     *         the candidate provider, not null
+     * @return the new operation, not null
+     */
+    private Operation digest(@NotNull final HashAlgorithm algorithm, @NotNull final Provider provider) {
+        final MessageDigest digest = algorithm.instance(provider);
+
+        return () -> digest.digest(sample);
+    }
+
+    /**
+     * Creates an operation which authenticates the sample using the specified provider. Algorithms which require a
+     * nonce use a new nonce for each operation.
+     *
+     * @param algorithm
+     *         the MAC algorithm, not null
+     * @param provider
+     *         the candidate provider, not null
+     * @return the new operation, not null
+     * @throws GeneralSecurityException
+     *         if the MAC could not be initialized
+     */
+    private Operation mac(@NotNull final MacAlgorithm algorithm, @NotNull final Provider provider)
+            throws GeneralSecurityException {
+        final Mac mac = algorithm.instance(provider);
+        final SecretKeySpec key = new SecretKeySpec(counterValue(KEY_LENGTH, 0), algorithm.algorithmName());
+
+        if (algorithm.nonceSize() == 0) {
+            mac.init(key);
+            return () -> mac.doFinal(sample);
+        }
+
+        final long[] counter = new long[1];
+
+        return () -> {
+            mac.init(key, new IvParameterSpec(counterValue(algorithm.nonceSize(), counter[0]++)));
+            return mac.doFinal(sample);
+        };
+    }
+
+    /**
+     * Creates an operation which encrypts the sample using the specified provider and a new initialization vector for
+     * each operation.
+     *
+     * @param algorithm
+     *         the cipher transformation, not null
+     * @param provider
+     *         the candidate provider, not null
+     * @return the new operation, not null
+     */
+    private Operation cipher(@NotNull final CipherTransformation algorithm, @NotNull final Provider provider) {
+        final Cipher cipher = algorithm.instance(provider);
+        final SecretKeySpec key = new SecretKeySpec(counterValue(keyLength(algorithm), 0),
+                                                    algorithm.getAlgorithm().keyAlgorithmName());
+        final int blockSize = cipher.getBlockSize();
+        final int ivLength = (blockSize > 0 && algorithm.getMode() != CipherMode.GCM) ? blockSize : NONCE_LENGTH;
+        final long[] counter = new long[1];
+
+        return () -> {
+            final byte[] iv = counterValue(ivLength, counter[0]++);
+
+            cipher.init(Cipher.ENCRYPT_MODE, key, EncryptionProviderImpl.deriveParameters(algorithm, blockSize, iv));
+            return cipher.doFinal(sample);
+        };
+    }
+
+    /**
+     * Creates an operation which signs the sample using the specified provider and verifies the resulting signature
+     * using the same provider.
+     *
+     * @param algorithm
+     *         the signature algorithm, not null
+     * @param provider
+     *         the candidate provider, not null
+     * @return the new operation, not null
+     * @throws GeneralSecurityException
+     *         if a key pair could not be generated
+     */
+    private Operation signature(@NotNull final SignatureAlgorithm algorithm, @NotNull final Provider provider)
+            throws GeneralSecurityException {
+        final KeyPair keyPair = keyPair(algorithm);
+        final Signature signer = algorithm.instance(provider);
+        final Signature verifier = algorithm.instance(provider);
+        final byte[] data = message(algorithm);
+
+        return () -> {
+            signer.initSign(keyPair.getPrivate());
+            signer.update(data);
+
+            final byte[] signature = signer.sign();
+
+            verifier.initVerify(keyPair.getPublic());
+            verifier.update(data);
+
+            if (!verifier.verify(signature)) {
+                throw new GeneralSecurityException("The candidate provider rejected its own signature");
+            }
+
+            return signature;
+        };
+    }
+
+    /**
+     * Verifies a signature produced by a candidate provider using the highest priority provider.
+     *
+     * @param algorithm
+     *         the signature algorithm, not null
+     * @param signature
+     *         the signature produced by the candidate provider, not null
+     * @return true if the signature is valid; otherwise false
+     * @throws GeneralSecurityException
+     *         if the signature could not be verified
+     */
+    private boolean verify(@NotNull final SignatureAlgorithm algorithm, @NotNull final byte[] signature)
+            throws GeneralSecurityException {
+        final Signature verifier = algorithm.instance();
+
+        verifier.initVerify(keyPair(algorithm).getPublic());
+        verifier.update(message(algorithm));
+        return verifier.verify(signature);
+    }
+
+    /**
+     * Gets the key pair used to calibrate the specified signature algorithm. Key pairs are generated once per key
+     * algorithm using the highest priority provider and the default key size.
+     *
+     * @param algorithm
+     *         the signature algorithm, not null
+     * @return the key pair, not null
+     * @throws GeneralSecurityException
+     *         if the key pair could not be generated
+     */
+    private KeyPair keyPair(@NotNull final SignatureAlgorithm algorithm) throws GeneralSecurityException {
+        KeyPair keyPair = keyPairs.get(algorithm.keyAlgorithmName());
+
+        if (keyPair == null) {
+            keyPair = KeyPairGenerator.getInstance(algorithm.keyAlgorithmName()).generateKeyPair();
+            keyPairs.put(algorithm.keyAlgorithmName(), keyPair);
+        }
+
+        return keyPair;
+    }
+
+    /**
+     * Gets the message signed while calibrating the specified signature algorithm. Algorithms which do not hash their
+     * input sign a digest sized prefix of the sample.
+     *
+     * @param algorithm
+     *         the signature algorithm, not null
+     * @return the message, not null
+     */
+    private byte[] message(@NotNull final SignatureAlgorithm algorithm) {
+        final boolean prehashed = algorithm.prehashedAlgorithm() == algorithm;
+
+        return prehashed ? Arrays.copyOf(sample, Math.min(PREHASHED_LENGTH, sample.length)) : sample;
+    }
+
+    /**
+     * A single benchmarked operation which returns its output.
+     */
+    @FunctionalInterface
+    private interface Operation {
+
+        /**
+         * Performs the operation.
+         *
+         * @return the output of the operation, not null
+         * @throws GeneralSecurityException
+         *         if the operation fails
+         */
+        byte[] apply() throws GeneralSecurityException;
+    }
+
+    /**
+     * Creates the benchmarked operation for a candidate provider.
+     */
+    @FunctionalInterface
+    private interface OperationFactory {
+
+        /**
+         * Creates the operation using the specified provider.
+         *
+         * @param provider
+         *         the candidate provider, not null
+         * @return the new operation, not null
+         * @throws GeneralSecurityException
+         *         if the provider could not be initialized
+         */
+        Operation create(@NotNull Provider provider) throws GeneralSecurityException;
+    }
+
+    /**
+     * Compares the output of a candidate provider with the output of the highest priority provider.
+     */
+    @FunctionalInterface
+    private interface OutputCheck {
+
+        /**
+         * Determines whether the candidate output is acceptable.
+         *
+         * @param reference
+         *         the output of the highest priority provider, not null
+         * @param output
+         *         the output of the candidate provider, not null
+         * @return true if the candidate output is acceptable; otherwise false
+         * @throws GeneralSecurityException
+         *         if the output could not be checked
+         */
+        boolean matches(@NotNull byte[] reference, @NotNull byte[] output) throws GeneralSecurityException;
+    }
+}
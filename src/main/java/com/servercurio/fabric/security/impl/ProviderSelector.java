@@ -0,0 +1,364 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CipherTransformation;
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.HashAlgorithm;
+import com.servercurio.fabric.security.MacAlgorithm;
+import com.servercurio.fabric.security.SignatureAlgorithm;
+import com.servercurio.fabric.security.spi.ProviderSelectionConfiguration;
+import com.servercurio.fabric.security.spi.SecurityProviders;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.Provider;
+import java.security.Security;
+import java.security.Signature;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * Creates primitives using the {@link Provider} selected for each algorithm and falls back to the highest priority
+ * provider for algorithms without a selection. Selections are keyed by the JCA service type followed by the name of
+ * the algorithm constant, such as {@code MessageDigest.SHA_256} or {@code Cipher.AES/GCM/NONE}.
+ *
+ * <p>
+ * Selections are persisted as a {@link Properties} file which also records a fingerprint of the Java runtime and the
+ * installed providers. A file with a different fingerprint is ignored because the relative speed of the providers may
+ * have changed. The fallback provider registered by {@link SecurityProviders} is always registered before the
+ * providers are calibrated or the selections are loaded.
+ *
+ * @author Nathan Klick
+ * @see ProviderCalibrator
+ */
+final class ProviderSelector {
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
+
+    /**
+     * The {@code selections} parameter name represented as a string value.
+     */
+    private static final String SELECTIONS_PARAM = "selections";
+
+    /**
+     * The {@code algorithm} parameter name represented as a string value.
+     */
+    private static final String ALGORITHM_PARAM = "algorithm";
+
+    /**
+     * The property in which the fingerprint of the Java runtime and installed providers is stored.
+     */
+    private static final String FINGERPRINT_PROPERTY = "fingerprint";
+
+    /**
+     * The comment written at the top of the selection file.
+     */
+    private static final String FILE_COMMENT = "Fabric provider selections";
+
+    /**
+     * The suffix appended to the file name of the temporary file.
+     */
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * The selected provider of each algorithm, keyed by the selection key.
+     */
+    @NotNull
+    private final Map<String, Provider> selections;
+
+    /**
+     * Constructs a new selector which applies the specified selections.
+     *
+     * @param selections
+     *         the selected provider of each algorithm keyed by the selection key, not null
+     * @throws IllegalArgumentException
+     *         if the {@code selections} parameter is null
+     */
+    ProviderSelector(@NotNull final Map<String, Provider> selections) {
+        throwIfArgIsNull(selections, SELECTIONS_PARAM);
+
+        this.selections = Collections.unmodifiableMap(new TreeMap<>(selections));
+    }
+
+    /**
+     * Creates a selector according to the specified configuration. Usable selections are loaded from the selection
+     * file if one is configured; otherwise the providers are calibrated if calibration is enabled and the results are
+     * stored in the selection file.
+     *
+     * @param configuration
+     *         the provider selection configuration, not null
+     * @return the new selector, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration} parameter is null
+     * @throws CryptographyException
+     *         if the selection file could not be read or written
+     */
+    static ProviderSelector of(@NotNull final ProviderSelectionConfiguration configuration) {
+        throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+
+        final Path file = configuration.getSelectionFile();
+
+        if (file == null && !configuration.isCalibrate()) {
+            return new ProviderSelector(Collections.emptyMap());
+        }
+
+        // the fallback provider is a candidate for every algorithm and part of the fingerprint
+        SecurityProviders.registerFallback();
+
+        try {
+            final Map<String, Provider> loaded = (file != null) ? load(file) : null;
+
+            if (loaded != null || !configuration.isCalibrate()) {
+                return new ProviderSelector((loaded != null) ? loaded : Collections.emptyMap());
+            }
+
+            final Map<String, Provider> calibrated = new ProviderCalibrator(configuration).calibrate();
+
+            if (file != null) {
+                store(file, calibrated);
+            }
+
+            return new ProviderSelector(calibrated);
+        } catch (IOException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
+    /**
+     * Loads the selections stored in the specified file. Selections naming a provider which is no longer installed are
+     * discarded.
+     *
+     * @param file
+     *         the selection file, not null
+     * @return the stored selections or {@code null} if the file does not exist or was written by a different runtime
+     * @throws IOException
+     *         if an I/O error occurs while reading the file
+     */
+    private static Map<String, Provider> load(@NotNull final Path file) throws IOException {
+        final Properties properties = new Properties();
+
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (NoSuchFileException ex) {
+            return null;
+        }
+
+        if (!fingerprint().equals(properties.getProperty(FINGERPRINT_PROPERTY))) {
+            return null;
+        }
+
+        final Map<String, Provider> loaded = new TreeMap<>();
+
+        for (final String key : properties.stringPropertyNames()) {
+            final Provider provider = Security.getProvider(properties.getProperty(key));
+
+            if (!FINGERPRINT_PROPERTY.equals(key) && provider != null) {
+                loaded.put(key, provider);
+            }
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Stores the selections in the specified file. The selections are written to a temporary sibling file which is
+     * then atomically moved over the previous file.
+     *
+     * @param file
+     *         the selection file, not null
+     * @param selections
+     *         the selections to be stored, not null
+     * @throws IOException
+     *         if an I/O error occurs while writing the file
+     */
+    private static void store(@NotNull final Path file, @NotNull final Map<String, Provider> selections)
+            throws IOException {
+        final Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+        final Properties properties = new Properties();
+
+        properties.setProperty(FINGERPRINT_PROPERTY, fingerprint());
+        selections.forEach((key, provider) -> properties.setProperty(key, provider.getName()));
+
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.CREATE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            final Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+
+            properties.store(writer, FILE_COMMENT);
+            writer.flush();
+            channel.force(true);
+        }
+
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Computes a fingerprint of the Java runtime and the installed providers in priority order.
+     *
+     * @return the fingerprint, not null
+     */
+    static String fingerprint() {
+        final StringBuilder builder = new StringBuilder(Runtime.version().toString());
+
+        for (final Provider provider : Security.getProviders()) {
+            builder.append(',').append(provider.getName()).append(':').append(provider.getVersionStr());
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Gets the selection key of the specified hash algorithm.
+     *
+     * @param algorithm
+     *         the hash algorithm, not null
+     * @return the selection key, not null
+     */
+    static String key(@NotNull final HashAlgorithm algorithm) {
+        return "MessageDigest." + algorithm.name();
+    }
+
+    /**
+     * Gets the selection key of the specified MAC algorithm.
+     *
+     * @param algorithm
+     *         the MAC algorithm, not null
+     * @return the selection key, not null
+     */
+    static String key(@NotNull final MacAlgorithm algorithm) {
+        return "Mac." + algorithm.name();
+    }
+
+    /**
+     * Gets the selection key of the specified signature algorithm.
+     *
+     * @param algorithm
+     *         the signature algorithm, not null
+     * @return the selection key, not null
+     */
+    static String key(@NotNull final SignatureAlgorithm algorithm) {
+        return "Signature." + algorithm.name();
+    }
+
+    /**
+     * Gets the selection key of the specified cipher transformation.
+     *
+     * @param algorithm
+     *         the cipher transformation, not null
+     * @return the selection key, not null
+     */
+    static String key(@NotNull final CipherTransformation algorithm) {
+        return String.format("Cipher.%s/%s/%s", algorithm.getAlgorithm(), algorithm.getMode(),
+                             algorithm.getPadding());
+    }
+
+    /**
+     * Gets the name of the selected provider of each algorithm.
+     *
+     * @return an unmodifiable map of the provider names keyed by the selection key, not null
+     */
+    Map<String, String> selections() {
+        final Map<String, String> names = new TreeMap<>();
+
+        selections.forEach((key, provider) -> names.put(key, provider.getName()));
+        return Collections.unmodifiableMap(names);
+    }
+
+    /**
+     * Creates a new primitive for the specified hash algorithm using the selected provider.
+     *
+     * @param algorithm
+     *         the hash algorithm, not null
+     * @return the new primitive, not null
+     * @throws CryptographyException
+     *         if the algorithm implementation was not available
+     */
+    MessageDigest instance(@NotNull final HashAlgorithm algorithm) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+
+        final Provider provider = selections.get(key(algorithm));
+        return (provider != null) ? algorithm.instance(provider) : algorithm.instance();
+    }
+
+    /**
+     * Creates a new primitive for the specified MAC algorithm using the selected provider.
+     *
+     * @param algorithm
+     *         the MAC algorithm, not null
+     * @return the new primitive, not null
+     * @throws CryptographyException
+     *         if the algorithm implementation was not available
+     */
+    Mac instance(@NotNull final MacAlgorithm algorithm) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+
+        final Provider provider = selections.get(key(algorithm));
+        return (provider != null) ? algorithm.instance(provider) : algorithm.instance();
+    }
+
+    /**
+     * Creates a new primitive for the specified signature algorithm using the selected provider.
+     *
+     * @param algorithm
+     *         the signature algorithm, not null
+     * @return the new primitive, not null
+     * @throws CryptographyException
+     *         if the algorithm implementation was not available
+     */
+    Signature instance(@NotNull final SignatureAlgorithm algorithm) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+
+        final Provider provider = selections.get(key(algorithm));
+        return (provider != null) ? algorithm.instance(provider) : algorithm.instance();
+    }
+
+    /**
+     * Creates a new primitive for the specified cipher transformation using the selected provider.
+     *
+     * @param algorithm
+     *         the cipher transformation, not null
+     * @return the new primitive, not null
+     * @throws CryptographyException
+     *         if the algorithm implementation was not available
+     */
+    Cipher instance(@NotNull final CipherTransformation algorithm) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+
+        final Provider provider = selections.get(key(algorithm));
+        return (provider != null) ? algorithm.instance(provider) : algorithm.instance();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Supplies independent views of contiguous segments of a large input so that the segments may be processed
+ * concurrently by multiple threads. Every view is a little endian buffer whose indices zero, inclusive, to the segment
+ * length, exclusive, contain the segment.
+ *
+ * @author Nathan Klick
+ * @see Blake3Tree
+ * @see Crc32cCombiner
+ */
+@FunctionalInterface
+interface SegmentSource {
+
+    /**
+     * Creates a source over the {@link ByteBuffer} specified by the {@code buffer} parameter from the current position
+     * until the limit. The position of the buffer is not modified.
+     *
+     * @param buffer
+     *         the buffer to be divided, not null
+     * @return the segment source, not null
+     */
+    static SegmentSource of(@NotNull final ByteBuffer buffer) {
+        final ByteBuffer source = buffer.slice();
+
+        return (offset, length) -> {
+            final ByteBuffer segment = source.duplicate();
+
+            segment.position((int) offset);
+            segment.limit((int) offset + length);
+            return segment.slice().order(ByteOrder.LITTLE_ENDIAN);
+        };
+    }
+
+    /**
+     * Creates a source over the entire file specified by the {@code channel} parameter. Each segment is memory mapped
+     * and the position of the channel is not modified.
+     *
+     * @param channel
+     *         the file to be divided, not null
+     * @return the segment source, not null
+     */
+    static SegmentSource of(@NotNull final FileChannel channel) {
+        return (offset, length) -> channel.map(FileChannel.MapMode.READ_ONLY, offset, length)
+                                          .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Returns a view of the segment of {@code length} bytes beginning at the {@code offset} of the input.
+     *
+     * @param offset
+     *         the offset of the segment within the input
+     * @param length
+     *         the number of bytes in the segment
+     * @return the little endian view of the segment, not null
+     * @throws IOException
+     *         if the segment cannot be read
+     */
+    ByteBuffer segment(long offset, int length) throws IOException;
+}
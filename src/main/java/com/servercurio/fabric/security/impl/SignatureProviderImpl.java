@@ -19,26 +19,44 @@ package com.servercurio.fabric.security.impl;
 import com.servercurio.fabric.security.Cryptography;
 import com.servercurio.fabric.security.CryptographyException;
 import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.HashAlgorithm;
 import com.servercurio.fabric.security.Seal;
 import com.servercurio.fabric.security.SignatureAlgorithm;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitiveLease;
 import com.servercurio.fabric.security.spi.PrimitiveProvider;
+import com.servercurio.fabric.security.spi.SecurityProviders;
 import com.servercurio.fabric.security.spi.SignatureProvider;
+import com.servercurio.fabric.security.spi.SignedMessage;
+import com.servercurio.fabric.security.spi.SignerSession;
+import com.servercurio.fabric.security.spi.VerificationCache;
+import com.servercurio.fabric.security.spi.VerificationCacheConfiguration;
+import com.servercurio.fabric.security.spi.VerifierSession;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
 import java.security.SignatureException;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
 import static com.servercurio.fabric.lang.Validators.throwIfArgumentIsEmpty;
 import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.applyToStream;
+import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.supplyStage;
 
 /**
  * Default {@code Fabric Unified Cryptography API} provider implementation that encapsulates all of the available
@@ -91,6 +109,31 @@ public class SignatureProviderImpl implements SignatureProvider {
      */
     private static final String BUFFER_PARAM = "buffer";
 
+    /**
+     * The {@code timeout} parameter name represented as a string value.
+     */
+    private static final String TIMEOUT_PARAM = "timeout";
+
+    /**
+     * The {@code file} parameter name represented as a string value.
+     */
+    private static final String FILE_PARAM = "file";
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
+
+    /**
+     * The {@code hash} parameter name represented as a string value.
+     */
+    private static final String HASH_PARAM = "hash";
+
+    /**
+     * The {@code messages} parameter name represented as a string value.
+     */
+    private static final String MESSAGES_PARAM = "messages";
+
     /**
      * The {@link PrimitiveProvider} implementation to which this provider is bound.
      */
@@ -109,13 +152,134 @@ public class SignatureProviderImpl implements SignatureProvider {
         this.primitiveProvider = primitiveProvider;
     }
 
+    /**
+     * Throws an {@link IllegalArgumentException} if the {@code messages} parameter is null or contains a null element.
+     *
+     * @param messages
+     *         the signed messages to be validated
+     * @throws IllegalArgumentException
+     *         if the {@code messages} parameter is null or contains a null element
+     */
+    private static void throwIfMessagesInvalid(final List<SignedMessage> messages) {
+        throwIfArgIsNull(messages, MESSAGES_PARAM);
+
+        for (final SignedMessage message : messages) {
+            if (message == null) {
+                throw new IllegalArgumentException(
+                        String.format("The %s parameter must not contain null elements", MESSAGES_PARAM));
+            }
+        }
+    }
+
+    /**
+     * Throws an {@link IllegalArgumentException} if the algorithm of the {@code hash} parameter does not match the
+     * digest algorithm of the {@code algorithm} parameter or if the {@code algorithm} parameter does not apply a
+     * digest.
+     *
+     * @param algorithm
+     *         the signature algorithm, not null
+     * @param hash
+     *         the precomputed digest, not null
+     * @throws IllegalArgumentException
+     *         if the algorithm of the digest does not match the signature algorithm
+     */
+    private static void throwIfHashMismatch(@NotNull final SignatureAlgorithm algorithm, @NotNull final Hash hash) {
+        if (algorithm.hashAlgorithm() == HashAlgorithm.NONE || algorithm.hashAlgorithm() != hash.getAlgorithm()) {
+            throw new IllegalArgumentException(
+                    String.format("The %s parameter must be a %s digest to be signed using the %s algorithm",
+                                  HASH_PARAM, algorithm.hashAlgorithm(), algorithm));
+        }
+    }
+
+    /**
+     * Acquires the primitive used to sign or verify a precomputed digest. The raw DSA implementation included with the
+     * Java runtime only accepts 160-bit digests, therefore the raw DSA primitive is always acquired from the {@link
+     * SecurityProviders#FALLBACK_PROVIDER_NAME fallback provider} which accepts digests of any length.
+     *
+     * @param prehashedAlgorithm
+     *         the prehashed signature algorithm, not null
+     * @return the primitive, not null
+     */
+    private Signature prehashedPrimitive(@NotNull final SignatureAlgorithm prehashedAlgorithm) {
+        if (prehashedAlgorithm == SignatureAlgorithm.DSA) {
+            return prehashedAlgorithm.instance(SecurityProviders.FALLBACK_PROVIDER_NAME);
+        }
+
+        return primitiveProvider.primitive(prehashedAlgorithm);
+    }
+
+    /**
+     * Releases a primitive acquired by the {@link #prehashedPrimitive(SignatureAlgorithm)} method. Primitives acquired
+     * from the fallback provider are not returned to the pool.
+     *
+     * @param prehashedAlgorithm
+     *         the prehashed signature algorithm, not null
+     * @param signature
+     *         the primitive to be released, not null
+     */
+    private void releasePrehashed(@NotNull final SignatureAlgorithm prehashedAlgorithm,
+                                  @NotNull final Signature signature) {
+        if (prehashedAlgorithm != SignatureAlgorithm.DSA) {
+            primitiveProvider.release(prehashedAlgorithm, signature);
+        }
+    }
+
+    /**
+     * Encodes a precomputed digest as the input of the {@link SignatureAlgorithm#prehashedAlgorithm()}. RSA signatures
+     * sign the {@code DigestInfo} structure while DSA and ECDSA signatures sign the digest directly.
+     *
+     * @param algorithm
+     *         the signature algorithm, not null
+     * @param hash
+     *         the precomputed digest, not null
+     * @return the encoded digest, not null
+     */
+    private static byte[] encodePrehashed(@NotNull final SignatureAlgorithm algorithm, @NotNull final Hash hash) {
+        if (algorithm.prehashedAlgorithm() == SignatureAlgorithm.RSA) {
+            return DigestInfo.encode(hash);
+        }
+
+        return hash.getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SignerSession signerSession(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        return new SignerSessionImpl(primitiveProvider, algorithm, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VerifierSession verifierSession(@NotNull final PublicKey key) {
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        return new VerifierSessionImpl(primitiveProvider, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VerificationCache verificationCache(@NotNull final VerificationCacheConfiguration configuration) {
+        throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+
+        return new VerificationCacheImpl(this, primitiveProvider, configuration);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Future<Seal> signAsync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
                                   @NotNull final InputStream stream) {
-        return primitiveProvider.executorService().submit(() -> signSync(algorithm, key, stream));
+        return primitiveProvider.executorService(OperationClass.SIGN).submit(() -> signSync(algorithm, key, stream));
     }
 
     /**
@@ -124,7 +288,7 @@ public class SignatureProviderImpl implements SignatureProvider {
     @Override
     public Future<Seal> signAsync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
                                   @NotNull final byte[] data) {
-        return primitiveProvider.executorService().submit(() -> signSync(algorithm, key, data));
+        return primitiveProvider.executorService(OperationClass.SIGN).submit(() -> signSync(algorithm, key, data));
     }
 
     /**
@@ -133,7 +297,7 @@ public class SignatureProviderImpl implements SignatureProvider {
     @Override
     public Future<Seal> signAsync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
                                   @NotEmpty final Hash... hashes) {
-        return primitiveProvider.executorService().submit(() -> signSync(algorithm, key, hashes));
+        return primitiveProvider.executorService(OperationClass.SIGN).submit(() -> signSync(algorithm, key, hashes));
     }
 
     /**
@@ -142,7 +306,85 @@ public class SignatureProviderImpl implements SignatureProvider {
     @Override
     public Future<Seal> signAsync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
                                   @NotNull final ByteBuffer buffer) {
-        return primitiveProvider.executorService().submit(() -> signSync(algorithm, key, buffer));
+        return primitiveProvider.executorService(OperationClass.SIGN).submit(() -> signSync(algorithm, key, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                             @NotNull final InputStream stream) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.SIGN),
+                           cancelled -> signSync(algorithm, key, stream, cancelled));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                             @NotNull final InputStream stream, @NotNull final Duration timeout) {
+        throwIfArgIsNull(timeout, TIMEOUT_PARAM);
+
+        return supplyStage(primitiveProvider.executorService(OperationClass.SIGN), timeout,
+                           cancelled -> signSync(algorithm, key, stream, cancelled));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                             @NotNull final byte[] data) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.SIGN),
+                           cancelled -> signSync(algorithm, key, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                             @NotEmpty final Hash... hashes) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.SIGN),
+                           cancelled -> signSync(algorithm, key, hashes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                             @NotNull final ByteBuffer buffer) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.SIGN),
+                           cancelled -> signSync(algorithm, key, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm,
+                                             @NotNull final PrivateKey key, @NotNull final Path file) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(file, FILE_PARAM);
+
+        final PrimitiveLease<Signature> lease = primitiveProvider.lease(algorithm);
+        final Signature signature;
+
+        try {
+            signature = lease.initialize(s -> s.initSign(key, primitiveProvider.random()));
+        } catch (GeneralSecurityException ex) {
+            lease.close();
+            return CompletableFuture.failedFuture(new CryptographyException(ex));
+        }
+
+        return AsyncFileReader.read(primitiveProvider.executorService(OperationClass.SIGN), lease, file, block -> {
+            signature.update(block);
+            return null;
+        }, () -> CompletableFuture.completedFuture(new Seal(algorithm, signature.sign())));
     }
 
     /**
@@ -151,6 +393,27 @@ public class SignatureProviderImpl implements SignatureProvider {
     @Override
     public Seal signSync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
                          @NotNull final InputStream stream) {
+        return signSync(algorithm, key, stream, () -> false);
+    }
+
+    /**
+     * Synchronously computes the digital signature of the {@link InputStream} specified by the {@code stream}
+     * parameter and stops reading the stream once the {@code cancelled} predicate returns true.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the private key to use, not null
+     * @param stream
+     *         the stream to be signed, not null
+     * @param cancelled
+     *         the predicate evaluated before each block is read, not null
+     * @return the computed {@link Seal}, not null
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before the end of the stream is reached
+     */
+    private Seal signSync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                          @NotNull final InputStream stream, @NotNull final BooleanSupplier cancelled) {
         throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
         throwIfArgIsNull(key, KEY_PARAM);
         throwIfArgIsNull(stream, STREAM_PARAM);
@@ -159,11 +422,13 @@ public class SignatureProviderImpl implements SignatureProvider {
 
         try {
             signature.initSign(key, primitiveProvider.random());
-            applyToStream(stream, signature::update);
+            applyToStream(stream, cancelled, signature::update);
 
             return new Seal(algorithm, signature.sign());
         } catch (IOException | GeneralSecurityException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, signature);
         }
     }
 
@@ -185,6 +450,8 @@ public class SignatureProviderImpl implements SignatureProvider {
             return new Seal(algorithm, signature.sign());
         } catch (SignatureException | InvalidKeyException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, signature);
         }
     }
 
@@ -214,6 +481,8 @@ public class SignatureProviderImpl implements SignatureProvider {
             return new Seal(algorithm, signature.sign());
         } catch (SignatureException | InvalidKeyException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, signature);
         }
     }
 
@@ -235,6 +504,8 @@ public class SignatureProviderImpl implements SignatureProvider {
             return new Seal(algorithm, signature.sign());
         } catch (SignatureException | InvalidKeyException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(algorithm, signature);
         }
     }
 
@@ -244,7 +515,7 @@ public class SignatureProviderImpl implements SignatureProvider {
     @Override
     public Future<Boolean> verifyAsync(@NotNull final Seal seal, @NotNull final PublicKey key,
                                        @NotNull final InputStream stream) {
-        return primitiveProvider.executorService().submit(() -> verifySync(seal, key, stream));
+        return primitiveProvider.executorService(OperationClass.VERIFY).submit(() -> verifySync(seal, key, stream));
     }
 
     /**
@@ -253,7 +524,7 @@ public class SignatureProviderImpl implements SignatureProvider {
     @Override
     public Future<Boolean> verifyAsync(@NotNull final Seal seal, @NotNull final PublicKey key,
                                        @NotNull final byte[] data) {
-        return primitiveProvider.executorService().submit(() -> verifySync(seal, key, data));
+        return primitiveProvider.executorService(OperationClass.VERIFY).submit(() -> verifySync(seal, key, data));
     }
 
     /**
@@ -262,7 +533,7 @@ public class SignatureProviderImpl implements SignatureProvider {
     @Override
     public Future<Boolean> verifyAsync(@NotNull final Seal seal, @NotNull final PublicKey key,
                                        @NotEmpty final Hash... hashes) {
-        return primitiveProvider.executorService().submit(() -> verifySync(seal, key, hashes));
+        return primitiveProvider.executorService(OperationClass.VERIFY).submit(() -> verifySync(seal, key, hashes));
     }
 
     /**
@@ -271,7 +542,85 @@ public class SignatureProviderImpl implements SignatureProvider {
     @Override
     public Future<Boolean> verifyAsync(@NotNull final Seal seal, @NotNull final PublicKey key,
                                        @NotNull final ByteBuffer buffer) {
-        return primitiveProvider.executorService().submit(() -> verifySync(seal, key, buffer));
+        return primitiveProvider.executorService(OperationClass.VERIFY).submit(() -> verifySync(seal, key, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                                  @NotNull final InputStream stream) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.VERIFY),
+                           cancelled -> verifySync(seal, key, stream, cancelled));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                                  @NotNull final InputStream stream, @NotNull final Duration timeout) {
+        throwIfArgIsNull(timeout, TIMEOUT_PARAM);
+
+        return supplyStage(primitiveProvider.executorService(OperationClass.VERIFY), timeout,
+                           cancelled -> verifySync(seal, key, stream, cancelled));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                                  @NotNull final byte[] data) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.VERIFY),
+                           cancelled -> verifySync(seal, key, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                                  @NotEmpty final Hash... hashes) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.VERIFY),
+                           cancelled -> verifySync(seal, key, hashes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                                  @NotNull final ByteBuffer buffer) {
+        return supplyStage(primitiveProvider.executorService(OperationClass.VERIFY),
+                           cancelled -> verifySync(seal, key, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                                  @NotNull final Path file) {
+        throwIfArgIsNull(seal, SEAL_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(file, FILE_PARAM);
+
+        final PrimitiveLease<Signature> lease = primitiveProvider.lease(seal.getAlgorithm());
+        final Signature signature;
+
+        try {
+            signature = lease.initialize(s -> s.initVerify(key));
+        } catch (GeneralSecurityException ex) {
+            lease.close();
+            return CompletableFuture.failedFuture(new CryptographyException(ex));
+        }
+
+        return AsyncFileReader.read(primitiveProvider.executorService(OperationClass.VERIFY), lease, file, block -> {
+            signature.update(block);
+            return null;
+        }, () -> CompletableFuture.completedFuture(signature.verify(seal.getValue())));
     }
 
     /**
@@ -280,6 +629,28 @@ public class SignatureProviderImpl implements SignatureProvider {
     @Override
     public boolean verifySync(@NotNull final Seal seal, @NotNull final PublicKey key,
                               @NotNull final InputStream stream) {
+        return verifySync(seal, key, stream, () -> false);
+    }
+
+    /**
+     * Synchronously verifies the digital signature specified by the {@code seal} parameter against the {@link
+     * InputStream} specified by the {@code stream} parameter and stops reading the stream once the {@code cancelled}
+     * predicate returns true.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use, not null
+     * @param stream
+     *         the stream to be verified, not null
+     * @param cancelled
+     *         the predicate evaluated before each block is read, not null
+     * @return true if the signature is valid; otherwise false
+     * @throws CancellationException
+     *         if the {@code cancelled} predicate returns true before the end of the stream is reached
+     */
+    private boolean verifySync(@NotNull final Seal seal, @NotNull final PublicKey key,
+                               @NotNull final InputStream stream, @NotNull final BooleanSupplier cancelled) {
         throwIfArgIsNull(seal, SEAL_PARAM);
         throwIfArgIsNull(key, KEY_PARAM);
         throwIfArgIsNull(stream, STREAM_PARAM);
@@ -288,11 +659,13 @@ public class SignatureProviderImpl implements SignatureProvider {
 
         try {
             signature.initVerify(key);
-            applyToStream(stream, signature::update);
+            applyToStream(stream, cancelled, signature::update);
 
             return signature.verify(seal.getValue());
         } catch (IOException | GeneralSecurityException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(seal.getAlgorithm(), signature);
         }
     }
 
@@ -313,6 +686,8 @@ public class SignatureProviderImpl implements SignatureProvider {
             return signature.verify(seal.getValue());
         } catch (InvalidKeyException | SignatureException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(seal.getAlgorithm(), signature);
         }
     }
 
@@ -341,6 +716,8 @@ public class SignatureProviderImpl implements SignatureProvider {
             return signature.verify(seal.getValue());
         } catch (InvalidKeyException | SignatureException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(seal.getAlgorithm(), signature);
         }
     }
 
@@ -362,6 +739,172 @@ public class SignatureProviderImpl implements SignatureProvider {
             return signature.verify(seal.getValue());
         } catch (InvalidKeyException | SignatureException ex) {
             throw new CryptographyException(ex);
+        } finally {
+            primitiveProvider.release(seal.getAlgorithm(), signature);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Seal> signPrehashedAsync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                           @NotNull final Hash hash) {
+        return primitiveProvider.executorService(OperationClass.SIGN)
+                                .submit(() -> signPrehashedSync(algorithm, key, hash));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Seal signPrehashedSync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                  @NotNull final Hash hash) {
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(hash, HASH_PARAM);
+        throwIfHashMismatch(algorithm, hash);
+
+        final SignatureAlgorithm prehashedAlgorithm = algorithm.prehashedAlgorithm();
+        final Signature signature = prehashedPrimitive(prehashedAlgorithm);
+
+        try {
+            signature.initSign(key, primitiveProvider.random());
+            signature.update(encodePrehashed(algorithm, hash));
+            return new Seal(algorithm, signature.sign());
+        } catch (InvalidKeyException | SignatureException ex) {
+            throw new CryptographyException(ex);
+        } finally {
+            releasePrehashed(prehashedAlgorithm, signature);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Boolean> verifyPrehashedAsync(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                                @NotNull final Hash hash) {
+        return primitiveProvider.executorService(OperationClass.VERIFY)
+                                .submit(() -> verifyPrehashedSync(seal, key, hash));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verifyPrehashedSync(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                       @NotNull final Hash hash) {
+        throwIfArgIsNull(seal, SEAL_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(hash, HASH_PARAM);
+        throwIfHashMismatch(seal.getAlgorithm(), hash);
+
+        final SignatureAlgorithm prehashedAlgorithm = seal.getAlgorithm().prehashedAlgorithm();
+        final Signature signature = prehashedPrimitive(prehashedAlgorithm);
+
+        try {
+            signature.initVerify(key);
+            signature.update(encodePrehashed(seal.getAlgorithm(), hash));
+            return signature.verify(seal.getValue());
+        } catch (InvalidKeyException | SignatureException ex) {
+            throw new CryptographyException(ex);
+        } finally {
+            releasePrehashed(prehashedAlgorithm, signature);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<BitSet> verifyBatchAsync(@NotNull final List<SignedMessage> messages) {
+        throwIfMessagesInvalid(messages);
+
+        return supplyStage(primitiveProvider.executorService(OperationClass.VERIFY),
+                           cancelled -> verifyBatch(messages, cancelled));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet verifyBatchSync(@NotNull final List<SignedMessage> messages) {
+        throwIfMessagesInvalid(messages);
+
+        return verifyBatch(messages, () -> false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Boolean> verifyAllAsync(@NotNull final List<SignedMessage> messages) {
+        throwIfMessagesInvalid(messages);
+
+        return supplyStage(primitiveProvider.executorService(OperationClass.VERIFY),
+                           cancelled -> verifyAll(messages, cancelled));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verifyAllSync(@NotNull final List<SignedMessage> messages) {
+        throwIfMessagesInvalid(messages);
+
+        return verifyAll(messages, () -> false);
+    }
+
+    /**
+     * Verifies every element of the {@code messages} parameter in parallel. The calling thread verifies a share of the
+     * batch itself and never waits for queue capacity on the {@link OperationClass#VERIFY} lane. The results are
+     * collected in an array because adjacent portions of the batch would otherwise share words of the {@link BitSet}.
+     *
+     * @param messages
+     *         the signed messages to be verified, not null
+     * @param cancelled
+     *         the predicate evaluated before each portion of the batch is claimed, not null
+     * @return a {@link BitSet} where each bit is set if the corresponding element is valid, not null
+     */
+    private BitSet verifyBatch(@NotNull final List<SignedMessage> messages, @NotNull final BooleanSupplier cancelled) {
+        final boolean[] results = new boolean[messages.size()];
+
+        Batches.forEachSync(primitiveProvider.executorService(OperationClass.VERIFY), results.length,
+                            () -> new BatchVerifier(primitiveProvider), BatchVerifier::release,
+                            (verifier, i) -> results[i] = verifier.verify(messages.get(i)), cancelled);
+
+        final BitSet valid = new BitSet(results.length);
+
+        for (int i = 0; i < results.length; i++) {
+            valid.set(i, results[i]);
+        }
+
+        return valid;
+    }
+
+    /**
+     * Verifies the elements of the {@code messages} parameter in parallel until an invalid element is encountered.
+     * The calling thread verifies a share of the batch itself and never waits for queue capacity on the {@link
+     * OperationClass#VERIFY} lane.
+     *
+     * @param messages
+     *         the signed messages to be verified, not null
+     * @param cancelled
+     *         the predicate evaluated before each portion of the batch is claimed, not null
+     * @return true if every element is valid; otherwise false
+     */
+    private boolean verifyAll(@NotNull final List<SignedMessage> messages, @NotNull final BooleanSupplier cancelled) {
+        final AtomicBoolean invalid = new AtomicBoolean();
+
+        Batches.forEachSync(primitiveProvider.executorService(OperationClass.VERIFY), messages.size(),
+                            () -> new BatchVerifier(primitiveProvider), BatchVerifier::release,
+                            (verifier, i) -> {
+                                if (!invalid.get() && !verifier.verify(messages.get(i))) {
+                                    invalid.set(true);
+                                }
+                            }, cancelled);
+
+        return !invalid.get();
+    }
 }
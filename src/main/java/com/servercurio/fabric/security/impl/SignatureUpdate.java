@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import javax.validation.constraints.NotNull;
+
+/**
+ * The function which supplies the signed data to an initialized {@link Signature} primitive held by a signing or
+ * verification session.
+ *
+ * @author Nathan Klick
+ * @see SignerSessionImpl
+ * @see VerifierSessionImpl
+ */
+@FunctionalInterface
+interface SignatureUpdate {
+
+    /**
+     * Supplies the signed data to the {@code signature} parameter.
+     *
+     * @param signature
+     *         the initialized primitive, not null
+     * @throws IOException
+     *         if an I/O error occurs while reading the data
+     * @throws GeneralSecurityException
+     *         if an error occurs while updating the primitive
+     */
+    void apply(@NotNull Signature signature) throws IOException, GeneralSecurityException;
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.Seal;
+import com.servercurio.fabric.security.SignatureAlgorithm;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitivePoolConfiguration;
+import com.servercurio.fabric.security.spi.PrimitiveProvider;
+import com.servercurio.fabric.security.spi.SignerSession;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.concurrent.Future;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+import static com.servercurio.fabric.lang.Validators.throwIfArgumentIsEmpty;
+import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.applyToStream;
+
+/**
+ * Default {@link SignerSession} implementation. Each pooled primitive is initialized for signing with the session key
+ * exactly once; a {@link Signature} returns to the initialized state after each signature is generated and therefore
+ * may be reused without repeating the initialization. Primitives which fail while in use are discarded instead of
+ * being returned to the pool.
+ *
+ * @author Nathan Klick
+ * @see SignatureProviderImpl#signerSession(SignatureAlgorithm, PrivateKey)
+ */
+final class SignerSessionImpl implements SignerSession {
+
+    /**
+     * The {@code primitiveProvider} parameter name represented as a string value.
+     */
+    private static final String PRIMITIVE_PROVIDER_PARAM = "primitiveProvider";
+
+    /**
+     * The {@code algorithm} parameter name represented as a string value.
+     */
+    private static final String ALGORITHM_PARAM = "algorithm";
+
+    /**
+     * The {@code key} parameter name represented as a string value.
+     */
+    private static final String KEY_PARAM = "key";
+
+    /**
+     * The {@code stream} parameter name represented as a string value.
+     */
+    private static final String STREAM_PARAM = "stream";
+
+    /**
+     * The {@code data} parameter name represented as a string value.
+     */
+    private static final String DATA_PARAM = "data";
+
+    /**
+     * The {@code hashes} parameter name represented as a string value.
+     */
+    private static final String HASHES_PARAM = "hashes";
+
+    /**
+     * The {@code buffer} parameter name represented as a string value.
+     */
+    private static final String BUFFER_PARAM = "buffer";
+
+    /**
+     * The {@link PrimitiveProvider} which supplies the executor service and secure random source.
+     */
+    @NotNull
+    private final PrimitiveProvider primitiveProvider;
+
+    /**
+     * The algorithm used by this session.
+     */
+    @NotNull
+    private final SignatureAlgorithm algorithm;
+
+    /**
+     * The key to which this session is bound.
+     */
+    @NotNull
+    private final PrivateKey key;
+
+    /**
+     * The pooled primitives which have been initialized for signing with the {@link #key}.
+     */
+    @NotNull
+    private final PrimitivePool<SignatureAlgorithm, Signature> signatures;
+
+    /**
+     * Constructs a new session bound to the specified key. The key is validated by initializing the first pooled
+     * primitive.
+     *
+     * @param primitiveProvider
+     *         the {@link PrimitiveProvider} which supplies the executor service and secure random source, not null
+     * @param algorithm
+     *         the algorithm used by the session, not null
+     * @param key
+     *         the key to which the session is bound, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm
+     */
+    SignerSessionImpl(@NotNull final PrimitiveProvider primitiveProvider, @NotNull final SignatureAlgorithm algorithm,
+                      @NotNull final PrivateKey key) {
+        throwIfArgIsNull(primitiveProvider, PRIMITIVE_PROVIDER_PARAM);
+        throwIfArgIsNull(algorithm, ALGORITHM_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        this.primitiveProvider = primitiveProvider;
+        this.algorithm = algorithm;
+        this.key = key;
+        this.signatures = new PrimitivePool<>(new PrimitivePoolConfiguration(), this::initialize, signature -> { });
+        this.signatures.release(algorithm, signatures.borrow(algorithm));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PrivateKey getKey() {
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Seal> signAsync(@NotNull final InputStream stream) {
+        return primitiveProvider.executorService(OperationClass.SIGN).submit(() -> signSync(stream));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Seal> signAsync(@NotNull final byte[] data) {
+        return primitiveProvider.executorService(OperationClass.SIGN).submit(() -> signSync(data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Seal> signAsync(@NotEmpty final Hash... hashes) {
+        return primitiveProvider.executorService(OperationClass.SIGN).submit(() -> signSync(hashes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Seal> signAsync(@NotNull final ByteBuffer buffer) {
+        return primitiveProvider.executorService(OperationClass.SIGN).submit(() -> signSync(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Seal signSync(@NotNull final InputStream stream) {
+        throwIfArgIsNull(stream, STREAM_PARAM);
+
+        return sign(signature -> applyToStream(stream, signature::update));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Seal signSync(@NotNull final byte[] data) {
+        throwIfArgIsNull(data, DATA_PARAM);
+
+        return sign(signature -> signature.update(data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Seal signSync(@NotEmpty final Hash... hashes) {
+        throwIfArgumentIsEmpty(hashes, HASHES_PARAM);
+
+        return sign(signature -> {
+            for (final Hash hash : hashes) {
+                if (hash != null) {
+                    signature.update(hash.getValue());
+                } else {
+                    signature.update(Hash.EMPTY.getValue());
+                }
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Seal signSync(@NotNull final ByteBuffer buffer) {
+        throwIfArgIsNull(buffer, BUFFER_PARAM);
+
+        return sign(signature -> signature.update(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        signatures.close();
+    }
+
+    /**
+     * Creates a new primitive initialized for signing with the session key.
+     *
+     * @param algorithm
+     *         the algorithm of the primitive, not null
+     * @return the initialized primitive, not null
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm
+     */
+    private Signature initialize(@NotNull final SignatureAlgorithm algorithm) {
+        final Signature signature = algorithm.instance();
+
+        try {
+            signature.initSign(key, primitiveProvider.random());
+            return signature;
+        } catch (InvalidKeyException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
+    /**
+     * Borrows an initialized primitive, applies the {@code update} function and generates the signature. The
+     * primitive is returned to the pool only if the signature was successfully generated.
+     *
+     * @param update
+     *         the function which supplies the data to be signed to the primitive, not null
+     * @return the computed signature, not null
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    private Seal sign(@NotNull final SignatureUpdate update) {
+        final Signature signature = signatures.borrow(algorithm);
+
+        try {
+            update.apply(signature);
+
+            final Seal seal = new Seal(algorithm, signature.sign());
+            signatures.release(algorithm, signature);
+            return seal;
+        } catch (IOException | GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+}
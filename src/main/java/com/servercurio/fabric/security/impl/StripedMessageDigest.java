@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.security.MessageDigest;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+/**
+ * Base class of the {@link MessageDigest} implementations of non-cryptographic hash algorithms which consume their
+ * input in fixed size stripes. Input is buffered only when a stripe spans multiple updates; otherwise the stripes are
+ * read in place from the supplied array or {@link ByteBuffer}.
+ *
+ * @author Nathan Klick
+ * @see XxHash64MessageDigest
+ * @see Murmur3MessageDigest
+ */
+abstract class StripedMessageDigest extends MessageDigest {
+
+    /**
+     * The number of bytes in each stripe.
+     */
+    private final int stripeLength;
+
+    /**
+     * The little endian buffer holding a partial stripe.
+     */
+    @NotNull
+    private final ByteBuffer pending;
+
+    /**
+     * The total number of bytes consumed since the last reset.
+     */
+    private long length;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param algorithm
+     *         the standard name of the algorithm, not null
+     * @param stripeLength
+     *         the number of bytes in each stripe, positive integer
+     */
+    protected StripedMessageDigest(@NotNull final String algorithm, @Positive final int stripeLength) {
+        super(algorithm);
+
+        this.stripeLength = stripeLength;
+        this.pending = ByteBuffer.allocate(stripeLength).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineUpdate(final byte input) {
+        length++;
+        pending.put(input);
+
+        if (!pending.hasRemaining()) {
+            stripe(pending, 0);
+            pending.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineUpdate(final byte[] input, final int offset, final int len) {
+        engineUpdate(ByteBuffer.wrap(input, offset, len));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineUpdate(final ByteBuffer input) {
+        final int limit = input.limit();
+        length += input.remaining();
+
+        if (pending.position() > 0) {
+            while (pending.hasRemaining() && input.hasRemaining()) {
+                pending.put(input.get());
+            }
+
+            if (pending.hasRemaining()) {
+                return;
+            }
+
+            stripe(pending, 0);
+            pending.clear();
+        }
+
+        final ByteBuffer view = input.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int position = view.position();
+
+        for (; limit - position >= stripeLength; position += stripeLength) {
+            stripe(view, position);
+        }
+
+        view.position(position);
+        pending.put(view);
+        input.position(limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected byte[] engineDigest() {
+        pending.flip();
+
+        final byte[] digest = finish(pending, length);
+
+        engineReset();
+        return digest;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void engineReset() {
+        pending.clear();
+        length = 0;
+        resetState();
+    }
+
+    /**
+     * Consumes a single complete stripe.
+     *
+     * @param input
+     *         the little endian buffer containing the stripe, not null
+     * @param index
+     *         the index of the first byte of the stripe within the {@code input} buffer
+     */
+    protected abstract void stripe(@NotNull ByteBuffer input, int index);
+
+    /**
+     * Consumes the final partial stripe and returns the hash value.
+     *
+     * @param tail
+     *         the little endian buffer containing fewer than one stripe of remaining bytes from index zero, not null
+     * @param length
+     *         the total number of bytes consumed
+     * @return the hash value, not null
+     */
+    protected abstract byte[] finish(@NotNull ByteBuffer tail, long length);
+
+    /**
+     * Restores the algorithm specific state to its initial value.
+     */
+    protected abstract void resetState();
+}
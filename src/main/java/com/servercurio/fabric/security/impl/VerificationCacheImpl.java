@@ -0,0 +1,410 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.HashAlgorithm;
+import com.servercurio.fabric.security.Seal;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitiveProvider;
+import com.servercurio.fabric.security.spi.SignatureProvider;
+import com.servercurio.fabric.security.spi.VerificationCache;
+import com.servercurio.fabric.security.spi.VerificationCacheConfiguration;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * Default {@link VerificationCache} implementation using the Window TinyLFU policy. New entries are placed in a small
+ * LRU window; when the window overflows, its eldest entry is admitted to the main segmented LRU only if the {@link
+ * FrequencySketch} estimates that it has been seen more often than the eldest entry of the probationary segment.
+ * Entries of the probationary segment are promoted to the protected segment when they are seen again.
+ *
+ * @author Nathan Klick
+ * @see SignatureProviderImpl#verificationCache(VerificationCacheConfiguration)
+ */
+final class VerificationCacheImpl implements VerificationCache {
+
+    /**
+     * The {@code signatureProvider} parameter name represented as a string value.
+     */
+    private static final String SIGNATURE_PROVIDER_PARAM = "signatureProvider";
+
+    /**
+     * The {@code primitiveProvider} parameter name represented as a string value.
+     */
+    private static final String PRIMITIVE_PROVIDER_PARAM = "primitiveProvider";
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
+
+    /**
+     * The {@code seal} parameter name represented as a string value.
+     */
+    private static final String SEAL_PARAM = "seal";
+
+    /**
+     * The {@code key} parameter name represented as a string value.
+     */
+    private static final String KEY_PARAM = "key";
+
+    /**
+     * The {@code data} parameter name represented as a string value.
+     */
+    private static final String DATA_PARAM = "data";
+
+    /**
+     * The percentage of the maximum size allocated to the window.
+     */
+    private static final int WINDOW_PERCENTAGE = 1;
+
+    /**
+     * The percentage of the main segmented LRU allocated to the protected segment.
+     */
+    private static final int PROTECTED_PERCENTAGE = 80;
+
+    /**
+     * The {@link SignatureProvider} which performs the verifications not satisfied by the cache.
+     */
+    @NotNull
+    private final SignatureProvider signatureProvider;
+
+    /**
+     * The {@link PrimitiveProvider} which supplies the message digests and executor service.
+     */
+    @NotNull
+    private final PrimitiveProvider primitiveProvider;
+
+    /**
+     * The algorithm used to compute the cache keys.
+     */
+    @NotNull
+    private final HashAlgorithm hashAlgorithm;
+
+    /**
+     * The maximum number of entries retained by the window.
+     */
+    private final int windowSize;
+
+    /**
+     * The maximum number of entries retained by the probationary and protected segments combined.
+     */
+    private final int mainSize;
+
+    /**
+     * The maximum number of entries retained by the protected segment.
+     */
+    private final int protectedSize;
+
+    /**
+     * The recently admitted entries in access order.
+     */
+    @NotNull
+    private final LinkedHashMap<ByteBuffer, Boolean> window;
+
+    /**
+     * The entries of the main segmented LRU which have not been seen since they were admitted from the window.
+     */
+    @NotNull
+    private final LinkedHashMap<ByteBuffer, Boolean> probation;
+
+    /**
+     * The entries of the main segmented LRU which have been seen since they were admitted, in access order.
+     */
+    @NotNull
+    private final LinkedHashMap<ByteBuffer, Boolean> protectedSegment;
+
+    /**
+     * The estimated access frequency of recently seen entries.
+     */
+    @NotNull
+    private final FrequencySketch sketch;
+
+    /**
+     * The number of verifications satisfied by the cache.
+     */
+    @NotNull
+    private final LongAdder hits;
+
+    /**
+     * The number of verifications not satisfied by the cache.
+     */
+    @NotNull
+    private final LongAdder misses;
+
+    /**
+     * The number of valid results which were evicted or not admitted.
+     */
+    @NotNull
+    private final LongAdder evictions;
+
+    /**
+     * Constructs a new cache which performs verifications using the specified {@link SignatureProvider}.
+     *
+     * @param signatureProvider
+     *         the {@link SignatureProvider} which performs the verifications not satisfied by the cache, not null
+     * @param primitiveProvider
+     *         the {@link PrimitiveProvider} which supplies the message digests and executor service, not null
+     * @param configuration
+     *         the configuration of the cache, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null
+     */
+    VerificationCacheImpl(@NotNull final SignatureProvider signatureProvider,
+                          @NotNull final PrimitiveProvider primitiveProvider,
+                          @NotNull final VerificationCacheConfiguration configuration) {
+        throwIfArgIsNull(signatureProvider, SIGNATURE_PROVIDER_PARAM);
+        throwIfArgIsNull(primitiveProvider, PRIMITIVE_PROVIDER_PARAM);
+        throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+
+        final int maximumSize = configuration.getMaximumSize();
+
+        this.signatureProvider = signatureProvider;
+        this.primitiveProvider = primitiveProvider;
+        this.hashAlgorithm = configuration.getHashAlgorithm();
+        this.windowSize = Math.max(1, maximumSize / 100 * WINDOW_PERCENTAGE);
+        this.mainSize = maximumSize - windowSize;
+        this.protectedSize = (int) ((long) mainSize * PROTECTED_PERCENTAGE / 100);
+        this.window = new LinkedHashMap<>(16, 0.75f, true);
+        this.probation = new LinkedHashMap<>();
+        this.protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+        this.sketch = new FrequencySketch(maximumSize);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Removes and returns the eldest entry of the {@code segment} parameter.
+     *
+     * @param segment
+     *         the segment from which the entry is removed, not empty
+     * @return the removed entry, not null
+     */
+    private static ByteBuffer removeEldest(@NotNull final LinkedHashMap<ByteBuffer, Boolean> segment) {
+        final Iterator<ByteBuffer> iterator = segment.keySet().iterator();
+        final ByteBuffer eldest = iterator.next();
+
+        iterator.remove();
+        return eldest;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Boolean> verifyAsync(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                       @NotNull final byte[] data) {
+        return primitiveProvider.executorService(OperationClass.VERIFY).submit(() -> verifySync(seal, key, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verifySync(@NotNull final Seal seal, @NotNull final PublicKey key, @NotNull final byte[] data) {
+        throwIfArgIsNull(seal, SEAL_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+        throwIfArgIsNull(data, DATA_PARAM);
+
+        final byte[] encodedKey = key.getEncoded();
+
+        if (encodedKey == null) {
+            misses.increment();
+            return signatureProvider.verifySync(seal, key, data);
+        }
+
+        final ByteBuffer entry = digest(seal, encodedKey, data);
+
+        if (lookup(entry)) {
+            hits.increment();
+            return true;
+        }
+
+        misses.increment();
+
+        final boolean valid = signatureProvider.verifySync(seal, key, data);
+
+        if (valid) {
+            admit(entry);
+        }
+
+        return valid;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double hitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+
+        return (total > 0) ? (double) hitCount / total : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void clear() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    /**
+     * Computes the cache key of a verification. Each variable length component is preceded by its length so that
+     * distinct inputs cannot produce the same digest input.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param encodedKey
+     *         the encoded public key, not null
+     * @param data
+     *         the signed data, not null
+     * @return the digest wrapped in a {@link ByteBuffer}, not null
+     */
+    private ByteBuffer digest(@NotNull final Seal seal, @NotNull final byte[] encodedKey, @NotNull final byte[] data) {
+        final byte[] value = seal.getValue();
+        final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 3)
+                                            .putInt(seal.getAlgorithm().id())
+                                            .putInt(value.length)
+                                            .putInt(encodedKey.length)
+                                            .flip();
+        final MessageDigest digest = primitiveProvider.primitive(hashAlgorithm);
+
+        try {
+            digest.update(header);
+            digest.update(value);
+            digest.update(encodedKey);
+            digest.update(data);
+
+            return ByteBuffer.wrap(digest.digest());
+        } finally {
+            primitiveProvider.release(hashAlgorithm, digest);
+        }
+    }
+
+    /**
+     * Records an access to the specified entry and determines whether it is retained by the cache. Entries found in
+     * the probationary segment are promoted to the protected segment.
+     *
+     * @param entry
+     *         the cache key, not null
+     * @return true if the entry is retained by the cache; otherwise false
+     */
+    private synchronized boolean lookup(@NotNull final ByteBuffer entry) {
+        sketch.increment(entry.getLong(0));
+
+        if (window.get(entry) != null || protectedSegment.get(entry) != null) {
+            return true;
+        }
+
+        if (probation.remove(entry) == null) {
+            return false;
+        }
+
+        protectedSegment.put(entry, Boolean.TRUE);
+
+        if (protectedSegment.size() > protectedSize) {
+            probation.put(removeEldest(protectedSegment), Boolean.TRUE);
+        }
+
+        return true;
+    }
+
+    /**
+     * Admits the specified entry to the window. If the window overflows, its eldest entry becomes a candidate for the
+     * main segmented LRU and is retained only if it has been seen more frequently than the entry it would replace.
+     *
+     * @param entry
+     *         the cache key of a valid verification, not null
+     */
+    private synchronized void admit(@NotNull final ByteBuffer entry) {
+        if (window.containsKey(entry) || probation.containsKey(entry) || protectedSegment.containsKey(entry)) {
+            return;
+        }
+
+        window.put(entry, Boolean.TRUE);
+
+        if (window.size() <= windowSize) {
+            return;
+        }
+
+        final ByteBuffer candidate = removeEldest(window);
+
+        if (probation.size() + protectedSegment.size() < mainSize) {
+            probation.put(candidate, Boolean.TRUE);
+            return;
+        }
+
+        final LinkedHashMap<ByteBuffer, Boolean> victims = probation.isEmpty() ? protectedSegment : probation;
+
+        if (!victims.isEmpty()) {
+            final ByteBuffer victim = victims.keySet().iterator().next();
+
+            if (sketch.frequency(candidate.getLong(0)) > sketch.frequency(victim.getLong(0))) {
+                victims.remove(victim);
+                probation.put(candidate, Boolean.TRUE);
+            }
+        }
+
+        evictions.increment();
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.Seal;
+import com.servercurio.fabric.security.SignatureAlgorithm;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitivePoolConfiguration;
+import com.servercurio.fabric.security.spi.PrimitiveProvider;
+import com.servercurio.fabric.security.spi.VerifierSession;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.concurrent.Future;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+import static com.servercurio.fabric.lang.Validators.throwIfArgumentIsEmpty;
+import static com.servercurio.fabric.security.impl.DefaultCryptographyImpl.applyToStream;
+
+/**
+ * Default {@link VerifierSession} implementation. Primitives are pooled by the algorithm of the seal being verified
+ * and each is initialized for verification with the session key exactly once; a {@link Signature} returns to the
+ * initialized state after each signature is verified and therefore may be reused without repeating the
+ * initialization. Primitives which fail while in use are discarded instead of being returned to the pool.
+ *
+ * @author Nathan Klick
+ * @see SignatureProviderImpl#verifierSession(PublicKey)
+ */
+final class VerifierSessionImpl implements VerifierSession {
+
+    /**
+     * The {@code primitiveProvider} parameter name represented as a string value.
+     */
+    private static final String PRIMITIVE_PROVIDER_PARAM = "primitiveProvider";
+
+    /**
+     * The {@code seal} parameter name represented as a string value.
+     */
+    private static final String SEAL_PARAM = "seal";
+
+    /**
+     * The {@code key} parameter name represented as a string value.
+     */
+    private static final String KEY_PARAM = "key";
+
+    /**
+     * The {@code stream} parameter name represented as a string value.
+     */
+    private static final String STREAM_PARAM = "stream";
+
+    /**
+     * The {@code data} parameter name represented as a string value.
+     */
+    private static final String DATA_PARAM = "data";
+
+    /**
+     * The {@code hashes} parameter name represented as a string value.
+     */
+    private static final String HASHES_PARAM = "hashes";
+
+    /**
+     * The {@code buffer} parameter name represented as a string value.
+     */
+    private static final String BUFFER_PARAM = "buffer";
+
+    /**
+     * The {@link PrimitiveProvider} which supplies the executor service.
+     */
+    @NotNull
+    private final PrimitiveProvider primitiveProvider;
+
+    /**
+     * The key to which this session is bound.
+     */
+    @NotNull
+    private final PublicKey key;
+
+    /**
+     * The pooled primitives which have been initialized for verification with the {@link #key}.
+     */
+    @NotNull
+    private final PrimitivePool<SignatureAlgorithm, Signature> signatures;
+
+    /**
+     * Constructs a new session bound to the specified key. The key is validated against each algorithm when the
+     * first seal of that algorithm is verified.
+     *
+     * @param primitiveProvider
+     *         the {@link PrimitiveProvider} which supplies the executor service, not null
+     * @param key
+     *         the key to which the session is bound, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null
+     */
+    VerifierSessionImpl(@NotNull final PrimitiveProvider primitiveProvider, @NotNull final PublicKey key) {
+        throwIfArgIsNull(primitiveProvider, PRIMITIVE_PROVIDER_PARAM);
+        throwIfArgIsNull(key, KEY_PARAM);
+
+        this.primitiveProvider = primitiveProvider;
+        this.key = key;
+        this.signatures = new PrimitivePool<>(new PrimitivePoolConfiguration(), this::initialize, signature -> { });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PublicKey getKey() {
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Boolean> verifyAsync(@NotNull final Seal seal, @NotNull final InputStream stream) {
+        return primitiveProvider.executorService(OperationClass.VERIFY).submit(() -> verifySync(seal, stream));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Boolean> verifyAsync(@NotNull final Seal seal, @NotNull final byte[] data) {
+        return primitiveProvider.executorService(OperationClass.VERIFY).submit(() -> verifySync(seal, data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Boolean> verifyAsync(@NotNull final Seal seal, @NotEmpty final Hash... hashes) {
+        return primitiveProvider.executorService(OperationClass.VERIFY).submit(() -> verifySync(seal, hashes));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<Boolean> verifyAsync(@NotNull final Seal seal, @NotNull final ByteBuffer buffer) {
+        return primitiveProvider.executorService(OperationClass.VERIFY).submit(() -> verifySync(seal, buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verifySync(@NotNull final Seal seal, @NotNull final InputStream stream) {
+        throwIfArgIsNull(seal, SEAL_PARAM);
+        throwIfArgIsNull(stream, STREAM_PARAM);
+
+        return verify(seal, signature -> applyToStream(stream, signature::update));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verifySync(@NotNull final Seal seal, @NotNull final byte[] data) {
+        throwIfArgIsNull(seal, SEAL_PARAM);
+        throwIfArgIsNull(data, DATA_PARAM);
+
+        return verify(seal, signature -> signature.update(data));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verifySync(@NotNull final Seal seal, @NotEmpty final Hash... hashes) {
+        throwIfArgIsNull(seal, SEAL_PARAM);
+        throwIfArgumentIsEmpty(hashes, HASHES_PARAM);
+
+        return verify(seal, signature -> {
+            for (final Hash hash : hashes) {
+                if (hash != null) {
+                    signature.update(hash.getValue());
+                } else {
+                    signature.update(Hash.EMPTY.getValue());
+                }
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean verifySync(@NotNull final Seal seal, @NotNull final ByteBuffer buffer) {
+        throwIfArgIsNull(seal, SEAL_PARAM);
+        throwIfArgIsNull(buffer, BUFFER_PARAM);
+
+        return verify(seal, signature -> signature.update(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        signatures.close();
+    }
+
+    /**
+     * Creates a new primitive initialized for verification with the session key.
+     *
+     * @param algorithm
+     *         the algorithm of the primitive, not null
+     * @return the initialized primitive, not null
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm
+     */
+    private Signature initialize(@NotNull final SignatureAlgorithm algorithm) {
+        final Signature signature = algorithm.instance();
+
+        try {
+            signature.initVerify(key);
+            return signature;
+        } catch (InvalidKeyException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
+    /**
+     * Borrows a primitive initialized for the algorithm of the {@code seal} parameter, applies the {@code update}
+     * function and verifies the signature. The primitive is returned to the pool only if the verification completed
+     * without error.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param update
+     *         the function which supplies the signed data to the primitive, not null
+     * @return true if the signature is valid; otherwise false
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm of the seal or an error occurs while verifying the signature
+     */
+    private boolean verify(@NotNull final Seal seal, @NotNull final SignatureUpdate update) {
+        final SignatureAlgorithm algorithm = seal.getAlgorithm();
+        final Signature signature = signatures.borrow(algorithm);
+
+        try {
+            update.apply(signature);
+
+            final boolean valid = signature.verify(seal.getValue());
+            signatures.release(algorithm, signature);
+            return valid;
+        } catch (IOException | GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+}
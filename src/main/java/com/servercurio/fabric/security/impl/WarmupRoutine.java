@@ -0,0 +1,349 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import com.servercurio.fabric.security.CipherTransformation;
+import com.servercurio.fabric.security.Cryptography;
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.HashAlgorithm;
+import com.servercurio.fabric.security.MacAlgorithm;
+import com.servercurio.fabric.security.Seal;
+import com.servercurio.fabric.security.SignatureAlgorithm;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitiveLease;
+import com.servercurio.fabric.security.spi.PrimitiveProvider;
+import com.servercurio.fabric.security.spi.WarmupConfiguration;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.crypto.spec.SecretKeySpec;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * Prepares a {@link Cryptography} instance for production traffic as described by a {@link WarmupConfiguration}. Each
+ * algorithm is warmed up by a preparation task which fills the primitive pool and creates any keys, followed by
+ * concurrent tasks which run representative operations through the public provider APIs so that both the JCA
+ * implementation and the surrounding code paths are compiled by the JIT compiler. All tasks run on the executor lane
+ * of their {@link OperationClass}.
+ *
+ * @author Nathan Klick
+ * @see Cryptography#warmUpAsync(WarmupConfiguration)
+ */
+final class WarmupRoutine {
+
+    /**
+     * The {@code cryptography} parameter name represented as a string value.
+     */
+    private static final String CRYPTOGRAPHY_PARAM = "cryptography";
+
+    /**
+     * The {@code configuration} parameter name represented as a string value.
+     */
+    private static final String CONFIGURATION_PARAM = "configuration";
+
+    /**
+     * The instance being warmed up.
+     */
+    @NotNull
+    private final Cryptography cryptography;
+
+    /**
+     * The provider of the primitives and executors used by the {@link #cryptography} instance.
+     */
+    @NotNull
+    private final PrimitiveProvider primitives;
+
+    /**
+     * The configuration of the warm-up.
+     */
+    @NotNull
+    private final WarmupConfiguration configuration;
+
+    /**
+     * The data processed by each operation.
+     */
+    @NotNull
+    private final byte[] sample;
+
+    /**
+     * The value of {@link System#nanoTime()} after which no further operations are started.
+     */
+    private final long deadline;
+
+    /**
+     * Constructs a new routine for the specified instance and configuration. The timeout of the configuration starts
+     * when this constructor is invoked.
+     *
+     * @param cryptography
+     *         the instance to be warmed up, not null
+     * @param configuration
+     *         the configuration of the warm-up, not null
+     * @throws IllegalArgumentException
+     *         if the {@code cryptography} or {@code configuration} parameters are null
+     */
+    WarmupRoutine(@NotNull final Cryptography cryptography, @NotNull final WarmupConfiguration configuration) {
+        throwIfArgIsNull(cryptography, CRYPTOGRAPHY_PARAM);
+        throwIfArgIsNull(configuration, CONFIGURATION_PARAM);
+
+        this.cryptography = cryptography;
+        this.primitives = cryptography.primitives();
+        this.configuration = configuration;
+        this.sample = new byte[configuration.getSampleSize()];
+        this.deadline = System.nanoTime() + configuration.getTimeout().toNanos();
+
+        primitives.random().nextBytes(sample);
+    }
+
+    /**
+     * Starts warming up every configured algorithm.
+     *
+     * @return a {@link CompletableFuture} which is completed once every algorithm has been warmed up or the timeout has
+     *         elapsed, not null
+     */
+    CompletableFuture<Void> run() {
+        final List<CompletableFuture<Void>> stages = new ArrayList<>();
+
+        for (final HashAlgorithm algorithm : configuration.getHashAlgorithms()) {
+            stages.add(warmUp(OperationClass.DIGEST, () -> prefill(() -> primitives.lease(algorithm)),
+                              context -> cryptography.digest().digestSync(algorithm, sample)));
+        }
+
+        for (final MacAlgorithm algorithm : configuration.getMacAlgorithms()) {
+            stages.add(warmUp(OperationClass.MAC, () -> prepare(algorithm), key -> authenticate(algorithm, key)));
+        }
+
+        for (final CipherTransformation algorithm : configuration.getTransformations()) {
+            stages.add(warmUp(OperationClass.ENCRYPT, () -> prepare(algorithm), key -> encrypt(algorithm, key)));
+        }
+
+        for (final SignatureAlgorithm algorithm : configuration.getSignatureAlgorithms()) {
+            stages.add(warmUp(OperationClass.SIGN, () -> prepare(algorithm), keyPair -> sign(algorithm, keyPair)));
+        }
+
+        return CompletableFuture.allOf(stages.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Runs the preparation task on the executor lane of the operation class followed by the concurrent tasks which
+     * repeat the operation.
+     *
+     * @param operationClass
+     *         the operation class whose executor lane runs the tasks, not null
+     * @param preparation
+     *         prepares the primitives and creates the context passed to the operation, not null
+     * @param operation
+     *         the representative operation, not null
+     * @param <T>
+     *         the type of the context passed to the operation
+     * @return a {@link CompletableFuture} which is completed once all the tasks have completed, not null
+     */
+    private <T> CompletableFuture<Void> warmUp(@NotNull final OperationClass operationClass,
+                                               @NotNull final Supplier<T> preparation,
+                                               @NotNull final Consumer<T> operation) {
+        final ExecutorService executor = primitives.executorService(operationClass);
+
+        return DefaultCryptographyImpl.supplyStage(executor, cancelled -> preparation.get())
+                                      .thenCompose(context -> repeat(executor, context, operation));
+    }
+
+    /**
+     * Starts the configured number of concurrent tasks, each of which applies the operation to the context until its
+     * share of the iterations is complete or the deadline has passed.
+     *
+     * @param executor
+     *         the executor used to run the tasks, not null
+     * @param context
+     *         the context passed to the operation, may be null
+     * @param operation
+     *         the representative operation, not null
+     * @param <T>
+     *         the type of the context passed to the operation
+     * @return a {@link CompletableFuture} which is completed once all the tasks have completed, not null
+     */
+    private <T> CompletableFuture<Void> repeat(@NotNull final ExecutorService executor, final T context,
+                                               @NotNull final Consumer<T> operation) {
+        final int parallelism = configuration.getParallelism();
+        final int iterations = configuration.getIterations();
+        final int share = iterations / parallelism + ((iterations % parallelism == 0) ? 0 : 1);
+        final CompletableFuture<?>[] tasks = new CompletableFuture<?>[parallelism];
+
+        for (int i = 0; i < parallelism; i++) {
+            tasks[i] = DefaultCryptographyImpl.supplyStage(executor, cancelled -> {
+                for (int j = 0; j < share && !cancelled.getAsBoolean() && !expired(); j++) {
+                    operation.accept(context);
+                }
+
+                return null;
+            });
+        }
+
+        return CompletableFuture.allOf(tasks);
+    }
+
+    /**
+     * Indicates whether the deadline has passed.
+     *
+     * @return true if no further operations should be started; otherwise false
+     */
+    private boolean expired() {
+        return System.nanoTime() - deadline >= 0;
+    }
+
+    /**
+     * Creates the configured number of primitives by leasing them concurrently and then releases them into the pool.
+     *
+     * @param lease
+     *         leases a single primitive of the algorithm, not null
+     * @return always {@code null}
+     */
+    private Void prefill(@NotNull final Supplier<PrimitiveLease<?>> lease) {
+        final List<PrimitiveLease<?>> leases = new ArrayList<>(configuration.getParallelism());
+
+        try {
+            for (int i = 0; i < configuration.getParallelism(); i++) {
+                leases.add(lease.get());
+            }
+        } finally {
+            leases.forEach(PrimitiveLease::close);
+        }
+
+        return null;
+    }
+
+    /**
+     * Fills the pool of the specified MAC algorithm and creates a random key.
+     *
+     * @param algorithm
+     *         the MAC algorithm, not null
+     * @return the key used by the operations, not null
+     */
+    private SecretKeySpec prepare(@NotNull final MacAlgorithm algorithm) {
+        final byte[] key = new byte[Math.max(algorithm.bytes(), ProviderCalibrator.KEY_LENGTH)];
+
+        prefill(() -> primitives.lease(algorithm));
+        primitives.random().nextBytes(key);
+        return new SecretKeySpec(key, algorithm.algorithmName());
+    }
+
+    /**
+     * Fills the pool of the specified cipher transformation and creates a random key.
+     *
+     * @param algorithm
+     *         the cipher transformation, not null
+     * @return the key used by the operations, not null
+     * @throws CryptographyException
+     *         if the transformation is not a symmetric cipher
+     */
+    private SecretKeySpec prepare(@NotNull final CipherTransformation algorithm) {
+        final int keyLength = ProviderCalibrator.keyLength(algorithm);
+
+        if (keyLength == 0) {
+            throw new CryptographyException(String.format("The transformation %s cannot be warmed up", algorithm));
+        }
+
+        final byte[] key = new byte[keyLength];
+
+        prefill(() -> primitives.lease(algorithm));
+        primitives.random().nextBytes(key);
+        return new SecretKeySpec(key, algorithm.getAlgorithm().keyAlgorithmName());
+    }
+
+    /**
+     * Fills the pool of the specified signature algorithm and generates a key pair using the default key size.
+     *
+     * @param algorithm
+     *         the signature algorithm, not null
+     * @return the key pair used by the operations, not null
+     * @throws CryptographyException
+     *         if the key pair could not be generated
+     */
+    private KeyPair prepare(@NotNull final SignatureAlgorithm algorithm) {
+        prefill(() -> primitives.lease(algorithm));
+
+        try {
+            return KeyPairGenerator.getInstance(algorithm.keyAlgorithmName()).generateKeyPair();
+        } catch (GeneralSecurityException ex) {
+            throw new CryptographyException(ex);
+        }
+    }
+
+    /**
+     * Authenticates the sample using a random nonce if the algorithm requires one.
+     *
+     * @param algorithm
+     *         the MAC algorithm, not null
+     * @param key
+     *         the key, not null
+     */
+    private void authenticate(@NotNull final MacAlgorithm algorithm, @NotNull final SecretKeySpec key) {
+        if (algorithm.nonceSize() == 0) {
+            cryptography.mac().authenticateSync(algorithm, key, sample);
+            return;
+        }
+
+        final byte[] nonce = new byte[algorithm.nonceSize()];
+
+        primitives.random().nextBytes(nonce);
+        cryptography.mac().authenticateSync(algorithm, key, nonce, sample);
+    }
+
+    /**
+     * Encrypts the sample using a new nonce and then decrypts the result.
+     *
+     * @param algorithm
+     *         the cipher transformation, not null
+     * @param key
+     *         the key, not null
+     * @throws CryptographyException
+     *         if the decrypted data does not match the sample
+     */
+    private void encrypt(@NotNull final CipherTransformation algorithm, @NotNull final SecretKeySpec key) {
+        final byte[] iv = cryptography.encryption().nonceSync(algorithm);
+        final byte[] cipherText = cryptography.encryption().encryptSync(algorithm, key, iv, sample);
+
+        if (!Arrays.equals(sample, cryptography.encryption().decryptSync(algorithm, key, iv, cipherText))) {
+            throw new CryptographyException(String.format("The transformation %s did not round trip", algorithm));
+        }
+    }
+
+    /**
+     * Signs the sample and then verifies the resulting seal.
+     *
+     * @param algorithm
+     *         the signature algorithm, not null
+     * @param keyPair
+     *         the key pair, not null
+     * @throws CryptographyException
+     *         if the seal could not be verified
+     */
+    private void sign(@NotNull final SignatureAlgorithm algorithm, @NotNull final KeyPair keyPair) {
+        final Seal seal = cryptography.signature().signSync(algorithm, keyPair.getPrivate(), sample);
+
+        if (!cryptography.signature().verifySync(seal, keyPair.getPublic(), sample)) {
+            throw new CryptographyException(String.format("The algorithm %s did not verify its own seal", algorithm));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.impl;
+
+import java.nio.ByteBuffer;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A {@link java.security.MessageDigest} implementation of the non-cryptographic 64-bit xxHash (XXH64) algorithm with a
+ * seed of zero. The hash value is returned in the canonical big endian byte order.
+ *
+ * @author Nathan Klick
+ * @see FabricProvider
+ * @see <a href="https://github.com/Cyan4973/xxHash/blob/dev/doc/xxhash_spec.md">The xxHash specification</a>
+ */
+final class XxHash64MessageDigest extends StripedMessageDigest {
+
+    /**
+     * The first prime constant.
+     */
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+
+    /**
+     * The second prime constant.
+     */
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+
+    /**
+     * The third prime constant.
+     */
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+
+    /**
+     * The fourth prime constant.
+     */
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+
+    /**
+     * The fifth prime constant.
+     */
+    private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+    /**
+     * The number of bytes in each stripe.
+     */
+    private static final int STRIPE_LENGTH = 32;
+
+    /**
+     * The first lane accumulator.
+     */
+    private long v1;
+
+    /**
+     * The second lane accumulator.
+     */
+    private long v2;
+
+    /**
+     * The third lane accumulator.
+     */
+    private long v3;
+
+    /**
+     * The fourth lane accumulator.
+     */
+    private long v4;
+
+    /**
+     * Constructs a new instance.
+     */
+    XxHash64MessageDigest() {
+        super("XXHASH64", STRIPE_LENGTH);
+        resetState();
+    }
+
+    /**
+     * Mixes a single 64-bit lane into an accumulator.
+     *
+     * @param accumulator
+     *         the current accumulator value
+     * @param lane
+     *         the input lane
+     * @return the new accumulator value
+     */
+    private static long round(final long accumulator, final long lane) {
+        return Long.rotateLeft(accumulator + lane * PRIME_2, 31) * PRIME_1;
+    }
+
+    /**
+     * Merges an accumulator into the hash value during finalization.
+     *
+     * @param hash
+     *         the current hash value
+     * @param accumulator
+     *         the accumulator to be merged
+     * @return the new hash value
+     */
+    private static long merge(final long hash, final long accumulator) {
+        return (hash ^ round(0, accumulator)) * PRIME_1 + PRIME_4;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected int engineGetDigestLength() {
+        return Long.BYTES;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void stripe(@NotNull final ByteBuffer input, final int index) {
+        v1 = round(v1, input.getLong(index));
+        v2 = round(v2, input.getLong(index + Long.BYTES));
+        v3 = round(v3, input.getLong(index + 2 * Long.BYTES));
+        v4 = round(v4, input.getLong(index + 3 * Long.BYTES));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected byte[] finish(@NotNull final ByteBuffer tail, final long length) {
+        long hash;
+
+        if (length >= STRIPE_LENGTH) {
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = merge(hash, v1);
+            hash = merge(hash, v2);
+            hash = merge(hash, v3);
+            hash = merge(hash, v4);
+        } else {
+            hash = PRIME_5;
+        }
+
+        hash += length;
+
+        int index = 0;
+        final int limit = tail.limit();
+
+        for (; index + Long.BYTES <= limit; index += Long.BYTES) {
+            hash ^= round(0, tail.getLong(index));
+            hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_4;
+        }
+
+        if (index + Integer.BYTES <= limit) {
+            hash ^= Integer.toUnsignedLong(tail.getInt(index)) * PRIME_1;
+            hash = Long.rotateLeft(hash, 23) * PRIME_2 + PRIME_3;
+            index += Integer.BYTES;
+        }
+
+        for (; index < limit; index++) {
+            hash ^= Byte.toUnsignedLong(tail.get(index)) * PRIME_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME_1;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME_3;
+        hash ^= hash >>> 32;
+
+        return ByteBuffer.allocate(Long.BYTES).putLong(hash).array();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void resetState() {
+        v1 = PRIME_1 + PRIME_2;
+        v2 = PRIME_2;
+        v3 = 0;
+        v4 = -PRIME_1;
+    }
+}
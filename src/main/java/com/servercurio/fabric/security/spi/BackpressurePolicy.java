@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.spi;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * An enumeration of the strategies applied when an asynchronous operation is submitted while the executor is saturated
+ * and the task queue is full.
+ *
+ * @author Nathan Klick
+ * @see ExecutorConfiguration
+ */
+public enum BackpressurePolicy {
+    /**
+     * The submitting thread is blocked until space becomes available in the task queue.
+     */
+    BLOCK,
+
+    /**
+     * The operation is executed synchronously by the submitting thread.
+     */
+    CALLER_RUNS,
+
+    /**
+     * The operation is rejected immediately and a {@link RejectedExecutionException} is thrown to the submitting
+     * thread. Operations which return a {@link java.util.concurrent.CompletableFuture} instead complete the returned
+     * future exceptionally with the {@link RejectedExecutionException}.
+     */
+    FAIL_FAST
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import com.servercurio.fabric.security.CipherTransformation;
+import com.servercurio.fabric.security.CryptographyException;
+import java.nio.ByteBuffer;
+import java.security.Key;
+import java.util.concurrent.Future;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+/**
+ * An encryption session bound to a single {@link Key} and {@link CipherTransformation}. The session retains a pool of
+ * primitives which have already been initialized with the key, therefore each operation only needs to supply a new
+ * nonce and avoids repeating the key schedule expansion performed by the {@link EncryptionProvider} methods.
+ *
+ * <p>
+ * Sessions are safe for use by multiple threads. Closing a session discards the pooled primitives, after which the
+ * session must not be used.
+ *
+ * @author Nathan Klick
+ * @see EncryptionProvider#session(CipherTransformation, Key)
+ */
+public interface CipherSession extends AutoCloseable {
+
+    /**
+     * Gets the transformation used by this session.
+     *
+     * @return the cipher transformation, not null
+     */
+    CipherTransformation getAlgorithm();
+
+    /**
+     * Gets the key to which this session is bound.
+     *
+     * @return the key, not null
+     */
+    Key getKey();
+
+    /**
+     * Asynchronously decrypts the cipher text contained in the {@code data} parameter.
+     *
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param data
+     *         the cipher text to be decrypted, not null
+     * @return a {@link Future} that when resolved returns the clear text, not null
+     * @throws IllegalArgumentException
+     *         if the {@code iv} or {@code data} parameters are null or empty
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption operation
+     */
+    Future<byte[]> decryptAsync(@NotEmpty byte[] iv, @NotEmpty byte[] data);
+
+    /**
+     * Asynchronously decrypts the remaining cipher text contained in the {@code buffer} parameter.
+     *
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param buffer
+     *         the {@link ByteBuffer} containing the cipher text to be decrypted, not null
+     * @return a {@link Future} that when resolved returns a {@link ByteBuffer} containing the clear text, not null
+     * @throws IllegalArgumentException
+     *         if the {@code iv} parameter is null or empty or if the {@code buffer} parameter is null
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption operation
+     */
+    Future<ByteBuffer> decryptAsync(@NotEmpty byte[] iv, @NotNull ByteBuffer buffer);
+
+    /**
+     * Synchronously decrypts the cipher text contained in the {@code data} parameter.
+     *
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param data
+     *         the cipher text to be decrypted, not null
+     * @return the clear text, not null
+     * @throws IllegalArgumentException
+     *         if the {@code iv} or {@code data} parameters are null or empty
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption operation
+     */
+    byte[] decryptSync(@NotEmpty byte[] iv, @NotEmpty byte[] data);
+
+    /**
+     * Synchronously decrypts the remaining cipher text contained in the {@code buffer} parameter.
+     *
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param buffer
+     *         the {@link ByteBuffer} containing the cipher text to be decrypted, not null
+     * @return a {@link ByteBuffer} containing the clear text, not null
+     * @throws IllegalArgumentException
+     *         if the {@code iv} parameter is null or empty or if the {@code buffer} parameter is null
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption operation
+     */
+    ByteBuffer decryptSync(@NotEmpty byte[] iv, @NotNull ByteBuffer buffer);
+
+    /**
+     * Synchronously decrypts {@code inputLength} bytes of cipher text contained in the {@code input} array beginning at
+     * the {@code inputOffset} and writes the clear text into the {@code output} array beginning at the {@code
+     * outputOffset}. The {@code output} array must have enough space remaining to hold the clear text. Space for as
+     * many bytes as the cipher text is always sufficient. The {@code input} and {@code output} arrays may be the same
+     * array, in which case the clear text overwrites the cipher text in place.
+     *
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param input
+     *         the byte array containing the cipher text to be decrypted, not null
+     * @param inputOffset
+     *         the offset in the {@code input} array at which the cipher text begins
+     * @param inputLength
+     *         the number of bytes of cipher text to be decrypted
+     * @param output
+     *         the byte array into which the clear text is written, not null
+     * @param outputOffset
+     *         the offset in the {@code output} array at which the clear text is written
+     * @return the number of bytes written to the {@code output} array
+     * @throws IllegalArgumentException
+     *         if the {@code iv} parameter is null or empty or if the {@code input} or {@code output} parameters are
+     *         null
+     * @throws IndexOutOfBoundsException
+     *         if the {@code inputOffset}, {@code inputLength}, or {@code outputOffset} parameters lie outside the
+     *         bounds of their arrays
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption operation or if the {@code output} array is too small
+     * @see EncryptionProvider#decryptSync(CipherTransformation, Key, byte[], byte[], int, int, byte[], int)
+     */
+    int decryptSync(@NotEmpty byte[] iv, @NotNull byte[] input, int inputOffset, int inputLength,
+                    @NotNull byte[] output, int outputOffset);
+
+    /**
+     * Synchronously decrypts the remaining cipher text contained in the {@code input} buffer and writes the clear text
+     * into the {@code output} buffer. The {@code output} buffer must have enough space remaining to hold the clear
+     * text. Space for as many bytes as the cipher text is always sufficient. The clear text may be written over the
+     * cipher text in place by passing a duplicate of the {@code input} buffer as the {@code output} parameter.
+     *
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param input
+     *         the {@link ByteBuffer} containing the cipher text to be decrypted, not null
+     * @param output
+     *         the {@link ByteBuffer} into which the clear text is written, not null
+     * @return the number of bytes written to the {@code output} buffer
+     * @throws IllegalArgumentException
+     *         if the {@code iv} parameter is null or empty, if the {@code input} or {@code output} parameters are null
+     *         or the same object, or if the {@code output} buffer is read-only
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption operation or if the {@code output} buffer is too small
+     * @see EncryptionProvider#decryptSync(CipherTransformation, Key, byte[], ByteBuffer, ByteBuffer)
+     */
+    int decryptSync(@NotEmpty byte[] iv, @NotNull ByteBuffer input, @NotNull ByteBuffer output);
+
+    /**
+     * Asynchronously encrypts the clear text contained in the {@code data} parameter.
+     *
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param data
+     *         the clear text to be encrypted, not null
+     * @return a {@link Future} that when resolved returns the cipher text, not null
+     * @throws IllegalArgumentException
+     *         if the {@code iv} or {@code data} parameters are null or empty
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption operation
+     */
+    Future<byte[]> encryptAsync(@NotEmpty byte[] iv, @NotEmpty byte[] data);
+
+    /**
+     * Asynchronously encrypts the remaining clear text contained in the {@code buffer} parameter.
+     *
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param buffer
+     *         the {@link ByteBuffer} containing the clear text to be encrypted, not null
+     * @return a {@link Future} that when resolved returns a {@link ByteBuffer} containing the cipher text, not null
+     * @throws IllegalArgumentException
+     *         if the {@code iv} parameter is null or empty or if the {@code buffer} parameter is null
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption operation
+     */
+    Future<ByteBuffer> encryptAsync(@NotEmpty byte[] iv, @NotNull ByteBuffer buffer);
+
+    /**
+     * Synchronously encrypts the clear text contained in the {@code data} parameter.
+     *
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param data
+     *         the clear text to be encrypted, not null
+     * @return the cipher text, not null
+     * @throws IllegalArgumentException
+     *         if the {@code iv} or {@code data} parameters are null or empty
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption operation
+     */
+    byte[] encryptSync(@NotEmpty byte[] iv, @NotEmpty byte[] data);
+
+    /**
+     * Synchronously encrypts the remaining clear text contained in the {@code buffer} parameter.
+     *
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param buffer
+     *         the {@link ByteBuffer} containing the clear text to be encrypted, not null
+     * @return a {@link ByteBuffer} containing the cipher text, not null
+     * @throws IllegalArgumentException
+     *         if the {@code iv} parameter is null or empty or if the {@code buffer} parameter is null
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption operation
+     */
+    ByteBuffer encryptSync(@NotEmpty byte[] iv, @NotNull ByteBuffer buffer);
+
+    /**
+     * Synchronously encrypts {@code inputLength} bytes of clear text contained in the {@code input} array beginning at
+     * the {@code inputOffset} and writes the cipher text into the {@code output} array beginning at the {@code
+     * outputOffset}. The {@code output} array must have enough space remaining to hold the cipher text. The space must
+     * include any padding or authentication tag added by the transformation. The {@code input} and {@code output}
+     * arrays may be the same array, in which case the cipher text overwrites the clear text in place.
+     *
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param input
+     *         the byte array containing the clear text to be encrypted, not null
+     * @param inputOffset
+     *         the offset in the {@code input} array at which the clear text begins
+     * @param inputLength
+     *         the number of bytes of clear text to be encrypted
+     * @param output
+     *         the byte array into which the cipher text is written, not null
+     * @param outputOffset
+     *         the offset in the {@code output} array at which the cipher text is written
+     * @return the number of bytes written to the {@code output} array
+     * @throws IllegalArgumentException
+     *         if the {@code iv} parameter is null or empty or if the {@code input} or {@code output} parameters are
+     *         null
+     * @throws IndexOutOfBoundsException
+     *         if the {@code inputOffset}, {@code inputLength}, or {@code outputOffset} parameters lie outside the
+     *         bounds of their arrays
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption operation or if the {@code output} array is too small
+     * @see EncryptionProvider#encryptSync(CipherTransformation, Key, byte[], byte[], int, int, byte[], int)
+     */
+    int encryptSync(@NotEmpty byte[] iv, @NotNull byte[] input, int inputOffset, int inputLength,
+                    @NotNull byte[] output, int outputOffset);
+
+    /**
+     * Synchronously encrypts the remaining clear text contained in the {@code input} buffer and writes the cipher text
+     * into the {@code output} buffer. The {@code output} buffer must have enough space remaining to hold the cipher
+     * text. The space must include any padding or authentication tag added by the transformation. The cipher text may
+     * be written over the clear text in place by passing a duplicate of the {@code input} buffer as the {@code output}
+     * parameter.
+     *
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param input
+     *         the {@link ByteBuffer} containing the clear text to be encrypted, not null
+     * @param output
+     *         the {@link ByteBuffer} into which the cipher text is written, not null
+     * @return the number of bytes written to the {@code output} buffer
+     * @throws IllegalArgumentException
+     *         if the {@code iv} parameter is null or empty, if the {@code input} or {@code output} parameters are null
+     *         or the same object, or if the {@code output} buffer is read-only
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption operation or if the {@code output} buffer is too small
+     * @see EncryptionProvider#encryptSync(CipherTransformation, Key, byte[], ByteBuffer, ByteBuffer)
+     */
+    int encryptSync(@NotEmpty byte[] iv, @NotNull ByteBuffer input, @NotNull ByteBuffer output);
+
+    /**
+     * Discards the pooled primitives held by this session.
+     */
+    @Override
+    void close();
+}
@@ -34,7 +34,8 @@ public interface CryptoPrimitiveSupplier<T> {
 
     /**
      * Creates an instance of the algorithm using the Java Cryptography Architecture and the default {@link Provider}
-     * implementation.
+     * implementation. If none of the installed providers support the algorithm, the BouncyCastle provider is registered
+     * and the request is retried.
      *
      * @return an instance of the algorithm implementation
      * @throws CryptographyException
@@ -46,7 +47,7 @@ public interface CryptoPrimitiveSupplier<T> {
 
     /**
      * Creates an instance of the algorithm using the Java Cryptography Architecture and requesting the implementation
-     * from the specified {@code provider}.
+     * from the specified {@code provider}. The BouncyCastle provider is registered first if it is requested by name.
      *
      * @param provider
      *         the name of the provider from which to request the algorithm implementation, not null
@@ -22,7 +22,14 @@ import com.servercurio.fabric.security.Hash;
 import com.servercurio.fabric.security.HashAlgorithm;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
@@ -234,6 +241,150 @@ public interface DigestProvider {
      */
     Future<Hash> digestAsync(@NotNull final HashAlgorithm algorithm, @NotNull final ByteBuffer buffer);
 
+    /**
+     * Asynchronously computes the digest of the {@link InputStream} specified by the {@code stream} parameter using the
+     * hash algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the {@link
+     * #digestAsync(HashAlgorithm, InputStream)} method, the returned {@link CompletableFuture} may be composed with
+     * further stages without blocking a thread. Cancelling the returned future stops reading the stream before the next
+     * block is processed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param stream
+     *         the stream to be hashed, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Hash}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or the {@code stream} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the hash value
+     */
+    CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm, @NotNull final InputStream stream);
+
+    /**
+     * Asynchronously computes the digest of the {@link InputStream} specified by the {@code stream} parameter using the
+     * hash algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the {@link
+     * #digestAsync(HashAlgorithm, InputStream)} method, the returned {@link CompletableFuture} may be composed with
+     * further stages without blocking a thread. Cancelling the returned future stops reading the stream before the next
+     * block is processed.
+     *
+     * <p>
+     * If the operation has not completed before the {@code timeout} elapses, the returned future is completed
+     * exceptionally with a {@link TimeoutException} and no further blocks are read from the stream.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param stream
+     *         the stream to be hashed, not null
+     * @param timeout
+     *         the maximum amount of time allowed for the operation to complete, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Hash}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code stream}, or the {@code timeout} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the hash value
+     */
+    CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm, @NotNull final InputStream stream,
+                                        @NotNull final Duration timeout);
+
+    /**
+     * Asynchronously computes the digest of the byte array specified by the {@code data} parameter using the hash
+     * algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the {@link
+     * #digestAsync(HashAlgorithm, byte[])} method, the returned {@link CompletableFuture} may be composed with further
+     * stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param data
+     *         the data to be hashed, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Hash}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or the {@code data} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the hash value
+     */
+    CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm, @NotNull final byte[] data);
+
+    /**
+     * Asynchronously computes the digest of the {@link Hash} array specified by the {@code hashes} parameter using the
+     * hash algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the {@link
+     * #digestAsync(HashAlgorithm, Hash...)} method, the returned {@link CompletableFuture} may be composed with further
+     * stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param hashes
+     *         the {@link Hash} array to be hashed, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Hash}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or the {@code hashes} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the hash value
+     */
+    CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm, @NotEmpty final Hash... hashes);
+
+    /**
+     * Asynchronously computes the digest of the {@link ByteBuffer} specified by the {@code buffer} parameter using the
+     * hash algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the {@link
+     * #digestAsync(HashAlgorithm, ByteBuffer)} method, the returned {@link CompletableFuture} may be composed with
+     * further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param buffer
+     *         the {@link ByteBuffer} to be hashed, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Hash}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or the {@code buffer} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the hash value
+     */
+    CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm, @NotNull final ByteBuffer buffer);
+
+    /**
+     * Asynchronously computes the digest of the file specified by the {@code file} parameter using the hash algorithm
+     * specified by the {@code algorithm} parameter. The file is read using an {@link AsynchronousFileChannel} which
+     * keeps multiple reads in flight and does not block a thread while waiting for a read to complete. Cancelling the
+     * returned future, including by applying a timeout with the {@link CompletableFuture#orTimeout(long, TimeUnit)}
+     * method, stops reading the file before the next block is processed.
+     *
+     * <p>
+     * The {@link HashAlgorithm#BLAKE3_256} and {@link HashAlgorithm#CRC32C} algorithms instead memory map the file
+     * and, for large files, divide it between multiple threads whose partial results are combined into the same value
+     * as the sequential digest.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param file
+     *         the file to be hashed, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Hash}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or the {@code file} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while reading the file or computing the hash value
+     */
+    CompletableFuture<Hash> digestStage(@NotNull final HashAlgorithm algorithm, @NotNull final Path file);
+
+    /**
+     * Creates a new {@link Flow.Processor} which computes the digest of the {@link ByteBuffer} chunks received from the
+     * upstream publisher using the hash algorithm specified by the {@code algorithm} parameter. A single {@link Hash}
+     * is published to the downstream subscriber once the upstream publisher has completed. The processor accepts a
+     * single downstream subscriber.
+     *
+     * <p>
+     * Chunks are only requested from the upstream publisher while the downstream subscriber has outstanding demand
+     * and the next chunk is only requested once the previous chunk has been processed. Each chunk is consumed from its
+     * current position to its limit and must not be modified until the next chunk is requested.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @return a new processor which publishes the computed {@link Hash}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} parameter is null
+     * @throws CryptographyException
+     *         if the algorithm implementation is not available
+     */
+    Flow.Processor<ByteBuffer, Hash> digestProcessor(@NotNull final HashAlgorithm algorithm);
+
     /**
      * Synchronously computes the digest of the {@link InputStream} specified by the {@code stream} parameter. This
      * implementation uses the default algorithm provided by the {@link #getDefaultAlgorithm()} method.
@@ -374,7 +525,8 @@ public interface DigestProvider {
      *
      * <p>
      * This implementation will read the {@link ByteBuffer} from the current position until the end of the buffer is
-     * reached.
+     * reached. Large buffers hashed with the {@link HashAlgorithm#BLAKE3_256} or {@link HashAlgorithm#CRC32C}
+     * algorithms are divided between the calling thread and the threads of the {@link OperationClass#DIGEST} lane.
      *
      * @param algorithm
      *         the algorithm to use, not null
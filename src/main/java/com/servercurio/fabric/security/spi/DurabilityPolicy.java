@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import java.nio.channels.FileChannel;
+
+/**
+ * An enumeration of the guarantees made about the durability of a file once an operation writing to that file has
+ * completed.
+ *
+ * @author Nathan Klick
+ * @see EncryptionProvider#commitSync()
+ */
+public enum DurabilityPolicy {
+    /**
+     * The output is written but not forced to the storage device, leaving it to be written back by the operating system
+     * at its own pace.
+     */
+    NONE,
+
+    /**
+     * The content of the file is forced to the storage device before the operation completes, which is equivalent to
+     * {@code fdatasync}. Metadata that is not required to read the content back, such as the modification time, may not
+     * be written.
+     *
+     * @see FileChannel#force(boolean)
+     */
+    DATA,
+
+    /**
+     * The content and metadata of the file are forced to the storage device before the operation completes, which is
+     * equivalent to {@code fsync}.
+     *
+     * @see FileChannel#force(boolean)
+     */
+    FULL,
+
+    /**
+     * The file is not forced when the operation completes; instead, it is recorded by the provider and forced along
+     * with every other deferred file by the next call to {@link EncryptionProvider#commitSync()}. Committing many files
+     * as a group allows them to be written back together rather than waiting for the storage device once per file.
+     */
+    DEFERRED
+}
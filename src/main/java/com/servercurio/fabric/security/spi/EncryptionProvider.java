@@ -22,13 +22,25 @@ import com.servercurio.fabric.security.CipherPadding;
 import com.servercurio.fabric.security.CipherTransformation;
 import com.servercurio.fabric.security.Cryptography;
 import com.servercurio.fabric.security.CryptographyException;
+import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.security.Key;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.crypto.SecretKey;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -243,6 +255,211 @@ public interface EncryptionProvider {
     Future<ByteBuffer> decryptAsync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                                     @NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer);
 
+    /**
+     * Asynchronously decrypts the {@link InputStream} specified by the {@code cipherStream} parameter and writes the
+     * result to the {@link OutputStream} specified by the {@code clearStream} parameter. Unlike the {@link Future}
+     * returned by the {@link #decryptAsync(CipherTransformation, Key, byte[], InputStream, OutputStream)} method, the
+     * returned {@link CompletableFuture} may be composed with further stages without blocking a thread. Cancelling the
+     * returned future stops reading the stream before the next block is processed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param cipherStream
+     *         the input stream to be read, not null
+     * @param clearStream
+     *         the output stream to which the result is written, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code null} once the decryption has
+     *         completed, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code iv}, the {@code cipherStream}, or the {@code
+     *         clearStream} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption
+     */
+    CompletableFuture<Void> decryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                         @NotEmpty final byte[] iv, @NotNull final InputStream cipherStream,
+                                         @NotNull final OutputStream clearStream);
+
+    /**
+     * Asynchronously decrypts the {@link InputStream} specified by the {@code cipherStream} parameter and writes the
+     * result to the {@link OutputStream} specified by the {@code clearStream} parameter. Unlike the {@link Future}
+     * returned by the {@link #decryptAsync(CipherTransformation, Key, byte[], InputStream, OutputStream)} method, the
+     * returned {@link CompletableFuture} may be composed with further stages without blocking a thread. Cancelling the
+     * returned future stops reading the stream before the next block is processed.
+     *
+     * <p>
+     * If the operation has not completed before the {@code timeout} elapses, the returned future is completed
+     * exceptionally with a {@link TimeoutException} and no further blocks are read from the stream.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param cipherStream
+     *         the input stream to be read, not null
+     * @param clearStream
+     *         the output stream to which the result is written, not null
+     * @param timeout
+     *         the maximum amount of time allowed for the operation to complete, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code null} once the decryption has
+     *         completed, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code iv}, the {@code cipherStream}, the {@code
+     *         clearStream}, or the {@code timeout} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption
+     */
+    CompletableFuture<Void> decryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                         @NotEmpty final byte[] iv, @NotNull final InputStream cipherStream,
+                                         @NotNull final OutputStream clearStream, @NotNull final Duration timeout);
+
+    /**
+     * Asynchronously decrypts the byte array specified by the {@code data} parameter using the algorithm specified by
+     * the {@code algorithm} parameter. Unlike the {@link Future} returned by the {@link
+     * #decryptAsync(CipherTransformation, Key, byte[], byte[])} method, the returned {@link CompletableFuture} may be
+     * composed with further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param data
+     *         the data to be processed, not null
+     * @return a {@link CompletableFuture} that when completed will return the result of the decryption, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code iv}, or the {@code data} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption
+     */
+    CompletableFuture<byte[]> decryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                           @NotEmpty final byte[] iv, @NotEmpty final byte[] data);
+
+    /**
+     * Asynchronously decrypts the {@link ByteBuffer} specified by the {@code buffer} parameter using the algorithm
+     * specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the {@link
+     * #decryptAsync(CipherTransformation, Key, byte[], ByteBuffer)} method, the returned {@link CompletableFuture} may
+     * be composed with further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param buffer
+     *         the {@link ByteBuffer} to be processed, not null
+     * @return a {@link CompletableFuture} that when completed will return the result of the decryption, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code iv}, or the {@code buffer} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption
+     */
+    CompletableFuture<ByteBuffer> decryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                               @NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer);
+
+    /**
+     * Asynchronously decrypts the cipher text read from the file specified by the {@code cipherFile} parameter and
+     * writes the resulting clear text to the file specified by the {@code clearFile} parameter. The file is read using
+     * an {@link AsynchronousFileChannel} which keeps multiple reads in flight and does not block a thread while waiting
+     * for a read to complete. Cancelling the returned future, including by applying a timeout with the {@link
+     * CompletableFuture#orTimeout(long, TimeUnit)} method, stops reading the file before the next block is processed.
+     * The result is written to the destination using an {@link AsynchronousFileChannel} and is forced to the storage
+     * device according to the {@link DurabilityPolicy#FULL} policy before the returned future completes. At most one
+     * write per outstanding read is kept in flight.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param cipherFile
+     *         the file from which the cipher text is read, not null
+     * @param clearFile
+     *         the file to which the clear text is written, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code null} once the decryption has
+     *         completed, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code iv}, the {@code cipherFile}, or the {@code
+     *         clearFile} parameters are null or if the {@code cipherFile} and {@code clearFile} parameters refer to the
+     *         same file
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the files or performing the decryption
+     */
+    default CompletableFuture<Void> decryptStage(@NotNull final CipherTransformation algorithm,
+                                                 @NotNull final Key key, @NotEmpty final byte[] iv,
+                                                 @NotNull final Path cipherFile, @NotNull final Path clearFile) {
+        return decryptStage(algorithm, key, iv, cipherFile, clearFile, DurabilityPolicy.FULL);
+    }
+
+    /**
+     * Asynchronously decrypts the cipher text read from the file specified by the {@code cipherFile} parameter and
+     * writes the resulting clear text to the file specified by the {@code clearFile} parameter. The files are accessed
+     * in the same way as the {@link #decryptStage(CipherTransformation, Key, byte[], Path, Path)} method. Once every
+     * write has completed, the {@code clearFile} is forced to the storage device according to the {@code durability}
+     * parameter before the returned future completes. Files written with the {@link DurabilityPolicy#DEFERRED} policy
+     * are not forced until the next call to the {@link #commitSync()} method.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param cipherFile
+     *         the file from which the cipher text is read, not null
+     * @param clearFile
+     *         the file to which the clear text is written, not null
+     * @param durability
+     *         the durability guaranteed for the {@code clearFile} once the returned future completes, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code null} once the decryption has
+     *         completed, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, {@code iv}, {@code cipherFile}, {@code clearFile}, or {@code
+     *         durability} parameters are null or if the {@code cipherFile} and {@code clearFile} parameters refer to
+     *         the same file
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the files or performing the decryption
+     */
+    CompletableFuture<Void> decryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                         @NotEmpty final byte[] iv, @NotNull final Path cipherFile,
+                                         @NotNull final Path clearFile, @NotNull final DurabilityPolicy durability);
+
+    /**
+     * Creates a new {@link Flow.Processor} which decrypts the {@link ByteBuffer} chunks received from the upstream
+     * publisher using the algorithm specified by the {@code algorithm} parameter and publishes the decrypted chunks to
+     * the downstream subscriber. The final chunk is published once the upstream publisher has completed. The processor
+     * accepts a single downstream subscriber.
+     *
+     * <p>
+     * Chunks are only requested from the upstream publisher while the downstream subscriber has outstanding demand
+     * which is not satisfied by the decrypted chunks awaiting delivery, and the next chunk is only requested once the
+     * previous chunk has been processed. Each chunk is consumed from its current position to its limit and must not
+     * be modified until the next chunk is requested.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @return a new processor which publishes the decrypted chunks, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code iv} parameters are null
+     * @throws CryptographyException
+     *         if the algorithm implementation is not available or the key or initialization vector are invalid
+     */
+    Flow.Processor<ByteBuffer, ByteBuffer> decryptProcessor(@NotNull final CipherTransformation algorithm,
+                                                             @NotNull final Key key, @NotEmpty final byte[] iv);
+
     /**
      * Synchronously decrypts the cipher text read from the {@link InputStream} specified by the {@code cipherStream}
      * parameter and writes the resulting clear text to the {@link OutputStream} specified by the {@code clearStream}
@@ -280,6 +497,11 @@ public interface EncryptionProvider {
      * This implementation will read the input stream from the current position until the end of the stream is reached
      * or no more bytes are available.
      *
+     * <p>
+     * If the {@code clearStream} is a {@link FileOutputStream}, the file is forced to the storage device
+     * according to the {@link DurabilityPolicy#FULL} policy before this method returns. The channel methods accept
+     * a {@link DurabilityPolicy} for callers which require a different guarantee.
+     *
      * @param algorithm
      *         the algorithm to use, not null
      * @param key
@@ -398,6 +620,273 @@ public interface EncryptionProvider {
     ByteBuffer decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                            @NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer);
 
+    /**
+     * Synchronously decrypts {@code inputLength} bytes of cipher text read from the {@code input} array beginning at
+     * the {@code inputOffset} and writes the resulting clear text into the {@code output} array beginning at the {@code
+     * outputOffset}. This implementation uses the default algorithm provided by the {@link #getDefaultAlgorithm()}
+     * method.
+     *
+     * @param key
+     *         the {@link SecretKey} or {@link PrivateKey} to be used to decrypt the cipher text, not null
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param input
+     *         the byte array containing the cipher text to be decrypted, not null
+     * @param inputOffset
+     *         the offset in the {@code input} array at which the cipher text begins
+     * @param inputLength
+     *         the number of bytes of cipher text to be decrypted
+     * @param output
+     *         the byte array into which the clear text is written, may be the same array as the {@code input}, not null
+     * @param outputOffset
+     *         the offset in the {@code output} array at which the clear text is written
+     * @return the number of bytes written to the {@code output} array
+     * @throws IllegalArgumentException
+     *         if the {@code key}, {@code iv}, {@code input}, or {@code output} parameters are null
+     * @throws IndexOutOfBoundsException
+     *         if the {@code inputOffset}, {@code inputLength}, or {@code outputOffset} parameters lie outside the
+     *         bounds of their arrays
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption operation or if the {@code output} array is too small
+     * @see #getDefaultAlgorithm()
+     * @see #decryptSync(CipherTransformation, Key, byte[], byte[], int, int, byte[], int)
+     */
+    default int decryptSync(@NotNull final Key key, @NotEmpty final byte[] iv, @NotNull final byte[] input,
+                            final int inputOffset, final int inputLength, @NotNull final byte[] output,
+                            final int outputOffset) {
+        return decryptSync(getDefaultAlgorithm(), key, iv, input, inputOffset, inputLength, output, outputOffset);
+    }
+
+    /**
+     * Synchronously decrypts {@code inputLength} bytes of cipher text read from the {@code input} array beginning at
+     * the {@code inputOffset} and writes the resulting clear text into the {@code output} array beginning at the {@code
+     * outputOffset}.
+     *
+     * <p>
+     * No intermediate arrays are allocated, therefore the caller is responsible for supplying an {@code output} array
+     * with enough space remaining after the {@code outputOffset} to hold the clear text. Space for as many bytes as the
+     * cipher text is always sufficient. The {@code input} and {@code output} arrays may be the same array, in which
+     * case the clear text overwrites the cipher text in place.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the {@link SecretKey} or {@link PrivateKey} to be used to decrypt the cipher text, not null
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param input
+     *         the byte array containing the cipher text to be decrypted, not null
+     * @param inputOffset
+     *         the offset in the {@code input} array at which the cipher text begins
+     * @param inputLength
+     *         the number of bytes of cipher text to be decrypted
+     * @param output
+     *         the byte array into which the clear text is written, may be the same array as the {@code input}, not null
+     * @param outputOffset
+     *         the offset in the {@code output} array at which the clear text is written
+     * @return the number of bytes written to the {@code output} array
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, {@code iv}, {@code input}, or {@code output} parameters are null
+     * @throws IndexOutOfBoundsException
+     *         if the {@code inputOffset}, {@code inputLength}, or {@code outputOffset} parameters lie outside the
+     *         bounds of their arrays
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption operation or if the {@code output} array is too small
+     */
+    int decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key, @NotEmpty final byte[] iv,
+                    @NotNull final byte[] input, final int inputOffset, final int inputLength,
+                    @NotNull final byte[] output, final int outputOffset);
+
+    /**
+     * Synchronously decrypts the remaining cipher text read from the {@code input} buffer and writes the resulting
+     * clear text into the {@code output} buffer. This implementation uses the default algorithm provided by the {@link
+     * #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the {@link SecretKey} or {@link PrivateKey} to be used to decrypt the cipher text, not null
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param input
+     *         the {@link ByteBuffer} containing the cipher text to be decrypted, not null
+     * @param output
+     *         the {@link ByteBuffer} into which the clear text is written, not null
+     * @return the number of bytes written to the {@code output} buffer
+     * @throws IllegalArgumentException
+     *         if the {@code key}, {@code iv}, {@code input}, or {@code output} parameters are null, if the {@code
+     *         input} and {@code output} parameters are the same object, or if the {@code output} buffer is read-only
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption operation or if the {@code output} buffer is too small
+     * @see #getDefaultAlgorithm()
+     * @see #decryptSync(CipherTransformation, Key, byte[], ByteBuffer, ByteBuffer)
+     */
+    default int decryptSync(@NotNull final Key key, @NotEmpty final byte[] iv, @NotNull final ByteBuffer input,
+                            @NotNull final ByteBuffer output) {
+        return decryptSync(getDefaultAlgorithm(), key, iv, input, output);
+    }
+
+    /**
+     * Synchronously decrypts the remaining cipher text read from the {@code input} buffer and writes the resulting
+     * clear text into the {@code output} buffer. Upon return, the position of the {@code input} buffer will be equal to
+     * its limit and the position of the {@code output} buffer will have advanced by the number of bytes written.
+     *
+     * <p>
+     * No intermediate buffers are allocated, therefore the caller is responsible for supplying an {@code output} buffer
+     * with enough space remaining to hold the clear text. Space for as many bytes as the cipher text is always
+     * sufficient. Both heap and direct buffers are supported. The clear text may be written over the cipher text in
+     * place by passing a second view of the same memory, such as one obtained from {@link ByteBuffer#duplicate()}, as
+     * the {@code output} parameter. Such views may be created once and reused for every operation.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the {@link SecretKey} or {@link PrivateKey} to be used to decrypt the cipher text, not null
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param input
+     *         the {@link ByteBuffer} containing the cipher text to be decrypted, not null
+     * @param output
+     *         the {@link ByteBuffer} into which the clear text is written, not null
+     * @return the number of bytes written to the {@code output} buffer
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, {@code iv}, {@code input}, or {@code output} parameters are null,
+     *         if the {@code input} and {@code output} parameters are the same object, or if the {@code output} buffer
+     *         is read-only
+     * @throws CryptographyException
+     *         if an error occurs while performing the decryption operation or if the {@code output} buffer is too small
+     */
+    int decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key, @NotEmpty final byte[] iv,
+                    @NotNull final ByteBuffer input, @NotNull final ByteBuffer output);
+
+    /**
+     * Synchronously decrypts the cipher text read from the file specified by the {@code cipherFile} parameter and
+     * writes the resulting clear text to the file specified by the {@code clearFile} parameter, which is created or
+     * truncated. This implementation uses the default algorithm provided by the {@link #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the {@link SecretKey} or {@link PrivateKey} to be used to decrypt the cipher text, not null
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param cipherFile
+     *         the file from which the cipher text is read, not null
+     * @param clearFile
+     *         the file to which the clear text is written, not null
+     * @param durability
+     *         the durability guaranteed for the {@code clearFile} once this method returns, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key}, {@code iv}, {@code cipherFile}, {@code clearFile}, or {@code durability} parameters
+     *         are null or if the {@code cipherFile} and {@code clearFile} parameters refer to the same file
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the files or performing the decryption operation
+     * @see #getDefaultAlgorithm()
+     * @see #decryptSync(CipherTransformation, Key, byte[], Path, Path, DurabilityPolicy)
+     */
+    default void decryptSync(@NotNull final Key key, @NotEmpty final byte[] iv, @NotNull final Path cipherFile,
+                             @NotNull final Path clearFile, @NotNull final DurabilityPolicy durability) {
+        decryptSync(getDefaultAlgorithm(), key, iv, cipherFile, clearFile, durability);
+    }
+
+    /**
+     * Synchronously decrypts the cipher text read from the file specified by the {@code cipherFile} parameter and
+     * writes the resulting clear text to the file specified by the {@code clearFile} parameter, which is created or
+     * truncated.
+     *
+     * <p>
+     * Both files are accessed using a {@link FileChannel} and the content is transformed in large blocks held in direct
+     * buffers. Once the clear text has been written, the {@code clearFile} is forced to the storage device according to
+     * the {@code durability} parameter. Files written with the {@link DurabilityPolicy#DEFERRED} policy are not forced
+     * until the next call to the {@link #commitSync()} method.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the {@link SecretKey} or {@link PrivateKey} to be used to decrypt the cipher text, not null
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param cipherFile
+     *         the file from which the cipher text is read, not null
+     * @param clearFile
+     *         the file to which the clear text is written, not null
+     * @param durability
+     *         the durability guaranteed for the {@code clearFile} once this method returns, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, {@code iv}, {@code cipherFile}, {@code clearFile}, or {@code
+     *         durability} parameters are null or if the {@code cipherFile} and {@code clearFile} parameters refer to
+     *         the same file
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the files or performing the decryption operation
+     */
+    void decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key, @NotEmpty final byte[] iv,
+                     @NotNull final Path cipherFile, @NotNull final Path clearFile,
+                     @NotNull final DurabilityPolicy durability);
+
+    /**
+     * Synchronously decrypts the cipher text read from the {@link ReadableByteChannel} specified by the {@code
+     * cipherChannel} parameter and writes the resulting clear text to the {@link WritableByteChannel} specified by the
+     * {@code clearChannel} parameter. This implementation uses the default algorithm provided by the {@link
+     * #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the {@link SecretKey} or {@link PrivateKey} to be used to decrypt the cipher text, not null
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param cipherChannel
+     *         the blocking channel from which the cipher text is read until the end of the stream is reached, not null
+     * @param clearChannel
+     *         the blocking channel to which the clear text is written, not null
+     * @param durability
+     *         the durability guaranteed for the {@code clearChannel} once this method returns, must not be {@link
+     *         DurabilityPolicy#DEFERRED}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key}, {@code iv}, {@code cipherChannel}, {@code clearChannel}, or {@code durability}
+     *         parameters are null or if the {@code durability} parameter is {@link DurabilityPolicy#DEFERRED}
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the channels or performing the decryption operation
+     * @see #getDefaultAlgorithm()
+     * @see #decryptSync(CipherTransformation, Key, byte[], ReadableByteChannel, WritableByteChannel, DurabilityPolicy)
+     */
+    default void decryptSync(@NotNull final Key key, @NotEmpty final byte[] iv,
+                             @NotNull final ReadableByteChannel cipherChannel,
+                             @NotNull final WritableByteChannel clearChannel,
+                             @NotNull final DurabilityPolicy durability) {
+        decryptSync(getDefaultAlgorithm(), key, iv, cipherChannel, clearChannel, durability);
+    }
+
+    /**
+     * Synchronously decrypts the cipher text read from the {@link ReadableByteChannel} specified by the {@code
+     * cipherChannel} parameter and writes the resulting clear text to the {@link WritableByteChannel} specified by the
+     * {@code clearChannel} parameter. Neither channel is closed by this method.
+     *
+     * <p>
+     * The content is transformed in large blocks held in direct buffers, which are sized to the remaining content when
+     * the {@code cipherChannel} is a {@link SeekableByteChannel}. The {@code durability} parameter only applies when
+     * the {@code clearChannel} is a {@link FileChannel}, since the owner of any other channel is responsible for its
+     * durability. The {@link DurabilityPolicy#DEFERRED} policy is not supported because the provider cannot force a
+     * channel which it does not own once the channel has been closed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the {@link SecretKey} or {@link PrivateKey} to be used to decrypt the cipher text, not null
+     * @param iv
+     *         the original nonce used during the encryption of the cipher text, not null
+     * @param cipherChannel
+     *         the blocking channel from which the cipher text is read until the end of the stream is reached, not null
+     * @param clearChannel
+     *         the blocking channel to which the clear text is written, not null
+     * @param durability
+     *         the durability guaranteed for the {@code clearChannel} once this method returns, must not be {@link
+     *         DurabilityPolicy#DEFERRED}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, {@code iv}, {@code cipherChannel}, {@code clearChannel}, or {@code
+     *         durability} parameters are null or if the {@code durability} parameter is {@link
+     *         DurabilityPolicy#DEFERRED}
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the channels or performing the decryption operation
+     */
+    void decryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key, @NotEmpty final byte[] iv,
+                     @NotNull final ReadableByteChannel cipherChannel,
+                     @NotNull final WritableByteChannel clearChannel, @NotNull final DurabilityPolicy durability);
+
 
     /**
      * Asynchronously encrypts the clear text read from the {@link InputStream} specified by the {@code clearStream}
@@ -582,6 +1071,211 @@ public interface EncryptionProvider {
     Future<ByteBuffer> encryptAsync(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
                                     @NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer);
 
+    /**
+     * Asynchronously encrypts the {@link InputStream} specified by the {@code clearStream} parameter and writes the
+     * result to the {@link OutputStream} specified by the {@code cipherStream} parameter. Unlike the {@link Future}
+     * returned by the {@link #encryptAsync(CipherTransformation, Key, byte[], InputStream, OutputStream)} method, the
+     * returned {@link CompletableFuture} may be composed with further stages without blocking a thread. Cancelling the
+     * returned future stops reading the stream before the next block is processed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param clearStream
+     *         the input stream to be read, not null
+     * @param cipherStream
+     *         the output stream to which the result is written, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code null} once the encryption has
+     *         completed, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code iv}, the {@code clearStream}, or the {@code
+     *         cipherStream} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption
+     */
+    CompletableFuture<Void> encryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                         @NotEmpty final byte[] iv, @NotNull final InputStream clearStream,
+                                         @NotNull final OutputStream cipherStream);
+
+    /**
+     * Asynchronously encrypts the {@link InputStream} specified by the {@code clearStream} parameter and writes the
+     * result to the {@link OutputStream} specified by the {@code cipherStream} parameter. Unlike the {@link Future}
+     * returned by the {@link #encryptAsync(CipherTransformation, Key, byte[], InputStream, OutputStream)} method, the
+     * returned {@link CompletableFuture} may be composed with further stages without blocking a thread. Cancelling the
+     * returned future stops reading the stream before the next block is processed.
+     *
+     * <p>
+     * If the operation has not completed before the {@code timeout} elapses, the returned future is completed
+     * exceptionally with a {@link TimeoutException} and no further blocks are read from the stream.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param clearStream
+     *         the input stream to be read, not null
+     * @param cipherStream
+     *         the output stream to which the result is written, not null
+     * @param timeout
+     *         the maximum amount of time allowed for the operation to complete, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code null} once the encryption has
+     *         completed, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code iv}, the {@code clearStream}, the {@code
+     *         cipherStream}, or the {@code timeout} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption
+     */
+    CompletableFuture<Void> encryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                         @NotEmpty final byte[] iv, @NotNull final InputStream clearStream,
+                                         @NotNull final OutputStream cipherStream, @NotNull final Duration timeout);
+
+    /**
+     * Asynchronously encrypts the byte array specified by the {@code data} parameter using the algorithm specified by
+     * the {@code algorithm} parameter. Unlike the {@link Future} returned by the {@link
+     * #encryptAsync(CipherTransformation, Key, byte[], byte[])} method, the returned {@link CompletableFuture} may be
+     * composed with further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param data
+     *         the data to be processed, not null
+     * @return a {@link CompletableFuture} that when completed will return the result of the encryption, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code iv}, or the {@code data} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption
+     */
+    CompletableFuture<byte[]> encryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                           @NotEmpty final byte[] iv, @NotEmpty final byte[] data);
+
+    /**
+     * Asynchronously encrypts the {@link ByteBuffer} specified by the {@code buffer} parameter using the algorithm
+     * specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the {@link
+     * #encryptAsync(CipherTransformation, Key, byte[], ByteBuffer)} method, the returned {@link CompletableFuture} may
+     * be composed with further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param buffer
+     *         the {@link ByteBuffer} to be processed, not null
+     * @return a {@link CompletableFuture} that when completed will return the result of the encryption, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code iv}, or the {@code buffer} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption
+     */
+    CompletableFuture<ByteBuffer> encryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                               @NotEmpty final byte[] iv, @NotNull final ByteBuffer buffer);
+
+    /**
+     * Asynchronously encrypts the clear text read from the file specified by the {@code clearFile} parameter and writes
+     * the resulting cipher text to the file specified by the {@code cipherFile} parameter. The file is read using an
+     * {@link AsynchronousFileChannel} which keeps multiple reads in flight and does not block a thread while waiting
+     * for a read to complete. Cancelling the returned future, including by applying a timeout with the {@link
+     * CompletableFuture#orTimeout(long, TimeUnit)} method, stops reading the file before the next block is processed.
+     * The result is written to the destination using an {@link AsynchronousFileChannel} and is forced to the storage
+     * device according to the {@link DurabilityPolicy#FULL} policy before the returned future completes. At most one
+     * write per outstanding read is kept in flight.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param clearFile
+     *         the file from which the clear text is read, not null
+     * @param cipherFile
+     *         the file to which the cipher text is written, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code null} once the encryption has
+     *         completed, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code iv}, the {@code clearFile}, or the {@code
+     *         cipherFile} parameters are null or if the {@code clearFile} and {@code cipherFile} parameters refer to
+     *         the same file
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the files or performing the encryption
+     */
+    default CompletableFuture<Void> encryptStage(@NotNull final CipherTransformation algorithm,
+                                                 @NotNull final Key key, @NotEmpty final byte[] iv,
+                                                 @NotNull final Path clearFile, @NotNull final Path cipherFile) {
+        return encryptStage(algorithm, key, iv, clearFile, cipherFile, DurabilityPolicy.FULL);
+    }
+
+    /**
+     * Asynchronously encrypts the clear text read from the file specified by the {@code clearFile} parameter and
+     * writes the resulting cipher text to the file specified by the {@code cipherFile} parameter. The files are
+     * accessed in the same way as the {@link #encryptStage(CipherTransformation, Key, byte[], Path, Path)} method. Once
+     * every write has completed, the {@code cipherFile} is forced to the storage device according to the {@code
+     * durability} parameter before the returned future completes. Files written with the {@link
+     * DurabilityPolicy#DEFERRED} policy are not forced until the next call to the {@link #commitSync()} method.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @param clearFile
+     *         the file from which the clear text is read, not null
+     * @param cipherFile
+     *         the file to which the cipher text is written, not null
+     * @param durability
+     *         the durability guaranteed for the {@code cipherFile} once the returned future completes, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code null} once the encryption has
+     *         completed, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, {@code iv}, {@code clearFile}, {@code cipherFile}, or {@code
+     *         durability} parameters are null or if the {@code clearFile} and {@code cipherFile} parameters refer to
+     *         the same file
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the files or performing the encryption
+     */
+    CompletableFuture<Void> encryptStage(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                         @NotEmpty final byte[] iv, @NotNull final Path clearFile,
+                                         @NotNull final Path cipherFile, @NotNull final DurabilityPolicy durability);
+
+    /**
+     * Creates a new {@link Flow.Processor} which encrypts the {@link ByteBuffer} chunks received from the upstream
+     * publisher using the algorithm specified by the {@code algorithm} parameter and publishes the encrypted chunks to
+     * the downstream subscriber. The final chunk is published once the upstream publisher has completed. The processor
+     * accepts a single downstream subscriber.
+     *
+     * <p>
+     * Chunks are only requested from the upstream publisher while the downstream subscriber has outstanding demand
+     * which is not satisfied by the encrypted chunks awaiting delivery, and the next chunk is only requested once the
+     * previous chunk has been processed. Each chunk is consumed from its current position to its limit and must not
+     * be modified until the next chunk is requested.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param iv
+     *         the initialization vector or nonce to use, not null
+     * @return a new processor which publishes the encrypted chunks, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code iv} parameters are null
+     * @throws CryptographyException
+     *         if the algorithm implementation is not available or the key or initialization vector are invalid
+     */
+    Flow.Processor<ByteBuffer, ByteBuffer> encryptProcessor(@NotNull final CipherTransformation algorithm,
+                                                             @NotNull final Key key, @NotEmpty final byte[] iv);
+
     /**
      * Synchronously encrypts the clear text read from the {@link InputStream} specified by the {@code clearStream}
      * parameter and writes the resulting cipher text to the {@link OutputStream} specified by the {@code cipherStream}
@@ -619,6 +1313,11 @@ public interface EncryptionProvider {
      * This implementation will read the input stream from the current position until the end of the stream is reached
      * or no more bytes are available.
      *
+     * <p>
+     * If the {@code cipherStream} is a {@link FileOutputStream}, the file is forced to the storage device
+     * according to the {@link DurabilityPolicy#FULL} policy before this method returns. The channel methods accept
+     * a {@link DurabilityPolicy} for callers which require a different guarantee.
+     *
      * @param algorithm
      *         the algorithm to use, not null
      * @param key
@@ -736,6 +1435,361 @@ public interface EncryptionProvider {
     ByteBuffer encryptSync(final CipherTransformation algorithm, final Key key, final byte[] iv,
                            final ByteBuffer buffer);
 
+    /**
+     * Synchronously encrypts {@code inputLength} bytes of clear text read from the {@code input} array beginning at the
+     * {@code inputOffset} and writes the resulting cipher text into the {@code output} array beginning at the {@code
+     * outputOffset}. This implementation uses the default algorithm provided by the {@link #getDefaultAlgorithm()}
+     * method.
+     *
+     * @param key
+     *         the {@link SecretKey} or {@link PublicKey} to be used to encrypt the clear text, not null
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param input
+     *         the byte array containing the clear text to be encrypted, not null
+     * @param inputOffset
+     *         the offset in the {@code input} array at which the clear text begins
+     * @param inputLength
+     *         the number of bytes of clear text to be encrypted
+     * @param output
+     *         the byte array into which the cipher text is written, may be the same array as the {@code input}, not
+     *         null
+     * @param outputOffset
+     *         the offset in the {@code output} array at which the cipher text is written
+     * @return the number of bytes written to the {@code output} array
+     * @throws IllegalArgumentException
+     *         if the {@code key}, {@code iv}, {@code input}, or {@code output} parameters are null
+     * @throws IndexOutOfBoundsException
+     *         if the {@code inputOffset}, {@code inputLength}, or {@code outputOffset} parameters lie outside the
+     *         bounds of their arrays
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption operation or if the {@code output} array is too small
+     * @see #getDefaultAlgorithm()
+     * @see #encryptSync(CipherTransformation, Key, byte[], byte[], int, int, byte[], int)
+     */
+    default int encryptSync(@NotNull final Key key, @NotEmpty final byte[] iv, @NotNull final byte[] input,
+                            final int inputOffset, final int inputLength, @NotNull final byte[] output,
+                            final int outputOffset) {
+        return encryptSync(getDefaultAlgorithm(), key, iv, input, inputOffset, inputLength, output, outputOffset);
+    }
+
+    /**
+     * Synchronously encrypts {@code inputLength} bytes of clear text read from the {@code input} array beginning at the
+     * {@code inputOffset} and writes the resulting cipher text into the {@code output} array beginning at the {@code
+     * outputOffset}.
+     *
+     * <p>
+     * No intermediate arrays are allocated, therefore the caller is responsible for supplying an {@code output} array
+     * with enough space remaining after the {@code outputOffset} to hold the cipher text. In addition to the length of
+     * the clear text, the space must include any padding or authentication tag added by the transformation. The {@code
+     * input} and {@code output} arrays may be the same array, in which case the cipher text overwrites the clear text
+     * in place.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the {@link SecretKey} or {@link PublicKey} to be used to encrypt the clear text, not null
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param input
+     *         the byte array containing the clear text to be encrypted, not null
+     * @param inputOffset
+     *         the offset in the {@code input} array at which the clear text begins
+     * @param inputLength
+     *         the number of bytes of clear text to be encrypted
+     * @param output
+     *         the byte array into which the cipher text is written, may be the same array as the {@code input}, not
+     *         null
+     * @param outputOffset
+     *         the offset in the {@code output} array at which the cipher text is written
+     * @return the number of bytes written to the {@code output} array
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, {@code iv}, {@code input}, or {@code output} parameters are null
+     * @throws IndexOutOfBoundsException
+     *         if the {@code inputOffset}, {@code inputLength}, or {@code outputOffset} parameters lie outside the
+     *         bounds of their arrays
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption operation or if the {@code output} array is too small
+     */
+    int encryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key, @NotEmpty final byte[] iv,
+                    @NotNull final byte[] input, final int inputOffset, final int inputLength,
+                    @NotNull final byte[] output, final int outputOffset);
+
+    /**
+     * Synchronously encrypts the remaining clear text read from the {@code input} buffer and writes the resulting
+     * cipher text into the {@code output} buffer. This implementation uses the default algorithm provided by the {@link
+     * #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the {@link SecretKey} or {@link PublicKey} to be used to encrypt the clear text, not null
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param input
+     *         the {@link ByteBuffer} containing the clear text to be encrypted, not null
+     * @param output
+     *         the {@link ByteBuffer} into which the cipher text is written, not null
+     * @return the number of bytes written to the {@code output} buffer
+     * @throws IllegalArgumentException
+     *         if the {@code key}, {@code iv}, {@code input}, or {@code output} parameters are null, if the {@code
+     *         input} and {@code output} parameters are the same object, or if the {@code output} buffer is read-only
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption operation or if the {@code output} buffer is too small
+     * @see #getDefaultAlgorithm()
+     * @see #encryptSync(CipherTransformation, Key, byte[], ByteBuffer, ByteBuffer)
+     */
+    default int encryptSync(@NotNull final Key key, @NotEmpty final byte[] iv, @NotNull final ByteBuffer input,
+                            @NotNull final ByteBuffer output) {
+        return encryptSync(getDefaultAlgorithm(), key, iv, input, output);
+    }
+
+    /**
+     * Synchronously encrypts the remaining clear text read from the {@code input} buffer and writes the resulting
+     * cipher text into the {@code output} buffer. Upon return, the position of the {@code input} buffer will be equal
+     * to its limit and the position of the {@code output} buffer will have advanced by the number of bytes written.
+     *
+     * <p>
+     * No intermediate buffers are allocated, therefore the caller is responsible for supplying an {@code output} buffer
+     * with enough space remaining to hold the cipher text. In addition to the length of the clear text, the space must
+     * include any padding or authentication tag added by the transformation. Both heap and direct buffers are
+     * supported. The cipher text may be written over the clear text in place by passing a second view of the same
+     * memory, such as one obtained from {@link ByteBuffer#duplicate()}, as the {@code output} parameter. Such views may
+     * be created once and reused for every operation.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the {@link SecretKey} or {@link PublicKey} to be used to encrypt the clear text, not null
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param input
+     *         the {@link ByteBuffer} containing the clear text to be encrypted, not null
+     * @param output
+     *         the {@link ByteBuffer} into which the cipher text is written, not null
+     * @return the number of bytes written to the {@code output} buffer
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, {@code iv}, {@code input}, or {@code output} parameters are null,
+     *         if the {@code input} and {@code output} parameters are the same object, or if the {@code output} buffer
+     *         is read-only
+     * @throws CryptographyException
+     *         if an error occurs while performing the encryption operation or if the {@code output} buffer is too small
+     */
+    int encryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key, @NotEmpty final byte[] iv,
+                    @NotNull final ByteBuffer input, @NotNull final ByteBuffer output);
+
+    /**
+     * Synchronously encrypts the clear text read from the file specified by the {@code clearFile} parameter and writes
+     * the resulting cipher text to the file specified by the {@code cipherFile} parameter, which is created or
+     * truncated. This implementation uses the default algorithm provided by the {@link #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the {@link SecretKey} or {@link PublicKey} to be used to encrypt the clear text, not null
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param clearFile
+     *         the file from which the clear text is read, not null
+     * @param cipherFile
+     *         the file to which the cipher text is written, not null
+     * @param durability
+     *         the durability guaranteed for the {@code cipherFile} once this method returns, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key}, {@code iv}, {@code clearFile}, {@code cipherFile}, or {@code durability} parameters
+     *         are null or if the {@code clearFile} and {@code cipherFile} parameters refer to the same file
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the files or performing the encryption operation
+     * @see #getDefaultAlgorithm()
+     * @see #encryptSync(CipherTransformation, Key, byte[], Path, Path, DurabilityPolicy)
+     */
+    default void encryptSync(@NotNull final Key key, @NotEmpty final byte[] iv, @NotNull final Path clearFile,
+                             @NotNull final Path cipherFile, @NotNull final DurabilityPolicy durability) {
+        encryptSync(getDefaultAlgorithm(), key, iv, clearFile, cipherFile, durability);
+    }
+
+    /**
+     * Synchronously encrypts the clear text read from the file specified by the {@code clearFile} parameter and writes
+     * the resulting cipher text to the file specified by the {@code cipherFile} parameter, which is created or
+     * truncated.
+     *
+     * <p>
+     * Both files are accessed using a {@link FileChannel} and the content is transformed in large blocks held in direct
+     * buffers. Once the cipher text has been written, the {@code cipherFile} is forced to the storage device according
+     * to the {@code durability} parameter. Files written with the {@link DurabilityPolicy#DEFERRED} policy are not
+     * forced until the next call to the {@link #commitSync()} method.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the {@link SecretKey} or {@link PublicKey} to be used to encrypt the clear text, not null
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param clearFile
+     *         the file from which the clear text is read, not null
+     * @param cipherFile
+     *         the file to which the cipher text is written, not null
+     * @param durability
+     *         the durability guaranteed for the {@code cipherFile} once this method returns, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, {@code iv}, {@code clearFile}, {@code cipherFile}, or {@code
+     *         durability} parameters are null or if the {@code clearFile} and {@code cipherFile} parameters refer to
+     *         the same file
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the files or performing the encryption operation
+     */
+    void encryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key, @NotEmpty final byte[] iv,
+                     @NotNull final Path clearFile, @NotNull final Path cipherFile,
+                     @NotNull final DurabilityPolicy durability);
+
+    /**
+     * Synchronously encrypts the clear text read from the {@link ReadableByteChannel} specified by the {@code
+     * clearChannel} parameter and writes the resulting cipher text to the {@link WritableByteChannel} specified by the
+     * {@code cipherChannel} parameter. This implementation uses the default algorithm provided by the {@link
+     * #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the {@link SecretKey} or {@link PublicKey} to be used to encrypt the clear text, not null
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param clearChannel
+     *         the blocking channel from which the clear text is read until the end of the stream is reached, not null
+     * @param cipherChannel
+     *         the blocking channel to which the cipher text is written, not null
+     * @param durability
+     *         the durability guaranteed for the {@code cipherChannel} once this method returns, must not be {@link
+     *         DurabilityPolicy#DEFERRED}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key}, {@code iv}, {@code clearChannel}, {@code cipherChannel}, or {@code durability}
+     *         parameters are null or if the {@code durability} parameter is {@link DurabilityPolicy#DEFERRED}
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the channels or performing the encryption operation
+     * @see #getDefaultAlgorithm()
+     * @see #encryptSync(CipherTransformation, Key, byte[], ReadableByteChannel, WritableByteChannel, DurabilityPolicy)
+     */
+    default void encryptSync(@NotNull final Key key, @NotEmpty final byte[] iv,
+                             @NotNull final ReadableByteChannel clearChannel,
+                             @NotNull final WritableByteChannel cipherChannel,
+                             @NotNull final DurabilityPolicy durability) {
+        encryptSync(getDefaultAlgorithm(), key, iv, clearChannel, cipherChannel, durability);
+    }
+
+    /**
+     * Synchronously encrypts the clear text read from the {@link ReadableByteChannel} specified by the {@code
+     * clearChannel} parameter and writes the resulting cipher text to the {@link WritableByteChannel} specified by the
+     * {@code cipherChannel} parameter. Neither channel is closed by this method.
+     *
+     * <p>
+     * The content is transformed in large blocks held in direct buffers, which are sized to the remaining content when
+     * the {@code clearChannel} is a {@link SeekableByteChannel}. The {@code durability} parameter only applies when the
+     * {@code cipherChannel} is a {@link FileChannel}, since the owner of any other channel is responsible for its
+     * durability. The {@link DurabilityPolicy#DEFERRED} policy is not supported because the provider cannot force a
+     * channel which it does not own once the channel has been closed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the {@link SecretKey} or {@link PublicKey} to be used to encrypt the clear text, not null
+     * @param iv
+     *         the nonce to be used during the encryption of the clear text, not null
+     * @param clearChannel
+     *         the blocking channel from which the clear text is read until the end of the stream is reached, not null
+     * @param cipherChannel
+     *         the blocking channel to which the cipher text is written, not null
+     * @param durability
+     *         the durability guaranteed for the {@code cipherChannel} once this method returns, must not be {@link
+     *         DurabilityPolicy#DEFERRED}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, {@code iv}, {@code clearChannel}, {@code cipherChannel}, or {@code
+     *         durability} parameters are null or if the {@code durability} parameter is {@link
+     *         DurabilityPolicy#DEFERRED}
+     * @throws CryptographyException
+     *         if an error occurs while reading or writing the channels or performing the encryption operation
+     */
+    void encryptSync(@NotNull final CipherTransformation algorithm, @NotNull final Key key, @NotEmpty final byte[] iv,
+                     @NotNull final ReadableByteChannel clearChannel,
+                     @NotNull final WritableByteChannel cipherChannel, @NotNull final DurabilityPolicy durability);
+
+    /**
+     * Synchronously forces every file written with the {@link DurabilityPolicy#DEFERRED} policy since the previous
+     * commit to the storage device, including the metadata of each file. Files which have since been deleted are
+     * skipped. If a file cannot be forced, the files which have not yet been forced remain pending and will be retried
+     * by the next commit.
+     *
+     * @throws CryptographyException
+     *         if an error occurs while forcing a file to the storage device
+     */
+    void commitSync();
+
+    /**
+     * Creates a new {@link CipherSession} bound to the specified key using the default algorithm provided by the {@link
+     * #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the {@link SecretKey} to which the session is bound, not null
+     * @return the cipher session, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key} parameter is null
+     * @throws CryptographyException
+     *         if the key is not valid for the default algorithm
+     * @see #session(CipherTransformation, Key)
+     */
+    default CipherSession session(@NotNull final Key key) {
+        return session(getDefaultAlgorithm(), key);
+    }
+
+    /**
+     * Creates a new {@link CipherSession} bound to the specified key and transformation. Sessions retain primitives
+     * which have already been initialized with the key and are therefore considerably faster than the equivalent
+     * methods of this provider when many small messages are encrypted or decrypted with the same key. The session
+     * should be closed once it is no longer needed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the {@link SecretKey} to which the session is bound, not null
+     * @return the cipher session, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or {@code key} parameters are null
+     * @throws CryptographyException
+     *         if the key is not valid for the transformation
+     */
+    CipherSession session(@NotNull final CipherTransformation algorithm, @NotNull final Key key);
+
+    /**
+     * Creates a new {@link NonceGenerator} bound to the specified key which issues deterministic nonces for the default
+     * algorithm provided by the {@link #getDefaultAlgorithm()} method using the default {@link NonceConfiguration}.
+     *
+     * @param key
+     *         the key to which the generator is bound, not null
+     * @return the nonce generator, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key} parameter is null or if the default algorithm does not support deterministic nonces
+     * @see #nonceGenerator(CipherTransformation, Key, NonceConfiguration)
+     */
+    default NonceGenerator nonceGenerator(@NotNull final Key key) {
+        return nonceGenerator(getDefaultAlgorithm(), key, new NonceConfiguration());
+    }
+
+    /**
+     * Creates a new {@link NonceGenerator} bound to the specified key which issues deterministic nonces for the
+     * transformation specified by the {@code algorithm} parameter. Only one generator may be used with a given key at
+     * any point in time, therefore the generator should be created once and shared by all users of the key. Unlike the
+     * {@link #nonceSync(CipherTransformation)} method, issuing a nonce does not require a request to the secure random
+     * number generator.
+     *
+     * @param algorithm
+     *         the algorithm to use, must use either the {@link CipherMode#GCM} or {@link CipherMode#CTR} mode, not null
+     * @param key
+     *         the key to which the generator is bound, not null
+     * @param configuration
+     *         the reservation and checkpoint configuration, not null
+     * @return the nonce generator, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key}, or {@code configuration} parameters are null or if the
+     *         transformation does not support deterministic nonces
+     * @throws CryptographyException
+     *         if the high-water mark could not be loaded from the checkpoint
+     */
+    NonceGenerator nonceGenerator(@NotNull final CipherTransformation algorithm, @NotNull final Key key,
+                                  @NotNull final NonceConfiguration configuration);
+
     /**
      * Asynchronously generates a cryptographically secure random nonce. This implementation uses the default algorithm
      * provided by the {@link #getDefaultAlgorithm()} method.
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.spi;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * The configuration of the {@link PrimitiveProvider#executorService()} used to execute all asynchronous operations.
+ * The defaults size the thread pool to the number of available processors which is appropriate for compute bound
+ * operations such as message digests.
+ *
+ * <p>
+ * Each {@link OperationClass} is queued on a separate lane. Whenever a thread becomes available, the lanes with queued
+ * operations share the thread pool in proportion to their configured weights and no lane may occupy more threads than
+ * its configured concurrency limit.
+ *
+ * <p>
+ * The pool sizes, queue capacity, keep alive, and lane settings only apply to the {@link ExecutorMode#PLATFORM} mode.
+ *
+ * @author Nathan Klick
+ * @see ExecutorMode
+ * @see BackpressurePolicy
+ */
+public class ExecutorConfiguration {
+
+    /**
+     * The default multiplier applied to the maximum pool size to derive the default queue capacity.
+     */
+    private static final int DEFAULT_QUEUE_MULTIPLIER = 64;
+
+    /**
+     * The default amount of time an idle thread is retained before being terminated.
+     */
+    private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(60);
+
+    /**
+     * The default weight of each lane.
+     */
+    private static final int DEFAULT_LANE_WEIGHT = 1;
+
+    /**
+     * The {@code operationClass} parameter name represented as a string value.
+     */
+    private static final String OPERATION_CLASS_PARAM = "operationClass";
+
+    /**
+     * The {@code weight} parameter name represented as a string value.
+     */
+    private static final String WEIGHT_PARAM = "weight";
+
+    /**
+     * The {@code concurrency} parameter name represented as a string value.
+     */
+    private static final String CONCURRENCY_PARAM = "concurrency";
+
+    /**
+     * The {@code executorMode} field name represented as a string value.
+     */
+    private static final String EXECUTOR_MODE_FIELD = "executorMode";
+
+    /**
+     * The {@code corePoolSize} field name represented as a string value.
+     */
+    private static final String CORE_POOL_SIZE_FIELD = "corePoolSize";
+
+    /**
+     * The {@code maximumPoolSize} field name represented as a string value.
+     */
+    private static final String MAXIMUM_POOL_SIZE_FIELD = "maximumPoolSize";
+
+    /**
+     * The {@code queueCapacity} field name represented as a string value.
+     */
+    private static final String QUEUE_CAPACITY_FIELD = "queueCapacity";
+
+    /**
+     * The {@code keepAlive} field name represented as a string value.
+     */
+    private static final String KEEP_ALIVE_FIELD = "keepAlive";
+
+    /**
+     * The {@code backpressurePolicy} field name represented as a string value.
+     */
+    private static final String BACKPRESSURE_POLICY_FIELD = "backpressurePolicy";
+
+    /**
+     * The {@code laneWeights} field name represented as a string value.
+     */
+    private static final String LANE_WEIGHTS_FIELD = "laneWeights";
+
+    /**
+     * The {@code laneConcurrency} field name represented as a string value.
+     */
+    private static final String LANE_CONCURRENCY_FIELD = "laneConcurrency";
+
+    /**
+     * The thread model used by the executor, not null.
+     */
+    @NotNull
+    private ExecutorMode executorMode;
+
+    /**
+     * The number of threads retained by the pool even when idle.
+     */
+    @Positive
+    private int corePoolSize;
+
+    /**
+     * The maximum number of threads which may be created by the pool.
+     */
+    @Positive
+    private int maximumPoolSize;
+
+    /**
+     * The maximum number of tasks which may be queued while waiting for a thread.
+     */
+    @Positive
+    private int queueCapacity;
+
+    /**
+     * The amount of time an idle thread is retained before being terminated, not null.
+     */
+    @NotNull
+    private Duration keepAlive;
+
+    /**
+     * The strategy applied when the executor is saturated, not null.
+     */
+    @NotNull
+    private BackpressurePolicy backpressurePolicy;
+
+    /**
+     * The explicitly configured lane weights, not null.
+     */
+    @NotNull
+    private final EnumMap<OperationClass, Integer> laneWeights;
+
+    /**
+     * The explicitly configured lane concurrency limits, not null.
+     */
+    @NotNull
+    private final EnumMap<OperationClass, Integer> laneConcurrency;
+
+    /**
+     * Constructs a new configuration using the {@link ExecutorMode#PLATFORM} mode, core and maximum pool sizes equal to
+     * the number of available processors, a queue capacity of {@code 64} tasks per thread on each lane, equal lane
+     * weights, no lane concurrency limits, and the {@link BackpressurePolicy#BLOCK} policy.
+     */
+    public ExecutorConfiguration() {
+        this(ExecutorMode.PLATFORM);
+    }
+
+    /**
+     * Constructs a new configuration using the specified {@link ExecutorMode} and the default values for all other
+     * settings.
+     *
+     * @param executorMode
+     *         the thread model used by the executor, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executorMode} parameter is null
+     * @see #ExecutorConfiguration()
+     */
+    public ExecutorConfiguration(@NotNull final ExecutorMode executorMode) {
+        throwIfArgIsNull(executorMode, EXECUTOR_MODE_FIELD);
+
+        final int processors = Runtime.getRuntime().availableProcessors();
+
+        this.executorMode = executorMode;
+        this.corePoolSize = processors;
+        this.maximumPoolSize = processors;
+        this.queueCapacity = processors * DEFAULT_QUEUE_MULTIPLIER;
+        this.keepAlive = DEFAULT_KEEP_ALIVE;
+        this.backpressurePolicy = BackpressurePolicy.BLOCK;
+        this.laneWeights = new EnumMap<>(OperationClass.class);
+        this.laneConcurrency = new EnumMap<>(OperationClass.class);
+    }
+
+    /**
+     * Gets the thread model used by the executor.
+     *
+     * @return the executor mode, not null
+     */
+    public ExecutorMode getExecutorMode() {
+        return executorMode;
+    }
+
+    /**
+     * Sets the thread model used by the executor.
+     *
+     * @param executorMode
+     *         the executor mode, not null
+     * @throws IllegalArgumentException
+     *         if the {@code executorMode} parameter is null
+     */
+    public void setExecutorMode(@NotNull final ExecutorMode executorMode) {
+        throwIfArgIsNull(executorMode, EXECUTOR_MODE_FIELD);
+
+        this.executorMode = executorMode;
+    }
+
+    /**
+     * Gets the number of threads retained by the pool even when idle. The core threads are started when the pool is
+     * created.
+     *
+     * @return the core pool size, positive integer
+     */
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    /**
+     * Sets the number of threads retained by the pool even when idle.
+     *
+     * @param corePoolSize
+     *         the core pool size, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code corePoolSize} parameter is less than or equal to zero
+     */
+    public void setCorePoolSize(@Positive final int corePoolSize) {
+        throwIfArgIsNotPositive(corePoolSize, CORE_POOL_SIZE_FIELD);
+
+        this.corePoolSize = corePoolSize;
+    }
+
+    /**
+     * Gets the maximum number of threads which may be created by the pool and therefore the maximum number of
+     * operations which may be executing concurrently. Threads in excess of the core pool size are only created when an
+     * operation is dispatched while no idle thread is available.
+     *
+     * @return the maximum pool size, positive integer
+     */
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of threads which may be created by the pool.
+     *
+     * @param maximumPoolSize
+     *         the maximum pool size, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code maximumPoolSize} parameter is less than or equal to zero
+     */
+    public void setMaximumPoolSize(@Positive final int maximumPoolSize) {
+        throwIfArgIsNotPositive(maximumPoolSize, MAXIMUM_POOL_SIZE_FIELD);
+
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    /**
+     * Gets the maximum number of tasks which may be queued on each lane while waiting for a thread.
+     *
+     * @return the queue capacity, positive integer
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of tasks which may be queued on each lane while waiting for a thread.
+     *
+     * @param queueCapacity
+     *         the queue capacity, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code queueCapacity} parameter is less than or equal to zero
+     */
+    public void setQueueCapacity(@Positive final int queueCapacity) {
+        throwIfArgIsNotPositive(queueCapacity, QUEUE_CAPACITY_FIELD);
+
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Gets the amount of time an idle thread in excess of the core pool size is retained before being terminated.
+     *
+     * @return the keep alive duration, positive and not null
+     */
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets the amount of time an idle thread in excess of the core pool size is retained before being terminated.
+     *
+     * @param keepAlive
+     *         the keep alive duration, not null, zero, or negative
+     * @throws IllegalArgumentException
+     *         if the {@code keepAlive} parameter is null, zero, or negative
+     */
+    public void setKeepAlive(@NotNull final Duration keepAlive) {
+        throwIfArgIsNull(keepAlive, KEEP_ALIVE_FIELD);
+
+        if (keepAlive.isZero() || keepAlive.isNegative()) {
+            throw new IllegalArgumentException(
+                    String.format("The %s parameter must be a positive duration (%s)", KEEP_ALIVE_FIELD, keepAlive));
+        }
+
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Gets the strategy applied when the executor is saturated.
+     *
+     * @return the backpressure policy, not null
+     */
+    public BackpressurePolicy getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+    /**
+     * Sets the strategy applied when the executor is saturated.
+     *
+     * @param backpressurePolicy
+     *         the backpressure policy, not null
+     * @throws IllegalArgumentException
+     *         if the {@code backpressurePolicy} parameter is null
+     */
+    public void setBackpressurePolicy(@NotNull final BackpressurePolicy backpressurePolicy) {
+        throwIfArgIsNull(backpressurePolicy, BACKPRESSURE_POLICY_FIELD);
+
+        this.backpressurePolicy = backpressurePolicy;
+    }
+
+    /**
+     * Gets the relative share of the thread pool given to the lane of the specified {@link OperationClass} while other
+     * lanes have queued operations.
+     *
+     * @param operationClass
+     *         the operation class of the lane, not null
+     * @return the lane weight, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code operationClass} parameter is null
+     */
+    public int getLaneWeight(@NotNull final OperationClass operationClass) {
+        throwIfArgIsNull(operationClass, OPERATION_CLASS_PARAM);
+
+        return laneWeights.getOrDefault(operationClass, DEFAULT_LANE_WEIGHT);
+    }
+
+    /**
+     * Sets the relative share of the thread pool given to the lane of the specified {@link OperationClass} while other
+     * lanes have queued operations. For example, a lane with a weight of {@code 4} is given four threads for every
+     * thread given to a lane with a weight of {@code 1}.
+     *
+     * @param operationClass
+     *         the operation class of the lane, not null
+     * @param weight
+     *         the lane weight, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code operationClass} parameter is null or if the {@code weight} parameter is less than or equal
+     *         to zero
+     */
+    public void setLaneWeight(@NotNull final OperationClass operationClass, @Positive final int weight) {
+        throwIfArgIsNull(operationClass, OPERATION_CLASS_PARAM);
+        throwIfArgIsNotPositive(weight, WEIGHT_PARAM);
+
+        laneWeights.put(operationClass, weight);
+    }
+
+    /**
+     * Gets the maximum number of threads which may concurrently execute operations from the lane of the specified
+     * {@link OperationClass}. Unless explicitly configured, this is equal to the maximum pool size.
+     *
+     * @param operationClass
+     *         the operation class of the lane, not null
+     * @return the lane concurrency limit, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code operationClass} parameter is null
+     */
+    public int getLaneConcurrency(@NotNull final OperationClass operationClass) {
+        throwIfArgIsNull(operationClass, OPERATION_CLASS_PARAM);
+
+        return Math.min(laneConcurrency.getOrDefault(operationClass, maximumPoolSize), maximumPoolSize);
+    }
+
+    /**
+     * Sets the maximum number of threads which may concurrently execute operations from the lane of the specified
+     * {@link OperationClass}.
+     *
+     * @param operationClass
+     *         the operation class of the lane, not null
+     * @param concurrency
+     *         the lane concurrency limit, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code operationClass} parameter is null or if the {@code concurrency} parameter is less than or
+     *         equal to zero
+     */
+    public void setLaneConcurrency(@NotNull final OperationClass operationClass, @Positive final int concurrency) {
+        throwIfArgIsNull(operationClass, OPERATION_CLASS_PARAM);
+        throwIfArgIsNotPositive(concurrency, CONCURRENCY_PARAM);
+
+        laneConcurrency.put(operationClass, concurrency);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.NO_CLASS_NAME_STYLE)
+                .append(EXECUTOR_MODE_FIELD, executorMode)
+                .append(CORE_POOL_SIZE_FIELD, corePoolSize)
+                .append(MAXIMUM_POOL_SIZE_FIELD, maximumPoolSize)
+                .append(QUEUE_CAPACITY_FIELD, queueCapacity)
+                .append(KEEP_ALIVE_FIELD, keepAlive)
+                .append(BACKPRESSURE_POLICY_FIELD, backpressurePolicy)
+                .append(LANE_WEIGHTS_FIELD, laneWeights)
+                .append(LANE_CONCURRENCY_FIELD, laneConcurrency)
+                .toString();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.spi;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An enumeration of the thread models which may back the {@link ExecutorService} returned by the {@link
+ * PrimitiveProvider#executorService()} method.
+ *
+ * @author Nathan Klick
+ * @see PrimitiveProvider#executorMode()
+ */
+public enum ExecutorMode {
+    /**
+     * Asynchronous operations are executed by a pool of operating system (platform) threads.
+     */
+    PLATFORM,
+
+    /**
+     * Asynchronous operations are each executed by a new virtual thread. Virtual threads are cheap to create and do
+     * not hold an operating system thread while blocked on I/O which makes this mode well suited to large numbers of
+     * concurrent stream based operations. This mode requires a Java runtime which supports virtual threads.
+     *
+     * @see #isSupported()
+     */
+    VIRTUAL;
+
+    /**
+     * The name of the {@link Executors} factory method which creates a virtual thread per task executor.
+     */
+    private static final String VIRTUAL_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    /**
+     * The resolved virtual thread per task executor factory method or {@code null} if the current Java runtime does
+     * not support virtual threads.
+     */
+    private static final MethodHandle virtualFactory = resolveVirtualFactory();
+
+    /**
+     * Resolves the virtual thread per task executor factory using reflection so that this library may continue to run
+     * on Java runtimes which predate virtual threads.
+     *
+     * @return the factory method handle or {@code null} if virtual threads are not supported
+     */
+    private static MethodHandle resolveVirtualFactory() {
+        try {
+            return MethodHandles.publicLookup()
+                                .findStatic(Executors.class, VIRTUAL_FACTORY_METHOD,
+                                            MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Determines whether this mode is supported by the current Java runtime.
+     *
+     * @return true if this mode may be used on the current Java runtime; otherwise false
+     */
+    public boolean isSupported() {
+        return this == PLATFORM || virtualFactory != null;
+    }
+
+    /**
+     * Creates a new unbounded {@link ExecutorService} which uses the thread model represented by this mode.
+     *
+     * @return a new executor service, not null
+     * @throws UnsupportedOperationException
+     *         if this mode is not supported by the current Java runtime
+     * @see #isSupported()
+     */
+    public ExecutorService newExecutorService() {
+        if (this == PLATFORM) {
+            return Executors.newCachedThreadPool();
+        }
+
+        if (virtualFactory == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this Java runtime");
+        }
+
+        try {
+            return (ExecutorService) virtualFactory.invoke();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
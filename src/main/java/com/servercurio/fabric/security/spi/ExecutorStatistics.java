@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.spi;
+
+/**
+ * A live view of the load placed on the {@link PrimitiveProvider#executorService()} which may be used to tune the
+ * {@link ExecutorConfiguration} under load. All values are point in time approximations.
+ *
+ * @author Nathan Klick
+ * @see PrimitiveProvider#executorStatistics()
+ */
+public interface ExecutorStatistics {
+
+    /**
+     * Gets the number of tasks waiting in the queue to be executed.
+     *
+     * @return the current queue depth, zero or greater
+     */
+    int queueDepth();
+
+    /**
+     * Gets the number of threads which are actively executing tasks.
+     *
+     * @return the number of active threads, zero or greater
+     */
+    int activeCount();
+
+    /**
+     * Gets the number of threads currently in the pool.
+     *
+     * @return the current pool size, zero or greater
+     */
+    int poolSize();
+
+    /**
+     * Gets the number of tasks which have completed execution.
+     *
+     * @return the number of completed tasks, zero or greater
+     */
+    long completedCount();
+
+    /**
+     * Gets the number of tasks which were rejected because the executor was saturated. Tasks which were delayed by the
+     * {@link BackpressurePolicy#BLOCK} policy or executed by the submitting thread under the {@link
+     * BackpressurePolicy#CALLER_RUNS} policy were not rejected and are not counted.
+     *
+     * @return the number of rejected submissions, zero or greater
+     */
+    long rejectedCount();
+}
@@ -22,8 +22,15 @@ import com.servercurio.fabric.security.Hash;
 import com.servercurio.fabric.security.MacAlgorithm;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
 import java.security.Key;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.crypto.SecretKey;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
@@ -50,6 +57,41 @@ public interface MacProvider {
         return MacAlgorithm.HMAC_SHA_384;
     }
 
+    /**
+     * Creates a new {@link MacSession} bound to the specified key using the default algorithm provided by the {@link
+     * #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the key to which the session is bound, not null
+     * @return the MAC session, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key} parameter is null
+     * @throws CryptographyException
+     *         if the key is not valid for the default algorithm
+     * @see #session(MacAlgorithm, Key)
+     */
+    default MacSession session(@NotNull final Key key) {
+        return session(getDefaultAlgorithm(), key);
+    }
+
+    /**
+     * Creates a new {@link MacSession} bound to the specified key and algorithm. Sessions initialize the key dependent
+     * state of the primitive only once and are therefore considerably faster than the equivalent methods of this
+     * provider when many short messages are authenticated with the same key. The session should be closed once it is
+     * no longer needed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to which the session is bound, not null
+     * @return the MAC session, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or {@code key} parameters are null or if the algorithm requires a nonce
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm
+     */
+    MacSession session(@NotNull final MacAlgorithm algorithm, @NotNull final Key key);
+
     /**
      * Asynchronously computes the MAC digest of the {@link InputStream} specified by the {@code stream} parameter. This
      * implementation uses the default algorithm provided by the {@link #getDefaultAlgorithm()} method.
@@ -256,6 +298,229 @@ public interface MacProvider {
     Future<Hash> authenticateAsync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
                                    @NotNull final ByteBuffer buffer);
 
+    /**
+     * Asynchronously computes the message authentication code of the byte array specified by the {@code data}
+     * parameter using an algorithm which requires a unique nonce per message, such as {@link MacAlgorithm#GMAC_AES} or
+     * {@link MacAlgorithm#POLY1305_AES}.
+     *
+     * <p>
+     * Care must be taken to ensure the provided byte arrays are not modified before the {@link Future} has been
+     * resolved.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param nonce
+     *         the nonce of exactly {@link MacAlgorithm#nonceSize()} bytes which must never be reused with the same
+     *         key, not null
+     * @param data
+     *         the byte array to be authenticated, not null
+     * @return a {@link Future} that when resolved will return the computed {@link Hash}, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null, if the algorithm does not accept a nonce, or if the nonce is not of the
+     *         required length
+     * @throws CryptographyException
+     *         if an error occurs while computing the message authentication code
+     * @see #authenticateSync(MacAlgorithm, Key, byte[], byte[])
+     */
+    Future<Hash> authenticateAsync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                   @NotNull final byte[] nonce, @NotNull final byte[] data);
+
+    /**
+     * Asynchronously computes the message authentication code of the {@link ByteBuffer} specified by the {@code
+     * buffer} parameter using an algorithm which requires a unique nonce per message, such as {@link
+     * MacAlgorithm#GMAC_AES} or {@link MacAlgorithm#POLY1305_AES}.
+     *
+     * <p>
+     * Care must be taken to ensure the provided byte array and {@link ByteBuffer} are not modified before the {@link
+     * Future} has been resolved.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param nonce
+     *         the nonce of exactly {@link MacAlgorithm#nonceSize()} bytes which must never be reused with the same
+     *         key, not null
+     * @param buffer
+     *         the {@link ByteBuffer} to be authenticated, not null
+     * @return a {@link Future} that when resolved will return the computed {@link Hash}, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null, if the algorithm does not accept a nonce, or if the nonce is not of the
+     *         required length
+     * @throws CryptographyException
+     *         if an error occurs while computing the message authentication code
+     * @see #authenticateSync(MacAlgorithm, Key, byte[], ByteBuffer)
+     */
+    Future<Hash> authenticateAsync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                   @NotNull final byte[] nonce, @NotNull final ByteBuffer buffer);
+
+    /**
+     * Asynchronously computes the message authentication code of the {@link InputStream} specified by the {@code
+     * stream} parameter using the algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future}
+     * returned by the {@link #authenticateAsync(MacAlgorithm, Key, InputStream)} method, the returned {@link
+     * CompletableFuture} may be composed with further stages without blocking a thread. Cancelling the returned future
+     * stops reading the stream before the next block is processed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param stream
+     *         the stream to be authenticated, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed message authentication code, not
+     *         null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code stream} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the message authentication code
+     */
+    CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                              @NotNull final InputStream stream);
+
+    /**
+     * Asynchronously computes the message authentication code of the {@link InputStream} specified by the {@code
+     * stream} parameter using the algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future}
+     * returned by the {@link #authenticateAsync(MacAlgorithm, Key, InputStream)} method, the returned {@link
+     * CompletableFuture} may be composed with further stages without blocking a thread. Cancelling the returned future
+     * stops reading the stream before the next block is processed.
+     *
+     * <p>
+     * If the operation has not completed before the {@code timeout} elapses, the returned future is completed
+     * exceptionally with a {@link TimeoutException} and no further blocks are read from the stream.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param stream
+     *         the stream to be authenticated, not null
+     * @param timeout
+     *         the maximum amount of time allowed for the operation to complete, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed message authentication code, not
+     *         null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code stream}, or the {@code timeout} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the message authentication code
+     */
+    CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                              @NotNull final InputStream stream, @NotNull final Duration timeout);
+
+    /**
+     * Asynchronously computes the message authentication code of the byte array specified by the {@code data} parameter
+     * using the algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the
+     * {@link #authenticateAsync(MacAlgorithm, Key, byte[])} method, the returned {@link CompletableFuture} may be
+     * composed with further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param data
+     *         the data to be authenticated, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed message authentication code, not
+     *         null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code data} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the message authentication code
+     */
+    CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                              @NotEmpty final byte[] data);
+
+    /**
+     * Asynchronously computes the message authentication code of the {@link Hash} array specified by the {@code hashes}
+     * parameter using the algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by
+     * the {@link #authenticateAsync(MacAlgorithm, Key, Hash...)} method, the returned {@link CompletableFuture} may be
+     * composed with further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param hashes
+     *         the {@link Hash} array to be authenticated, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed message authentication code, not
+     *         null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code hashes} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the message authentication code
+     */
+    CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                              @NotEmpty final Hash... hashes);
+
+    /**
+     * Asynchronously computes the message authentication code of the {@link ByteBuffer} specified by the {@code buffer}
+     * parameter using the algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by
+     * the {@link #authenticateAsync(MacAlgorithm, Key, ByteBuffer)} method, the returned {@link CompletableFuture} may
+     * be composed with further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param buffer
+     *         the {@link ByteBuffer} to be authenticated, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed message authentication code, not
+     *         null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code buffer} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the message authentication code
+     */
+    CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                              @NotNull final ByteBuffer buffer);
+
+    /**
+     * Asynchronously computes the message authentication code of the file specified by the {@code file} parameter using
+     * the algorithm specified by the {@code algorithm} parameter. The file is read using an {@link
+     * AsynchronousFileChannel} which keeps multiple reads in flight and does not block a thread while waiting for a
+     * read to complete. Cancelling the returned future, including by applying a timeout with the {@link
+     * CompletableFuture#orTimeout(long, TimeUnit)} method, stops reading the file before the next block is processed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param file
+     *         the file to be authenticated, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed message authentication code, not
+     *         null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code file} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while reading the file or computing the message authentication code
+     */
+    CompletableFuture<Hash> authenticateStage(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
+                                              @NotNull final Path file);
+
+    /**
+     * Creates a new {@link Flow.Processor} which computes the message authentication code of the {@link ByteBuffer}
+     * chunks received from the upstream publisher using the algorithm specified by the {@code algorithm} parameter. A
+     * single {@link Hash} is published to the downstream subscriber once the upstream publisher has completed. The
+     * processor accepts a single downstream subscriber.
+     *
+     * <p>
+     * Chunks are only requested from the upstream publisher while the downstream subscriber has outstanding demand
+     * and the next chunk is only requested once the previous chunk has been processed. Each chunk is consumed from its
+     * current position to its limit and must not be modified until the next chunk is requested.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @return a new processor which publishes the computed message authentication code, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or the {@code key} parameters are null
+     * @throws CryptographyException
+     *         if the algorithm implementation is not available or the key is invalid
+     */
+    Flow.Processor<ByteBuffer, Hash> authenticateProcessor(@NotNull final MacAlgorithm algorithm,
+                                                           @NotNull final Key key);
+
     /**
      * Synchronously computes the MAC digest of the {@link InputStream} specified by the {@code stream} parameter. This
      * implementation uses the default algorithm provided by the {@link #getDefaultAlgorithm()} method.
@@ -428,4 +693,54 @@ public interface MacProvider {
      */
     Hash authenticateSync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key,
                           @NotNull final ByteBuffer buffer);
+
+    /**
+     * Synchronously computes the message authentication code of the byte array specified by the {@code data}
+     * parameter using an algorithm which requires a unique nonce per message, such as {@link MacAlgorithm#GMAC_AES} or
+     * {@link MacAlgorithm#POLY1305_AES}. The overloads which do not accept a nonce reject these algorithms with an
+     * {@link IllegalArgumentException}.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param nonce
+     *         the nonce of exactly {@link MacAlgorithm#nonceSize()} bytes which must never be reused with the same
+     *         key, not null
+     * @param data
+     *         the byte array to be authenticated, not null
+     * @return the computed message authentication code, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null, if the algorithm does not accept a nonce, or if the nonce is not of the
+     *         required length
+     * @throws CryptographyException
+     *         if an error occurs while computing the message authentication code
+     */
+    Hash authenticateSync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key, @NotNull final byte[] nonce,
+                          @NotNull final byte[] data);
+
+    /**
+     * Synchronously computes the message authentication code of the {@link ByteBuffer} specified by the {@code buffer}
+     * parameter using an algorithm which requires a unique nonce per message, such as {@link MacAlgorithm#GMAC_AES} or
+     * {@link MacAlgorithm#POLY1305_AES}. The buffer is read from the current position until the end of the buffer is
+     * reached.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the key to use, not null
+     * @param nonce
+     *         the nonce of exactly {@link MacAlgorithm#nonceSize()} bytes which must never be reused with the same
+     *         key, not null
+     * @param buffer
+     *         the {@link ByteBuffer} to be authenticated, not null
+     * @return the computed message authentication code, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null, if the algorithm does not accept a nonce, or if the nonce is not of the
+     *         required length
+     * @throws CryptographyException
+     *         if an error occurs while computing the message authentication code
+     */
+    Hash authenticateSync(@NotNull final MacAlgorithm algorithm, @NotNull final Key key, @NotNull final byte[] nonce,
+                          @NotNull final ByteBuffer buffer);
 }
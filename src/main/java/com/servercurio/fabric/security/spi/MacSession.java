@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.MacAlgorithm;
+import java.nio.ByteBuffer;
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.Future;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A message authentication session bound to a single {@link Key} and {@link MacAlgorithm}. The session initializes a
+ * prototype primitive with the key once and derives every pooled primitive from the prototype, therefore the key
+ * dependent state, such as the inner and outer pads of an HMAC, is never recomputed.
+ *
+ * <p>
+ * The batch methods process many short messages in a single call. The asynchronous batch methods divide the messages
+ * between multiple tasks of the {@link OperationClass#MAC} executor lane in order to use all the available processors.
+ * All comparisons are performed in constant time using the {@link PrimitiveProvider#secureEquals(byte[], byte[])}
+ * method.
+ *
+ * <p>
+ * Sessions are safe for use by multiple threads. Closing a session discards the pooled primitives, after which the
+ * session must not be used.
+ *
+ * @author Nathan Klick
+ * @see MacProvider#session(MacAlgorithm, Key)
+ */
+public interface MacSession extends AutoCloseable {
+
+    /**
+     * Gets the algorithm used by this session.
+     *
+     * @return the MAC algorithm, not null
+     */
+    MacAlgorithm getAlgorithm();
+
+    /**
+     * Gets the key to which this session is bound.
+     *
+     * @return the key, not null
+     */
+    Key getKey();
+
+    /**
+     * Asynchronously computes the message authentication code of the {@code data} parameter.
+     *
+     * @param data
+     *         the data to be authenticated, not null
+     * @return a {@link Future} that when resolved returns the message authentication code, not null
+     * @throws IllegalArgumentException
+     *         if the {@code data} parameter is null
+     */
+    Future<Hash> authenticateAsync(@NotNull byte[] data);
+
+    /**
+     * Asynchronously computes the message authentication code of the remaining content of the {@code buffer}
+     * parameter.
+     *
+     * @param buffer
+     *         the {@link ByteBuffer} containing the data to be authenticated, not null
+     * @return a {@link Future} that when resolved returns the message authentication code, not null
+     * @throws IllegalArgumentException
+     *         if the {@code buffer} parameter is null
+     */
+    Future<Hash> authenticateAsync(@NotNull ByteBuffer buffer);
+
+    /**
+     * Asynchronously computes the message authentication code of each message. The messages are divided between
+     * multiple tasks which may execute in parallel.
+     *
+     * @param messages
+     *         the messages to be authenticated, not null and must not contain null elements
+     * @return a {@link Future} that when resolved returns the message authentication codes in the same order as the
+     *         messages, not null
+     * @throws IllegalArgumentException
+     *         if the {@code messages} parameter is null
+     */
+    Future<List<Hash>> authenticateAsync(@NotNull List<byte[]> messages);
+
+    /**
+     * Synchronously computes the message authentication code of the {@code data} parameter.
+     *
+     * @param data
+     *         the data to be authenticated, not null
+     * @return the message authentication code, not null
+     * @throws IllegalArgumentException
+     *         if the {@code data} parameter is null
+     */
+    Hash authenticateSync(@NotNull byte[] data);
+
+    /**
+     * Synchronously computes the message authentication code of the remaining content of the {@code buffer}
+     * parameter.
+     *
+     * @param buffer
+     *         the {@link ByteBuffer} containing the data to be authenticated, not null
+     * @return the message authentication code, not null
+     * @throws IllegalArgumentException
+     *         if the {@code buffer} parameter is null
+     */
+    Hash authenticateSync(@NotNull ByteBuffer buffer);
+
+    /**
+     * Synchronously computes the message authentication code of the {@code hashes} parameter. Null elements are
+     * treated as the {@link Hash#EMPTY} hash.
+     *
+     * @param hashes
+     *         the hashes to be authenticated, not null
+     * @return the message authentication code, not null
+     * @throws IllegalArgumentException
+     *         if the {@code hashes} parameter is null or empty
+     */
+    Hash authenticateSync(@NotEmpty Hash... hashes);
+
+    /**
+     * Synchronously computes the message authentication code of each message using the calling thread.
+     *
+     * @param messages
+     *         the messages to be authenticated, not null and must not contain null elements
+     * @return the message authentication codes in the same order as the messages, not null
+     * @throws IllegalArgumentException
+     *         if the {@code messages} parameter is null
+     */
+    List<Hash> authenticateSync(@NotNull List<byte[]> messages);
+
+    /**
+     * Asynchronously verifies the message authentication code of each message. The messages are divided between
+     * multiple tasks which may execute in parallel.
+     *
+     * @param messages
+     *         the messages to be verified, not null and must not contain null elements
+     * @param macs
+     *         the expected message authentication codes in the same order as the messages, not null
+     * @return a {@link Future} that when resolved returns an array indicating whether each message authentication code
+     *         is valid, not null
+     * @throws IllegalArgumentException
+     *         if the {@code messages} or {@code macs} parameters are null or are not the same size
+     */
+    Future<boolean[]> verifyAsync(@NotNull List<byte[]> messages, @NotNull List<Hash> macs);
+
+    /**
+     * Synchronously verifies the message authentication code of the {@code data} parameter in constant time.
+     *
+     * @param data
+     *         the data to be verified, not null
+     * @param mac
+     *         the expected message authentication code, not null
+     * @return true if the message authentication code is valid; otherwise false
+     * @throws IllegalArgumentException
+     *         if the {@code data} or {@code mac} parameters are null
+     */
+    boolean verifySync(@NotNull byte[] data, @NotNull Hash mac);
+
+    /**
+     * Synchronously verifies the message authentication code of each message using the calling thread. A null
+     * expected message authentication code is never valid.
+     *
+     * @param messages
+     *         the messages to be verified, not null and must not contain null elements
+     * @param macs
+     *         the expected message authentication codes in the same order as the messages, not null
+     * @return an array indicating whether each message authentication code is valid, not null
+     * @throws IllegalArgumentException
+     *         if the {@code messages} or {@code macs} parameters are null or are not the same size
+     */
+    boolean[] verifySync(@NotNull List<byte[]> messages, @NotNull List<Hash> macs);
+
+    /**
+     * Discards the pooled primitives held by this session.
+     */
+    @Override
+    void close();
+}
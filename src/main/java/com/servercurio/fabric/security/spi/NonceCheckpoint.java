@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import java.io.IOException;
+import javax.validation.constraints.PositiveOrZero;
+
+/**
+ * A durable store for the high-water mark of a {@link NonceGenerator}. The high-water mark is the first invocation
+ * value which has not been reserved, therefore a generator that is restarted after a crash resumes from the stored
+ * value and never reissues an invocation value which may already have been used.
+ *
+ * @author Nathan Klick
+ * @see NonceConfiguration#setCheckpoint(NonceCheckpoint)
+ */
+public interface NonceCheckpoint {
+
+    /**
+     * Loads the most recently stored high-water mark.
+     *
+     * @return the high-water mark or zero if no value has been stored
+     * @throws IOException
+     *         if an I/O error occurs while reading the high-water mark
+     */
+    long load() throws IOException;
+
+    /**
+     * Durably stores the high-water mark. The value must be persisted to stable storage before this method returns.
+     *
+     * @param highWaterMark
+     *         the first invocation value which has not been reserved, zero or greater
+     * @throws IOException
+     *         if an I/O error occurs while writing the high-water mark
+     */
+    void store(@PositiveOrZero long highWaterMark) throws IOException;
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import javax.validation.constraints.Positive;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
+
+/**
+ * The configuration of a {@link NonceGenerator}. Invocation values are reserved in blocks of {@link
+ * #getReservationSize()} values and the end of each block is written to the optional {@link NonceCheckpoint} before
+ * any value from the block is issued. Larger blocks reduce the number of writes at the cost of skipping the unused
+ * portion of the final block following a restart.
+ *
+ * @author Nathan Klick
+ * @see EncryptionProvider#nonceGenerator(com.servercurio.fabric.security.CipherTransformation, java.security.Key,
+ *         NonceConfiguration)
+ */
+public class NonceConfiguration {
+
+    /**
+     * The default number of invocation values reserved by each write to the checkpoint.
+     */
+    private static final long DEFAULT_RESERVATION_SIZE = 1L << 20;
+
+    /**
+     * The {@code reservationSize} field name represented as a string value.
+     */
+    private static final String RESERVATION_SIZE_FIELD = "reservationSize";
+
+    /**
+     * The {@code invocationLimit} field name represented as a string value.
+     */
+    private static final String INVOCATION_LIMIT_FIELD = "invocationLimit";
+
+    /**
+     * The {@code checkpoint} field name represented as a string value.
+     */
+    private static final String CHECKPOINT_FIELD = "checkpoint";
+
+    /**
+     * The number of invocation values reserved by each write to the checkpoint.
+     */
+    @Positive
+    private long reservationSize;
+
+    /**
+     * The exclusive upper bound of the invocation values which may be issued.
+     */
+    @Positive
+    private long invocationLimit;
+
+    /**
+     * The durable store for the high-water mark or {@code null} if the high-water mark is not persisted.
+     */
+    private NonceCheckpoint checkpoint;
+
+    /**
+     * Constructs a new configuration which permits the full range of the invocation field and does not persist the
+     * high-water mark.
+     */
+    public NonceConfiguration() {
+        this.reservationSize = DEFAULT_RESERVATION_SIZE;
+        this.invocationLimit = Long.MAX_VALUE;
+        this.checkpoint = null;
+    }
+
+    /**
+     * Gets the number of invocation values reserved by each write to the checkpoint.
+     *
+     * @return the reservation size, positive integer
+     */
+    public long getReservationSize() {
+        return reservationSize;
+    }
+
+    /**
+     * Sets the number of invocation values reserved by each write to the checkpoint.
+     *
+     * @param reservationSize
+     *         the reservation size, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code reservationSize} parameter is less than or equal to zero
+     */
+    public void setReservationSize(@Positive final long reservationSize) {
+        throwIfArgIsNotPositive(reservationSize, RESERVATION_SIZE_FIELD);
+
+        this.reservationSize = reservationSize;
+    }
+
+    /**
+     * Gets the exclusive upper bound of the invocation values which may be issued.
+     *
+     * @return the invocation limit, positive integer
+     */
+    public long getInvocationLimit() {
+        return invocationLimit;
+    }
+
+    /**
+     * Sets the exclusive upper bound of the invocation values which may be issued. Applications may use a lower limit
+     * in order to enforce a key rotation policy.
+     *
+     * @param invocationLimit
+     *         the invocation limit, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code invocationLimit} parameter is less than or equal to zero
+     */
+    public void setInvocationLimit(@Positive final long invocationLimit) {
+        throwIfArgIsNotPositive(invocationLimit, INVOCATION_LIMIT_FIELD);
+
+        this.invocationLimit = invocationLimit;
+    }
+
+    /**
+     * Gets the durable store for the high-water mark.
+     *
+     * @return the checkpoint or {@code null} if the high-water mark is not persisted
+     */
+    public NonceCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Sets the durable store for the high-water mark. Without a checkpoint, uniqueness across restarts relies solely
+     * upon the random fixed field of each generator.
+     *
+     * @param checkpoint
+     *         the checkpoint or {@code null} if the high-water mark should not be persisted
+     */
+    public void setCheckpoint(final NonceCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.NO_CLASS_NAME_STYLE)
+                .append(RESERVATION_SIZE_FIELD, reservationSize)
+                .append(INVOCATION_LIMIT_FIELD, invocationLimit)
+                .append(CHECKPOINT_FIELD, checkpoint)
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import com.servercurio.fabric.security.CipherTransformation;
+import com.servercurio.fabric.security.CryptographyException;
+import java.security.Key;
+
+/**
+ * A source of unique deterministic nonces for a single key as described by section 8.2.1 of NIST SP 800-38D. Each nonce
+ * consists of a fixed field, which is chosen at random when the generator is created, followed by a 64-bit invocation
+ * field which is incremented for every nonce issued.
+ *
+ * <p>
+ * A generator must only be used with the key to which it is bound and only one generator may be used with a given key
+ * at any point in time. Generators are safe for use by multiple threads and never issue the same nonce twice. Once the
+ * invocation field has been exhausted the generator refuses to issue further nonces and the key must be replaced.
+ *
+ * @author Nathan Klick
+ * @see EncryptionProvider#nonceGenerator(CipherTransformation, Key, NonceConfiguration)
+ */
+public interface NonceGenerator {
+
+    /**
+     * Gets the transformation for which the nonces are issued.
+     *
+     * @return the cipher transformation, not null
+     */
+    CipherTransformation getAlgorithm();
+
+    /**
+     * Gets the key to which this generator is bound.
+     *
+     * @return the key, not null
+     */
+    Key getKey();
+
+    /**
+     * Gets the number of invocations which may still be issued before the generator is exhausted. The returned value
+     * is a point in time approximation.
+     *
+     * @return the number of remaining invocations, zero or greater
+     */
+    long remaining();
+
+    /**
+     * Issues the next unique nonce.
+     *
+     * @return a byte array containing the nonce, not null
+     * @throws CryptographyException
+     *         if the invocation field has been exhausted or the high-water mark could not be persisted
+     */
+    byte[] next();
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.spi;
+
+/**
+ * An enumeration of the classes of asynchronous operations. Each operation class is scheduled on a separate lane of
+ * the {@link PrimitiveProvider#executorService(OperationClass)} so that long running operations, such as the
+ * encryption of large streams, do not delay latency sensitive operations such as signature verification.
+ *
+ * @author Nathan Klick
+ * @see ExecutorConfiguration#setLaneWeight(OperationClass, int)
+ * @see ExecutorConfiguration#setLaneConcurrency(OperationClass, int)
+ */
+public enum OperationClass {
+    /**
+     * Operations which do not belong to any of the other operation classes.
+     */
+    GENERAL,
+
+    /**
+     * Message digest operations.
+     */
+    DIGEST,
+
+    /**
+     * Message authentication code operations.
+     */
+    MAC,
+
+    /**
+     * Digital signature creation operations.
+     */
+    SIGN,
+
+    /**
+     * Digital signature verification operations.
+     */
+    VERIFY,
+
+    /**
+     * Encryption operations.
+     */
+    ENCRYPT,
+
+    /**
+     * Decryption operations.
+     */
+    DECRYPT
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import java.security.GeneralSecurityException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.validation.constraints.NotNull;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * An exclusively owned cryptographic primitive which is returned to the {@link PrimitiveProvider} that issued it when
+ * the lease is closed. Leases are intended to be used with a try-with-resources statement and may be safely passed
+ * between threads, such as across asynchronous boundaries, provided only one thread uses the primitive at a time.
+ *
+ * <p>
+ * A leased primitive may previously have been used by another caller. Message digests are reset before the lease is
+ * issued and hold no state from the previous caller. The JCA provides no means of clearing the key of a cipher,
+ * signature or message authentication code, therefore leases of these primitives are issued uninitialized: the {@link
+ * #get()} method fails until the lease holder has initialized the primitive with its own key using the {@link
+ * #initialize(Initializer)} method. A primitive can therefore never be used with the key of the previous caller.
+ *
+ * @param <T>
+ *         the type of the JCE algorithm primitive
+ * @author Nathan Klick
+ * @see PrimitiveProvider#lease(com.servercurio.fabric.security.HashAlgorithm)
+ */
+public interface PrimitiveLease<T> extends AutoCloseable {
+
+    /**
+     * Creates a new lease of the {@code primitive} parameter which invokes the {@code releaser} parameter exactly once
+     * when the lease is first closed.
+     *
+     * @param <T>
+     *         the type of the JCE algorithm primitive
+     * @param primitive
+     *         the exclusively owned primitive, not null
+     * @param releaser
+     *         the action which returns the primitive to its pool, not null
+     * @return the lease, not null
+     * @throws IllegalArgumentException
+     *         if the {@code primitive} or {@code releaser} parameters are null
+     */
+    static <T> PrimitiveLease<T> of(@NotNull final T primitive, @NotNull final Runnable releaser) {
+        return create(primitive, releaser, true);
+    }
+
+    /**
+     * Creates a new lease of the {@code primitive} parameter which must be initialized using the {@link
+     * #initialize(Initializer)} method before the primitive is available from the {@link #get()} method. The {@code
+     * releaser} parameter is invoked exactly once when the lease is first closed.
+     *
+     * @param <T>
+     *         the type of the JCE algorithm primitive
+     * @param primitive
+     *         the exclusively owned primitive, not null
+     * @param releaser
+     *         the action which returns the primitive to its pool, not null
+     * @return the lease, not null
+     * @throws IllegalArgumentException
+     *         if the {@code primitive} or {@code releaser} parameters are null
+     */
+    static <T> PrimitiveLease<T> uninitialized(@NotNull final T primitive, @NotNull final Runnable releaser) {
+        return create(primitive, releaser, false);
+    }
+
+    /**
+     * Creates a new lease of the {@code primitive} parameter.
+     *
+     * @param <T>
+     *         the type of the JCE algorithm primitive
+     * @param primitive
+     *         the exclusively owned primitive, not null
+     * @param releaser
+     *         the action which returns the primitive to its pool, not null
+     * @param ready
+     *         true if the primitive may be used without first being initialized; otherwise false
+     * @return the lease, not null
+     * @throws IllegalArgumentException
+     *         if the {@code primitive} or {@code releaser} parameters are null
+     */
+    private static <T> PrimitiveLease<T> create(@NotNull final T primitive, @NotNull final Runnable releaser,
+                                                final boolean ready) {
+        throwIfArgIsNull(primitive, "primitive");
+        throwIfArgIsNull(releaser, "releaser");
+
+        final AtomicBoolean closed = new AtomicBoolean();
+        final AtomicBoolean initialized = new AtomicBoolean(ready);
+
+        return new PrimitiveLease<>() {
+            @Override
+            public T get() {
+                if (closed.get()) {
+                    throw new IllegalStateException("The lease has already been closed");
+                }
+
+                if (!initialized.get()) {
+                    throw new IllegalStateException("The leased primitive must be initialized before it is used");
+                }
+
+                return primitive;
+            }
+
+            @Override
+            public T initialize(@NotNull final Initializer<T> initializer) throws GeneralSecurityException {
+                throwIfArgIsNull(initializer, "initializer");
+
+                if (closed.get()) {
+                    throw new IllegalStateException("The lease has already been closed");
+                }
+
+                initializer.initialize(primitive);
+                initialized.set(true);
+                return primitive;
+            }
+
+            @Override
+            public boolean isClosed() {
+                return closed.get();
+            }
+
+            @Override
+            public void close() {
+                if (closed.compareAndSet(false, true)) {
+                    releaser.run();
+                }
+            }
+        };
+    }
+
+    /**
+     * Gets the leased primitive. The primitive must not be used or retained once the lease has been closed.
+     *
+     * @return the leased primitive, not null
+     * @throws IllegalStateException
+     *         if the lease has already been closed or if the lease was issued uninitialized and the {@link
+     *         #initialize(Initializer)} method has not yet completed successfully
+     */
+    T get();
+
+    /**
+     * Initializes the leased primitive, typically with the key of the lease holder, and makes it available from the
+     * {@link #get()} method. A primitive which fails to initialize remains unavailable.
+     *
+     * @param initializer
+     *         the function which initializes the primitive, not null
+     * @return the initialized primitive, not null
+     * @throws GeneralSecurityException
+     *         if the primitive could not be initialized
+     * @throws IllegalArgumentException
+     *         if the {@code initializer} parameter is null
+     * @throws IllegalStateException
+     *         if the lease has already been closed
+     */
+    T initialize(@NotNull Initializer<T> initializer) throws GeneralSecurityException;
+
+    /**
+     * Indicates whether the lease has been closed and the primitive returned to its pool.
+     *
+     * @return true if the lease has been closed; otherwise false
+     */
+    boolean isClosed();
+
+    /**
+     * Returns the leased primitive to the provider that issued it. Only the first invocation has any effect.
+     */
+    @Override
+    void close();
+
+    /**
+     * Initializes a leased primitive, such as {@code Cipher.init(int, Key)}.
+     *
+     * @param <T>
+     *         the type of the JCE algorithm primitive
+     */
+    @FunctionalInterface
+    interface Initializer<T> {
+
+        /**
+         * Initializes the {@code primitive} parameter.
+         *
+         * @param primitive
+         *         the primitive to be initialized, not null
+         * @throws GeneralSecurityException
+         *         if the primitive could not be initialized
+         */
+        void initialize(T primitive) throws GeneralSecurityException;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.spi;
+
+import java.time.Duration;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositiveOrZero;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * The configuration of the pool from which the {@link PrimitiveProvider} borrows cryptographic primitives. Each
+ * algorithm is pooled separately and the pool retains at most {@link #getMaximumIdle()} idle primitives per algorithm.
+ * Primitives which are released while the pool is full are discarded.
+ *
+ * <p>
+ * Idle primitives may optionally be evicted once they have not been borrowed for the configured idle timeout, which
+ * allows the memory held by rarely used algorithms to be reclaimed after a burst of activity.
+ *
+ * @author Nathan Klick
+ * @see PrimitiveProvider
+ */
+public class PrimitivePoolConfiguration {
+
+    /**
+     * The default multiplier applied to the number of available processors to derive the default maximum number of
+     * idle primitives per algorithm.
+     */
+    private static final int DEFAULT_IDLE_MULTIPLIER = 2;
+
+    /**
+     * The {@code maximumIdle} field name represented as a string value.
+     */
+    private static final String MAXIMUM_IDLE_FIELD = "maximumIdle";
+
+    /**
+     * The {@code idleTimeout} field name represented as a string value.
+     */
+    private static final String IDLE_TIMEOUT_FIELD = "idleTimeout";
+
+    /**
+     * The maximum number of idle primitives retained for each algorithm.
+     */
+    @Positive
+    private int maximumIdle;
+
+    /**
+     * The amount of time an idle primitive is retained before being evicted or {@link Duration#ZERO} if idle
+     * primitives are never evicted, not null.
+     */
+    @NotNull
+    private Duration idleTimeout;
+
+    /**
+     * Constructs a new configuration which retains up to two idle primitives per available processor for each
+     * algorithm and never evicts idle primitives.
+     */
+    public PrimitivePoolConfiguration() {
+        this.maximumIdle = Runtime.getRuntime().availableProcessors() * DEFAULT_IDLE_MULTIPLIER;
+        this.idleTimeout = Duration.ZERO;
+    }
+
+    /**
+     * Gets the maximum number of idle primitives retained for each algorithm.
+     *
+     * @return the maximum number of idle primitives, positive integer
+     */
+    public int getMaximumIdle() {
+        return maximumIdle;
+    }
+
+    /**
+     * Sets the maximum number of idle primitives retained for each algorithm.
+     *
+     * @param maximumIdle
+     *         the maximum number of idle primitives, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code maximumIdle} parameter is less than or equal to zero
+     */
+    public void setMaximumIdle(@Positive final int maximumIdle) {
+        throwIfArgIsNotPositive(maximumIdle, MAXIMUM_IDLE_FIELD);
+
+        this.maximumIdle = maximumIdle;
+    }
+
+    /**
+     * Gets the amount of time an idle primitive is retained before being evicted.
+     *
+     * @return the idle timeout or {@link Duration#ZERO} if idle primitives are never evicted, not null
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets the amount of time an idle primitive is retained before being evicted. Eviction is performed
+     * opportunistically while primitives are borrowed and released, therefore an idle primitive may be retained for
+     * longer than the configured timeout while the pool is not in use.
+     *
+     * @param idleTimeout
+     *         the idle timeout or {@link Duration#ZERO} to never evict idle primitives, not null
+     * @throws IllegalArgumentException
+     *         if the {@code idleTimeout} parameter is null or negative
+     */
+    public void setIdleTimeout(@NotNull final Duration idleTimeout) {
+        throwIfArgIsNull(idleTimeout, IDLE_TIMEOUT_FIELD);
+        throwIfArgIsNotPositiveOrZero(idleTimeout.toMillis(), IDLE_TIMEOUT_FIELD);
+
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.NO_CLASS_NAME_STYLE)
+                .append(MAXIMUM_IDLE_FIELD, maximumIdle)
+                .append(IDLE_TIMEOUT_FIELD, idleTimeout)
+                .toString();
+    }
+}
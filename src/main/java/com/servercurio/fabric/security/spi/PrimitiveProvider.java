@@ -24,6 +24,8 @@ import com.servercurio.fabric.security.SignatureAlgorithm;
 import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.security.Signature;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import javax.crypto.Cipher;
 import javax.crypto.Mac;
@@ -47,10 +49,66 @@ public interface PrimitiveProvider extends AutoCloseable {
      */
     ExecutorService executorService();
 
+    /**
+     * Gets the {@link ExecutorService} used to execute asynchronous operations of the specified {@link
+     * OperationClass}. Implementations may schedule each operation class on a separate lane in order to prevent long
+     * running operations from delaying latency sensitive operations. The default implementation returns the {@link
+     * ExecutorService} provided by the {@link #executorService()} method for all operation classes.
+     *
+     * @param operationClass
+     *         the class of the operations to be executed, not null
+     * @return the executor service, not null
+     * @throws IllegalArgumentException
+     *         if the {@code operationClass} parameter is null
+     */
+    default ExecutorService executorService(@NotNull final OperationClass operationClass) {
+        throwIfArgIsNull(operationClass, "operationClass");
+
+        return executorService();
+    }
+
+    /**
+     * Gets the thread model used by the {@link ExecutorService} returned from the {@link #executorService()} method.
+     *
+     * @return the executor mode, not null
+     */
+    default ExecutorMode executorMode() {
+        return ExecutorMode.PLATFORM;
+    }
+
+    /**
+     * Gets a live view of the load placed on the {@link ExecutorService} returned from the {@link #executorService()}
+     * method.
+     *
+     * @return the executor statistics, not null
+     * @throws UnsupportedOperationException
+     *         if this provider does not track executor statistics
+     */
+    default ExecutorStatistics executorStatistics() {
+        throw new UnsupportedOperationException("Executor statistics are not supported by this provider");
+    }
+
+    /**
+     * Gets the name of the {@link java.security.Provider} selected for each calibrated algorithm. Algorithms without a
+     * selection use the highest priority provider. The keys are the JCA service type followed by the name of the
+     * algorithm constant, such as {@code MessageDigest.SHA_256}. The default implementation returns an empty map.
+     *
+     * @return an unmodifiable map of provider names keyed by algorithm, not null
+     * @see ProviderSelectionConfiguration
+     */
+    default Map<String, String> selectedProviders() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Acquires a cryptographic primitive from the underlying Java Cryptography Architecture provider. Implementations
-     * may return a new primitive on every request or may return a cached instance. If returning cached instances then
-     * care must be taken to ensure thread safety and that cached instances are only used by a single caller at a time.
+     * may return a new primitive on every request or may borrow an instance from a pool. The returned primitive is
+     * exclusively owned by the caller and should be passed to the matching {@code release} method once it is no longer
+     * in use so that it may be reused. Primitives which are never released are not reused.
+     *
+     * <p>
+     * A pooled primitive may still be initialized with the key of the caller which released it, therefore the caller
+     * must always initialize the primitive with its own key before use.
      *
      * @param algorithm
      *         the cryptographic algorithm, not null
@@ -62,8 +120,13 @@ public interface PrimitiveProvider extends AutoCloseable {
 
     /**
      * Acquires a cryptographic primitive from the underlying Java Cryptography Architecture provider. Implementations
-     * may return a new primitive on every request or may return a cached instance. If returning cached instances then
-     * care must be taken to ensure thread safety and that cached instances are only used by a single caller at a time.
+     * may return a new primitive on every request or may borrow an instance from a pool. The returned primitive is
+     * exclusively owned by the caller and should be passed to the matching {@code release} method once it is no longer
+     * in use so that it may be reused. Primitives which are never released are not reused.
+     *
+     * <p>
+     * A pooled primitive may still be initialized with the key of the caller which released it, therefore the caller
+     * must always initialize the primitive with its own key before use.
      *
      * @param algorithm
      *         the cryptographic algorithm, not null
@@ -75,8 +138,9 @@ public interface PrimitiveProvider extends AutoCloseable {
 
     /**
      * Acquires a cryptographic primitive from the underlying Java Cryptography Architecture provider. Implementations
-     * may return a new primitive on every request or may return a cached instance. If returning cached instances then
-     * care must be taken to ensure thread safety and that cached instances are only used by a single caller at a time.
+     * may return a new primitive on every request or may borrow an instance from a pool. The returned primitive is
+     * exclusively owned by the caller and should be passed to the matching {@code release} method once it is no longer
+     * in use so that it may be reused. Primitives which are never released are not reused.
      *
      * @param algorithm
      *         the cryptographic algorithm, not null
@@ -88,8 +152,13 @@ public interface PrimitiveProvider extends AutoCloseable {
 
     /**
      * Acquires a cryptographic primitive from the underlying Java Cryptography Architecture provider. Implementations
-     * may return a new primitive on every request or may return a cached instance. If returning cached instances then
-     * care must be taken to ensure thread safety and that cached instances are only used by a single caller at a time.
+     * may return a new primitive on every request or may borrow an instance from a pool. The returned primitive is
+     * exclusively owned by the caller and should be passed to the matching {@code release} method once it is no longer
+     * in use so that it may be reused. Primitives which are never released are not reused.
+     *
+     * <p>
+     * A pooled primitive may still be initialized with the key of the caller which released it, therefore the caller
+     * must always initialize the primitive with its own key before use.
      *
      * @param algorithm
      *         the cryptographic algorithm, not null
@@ -99,6 +168,152 @@ public interface PrimitiveProvider extends AutoCloseable {
      */
     Mac primitive(@NotNull MacAlgorithm algorithm);
 
+    /**
+     * Returns a cryptographic primitive previously acquired from the {@link #primitive(CipherTransformation)} method so
+     * that it may be reused by a subsequent caller. The caller must not use the primitive after it has been released.
+     * The default implementation discards the primitive.
+     *
+     * @param algorithm
+     *         the cryptographic algorithm used to acquire the primitive, not null
+     * @param primitive
+     *         the cryptographic primitive to be released, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or {@code primitive} parameters are null
+     */
+    default void release(@NotNull final CipherTransformation algorithm, @NotNull final Cipher primitive) {
+        throwIfArgIsNull(algorithm, "algorithm");
+        throwIfArgIsNull(primitive, "primitive");
+    }
+
+    /**
+     * Returns a cryptographic primitive previously acquired from the {@link #primitive(SignatureAlgorithm)} method so
+     * that it may be reused by a subsequent caller. The caller must not use the primitive after it has been released.
+     * The default implementation discards the primitive.
+     *
+     * @param algorithm
+     *         the cryptographic algorithm used to acquire the primitive, not null
+     * @param primitive
+     *         the cryptographic primitive to be released, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or {@code primitive} parameters are null
+     */
+    default void release(@NotNull final SignatureAlgorithm algorithm, @NotNull final Signature primitive) {
+        throwIfArgIsNull(algorithm, "algorithm");
+        throwIfArgIsNull(primitive, "primitive");
+    }
+
+    /**
+     * Returns a cryptographic primitive previously acquired from the {@link #primitive(HashAlgorithm)} method so that
+     * it may be reused by a subsequent caller. The caller must not use the primitive after it has been released. The
+     * default implementation discards the primitive.
+     *
+     * @param algorithm
+     *         the cryptographic algorithm used to acquire the primitive, not null
+     * @param primitive
+     *         the cryptographic primitive to be released, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or {@code primitive} parameters are null
+     */
+    default void release(@NotNull final HashAlgorithm algorithm, @NotNull final MessageDigest primitive) {
+        throwIfArgIsNull(algorithm, "algorithm");
+        throwIfArgIsNull(primitive, "primitive");
+    }
+
+    /**
+     * Returns a cryptographic primitive previously acquired from the {@link #primitive(MacAlgorithm)} method so that it
+     * may be reused by a subsequent caller. The caller must not use the primitive after it has been released. The
+     * default implementation discards the primitive.
+     *
+     * @param algorithm
+     *         the cryptographic algorithm used to acquire the primitive, not null
+     * @param primitive
+     *         the cryptographic primitive to be released, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or {@code primitive} parameters are null
+     */
+    default void release(@NotNull final MacAlgorithm algorithm, @NotNull final Mac primitive) {
+        throwIfArgIsNull(algorithm, "algorithm");
+        throwIfArgIsNull(primitive, "primitive");
+    }
+
+    /**
+     * Leases a cryptographic primitive for use with a try-with-resources statement. The primitive is acquired from the
+     * {@link #primitive(CipherTransformation)} method and is passed to the
+     * {@link #release(CipherTransformation, Cipher)} method when the lease is closed. The primitive must be initialized
+     * using the {@link PrimitiveLease#initialize(PrimitiveLease.Initializer)} method before it is available from the
+     * {@link PrimitiveLease#get()} method.
+     *
+     * @param algorithm
+     *         the cryptographic algorithm, not null
+     * @return the uninitialized lease of an exclusively owned primitive, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} parameter is null
+     */
+    default PrimitiveLease<Cipher> lease(@NotNull final CipherTransformation algorithm) {
+        throwIfArgIsNull(algorithm, "algorithm");
+
+        final Cipher primitive = primitive(algorithm);
+        return PrimitiveLease.uninitialized(primitive, () -> release(algorithm, primitive));
+    }
+
+    /**
+     * Leases a cryptographic primitive for use with a try-with-resources statement. The primitive is acquired from the
+     * {@link #primitive(SignatureAlgorithm)} method and is passed to the
+     * {@link #release(SignatureAlgorithm, Signature)} method when the lease is closed. The primitive must be
+     * initialized using the {@link PrimitiveLease#initialize(PrimitiveLease.Initializer)} method before it is
+     * available from the {@link PrimitiveLease#get()} method.
+     *
+     * @param algorithm
+     *         the cryptographic algorithm, not null
+     * @return the uninitialized lease of an exclusively owned primitive, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} parameter is null
+     */
+    default PrimitiveLease<Signature> lease(@NotNull final SignatureAlgorithm algorithm) {
+        throwIfArgIsNull(algorithm, "algorithm");
+
+        final Signature primitive = primitive(algorithm);
+        return PrimitiveLease.uninitialized(primitive, () -> release(algorithm, primitive));
+    }
+
+    /**
+     * Leases a cryptographic primitive for use with a try-with-resources statement. The primitive is acquired from the
+     * {@link #primitive(HashAlgorithm)} method and is passed to the
+     * {@link #release(HashAlgorithm, MessageDigest)} method when the lease is closed.
+     *
+     * @param algorithm
+     *         the cryptographic algorithm, not null
+     * @return the lease of an exclusively owned primitive, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} parameter is null
+     */
+    default PrimitiveLease<MessageDigest> lease(@NotNull final HashAlgorithm algorithm) {
+        throwIfArgIsNull(algorithm, "algorithm");
+
+        final MessageDigest primitive = primitive(algorithm);
+        return PrimitiveLease.of(primitive, () -> release(algorithm, primitive));
+    }
+
+    /**
+     * Leases a cryptographic primitive for use with a try-with-resources statement. The primitive is acquired from the
+     * {@link #primitive(MacAlgorithm)} method and is passed to the
+     * {@link #release(MacAlgorithm, Mac)} method when the lease is closed. The primitive must be initialized
+     * using the {@link PrimitiveLease#initialize(PrimitiveLease.Initializer)} method before it is available from the
+     * {@link PrimitiveLease#get()} method.
+     *
+     * @param algorithm
+     *         the cryptographic algorithm, not null
+     * @return the uninitialized lease of an exclusively owned primitive, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} parameter is null
+     */
+    default PrimitiveLease<Mac> lease(@NotNull final MacAlgorithm algorithm) {
+        throwIfArgIsNull(algorithm, "algorithm");
+
+        final Mac primitive = primitive(algorithm);
+        return PrimitiveLease.uninitialized(primitive, () -> release(algorithm, primitive));
+    }
+
     /**
      * Acquires an instance of a cryptographically secure PRNG. It is strongly recommended that all implementations use
      * the DRBG secure random algorithm with reseeding enabled and no less than a 128-bit strength parameter.
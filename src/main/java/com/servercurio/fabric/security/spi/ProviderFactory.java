@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.spi;
+
+import java.security.Provider;
+
+/**
+ * A service which creates a {@link Provider} to be registered by {@link SecurityProviders#ensureRegistered()} before
+ * the first algorithm lookup. Implementations are discovered using the {@link java.util.ServiceLoader} and each
+ * provider is registered with the lowest priority unless a provider with the same name is already registered.
+ *
+ * @author Nathan Klick
+ * @see SecurityProviders
+ */
+@FunctionalInterface
+public interface ProviderFactory {
+
+    /**
+     * Creates a new instance of the provider.
+     *
+     * @return the provider, not null
+     */
+    Provider newProvider();
+}
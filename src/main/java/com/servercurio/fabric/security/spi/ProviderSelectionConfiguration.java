@@ -0,0 +1,277 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.spi;
+
+import com.servercurio.fabric.security.CipherAlgorithm;
+import com.servercurio.fabric.security.CipherMode;
+import com.servercurio.fabric.security.CipherPadding;
+import com.servercurio.fabric.security.CipherTransformation;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * The configuration of the optional calibration step which selects the fastest {@link java.security.Provider} for each
+ * algorithm. By default the {@link PrimitiveProvider} requests every primitive from the highest priority provider
+ * which supports the algorithm. When calibration is enabled, each installed provider supporting a {@code
+ * HashAlgorithm}, {@code MacAlgorithm}, {@code SignatureAlgorithm} or one of the configured {@link
+ * #getTransformations() transformations} is benchmarked against a sample of {@link #getSampleSize()} bytes for the
+ * {@link #getMeasurementPeriod() measurement period}. Providers whose output differs from the default provider are
+ * never selected.
+ *
+ * <p>
+ * If a {@link #getSelectionFile() selection file} is configured, the selections are stored in the file after a
+ * calibration and later instances load the file instead of calibrating again. The file is ignored if the Java runtime
+ * or the installed providers have changed since the selections were made.
+ *
+ * @author Nathan Klick
+ * @see PrimitiveProvider#selectedProviders()
+ */
+public class ProviderSelectionConfiguration {
+
+    /**
+     * The default number of bytes processed by each benchmarked operation.
+     */
+    private static final int DEFAULT_SAMPLE_SIZE = 16 * 1024;
+
+    /**
+     * The default amount of time spent warming up and then measuring each provider.
+     */
+    private static final Duration DEFAULT_MEASUREMENT_PERIOD = Duration.ofMillis(30);
+
+    /**
+     * The {@code selectionFile} field name represented as a string value.
+     */
+    private static final String SELECTION_FILE_FIELD = "selectionFile";
+
+    /**
+     * The {@code calibrate} field name represented as a string value.
+     */
+    private static final String CALIBRATE_FIELD = "calibrate";
+
+    /**
+     * The {@code sampleSize} field name represented as a string value.
+     */
+    private static final String SAMPLE_SIZE_FIELD = "sampleSize";
+
+    /**
+     * The {@code measurementPeriod} field name represented as a string value.
+     */
+    private static final String MEASUREMENT_PERIOD_FIELD = "measurementPeriod";
+
+    /**
+     * The {@code transformations} field name represented as a string value.
+     */
+    private static final String TRANSFORMATIONS_FIELD = "transformations";
+
+    /**
+     * Indicates whether the providers are benchmarked when no usable selection file is available.
+     */
+    private boolean calibrate;
+
+    /**
+     * The file from which previous selections are loaded and to which new selections are stored, may be null.
+     */
+    private Path selectionFile;
+
+    /**
+     * The number of bytes processed by each benchmarked operation.
+     */
+    @Positive
+    private int sampleSize;
+
+    /**
+     * The amount of time spent warming up and then measuring each provider, not null.
+     */
+    @NotNull
+    private Duration measurementPeriod;
+
+    /**
+     * The cipher transformations for which a provider is selected, not null.
+     */
+    @NotNull
+    private Set<CipherTransformation> transformations;
+
+    /**
+     * Constructs a new configuration which does not calibrate and has no selection file, therefore every primitive is
+     * requested from the highest priority provider. If calibration is later enabled then the default {@link
+     * CipherTransformation}, {@code AES/CBC/PKCS5Padding} and {@code AES/CTR/NoPadding} transformations are calibrated
+     * using a 16 KiB sample and a 30 millisecond measurement period.
+     */
+    public ProviderSelectionConfiguration() {
+        this.calibrate = false;
+        this.selectionFile = null;
+        this.sampleSize = DEFAULT_SAMPLE_SIZE;
+        this.measurementPeriod = DEFAULT_MEASUREMENT_PERIOD;
+        this.transformations = new LinkedHashSet<>();
+
+        transformations.add(new CipherTransformation());
+        transformations.add(new CipherTransformation(CipherAlgorithm.AES, CipherMode.CBC, CipherPadding.PKCS5));
+        transformations.add(new CipherTransformation(CipherAlgorithm.AES, CipherMode.CTR, CipherPadding.NONE));
+    }
+
+    /**
+     * Constructs a new configuration which calibrates the providers unless the specified selection file contains
+     * usable selections.
+     *
+     * @param selectionFile
+     *         the file from which previous selections are loaded and to which new selections are stored, not null
+     * @throws IllegalArgumentException
+     *         if the {@code selectionFile} parameter is null
+     */
+    public ProviderSelectionConfiguration(@NotNull final Path selectionFile) {
+        this();
+        setSelectionFile(selectionFile);
+        setCalibrate(true);
+    }
+
+    /**
+     * Indicates whether the providers are benchmarked when no usable selection file is available.
+     *
+     * @return true if the providers are calibrated; otherwise false
+     */
+    public boolean isCalibrate() {
+        return calibrate;
+    }
+
+    /**
+     * Sets whether the providers are benchmarked when no usable selection file is available. When disabled, only the
+     * selections loaded from the selection file are applied.
+     *
+     * @param calibrate
+     *         true if the providers should be calibrated; otherwise false
+     */
+    public void setCalibrate(final boolean calibrate) {
+        this.calibrate = calibrate;
+    }
+
+    /**
+     * Gets the file from which previous selections are loaded and to which new selections are stored.
+     *
+     * @return the selection file or {@code null} if selections are not persisted
+     */
+    public Path getSelectionFile() {
+        return selectionFile;
+    }
+
+    /**
+     * Sets the file from which previous selections are loaded and to which new selections are stored.
+     *
+     * @param selectionFile
+     *         the selection file or {@code null} if selections should not be persisted
+     */
+    public void setSelectionFile(final Path selectionFile) {
+        this.selectionFile = selectionFile;
+    }
+
+    /**
+     * Gets the number of bytes processed by each benchmarked operation.
+     *
+     * @return the sample size in bytes, positive integer
+     */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * Sets the number of bytes processed by each benchmarked operation. The sample should be representative of the
+     * typical message size since the fastest provider for small messages is not always the fastest for bulk data.
+     *
+     * @param sampleSize
+     *         the sample size in bytes, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code sampleSize} parameter is less than or equal to zero
+     */
+    public void setSampleSize(@Positive final int sampleSize) {
+        throwIfArgIsNotPositive(sampleSize, SAMPLE_SIZE_FIELD);
+
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Gets the amount of time spent warming up and then measuring each provider.
+     *
+     * @return the measurement period, not null
+     */
+    public Duration getMeasurementPeriod() {
+        return measurementPeriod;
+    }
+
+    /**
+     * Sets the amount of time spent warming up and then measuring each provider. At least one operation is always
+     * measured regardless of the period. Short periods may end before the JIT compiler has optimized a provider and
+     * therefore favor providers which do not rely on CPU intrinsics.
+     *
+     * @param measurementPeriod
+     *         the measurement period, not null
+     * @throws IllegalArgumentException
+     *         if the {@code measurementPeriod} parameter is null, zero or negative
+     */
+    public void setMeasurementPeriod(@NotNull final Duration measurementPeriod) {
+        throwIfArgIsNull(measurementPeriod, MEASUREMENT_PERIOD_FIELD);
+        throwIfArgIsNotPositive(measurementPeriod.toNanos(), MEASUREMENT_PERIOD_FIELD);
+
+        this.measurementPeriod = measurementPeriod;
+    }
+
+    /**
+     * Gets the cipher transformations for which a provider is selected. Transformations which are not calibrated are
+     * always requested from the highest priority provider.
+     *
+     * @return an unmodifiable view of the calibrated transformations, not null
+     */
+    public Set<CipherTransformation> getTransformations() {
+        return Collections.unmodifiableSet(transformations);
+    }
+
+    /**
+     * Sets the cipher transformations for which a provider is selected.
+     *
+     * @param transformations
+     *         the calibrated transformations, not null
+     * @throws IllegalArgumentException
+     *         if the {@code transformations} parameter is null
+     */
+    public void setTransformations(@NotNull final Set<CipherTransformation> transformations) {
+        throwIfArgIsNull(transformations, TRANSFORMATIONS_FIELD);
+
+        this.transformations = new LinkedHashSet<>(transformations);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.NO_CLASS_NAME_STYLE)
+                .append(CALIBRATE_FIELD, calibrate)
+                .append(SELECTION_FILE_FIELD, selectionFile)
+                .append(SAMPLE_SIZE_FIELD, sampleSize)
+                .append(MEASUREMENT_PERIOD_FIELD, measurementPeriod)
+                .append(TRANSFORMATIONS_FIELD, transformations)
+                .toString();
+    }
+}
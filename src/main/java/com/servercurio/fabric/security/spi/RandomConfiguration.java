@@ -0,0 +1,236 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import java.time.Duration;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositiveOrZero;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * The configuration of the DRBG instances returned by the {@link PrimitiveProvider#random()} method. The {@link
+ * ReseedPolicy} determines how often the DRBG is reseeded and the {@link #getReseedInterval()} or {@link
+ * #getReseedPeriod()} values determine the threshold used by the counting and time based policies respectively.
+ *
+ * <p>
+ * Small requests for random bytes, such as nonces and initialization vectors, may optionally be served from a
+ * prefilled buffer which amortizes the cost of each DRBG request and reseed across many requests. Bytes are removed
+ * from the buffer as they are served and are never handed out twice.
+ *
+ * @author Nathan Klick
+ * @see PrimitiveProvider#random()
+ */
+public class RandomConfiguration {
+
+    /**
+     * The default number of requests or bytes between reseed operations.
+     */
+    private static final long DEFAULT_RESEED_INTERVAL = 100;
+
+    /**
+     * The default amount of time between reseed operations.
+     */
+    private static final Duration DEFAULT_RESEED_PERIOD = Duration.ofMinutes(1);
+
+    /**
+     * The {@code reseedPolicy} field name represented as a string value.
+     */
+    private static final String RESEED_POLICY_FIELD = "reseedPolicy";
+
+    /**
+     * The {@code reseedInterval} field name represented as a string value.
+     */
+    private static final String RESEED_INTERVAL_FIELD = "reseedInterval";
+
+    /**
+     * The {@code reseedPeriod} field name represented as a string value.
+     */
+    private static final String RESEED_PERIOD_FIELD = "reseedPeriod";
+
+    /**
+     * The {@code bufferSize} field name represented as a string value.
+     */
+    private static final String BUFFER_SIZE_FIELD = "bufferSize";
+
+    /**
+     * The strategy used to decide when the DRBG is reseeded, not null.
+     */
+    @NotNull
+    private ReseedPolicy reseedPolicy;
+
+    /**
+     * The number of requests or bytes between reseed operations when using the {@link ReseedPolicy#CALL_COUNT} or
+     * {@link ReseedPolicy#BYTE_COUNT} policies.
+     */
+    @Positive
+    private long reseedInterval;
+
+    /**
+     * The amount of time between reseed operations when using the {@link ReseedPolicy#TIME} policy, not null.
+     */
+    @NotNull
+    private Duration reseedPeriod;
+
+    /**
+     * The size in bytes of the buffer from which small requests are served or zero if buffering is disabled.
+     */
+    @PositiveOrZero
+    private int bufferSize;
+
+    /**
+     * Constructs a new configuration which uses the {@link ReseedPolicy#PREDICTION_RESISTANCE} policy and does not
+     * buffer random bytes.
+     */
+    public RandomConfiguration() {
+        this(ReseedPolicy.PREDICTION_RESISTANCE);
+    }
+
+    /**
+     * Constructs a new configuration which uses the specified {@link ReseedPolicy} and the default values for all
+     * other settings.
+     *
+     * @param reseedPolicy
+     *         the strategy used to decide when the DRBG is reseeded, not null
+     * @throws IllegalArgumentException
+     *         if the {@code reseedPolicy} parameter is null
+     */
+    public RandomConfiguration(@NotNull final ReseedPolicy reseedPolicy) {
+        throwIfArgIsNull(reseedPolicy, RESEED_POLICY_FIELD);
+
+        this.reseedPolicy = reseedPolicy;
+        this.reseedInterval = DEFAULT_RESEED_INTERVAL;
+        this.reseedPeriod = DEFAULT_RESEED_PERIOD;
+        this.bufferSize = 0;
+    }
+
+    /**
+     * Gets the strategy used to decide when the DRBG is reseeded.
+     *
+     * @return the reseed policy, not null
+     */
+    public ReseedPolicy getReseedPolicy() {
+        return reseedPolicy;
+    }
+
+    /**
+     * Sets the strategy used to decide when the DRBG is reseeded.
+     *
+     * @param reseedPolicy
+     *         the reseed policy, not null
+     * @throws IllegalArgumentException
+     *         if the {@code reseedPolicy} parameter is null
+     */
+    public void setReseedPolicy(@NotNull final ReseedPolicy reseedPolicy) {
+        throwIfArgIsNull(reseedPolicy, RESEED_POLICY_FIELD);
+
+        this.reseedPolicy = reseedPolicy;
+    }
+
+    /**
+     * Gets the number of requests or bytes between reseed operations when using the {@link ReseedPolicy#CALL_COUNT}
+     * or {@link ReseedPolicy#BYTE_COUNT} policies.
+     *
+     * @return the reseed interval, positive integer
+     */
+    public long getReseedInterval() {
+        return reseedInterval;
+    }
+
+    /**
+     * Sets the number of requests or bytes between reseed operations when using the {@link ReseedPolicy#CALL_COUNT}
+     * or {@link ReseedPolicy#BYTE_COUNT} policies.
+     *
+     * @param reseedInterval
+     *         the reseed interval, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code reseedInterval} parameter is less than or equal to zero
+     */
+    public void setReseedInterval(@Positive final long reseedInterval) {
+        throwIfArgIsNotPositive(reseedInterval, RESEED_INTERVAL_FIELD);
+
+        this.reseedInterval = reseedInterval;
+    }
+
+    /**
+     * Gets the amount of time between reseed operations when using the {@link ReseedPolicy#TIME} policy.
+     *
+     * @return the reseed period, not null
+     */
+    public Duration getReseedPeriod() {
+        return reseedPeriod;
+    }
+
+    /**
+     * Sets the amount of time between reseed operations when using the {@link ReseedPolicy#TIME} policy.
+     *
+     * @param reseedPeriod
+     *         the reseed period, not null
+     * @throws IllegalArgumentException
+     *         if the {@code reseedPeriod} parameter is null, zero or negative
+     */
+    public void setReseedPeriod(@NotNull final Duration reseedPeriod) {
+        throwIfArgIsNull(reseedPeriod, RESEED_PERIOD_FIELD);
+        throwIfArgIsNotPositive(reseedPeriod.toMillis(), RESEED_PERIOD_FIELD);
+
+        this.reseedPeriod = reseedPeriod;
+    }
+
+    /**
+     * Gets the size in bytes of the buffer from which small requests are served.
+     *
+     * @return the buffer size or zero if buffering is disabled
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the size in bytes of the buffer from which small requests are served. Requests for no more than a quarter
+     * of the buffer size are served from the buffer while larger requests are always passed directly to the DRBG. The
+     * buffer is ignored by the {@link ReseedPolicy#PREDICTION_RESISTANCE} policy.
+     *
+     * @param bufferSize
+     *         the buffer size or zero to disable buffering
+     * @throws IllegalArgumentException
+     *         if the {@code bufferSize} parameter is negative
+     */
+    public void setBufferSize(@PositiveOrZero final int bufferSize) {
+        throwIfArgIsNotPositiveOrZero(bufferSize, BUFFER_SIZE_FIELD);
+
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.NO_CLASS_NAME_STYLE)
+                .append(RESEED_POLICY_FIELD, reseedPolicy)
+                .append(RESEED_INTERVAL_FIELD, reseedInterval)
+                .append(RESEED_PERIOD_FIELD, reseedPeriod)
+                .append(BUFFER_SIZE_FIELD, bufferSize)
+                .toString();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+/**
+ * An enumeration of the strategies used to decide when the DRBG instances returned by the {@link
+ * PrimitiveProvider#random()} method are reseeded from the system entropy source. Reseeding provides backtracking and
+ * prediction resistance at the cost of latency and entropy, therefore the appropriate policy depends on the rate at
+ * which random bytes are consumed.
+ *
+ * @author Nathan Klick
+ * @see RandomConfiguration
+ */
+public enum ReseedPolicy {
+    /**
+     * Every request for random bytes is preceded by a reseed. This is the most conservative and most expensive policy.
+     * The {@link RandomConfiguration#getBufferSize() buffer} is never used with this policy because buffered bytes
+     * are generated before they are requested.
+     */
+    PREDICTION_RESISTANCE,
+
+    /**
+     * The DRBG is reseeded once the configured number of requests for random bytes have been served.
+     */
+    CALL_COUNT,
+
+    /**
+     * The DRBG is reseeded once the configured number of random bytes have been generated.
+     */
+    BYTE_COUNT,
+
+    /**
+     * The DRBG is reseeded on the first request for random bytes once the configured period has elapsed since the
+     * previous reseed.
+     */
+    TIME,
+
+    /**
+     * The DRBG is only reseeded when required by the reseed interval of the underlying DRBG mechanism.
+     */
+    NEVER
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.spi;
+
+import java.security.GeneralSecurityException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.ServiceLoader;
+import javax.validation.constraints.NotNull;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * Registers the BouncyCastle {@link Provider} only once an algorithm is requested which none of the installed
+ * providers support. The JDK providers cover most algorithms, therefore deferring the registration avoids the startup
+ * time and metaspace needed to register the thousands of BouncyCastle services when they are never used.
+ *
+ * <p>
+ * The providers created by each {@link ProviderFactory} service, which supply the algorithms not available under a
+ * standard name from any other provider, are registered by {@link #ensureRegistered()} before the first lookup or
+ * fallback registration.
+ *
+ * <p>
+ * Lookups performed through {@link #lookup(Lookup)} are retried once after registering the fallback provider if they
+ * fail before the fallback provider was registered. Lookups which name the fallback provider explicitly should call
+ * {@link #registerFallback()} beforehand.
+ *
+ * @author Nathan Klick
+ * @see CryptoPrimitiveSupplier
+ */
+public final class SecurityProviders {
+
+    /**
+     * The name of the provider registered when an algorithm is not supported by the installed providers.
+     */
+    public static final String FALLBACK_PROVIDER_NAME = BouncyCastleProvider.PROVIDER_NAME;
+
+    /**
+     * The {@code lookup} parameter name represented as a string value.
+     */
+    private static final String LOOKUP_PARAM = "lookup";
+
+    /**
+     * The lock held while registering the fallback provider.
+     */
+    private static final Object REGISTRATION_LOCK = new Object();
+
+    /**
+     * Indicates whether the fallback provider has been registered.
+     */
+    private static volatile boolean fallbackRegistered;
+
+    /**
+     * Indicates whether the providers created by the {@link ProviderFactory} services have been registered.
+     */
+    private static volatile boolean factoriesRegistered;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SecurityProviders() {
+    }
+
+    /**
+     * Registers the provider created by each {@link ProviderFactory} service with the lowest priority unless a provider
+     * with the same name is already registered. This method is idempotent and is called implicitly by the {@link
+     * #registerFallback()} and {@link #lookup(Lookup)} methods.
+     */
+    public static void ensureRegistered() {
+        if (factoriesRegistered) {
+            return;
+        }
+
+        synchronized (REGISTRATION_LOCK) {
+            if (!factoriesRegistered) {
+                for (final ProviderFactory factory : ServiceLoader.load(ProviderFactory.class,
+                                                                        SecurityProviders.class.getClassLoader())) {
+                    final Provider provider = factory.newProvider();
+
+                    if (Security.getProvider(provider.getName()) == null) {
+                        Security.addProvider(provider);
+                    }
+                }
+
+                factoriesRegistered = true;
+            }
+        }
+    }
+
+    /**
+     * Registers the fallback provider with the lowest priority unless it is already registered. The providers created
+     * by the {@link ProviderFactory} services are registered beforehand so that they are preferred over the fallback
+     * provider.
+     */
+    public static void registerFallback() {
+        if (fallbackRegistered) {
+            return;
+        }
+
+        ensureRegistered();
+
+        synchronized (REGISTRATION_LOCK) {
+            if (!fallbackRegistered) {
+                if (Security.getProvider(FALLBACK_PROVIDER_NAME) == null) {
+                    Security.addProvider(new BouncyCastleProvider());
+                }
+
+                fallbackRegistered = true;
+            }
+        }
+    }
+
+    /**
+     * Indicates whether the fallback provider has been registered by this class.
+     *
+     * @return true if the fallback provider has been registered; otherwise false
+     */
+    public static boolean isFallbackRegistered() {
+        return fallbackRegistered;
+    }
+
+    /**
+     * Performs a JCA lookup using the installed providers and, if the lookup fails before the fallback provider has
+     * been registered, registers the fallback provider and retries the lookup once.
+     *
+     * @param lookup
+     *         the lookup to be performed, not null
+     * @param <T>
+     *         the type of the primitive
+     * @return the primitive returned by the lookup, not null
+     * @throws IllegalArgumentException
+     *         if the {@code lookup} parameter is null
+     * @throws GeneralSecurityException
+     *         if the algorithm is not supported by any provider
+     */
+    public static <T> T lookup(@NotNull final Lookup<T> lookup) throws GeneralSecurityException {
+        throwIfArgIsNull(lookup, LOOKUP_PARAM);
+        ensureRegistered();
+
+        final boolean registered = fallbackRegistered;
+
+        try {
+            return lookup.get();
+        } catch (GeneralSecurityException ex) {
+            if (registered) {
+                throw ex;
+            }
+
+            registerFallback();
+            return lookup.get();
+        }
+    }
+
+    /**
+     * A JCA lookup such as {@code MessageDigest.getInstance(String)}.
+     *
+     * @param <T>
+     *         the type of the primitive
+     */
+    @FunctionalInterface
+    public interface Lookup<T> {
+
+        /**
+         * Performs the lookup.
+         *
+         * @return the primitive, not null
+         * @throws GeneralSecurityException
+         *         if the algorithm, padding or provider is not available
+         */
+        T get() throws GeneralSecurityException;
+    }
+}
@@ -23,9 +23,17 @@ import com.servercurio.fabric.security.Seal;
 import com.servercurio.fabric.security.SignatureAlgorithm;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
@@ -51,6 +59,77 @@ public interface SignatureProvider {
         return SignatureAlgorithm.RSA_SHA_384;
     }
 
+    /**
+     * Creates a new {@link SignerSession} bound to the specified key using the default algorithm provided by the {@link
+     * #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the private key to which the session is bound, not null
+     * @return the signer session, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key} parameter is null
+     * @throws CryptographyException
+     *         if the key is not valid for the default algorithm
+     * @see #signerSession(SignatureAlgorithm, PrivateKey)
+     */
+    default SignerSession signerSession(@NotNull final PrivateKey key) {
+        return signerSession(getDefaultAlgorithm(), key);
+    }
+
+    /**
+     * Creates a new {@link SignerSession} bound to the specified key and algorithm. Sessions parse and initialize the
+     * key only once and are therefore considerably faster than the equivalent methods of this provider when many
+     * messages are signed with the same key. The session should be closed once it is no longer needed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the private key to which the session is bound, not null
+     * @return the signer session, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm} or {@code key} parameters are null
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm
+     */
+    SignerSession signerSession(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key);
+
+    /**
+     * Creates a new {@link VerifierSession} bound to the specified key. The session accepts seals of any algorithm
+     * compatible with the key and initializes the key only once per algorithm, which makes it considerably faster than
+     * the equivalent methods of this provider when many signatures are verified against the same key. The session
+     * should be closed once it is no longer needed.
+     *
+     * @param key
+     *         the public key to which the session is bound, not null
+     * @return the verifier session, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key} parameter is null
+     */
+    VerifierSession verifierSession(@NotNull final PublicKey key);
+
+    /**
+     * Creates a new {@link VerificationCache} using the default {@link VerificationCacheConfiguration}.
+     *
+     * @return the verification cache, not null
+     * @see #verificationCache(VerificationCacheConfiguration)
+     */
+    default VerificationCache verificationCache() {
+        return verificationCache(new VerificationCacheConfiguration());
+    }
+
+    /**
+     * Creates a new {@link VerificationCache} which performs verifications using this provider. The cache should be
+     * retained and shared by every component which verifies the same messages, such as the peers of a gossip
+     * protocol.
+     *
+     * @param configuration
+     *         the configuration of the cache, not null
+     * @return the verification cache, not null
+     * @throws IllegalArgumentException
+     *         if the {@code configuration} parameter is null
+     */
+    VerificationCache verificationCache(@NotNull final VerificationCacheConfiguration configuration);
+
     /**
      * Asynchronously computes the signature of the {@link InputStream} specified by the {@code stream} parameter. This
      * implementation uses the default algorithm provided by the {@link #getDefaultAlgorithm()} method.
@@ -257,6 +336,141 @@ public interface SignatureProvider {
     Future<Seal> signAsync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
                            @NotNull final ByteBuffer buffer);
 
+    /**
+     * Asynchronously computes the digital signature of the {@link InputStream} specified by the {@code stream}
+     * parameter using the algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by
+     * the {@link #signAsync(SignatureAlgorithm, PrivateKey, InputStream)} method, the returned {@link
+     * CompletableFuture} may be composed with further stages without blocking a thread. Cancelling the returned future
+     * stops reading the stream before the next block is processed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the private key to use, not null
+     * @param stream
+     *         the stream to be signed, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code stream} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                      @NotNull final InputStream stream);
+
+    /**
+     * Asynchronously computes the digital signature of the {@link InputStream} specified by the {@code stream}
+     * parameter using the algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by
+     * the {@link #signAsync(SignatureAlgorithm, PrivateKey, InputStream)} method, the returned {@link
+     * CompletableFuture} may be composed with further stages without blocking a thread. Cancelling the returned future
+     * stops reading the stream before the next block is processed.
+     *
+     * <p>
+     * If the operation has not completed before the {@code timeout} elapses, the returned future is completed
+     * exceptionally with a {@link TimeoutException} and no further blocks are read from the stream.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the private key to use, not null
+     * @param stream
+     *         the stream to be signed, not null
+     * @param timeout
+     *         the maximum amount of time allowed for the operation to complete, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, the {@code stream}, or the {@code timeout} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                      @NotNull final InputStream stream, @NotNull final Duration timeout);
+
+    /**
+     * Asynchronously computes the digital signature of the byte array specified by the {@code data} parameter using the
+     * algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the {@link
+     * #signAsync(SignatureAlgorithm, PrivateKey, byte[])} method, the returned {@link CompletableFuture} may be
+     * composed with further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the private key to use, not null
+     * @param data
+     *         the data to be signed, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code data} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                      @NotNull final byte[] data);
+
+    /**
+     * Asynchronously computes the digital signature of the {@link Hash} array specified by the {@code hashes} parameter
+     * using the algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the
+     * {@link #signAsync(SignatureAlgorithm, PrivateKey, Hash...)} method, the returned {@link CompletableFuture} may be
+     * composed with further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the private key to use, not null
+     * @param hashes
+     *         the {@link Hash} array to be signed, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code hashes} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                      @NotEmpty final Hash... hashes);
+
+    /**
+     * Asynchronously computes the digital signature of the {@link ByteBuffer} specified by the {@code buffer} parameter
+     * using the algorithm specified by the {@code algorithm} parameter. Unlike the {@link Future} returned by the
+     * {@link #signAsync(SignatureAlgorithm, PrivateKey, ByteBuffer)} method, the returned {@link CompletableFuture} may
+     * be composed with further stages without blocking a thread.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the private key to use, not null
+     * @param buffer
+     *         the {@link ByteBuffer} to be signed, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code buffer} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                      @NotNull final ByteBuffer buffer);
+
+    /**
+     * Asynchronously computes the digital signature of the file specified by the {@code file} parameter using the
+     * algorithm specified by the {@code algorithm} parameter. The file is read using an {@link AsynchronousFileChannel}
+     * which keeps multiple reads in flight and does not block a thread while waiting for a read to complete. Cancelling
+     * the returned future, including by applying a timeout with the {@link CompletableFuture#orTimeout(long, TimeUnit)}
+     * method, stops reading the file before the next block is processed.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the private key to use, not null
+     * @param file
+     *         the file to be signed, not null
+     * @return a {@link CompletableFuture} that when completed will return the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, the {@code key}, or the {@code file} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while reading the file or computing the signature
+     */
+    CompletableFuture<Seal> signStage(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                      @NotNull final Path file);
+
     /**
      * Synchronously computes the signature of the {@link InputStream} specified by the {@code stream} parameter. This
      * implementation uses the default algorithm provided by the {@link #getDefaultAlgorithm()} method.
@@ -532,6 +746,147 @@ public interface SignatureProvider {
     Future<Boolean> verifyAsync(@NotNull final Seal seal, @NotNull final PublicKey key,
                                 @NotNull final ByteBuffer buffer);
 
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the {@link
+     * InputStream} specified by the {@code stream} parameter. Unlike the {@link Future} returned by the {@link
+     * #verifyAsync(Seal, PublicKey, InputStream)} method, the returned {@link CompletableFuture} may be composed with
+     * further stages without blocking a thread. Cancelling the returned future stops reading the stream before the next
+     * block is processed.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use, not null
+     * @param stream
+     *         the stream to be verified, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code true} if the signature is valid;
+     *         otherwise {@code false}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal}, the {@code key}, or the {@code stream} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while verifying the signature
+     */
+    CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                           @NotNull final InputStream stream);
+
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the {@link
+     * InputStream} specified by the {@code stream} parameter. Unlike the {@link Future} returned by the {@link
+     * #verifyAsync(Seal, PublicKey, InputStream)} method, the returned {@link CompletableFuture} may be composed with
+     * further stages without blocking a thread. Cancelling the returned future stops reading the stream before the next
+     * block is processed.
+     *
+     * <p>
+     * If the operation has not completed before the {@code timeout} elapses, the returned future is completed
+     * exceptionally with a {@link TimeoutException} and no further blocks are read from the stream.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use, not null
+     * @param stream
+     *         the stream to be verified, not null
+     * @param timeout
+     *         the maximum amount of time allowed for the operation to complete, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code true} if the signature is valid;
+     *         otherwise {@code false}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal}, the {@code key}, the {@code stream}, or the {@code timeout} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while verifying the signature
+     */
+    CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                           @NotNull final InputStream stream, @NotNull final Duration timeout);
+
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the byte array
+     * specified by the {@code data} parameter. Unlike the {@link Future} returned by the {@link #verifyAsync(Seal,
+     * PublicKey, byte[])} method, the returned {@link CompletableFuture} may be composed with further stages without
+     * blocking a thread.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use, not null
+     * @param data
+     *         the data to be verified, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code true} if the signature is valid;
+     *         otherwise {@code false}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal}, the {@code key}, or the {@code data} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while verifying the signature
+     */
+    CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                           @NotNull final byte[] data);
+
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the {@link Hash}
+     * array specified by the {@code hashes} parameter. Unlike the {@link Future} returned by the {@link
+     * #verifyAsync(Seal, PublicKey, Hash...)} method, the returned {@link CompletableFuture} may be composed with
+     * further stages without blocking a thread.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use, not null
+     * @param hashes
+     *         the {@link Hash} array to be verified, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code true} if the signature is valid;
+     *         otherwise {@code false}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal}, the {@code key}, or the {@code hashes} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while verifying the signature
+     */
+    CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                           @NotEmpty final Hash... hashes);
+
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the {@link
+     * ByteBuffer} specified by the {@code buffer} parameter. Unlike the {@link Future} returned by the {@link
+     * #verifyAsync(Seal, PublicKey, ByteBuffer)} method, the returned {@link CompletableFuture} may be composed with
+     * further stages without blocking a thread.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use, not null
+     * @param buffer
+     *         the {@link ByteBuffer} to be verified, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code true} if the signature is valid;
+     *         otherwise {@code false}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal}, the {@code key}, or the {@code buffer} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while verifying the signature
+     */
+    CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                           @NotNull final ByteBuffer buffer);
+
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the file specified
+     * by the {@code file} parameter. The file is read using an {@link AsynchronousFileChannel} which keeps multiple
+     * reads in flight and does not block a thread while waiting for a read to complete. Cancelling the returned future,
+     * including by applying a timeout with the {@link CompletableFuture#orTimeout(long, TimeUnit)} method, stops
+     * reading the file before the next block is processed.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use, not null
+     * @param file
+     *         the file to be verified, not null
+     * @return a {@link CompletableFuture} that when completed will return {@code true} if the signature is valid;
+     *         otherwise {@code false}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal}, the {@code key}, or the {@code file} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while reading the file or verifying the signature
+     */
+    CompletableFuture<Boolean> verifyStage(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                           @NotNull final Path file);
+
     /**
      * Synchronously verifies the signature against the {@link InputStream} specified by the {@code stream} parameter.
      *
@@ -610,4 +965,185 @@ public interface SignatureProvider {
      *         if an error occurs while verifying the signature
      */
     boolean verifySync(@NotNull final Seal seal, @NotNull final PublicKey key, @NotNull final ByteBuffer buffer);
+
+    /**
+     * Asynchronously computes the signature of a precomputed digest using the default algorithm provided by the {@link
+     * #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the private key to use during the signature computation, not null
+     * @param hash
+     *         the precomputed digest of the data to be signed, not null
+     * @return a {@link Future} that when resolved returns the computed signature, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key} or {@code hash} parameters are null or if the algorithm of the {@code hash}
+     *         parameter does not match the digest algorithm of the default algorithm
+     * @see #signPrehashedSync(SignatureAlgorithm, PrivateKey, Hash)
+     */
+    default Future<Seal> signPrehashedAsync(@NotNull final PrivateKey key, @NotNull final Hash hash) {
+        return signPrehashedAsync(getDefaultAlgorithm(), key, hash);
+    }
+
+    /**
+     * Asynchronously computes the signature of a precomputed digest as described by the {@link
+     * #signPrehashedSync(SignatureAlgorithm, PrivateKey, Hash)} method.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the private key to use during the signature computation, not null
+     * @param hash
+     *         the precomputed digest of the data to be signed, not null
+     * @return a {@link Future} that when resolved returns the computed signature, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key} or {@code hash} parameters are null or if the algorithm of the
+     *         {@code hash} parameter does not match the digest algorithm of the {@code algorithm} parameter
+     */
+    Future<Seal> signPrehashedAsync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                                    @NotNull final Hash hash);
+
+    /**
+     * Synchronously computes the signature of a precomputed digest using the default algorithm provided by the {@link
+     * #getDefaultAlgorithm()} method.
+     *
+     * @param key
+     *         the private key to use during the signature computation, not null
+     * @param hash
+     *         the precomputed digest of the data to be signed, not null
+     * @return the computed signature, not null
+     * @throws IllegalArgumentException
+     *         if the {@code key} or {@code hash} parameters are null or if the algorithm of the {@code hash}
+     *         parameter does not match the digest algorithm of the default algorithm
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     * @see #signPrehashedSync(SignatureAlgorithm, PrivateKey, Hash)
+     */
+    default Seal signPrehashedSync(@NotNull final PrivateKey key, @NotNull final Hash hash) {
+        return signPrehashedSync(getDefaultAlgorithm(), key, hash);
+    }
+
+    /**
+     * Synchronously computes the signature of a precomputed digest without digesting it again. The digest is signed
+     * using the {@link SignatureAlgorithm#prehashedAlgorithm()} and the resulting seal is identical to, and may be
+     * verified in the same manner as, a seal computed by the {@code algorithm} over the original data. This permits
+     * very large objects to be signed using a digest computed in parallel or computed once and shared.
+     *
+     * <p>
+     * The raw DSA implementation included with the Java runtime only accepts 160-bit digests; therefore the DSA
+     * algorithms sign the digest using the raw DSA implementation of the {@link
+     * SecurityProviders#FALLBACK_PROVIDER_NAME fallback provider}.
+     *
+     * @param algorithm
+     *         the algorithm to use, not null
+     * @param key
+     *         the private key to use during the signature computation, not null
+     * @param hash
+     *         the precomputed digest of the data to be signed, not null
+     * @return the computed signature, not null
+     * @throws IllegalArgumentException
+     *         if the {@code algorithm}, {@code key} or {@code hash} parameters are null or if the algorithm of the
+     *         {@code hash} parameter does not match the digest algorithm of the {@code algorithm} parameter
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    Seal signPrehashedSync(@NotNull final SignatureAlgorithm algorithm, @NotNull final PrivateKey key,
+                           @NotNull final Hash hash);
+
+    /**
+     * Asynchronously verifies the signature of a precomputed digest as described by the {@link
+     * #verifyPrehashedSync(Seal, PublicKey, Hash)} method.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use during the signature verification, not null
+     * @param hash
+     *         the precomputed digest of the signed data, not null
+     * @return a {@link Future} that when resolved returns true if the signature is valid; otherwise false, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal}, {@code key} or {@code hash} parameters are null or if the algorithm of the {@code
+     *         hash} parameter does not match the digest algorithm of the seal
+     */
+    Future<Boolean> verifyPrehashedAsync(@NotNull final Seal seal, @NotNull final PublicKey key,
+                                         @NotNull final Hash hash);
+
+    /**
+     * Synchronously verifies the signature of a precomputed digest without digesting it again. The seal may have been
+     * produced by either the {@link #signPrehashedSync(SignatureAlgorithm, PrivateKey, Hash)} method or by signing
+     * the original data.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use during the signature verification, not null
+     * @param hash
+     *         the precomputed digest of the signed data, not null
+     * @return true if the signature is valid; otherwise false
+     * @throws IllegalArgumentException
+     *         if the {@code seal}, {@code key} or {@code hash} parameters are null or if the algorithm of the {@code
+     *         hash} parameter does not match the digest algorithm of the seal
+     * @throws CryptographyException
+     *         if an error occurs while verifying the signature
+     */
+    boolean verifyPrehashedSync(@NotNull final Seal seal, @NotNull final PublicKey key, @NotNull final Hash hash);
+
+    /**
+     * Asynchronously verifies every element of the {@code messages} parameter. The batch is divided into contiguous
+     * portions which are verified in parallel and each portion reuses the same primitives for every element, which is
+     * considerably faster than verifying each element with a separate {@link #verifyAsync(Seal, PublicKey, byte[])}
+     * invocation.
+     *
+     * <p>
+     * Elements which cannot be verified because the signature is malformed or the key is not valid for the algorithm
+     * of the seal are reported as invalid.
+     *
+     * @param messages
+     *         the signed messages to be verified, not null
+     * @return a {@link Future} that when resolved returns a {@link BitSet} in which the bit at each index is set if the
+     *         corresponding element is valid, not null
+     * @throws IllegalArgumentException
+     *         if the {@code messages} parameter is null or contains a null element
+     */
+    Future<BitSet> verifyBatchAsync(@NotNull final List<SignedMessage> messages);
+
+    /**
+     * Synchronously verifies every element of the {@code messages} parameter. The calling thread is blocked while the
+     * batch is verified in parallel as described by the {@link #verifyBatchAsync(List)} method.
+     *
+     * @param messages
+     *         the signed messages to be verified, not null
+     * @return a {@link BitSet} in which the bit at each index is set if the corresponding element is valid, not null
+     * @throws IllegalArgumentException
+     *         if the {@code messages} parameter is null or contains a null element
+     * @throws CryptographyException
+     *         if an error occurs while verifying the batch
+     */
+    BitSet verifyBatchSync(@NotNull final List<SignedMessage> messages);
+
+    /**
+     * Asynchronously determines whether every element of the {@code messages} parameter is valid. The batch is verified
+     * in parallel as described by the {@link #verifyBatchAsync(List)} method; however, the remaining elements are
+     * skipped as soon as any invalid element is encountered.
+     *
+     * @param messages
+     *         the signed messages to be verified, not null
+     * @return a {@link Future} that when resolved returns true if every element is valid; otherwise false, not null
+     * @throws IllegalArgumentException
+     *         if the {@code messages} parameter is null or contains a null element
+     */
+    Future<Boolean> verifyAllAsync(@NotNull final List<SignedMessage> messages);
+
+    /**
+     * Synchronously determines whether every element of the {@code messages} parameter is valid. The calling thread is
+     * blocked while the batch is verified as described by the {@link #verifyAllAsync(List)} method.
+     *
+     * @param messages
+     *         the signed messages to be verified, not null
+     * @return true if every element is valid; otherwise false
+     * @throws IllegalArgumentException
+     *         if the {@code messages} parameter is null or contains a null element
+     * @throws CryptographyException
+     *         if an error occurs while verifying the batch
+     */
+    boolean verifyAllSync(@NotNull final List<SignedMessage> messages);
 }
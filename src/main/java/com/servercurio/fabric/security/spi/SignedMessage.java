@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import com.servercurio.fabric.security.Seal;
+import java.security.PublicKey;
+import javax.validation.constraints.NotNull;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * A single element of a batch verification consisting of the {@link Seal} to be verified, the {@link PublicKey} of the
+ * signer and the signed data. The data is not copied and must not be modified until the verification has completed.
+ *
+ * @author Nathan Klick
+ * @see SignatureProvider#verifyBatchSync(java.util.List)
+ */
+public final class SignedMessage {
+
+    /**
+     * The {@code seal} field name represented as a string value.
+     */
+    private static final String SEAL_FIELD = "seal";
+
+    /**
+     * The {@code key} field name represented as a string value.
+     */
+    private static final String KEY_FIELD = "key";
+
+    /**
+     * The {@code data} field name represented as a string value.
+     */
+    private static final String DATA_FIELD = "data";
+
+    /**
+     * The signature to be verified.
+     */
+    @NotNull
+    private final Seal seal;
+
+    /**
+     * The public key of the signer.
+     */
+    @NotNull
+    private final PublicKey key;
+
+    /**
+     * The signed data.
+     */
+    @NotNull
+    private final byte[] data;
+
+    /**
+     * Constructs a new message from the specified seal, key and data.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key of the signer, not null
+     * @param data
+     *         the signed data, not null
+     * @throws IllegalArgumentException
+     *         if any parameter is null
+     */
+    public SignedMessage(@NotNull final Seal seal, @NotNull final PublicKey key, @NotNull final byte[] data) {
+        throwIfArgIsNull(seal, SEAL_FIELD);
+        throwIfArgIsNull(key, KEY_FIELD);
+        throwIfArgIsNull(data, DATA_FIELD);
+
+        this.seal = seal;
+        this.key = key;
+        this.data = data;
+    }
+
+    /**
+     * Gets the signature to be verified.
+     *
+     * @return the seal, not null
+     */
+    public Seal getSeal() {
+        return seal;
+    }
+
+    /**
+     * Gets the public key of the signer.
+     *
+     * @return the public key, not null
+     */
+    public PublicKey getKey() {
+        return key;
+    }
+
+    /**
+     * Gets the signed data. The returned array is not a copy.
+     *
+     * @return the signed data, not null
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.NO_CLASS_NAME_STYLE)
+                .append(SEAL_FIELD, seal)
+                .append(KEY_FIELD, key.getAlgorithm())
+                .append(DATA_FIELD, data.length)
+                .toString();
+    }
+}
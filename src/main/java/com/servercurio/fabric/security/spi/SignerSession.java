@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.Seal;
+import com.servercurio.fabric.security.SignatureAlgorithm;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.PrivateKey;
+import java.util.concurrent.Future;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A signing session bound to a single {@link PrivateKey} and {@link SignatureAlgorithm}. The session retains a pool of
+ * primitives which have already been initialized for signing with the key, therefore each operation avoids repeating
+ * the key validation and precomputation performed by the {@link SignatureProvider} methods.
+ *
+ * <p>
+ * Sessions are safe for use by multiple threads. Closing a session discards the pooled primitives, after which the
+ * session must not be used.
+ *
+ * @author Nathan Klick
+ * @see SignatureProvider#signerSession(SignatureAlgorithm, PrivateKey)
+ */
+public interface SignerSession extends AutoCloseable {
+
+    /**
+     * Gets the algorithm used by this session.
+     *
+     * @return the signature algorithm, not null
+     */
+    SignatureAlgorithm getAlgorithm();
+
+    /**
+     * Gets the key to which this session is bound.
+     *
+     * @return the private key, not null
+     */
+    PrivateKey getKey();
+
+    /**
+     * Asynchronously computes the digital signature of the {@link InputStream} specified by the {@code stream}
+     * parameter.
+     *
+     * @param stream
+     *         the stream to be signed, not null
+     * @return a {@link Future} that when resolved returns the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code stream} parameter is null
+     */
+    Future<Seal> signAsync(@NotNull InputStream stream);
+
+    /**
+     * Asynchronously computes the digital signature of the {@code data} parameter.
+     *
+     * @param data
+     *         the data to be signed, not null
+     * @return a {@link Future} that when resolved returns the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code data} parameter is null
+     */
+    Future<Seal> signAsync(@NotNull byte[] data);
+
+    /**
+     * Asynchronously computes the digital signature of the {@code hashes} parameter. Null elements are treated as the
+     * {@link Hash#EMPTY} hash.
+     *
+     * @param hashes
+     *         the hashes to be signed, not null
+     * @return a {@link Future} that when resolved returns the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code hashes} parameter is null or empty
+     */
+    Future<Seal> signAsync(@NotEmpty Hash... hashes);
+
+    /**
+     * Asynchronously computes the digital signature of the remaining content of the {@code buffer} parameter.
+     *
+     * @param buffer
+     *         the {@link ByteBuffer} containing the data to be signed, not null
+     * @return a {@link Future} that when resolved returns the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code buffer} parameter is null
+     */
+    Future<Seal> signAsync(@NotNull ByteBuffer buffer);
+
+    /**
+     * Synchronously computes the digital signature of the {@link InputStream} specified by the {@code stream}
+     * parameter.
+     *
+     * @param stream
+     *         the stream to be signed, not null
+     * @return the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code stream} parameter is null
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    Seal signSync(@NotNull InputStream stream);
+
+    /**
+     * Synchronously computes the digital signature of the {@code data} parameter.
+     *
+     * @param data
+     *         the data to be signed, not null
+     * @return the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code data} parameter is null
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    Seal signSync(@NotNull byte[] data);
+
+    /**
+     * Synchronously computes the digital signature of the {@code hashes} parameter. Null elements are treated as the
+     * {@link Hash#EMPTY} hash.
+     *
+     * @param hashes
+     *         the hashes to be signed, not null
+     * @return the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code hashes} parameter is null or empty
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    Seal signSync(@NotEmpty Hash... hashes);
+
+    /**
+     * Synchronously computes the digital signature of the remaining content of the {@code buffer} parameter.
+     *
+     * @param buffer
+     *         the {@link ByteBuffer} containing the data to be signed, not null
+     * @return the computed {@link Seal}, not null
+     * @throws IllegalArgumentException
+     *         if the {@code buffer} parameter is null
+     * @throws CryptographyException
+     *         if an error occurs while computing the signature
+     */
+    Seal signSync(@NotNull ByteBuffer buffer);
+
+    /**
+     * Discards the pooled primitives held by this session.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.Seal;
+import java.security.PublicKey;
+import java.util.concurrent.Future;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A bounded cache of successful signature verifications. Each result is keyed by a digest of the seal algorithm and
+ * value, the encoded public key and the signed data; therefore a repeated verification of the same message costs a
+ * single digest computation instead of a public key operation. Only valid results are retained, so an invalid seal is
+ * always fully verified.
+ *
+ * <p>
+ * Entries are admitted and evicted using a Window TinyLFU policy which retains frequently verified messages in
+ * preference to messages which were only recently seen once. All values reported by the statistics methods are point
+ * in time approximations. Caches are safe for use by multiple threads.
+ *
+ * @author Nathan Klick
+ * @see SignatureProvider#verificationCache(VerificationCacheConfiguration)
+ */
+public interface VerificationCache {
+
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the {@code data}
+     * parameter, consulting the cache before performing the verification.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use during the signature verification, not null
+     * @param data
+     *         the data to be verified, not null
+     * @return a {@link Future} that when resolved returns true if the signature is valid; otherwise false, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal}, {@code key} or {@code data} parameters are null
+     */
+    Future<Boolean> verifyAsync(@NotNull Seal seal, @NotNull PublicKey key, @NotNull byte[] data);
+
+    /**
+     * Synchronously verifies the digital signature specified by the {@code seal} parameter against the {@code data}
+     * parameter, consulting the cache before performing the verification.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param key
+     *         the public key to use during the signature verification, not null
+     * @param data
+     *         the data to be verified, not null
+     * @return true if the signature is valid; otherwise false
+     * @throws IllegalArgumentException
+     *         if the {@code seal}, {@code key} or {@code data} parameters are null
+     * @throws CryptographyException
+     *         if an error occurs while verifying the signature
+     */
+    boolean verifySync(@NotNull Seal seal, @NotNull PublicKey key, @NotNull byte[] data);
+
+    /**
+     * Gets the number of verifications which were satisfied by the cache.
+     *
+     * @return the number of cache hits, zero or greater
+     */
+    long hitCount();
+
+    /**
+     * Gets the number of verifications which were not satisfied by the cache and required a public key operation.
+     *
+     * @return the number of cache misses, zero or greater
+     */
+    long missCount();
+
+    /**
+     * Gets the ratio of cache hits to the total number of verifications.
+     *
+     * @return the hit rate between zero and one, inclusive, or zero if no verifications have been performed
+     */
+    double hitRate();
+
+    /**
+     * Gets the number of valid results which were evicted or were not admitted to the cache.
+     *
+     * @return the number of evictions, zero or greater
+     */
+    long evictionCount();
+
+    /**
+     * Gets the number of results currently retained by the cache.
+     *
+     * @return the current size, zero or greater
+     */
+    int size();
+
+    /**
+     * Discards all of the results retained by the cache. The statistics are not reset.
+     */
+    void clear();
+}
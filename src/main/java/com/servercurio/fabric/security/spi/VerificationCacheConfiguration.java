@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import com.servercurio.fabric.security.HashAlgorithm;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * The configuration of a {@link VerificationCache}. Each cache entry retains only a digest, computed using the {@link
+ * #getHashAlgorithm()}, of the seal, the public key and the signed data; therefore the memory consumed by the cache
+ * is proportional to the {@link #getMaximumSize()} regardless of the size of the messages.
+ *
+ * @author Nathan Klick
+ * @see SignatureProvider#verificationCache(VerificationCacheConfiguration)
+ */
+public class VerificationCacheConfiguration {
+
+    /**
+     * The default maximum number of cached verification results.
+     */
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * The {@code maximumSize} field name represented as a string value.
+     */
+    private static final String MAXIMUM_SIZE_FIELD = "maximumSize";
+
+    /**
+     * The {@code hashAlgorithm} field name represented as a string value.
+     */
+    private static final String HASH_ALGORITHM_FIELD = "hashAlgorithm";
+
+    /**
+     * The maximum number of cached verification results.
+     */
+    @Positive
+    private int maximumSize;
+
+    /**
+     * The algorithm used to compute the cache keys.
+     */
+    @NotNull
+    private HashAlgorithm hashAlgorithm;
+
+    /**
+     * Constructs a new configuration which retains up to ten thousand results keyed by {@link
+     * HashAlgorithm#SHA_256} digests.
+     */
+    public VerificationCacheConfiguration() {
+        this.maximumSize = DEFAULT_MAXIMUM_SIZE;
+        this.hashAlgorithm = HashAlgorithm.SHA_256;
+    }
+
+    /**
+     * Gets the maximum number of cached verification results.
+     *
+     * @return the maximum size, positive integer
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of cached verification results.
+     *
+     * @param maximumSize
+     *         the maximum size, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code maximumSize} parameter is less than or equal to zero
+     */
+    public void setMaximumSize(@Positive final int maximumSize) {
+        throwIfArgIsNotPositive(maximumSize, MAXIMUM_SIZE_FIELD);
+
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Gets the algorithm used to compute the cache keys.
+     *
+     * @return the hash algorithm, not null
+     */
+    public HashAlgorithm getHashAlgorithm() {
+        return hashAlgorithm;
+    }
+
+    /**
+     * Sets the algorithm used to compute the cache keys. The algorithm must be collision resistant since a collision
+     * would allow a forged seal to be reported as valid.
+     *
+     * @param hashAlgorithm
+     *         the hash algorithm, not null
+     * @throws IllegalArgumentException
+     *         if the {@code hashAlgorithm} parameter is null or is not a cryptographic hash algorithm
+     * @see HashAlgorithm#isCryptographic()
+     */
+    public void setHashAlgorithm(@NotNull final HashAlgorithm hashAlgorithm) {
+        throwIfArgIsNull(hashAlgorithm, HASH_ALGORITHM_FIELD);
+
+        if (!hashAlgorithm.isCryptographic()) {
+            throw new IllegalArgumentException(
+                    String.format("The %s field must be a cryptographic hash algorithm", HASH_ALGORITHM_FIELD));
+        }
+
+        this.hashAlgorithm = hashAlgorithm;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.NO_CLASS_NAME_STYLE)
+                .append(MAXIMUM_SIZE_FIELD, maximumSize)
+                .append(HASH_ALGORITHM_FIELD, hashAlgorithm)
+                .toString();
+    }
+}
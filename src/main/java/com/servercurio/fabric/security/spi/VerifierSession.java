@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.servercurio.fabric.security.spi;
+
+import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.Seal;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.PublicKey;
+import java.util.concurrent.Future;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A verification session bound to a single {@link PublicKey}. The session retains a pool of primitives for each
+ * signature algorithm which have already been initialized for verification with the key, therefore each operation
+ * avoids repeating the key validation and precomputation performed by the {@link SignatureProvider} methods and is
+ * reduced to the signature verification itself.
+ *
+ * <p>
+ * Sessions are safe for use by multiple threads. Closing a session discards the pooled primitives, after which the
+ * session must not be used.
+ *
+ * @author Nathan Klick
+ * @see SignatureProvider#verifierSession(PublicKey)
+ */
+public interface VerifierSession extends AutoCloseable {
+
+    /**
+     * Gets the key to which this session is bound.
+     *
+     * @return the public key, not null
+     */
+    PublicKey getKey();
+
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the {@link
+     * InputStream} specified by the {@code stream} parameter.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param stream
+     *         the stream to be verified, not null
+     * @return a {@link Future} that when resolved returns true if the signature is valid; otherwise false, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal} or {@code stream} parameters are null
+     */
+    Future<Boolean> verifyAsync(@NotNull Seal seal, @NotNull InputStream stream);
+
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the {@code data}
+     * parameter.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param data
+     *         the data to be verified, not null
+     * @return a {@link Future} that when resolved returns true if the signature is valid; otherwise false, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal} or {@code data} parameters are null
+     */
+    Future<Boolean> verifyAsync(@NotNull Seal seal, @NotNull byte[] data);
+
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the {@code hashes}
+     * parameter. Null elements are treated as the {@link Hash#EMPTY} hash.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param hashes
+     *         the hashes to be verified, not null
+     * @return a {@link Future} that when resolved returns true if the signature is valid; otherwise false, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal} or {@code hashes} parameters are null or empty
+     */
+    Future<Boolean> verifyAsync(@NotNull Seal seal, @NotEmpty Hash... hashes);
+
+    /**
+     * Asynchronously verifies the digital signature specified by the {@code seal} parameter against the remaining
+     * content of the {@code buffer} parameter.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param buffer
+     *         the {@link ByteBuffer} containing the data to be verified, not null
+     * @return a {@link Future} that when resolved returns true if the signature is valid; otherwise false, not null
+     * @throws IllegalArgumentException
+     *         if the {@code seal} or {@code buffer} parameters are null
+     */
+    Future<Boolean> verifyAsync(@NotNull Seal seal, @NotNull ByteBuffer buffer);
+
+    /**
+     * Synchronously verifies the digital signature specified by the {@code seal} parameter against the {@link
+     * InputStream} specified by the {@code stream} parameter.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param stream
+     *         the stream to be verified, not null
+     * @return true if the signature is valid; otherwise false
+     * @throws IllegalArgumentException
+     *         if the {@code seal} or {@code stream} parameters are null
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm of the seal or an error occurs while verifying the signature
+     */
+    boolean verifySync(@NotNull Seal seal, @NotNull InputStream stream);
+
+    /**
+     * Synchronously verifies the digital signature specified by the {@code seal} parameter against the {@code data}
+     * parameter.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param data
+     *         the data to be verified, not null
+     * @return true if the signature is valid; otherwise false
+     * @throws IllegalArgumentException
+     *         if the {@code seal} or {@code data} parameters are null
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm of the seal or an error occurs while verifying the signature
+     */
+    boolean verifySync(@NotNull Seal seal, @NotNull byte[] data);
+
+    /**
+     * Synchronously verifies the digital signature specified by the {@code seal} parameter against the {@code hashes}
+     * parameter. Null elements are treated as the {@link Hash#EMPTY} hash.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param hashes
+     *         the hashes to be verified, not null
+     * @return true if the signature is valid; otherwise false
+     * @throws IllegalArgumentException
+     *         if the {@code seal} or {@code hashes} parameters are null or empty
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm of the seal or an error occurs while verifying the signature
+     */
+    boolean verifySync(@NotNull Seal seal, @NotEmpty Hash... hashes);
+
+    /**
+     * Synchronously verifies the digital signature specified by the {@code seal} parameter against the remaining
+     * content of the {@code buffer} parameter.
+     *
+     * @param seal
+     *         the signature to be verified, not null
+     * @param buffer
+     *         the {@link ByteBuffer} containing the data to be verified, not null
+     * @return true if the signature is valid; otherwise false
+     * @throws IllegalArgumentException
+     *         if the {@code seal} or {@code buffer} parameters are null
+     * @throws CryptographyException
+     *         if the key is not valid for the algorithm of the seal or an error occurs while verifying the signature
+     */
+    boolean verifySync(@NotNull Seal seal, @NotNull ByteBuffer buffer);
+
+    /**
+     * Discards the pooled primitives held by this session.
+     */
+    @Override
+    void close();
+}
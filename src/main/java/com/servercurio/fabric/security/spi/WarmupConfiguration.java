@@ -0,0 +1,378 @@
+/*
+ * Copyright 2019-2020 Server Curio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.servercurio.fabric.security.spi;
+
+import com.servercurio.fabric.security.CipherTransformation;
+import com.servercurio.fabric.security.HashAlgorithm;
+import com.servercurio.fabric.security.MacAlgorithm;
+import com.servercurio.fabric.security.SignatureAlgorithm;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNotPositive;
+import static com.servercurio.fabric.lang.Validators.throwIfArgIsNull;
+
+/**
+ * The configuration of the optional warm-up routine which prepares a {@code Cryptography} instance for production
+ * traffic. For each configured algorithm the routine fills the primitive pool with {@link #getParallelism()}
+ * primitives and then runs {@link #getIterations()} representative operations spread across the same number of
+ * concurrent tasks on the executor lane of the operation, which allows the JIT compiler to optimize the code paths
+ * before the first request arrives. The routine stops early once the {@link #getTimeout() timeout} has elapsed.
+ *
+ * <p>
+ * By default the routine warms up the default algorithm of each provider. Signature warm-up generates a key pair for
+ * each algorithm using the default key size, which may take a noticeable amount of time for RSA and DSA keys.
+ *
+ * @author Nathan Klick
+ * @see com.servercurio.fabric.security.Cryptography#warmUpAsync(WarmupConfiguration)
+ */
+public class WarmupConfiguration {
+
+    /**
+     * The default number of operations performed for each algorithm. This value exceeds the invocation threshold of
+     * the optimizing JIT compiler used by the HotSpot virtual machine.
+     */
+    private static final int DEFAULT_ITERATIONS = 10_000;
+
+    /**
+     * The default number of bytes processed by each operation.
+     */
+    private static final int DEFAULT_SAMPLE_SIZE = 1024;
+
+    /**
+     * The default maximum amount of time spent warming up.
+     */
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * The {@code hashAlgorithms} field name represented as a string value.
+     */
+    private static final String HASH_ALGORITHMS_FIELD = "hashAlgorithms";
+
+    /**
+     * The {@code macAlgorithms} field name represented as a string value.
+     */
+    private static final String MAC_ALGORITHMS_FIELD = "macAlgorithms";
+
+    /**
+     * The {@code signatureAlgorithms} field name represented as a string value.
+     */
+    private static final String SIGNATURE_ALGORITHMS_FIELD = "signatureAlgorithms";
+
+    /**
+     * The {@code transformations} field name represented as a string value.
+     */
+    private static final String TRANSFORMATIONS_FIELD = "transformations";
+
+    /**
+     * The {@code parallelism} field name represented as a string value.
+     */
+    private static final String PARALLELISM_FIELD = "parallelism";
+
+    /**
+     * The {@code iterations} field name represented as a string value.
+     */
+    private static final String ITERATIONS_FIELD = "iterations";
+
+    /**
+     * The {@code sampleSize} field name represented as a string value.
+     */
+    private static final String SAMPLE_SIZE_FIELD = "sampleSize";
+
+    /**
+     * The {@code timeout} field name represented as a string value.
+     */
+    private static final String TIMEOUT_FIELD = "timeout";
+
+    /**
+     * The hash algorithms to be warmed up, not null.
+     */
+    @NotNull
+    private Set<HashAlgorithm> hashAlgorithms;
+
+    /**
+     * The MAC algorithms to be warmed up, not null.
+     */
+    @NotNull
+    private Set<MacAlgorithm> macAlgorithms;
+
+    /**
+     * The signature algorithms to be warmed up, not null.
+     */
+    @NotNull
+    private Set<SignatureAlgorithm> signatureAlgorithms;
+
+    /**
+     * The cipher transformations to be warmed up, not null.
+     */
+    @NotNull
+    private Set<CipherTransformation> transformations;
+
+    /**
+     * The number of pooled primitives created and concurrent tasks used for each algorithm.
+     */
+    @Positive
+    private int parallelism;
+
+    /**
+     * The number of operations performed for each algorithm.
+     */
+    @Positive
+    private int iterations;
+
+    /**
+     * The number of bytes processed by each operation.
+     */
+    @Positive
+    private int sampleSize;
+
+    /**
+     * The maximum amount of time spent warming up, not null.
+     */
+    @NotNull
+    private Duration timeout;
+
+    /**
+     * Constructs a new configuration which warms up {@link HashAlgorithm#SHA_384}, {@link MacAlgorithm#HMAC_SHA_384},
+     * {@link SignatureAlgorithm#RSA_SHA_384} and the default {@link CipherTransformation} using one task per available
+     * processor, 10,000 operations of 1 KiB each per algorithm and a timeout of five seconds.
+     */
+    public WarmupConfiguration() {
+        this.hashAlgorithms = EnumSet.of(HashAlgorithm.SHA_384);
+        this.macAlgorithms = EnumSet.of(MacAlgorithm.HMAC_SHA_384);
+        this.signatureAlgorithms = EnumSet.of(SignatureAlgorithm.RSA_SHA_384);
+        this.transformations = new LinkedHashSet<>(Collections.singleton(new CipherTransformation()));
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.iterations = DEFAULT_ITERATIONS;
+        this.sampleSize = DEFAULT_SAMPLE_SIZE;
+        this.timeout = DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Gets the hash algorithms to be warmed up.
+     *
+     * @return an unmodifiable view of the hash algorithms, not null
+     */
+    public Set<HashAlgorithm> getHashAlgorithms() {
+        return Collections.unmodifiableSet(hashAlgorithms);
+    }
+
+    /**
+     * Sets the hash algorithms to be warmed up.
+     *
+     * @param hashAlgorithms
+     *         the hash algorithms, may be empty, not null
+     * @throws IllegalArgumentException
+     *         if the {@code hashAlgorithms} parameter is null
+     */
+    public void setHashAlgorithms(@NotNull final Set<HashAlgorithm> hashAlgorithms) {
+        throwIfArgIsNull(hashAlgorithms, HASH_ALGORITHMS_FIELD);
+
+        this.hashAlgorithms = new LinkedHashSet<>(hashAlgorithms);
+    }
+
+    /**
+     * Gets the MAC algorithms to be warmed up.
+     *
+     * @return an unmodifiable view of the MAC algorithms, not null
+     */
+    public Set<MacAlgorithm> getMacAlgorithms() {
+        return Collections.unmodifiableSet(macAlgorithms);
+    }
+
+    /**
+     * Sets the MAC algorithms to be warmed up.
+     *
+     * @param macAlgorithms
+     *         the MAC algorithms, may be empty, not null
+     * @throws IllegalArgumentException
+     *         if the {@code macAlgorithms} parameter is null
+     */
+    public void setMacAlgorithms(@NotNull final Set<MacAlgorithm> macAlgorithms) {
+        throwIfArgIsNull(macAlgorithms, MAC_ALGORITHMS_FIELD);
+
+        this.macAlgorithms = new LinkedHashSet<>(macAlgorithms);
+    }
+
+    /**
+     * Gets the signature algorithms to be warmed up.
+     *
+     * @return an unmodifiable view of the signature algorithms, not null
+     */
+    public Set<SignatureAlgorithm> getSignatureAlgorithms() {
+        return Collections.unmodifiableSet(signatureAlgorithms);
+    }
+
+    /**
+     * Sets the signature algorithms to be warmed up.
+     *
+     * @param signatureAlgorithms
+     *         the signature algorithms, may be empty, not null
+     * @throws IllegalArgumentException
+     *         if the {@code signatureAlgorithms} parameter is null
+     */
+    public void setSignatureAlgorithms(@NotNull final Set<SignatureAlgorithm> signatureAlgorithms) {
+        throwIfArgIsNull(signatureAlgorithms, SIGNATURE_ALGORITHMS_FIELD);
+
+        this.signatureAlgorithms = new LinkedHashSet<>(signatureAlgorithms);
+    }
+
+    /**
+     * Gets the cipher transformations to be warmed up.
+     *
+     * @return an unmodifiable view of the cipher transformations, not null
+     */
+    public Set<CipherTransformation> getTransformations() {
+        return Collections.unmodifiableSet(transformations);
+    }
+
+    /**
+     * Sets the cipher transformations to be warmed up.
+     *
+     * @param transformations
+     *         the cipher transformations, may be empty, not null
+     * @throws IllegalArgumentException
+     *         if the {@code transformations} parameter is null
+     */
+    public void setTransformations(@NotNull final Set<CipherTransformation> transformations) {
+        throwIfArgIsNull(transformations, TRANSFORMATIONS_FIELD);
+
+        this.transformations = new LinkedHashSet<>(transformations);
+    }
+
+    /**
+     * Gets the number of pooled primitives created and concurrent tasks used for each algorithm.
+     *
+     * @return the parallelism, positive integer
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of pooled primitives created and concurrent tasks used for each algorithm. Values greater than
+     * the maximum idle primitives of the {@link PrimitivePoolConfiguration} create primitives which are discarded, and
+     * values greater than the queue capacity of a lane may be rejected by the {@link BackpressurePolicy#FAIL_FAST}
+     * policy.
+     *
+     * @param parallelism
+     *         the parallelism, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code parallelism} parameter is less than or equal to zero
+     */
+    public void setParallelism(@Positive final int parallelism) {
+        throwIfArgIsNotPositive(parallelism, PARALLELISM_FIELD);
+
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the number of operations performed for each algorithm.
+     *
+     * @return the number of operations, positive integer
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Sets the number of operations performed for each algorithm. The operations are divided evenly between the
+     * concurrent tasks.
+     *
+     * @param iterations
+     *         the number of operations, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code iterations} parameter is less than or equal to zero
+     */
+    public void setIterations(@Positive final int iterations) {
+        throwIfArgIsNotPositive(iterations, ITERATIONS_FIELD);
+
+        this.iterations = iterations;
+    }
+
+    /**
+     * Gets the number of bytes processed by each operation.
+     *
+     * @return the sample size in bytes, positive integer
+     */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * Sets the number of bytes processed by each operation.
+     *
+     * @param sampleSize
+     *         the sample size in bytes, positive integer
+     * @throws IllegalArgumentException
+     *         if the {@code sampleSize} parameter is less than or equal to zero
+     */
+    public void setSampleSize(@Positive final int sampleSize) {
+        throwIfArgIsNotPositive(sampleSize, SAMPLE_SIZE_FIELD);
+
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Gets the maximum amount of time spent warming up.
+     *
+     * @return the timeout, not null
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the maximum amount of time spent warming up. Once the timeout elapses the remaining operations are skipped
+     * and the warm-up completes normally.
+     *
+     * @param timeout
+     *         the timeout, not null
+     * @throws IllegalArgumentException
+     *         if the {@code timeout} parameter is null, zero or negative
+     */
+    public void setTimeout(@NotNull final Duration timeout) {
+        throwIfArgIsNull(timeout, TIMEOUT_FIELD);
+        throwIfArgIsNotPositive(timeout.toNanos(), TIMEOUT_FIELD);
+
+        this.timeout = timeout;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.NO_CLASS_NAME_STYLE)
+                .append(HASH_ALGORITHMS_FIELD, hashAlgorithms)
+                .append(MAC_ALGORITHMS_FIELD, macAlgorithms)
+                .append(SIGNATURE_ALGORITHMS_FIELD, signatureAlgorithms)
+                .append(TRANSFORMATIONS_FIELD, transformations)
+                .append(PARALLELISM_FIELD, parallelism)
+                .append(ITERATIONS_FIELD, iterations)
+                .append(SAMPLE_SIZE_FIELD, sampleSize)
+                .append(TIMEOUT_FIELD, timeout)
+                .toString();
+    }
+}
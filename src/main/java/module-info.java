@@ -49,5 +49,9 @@ module com.servercurio.fabric {
     uses com.servercurio.fabric.security.spi.MacProvider;
     uses com.servercurio.fabric.security.spi.DigestProvider;
     uses com.servercurio.fabric.security.spi.CryptoPrimitiveSupplier;
+    uses com.servercurio.fabric.security.spi.ProviderFactory;
+
+    provides com.servercurio.fabric.security.spi.ProviderFactory
+            with com.servercurio.fabric.security.impl.FabricProviderFactory;
 
 }
\ No newline at end of file
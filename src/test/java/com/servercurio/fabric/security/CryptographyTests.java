@@ -16,18 +16,76 @@
 
 package com.servercurio.fabric.security;
 
+import com.servercurio.fabric.security.impl.DefaultCryptographyImpl;
+import com.servercurio.fabric.security.impl.PrimitiveProviderImpl;
+import com.servercurio.fabric.security.spi.BackpressurePolicy;
+import com.servercurio.fabric.security.spi.DurabilityPolicy;
+import com.servercurio.fabric.security.spi.ExecutorConfiguration;
+import com.servercurio.fabric.security.spi.ExecutorMode;
+import com.servercurio.fabric.security.spi.ExecutorStatistics;
+import com.servercurio.fabric.security.spi.OperationClass;
+import com.servercurio.fabric.security.spi.PrimitiveLease;
+import com.servercurio.fabric.security.spi.PrimitivePoolConfiguration;
+import com.servercurio.fabric.security.spi.PrimitiveProvider;
+import com.servercurio.fabric.security.spi.ProviderSelectionConfiguration;
+import com.servercurio.fabric.security.spi.RandomConfiguration;
+import com.servercurio.fabric.security.spi.ReseedPolicy;
+import com.servercurio.fabric.security.spi.SignedMessage;
+import com.servercurio.fabric.security.spi.SignerSession;
+import com.servercurio.fabric.security.spi.WarmupConfiguration;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.InvalidKeyException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("Cryptography: General")
@@ -131,4 +189,637 @@ public class CryptographyTests {
             assertFalse(crypto.primitives().secureEquals(originalValue, extraSizedValue));
         }
     }
+
+    @Test
+    @Order(125)
+    @DisplayName("Cryptography :: ExecutorMode -> Virtual Threads")
+    public void testCryptoExecutorModeVirtual() throws Exception {
+        assertTrue(ExecutorMode.PLATFORM.isSupported());
+
+        if (!ExecutorMode.VIRTUAL.isSupported()) {
+            assertThrows(UnsupportedOperationException.class,
+                         () -> Cryptography.newDefaultInstance(ExecutorMode.VIRTUAL));
+            return;
+        }
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance(ExecutorMode.VIRTUAL)) {
+            assertEquals(ExecutorMode.VIRTUAL, crypto.primitives().executorMode());
+
+            final byte[] data = new byte[1024];
+            new Random().nextBytes(data);
+
+            final Hash expected = crypto.digest().digestSync(data);
+            final List<Future<Hash>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 10_000; i++) {
+                futures.add(crypto.digest().digestAsync(data));
+            }
+
+            for (final Future<Hash> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        }
+    }
+
+    @Test
+    @Order(150)
+    @DisplayName("Cryptography :: ExecutorConfiguration -> Fail Fast")
+    public void testCryptoExecutorConfigurationFailFast() throws Exception {
+        final ExecutorConfiguration configuration = new ExecutorConfiguration();
+        configuration.setCorePoolSize(1);
+        configuration.setMaximumPoolSize(1);
+        configuration.setQueueCapacity(1);
+        configuration.setBackpressurePolicy(BackpressurePolicy.FAIL_FAST);
+
+        assertThrows(IllegalArgumentException.class, () -> configuration.setQueueCapacity(0));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setBackpressurePolicy(null));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setKeepAlive(null));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setKeepAlive(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setKeepAlive(Duration.ofMillis(-1)));
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance(configuration)) {
+            final ExecutorService executor = crypto.primitives().executorService();
+            final ExecutorStatistics statistics = crypto.primitives().executorStatistics();
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+
+            final Future<?> running = executor.submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            });
+
+            started.await();
+            final Future<Hash> queued = crypto.digest().digestAsync(new byte[]{1, 2, 3});
+
+            assertEquals(1, statistics.activeCount());
+            assertEquals(1, statistics.queueDepth());
+            assertThrows(RejectedExecutionException.class, () -> crypto.digest().digestAsync(new byte[]{1, 2, 3}));
+            assertEquals(1, statistics.rejectedCount());
+
+            final CompletableFuture<Hash> rejected =
+                    crypto.digest().digestStage(HashAlgorithm.SHA_384, new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+            assertTrue(rejected.isCompletedExceptionally());
+            assertEquals(RejectedExecutionException.class,
+                         assertThrows(ExecutionException.class, rejected::get).getCause().getClass());
+            assertEquals(2, statistics.rejectedCount());
+
+            release.countDown();
+            running.get();
+            assertEquals(crypto.digest().digestSync(new byte[]{1, 2, 3}), queued.get());
+        }
+    }
+
+    @Test
+    @Order(160)
+    @DisplayName("Cryptography :: ExecutorConfiguration -> Failing Task")
+    public void testCryptoExecutorConfigurationFailingTask() throws Exception {
+        final ExecutorConfiguration configuration = new ExecutorConfiguration();
+        configuration.setCorePoolSize(1);
+        configuration.setMaximumPoolSize(1);
+        configuration.setQueueCapacity(1);
+        configuration.setBackpressurePolicy(BackpressurePolicy.CALLER_RUNS);
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance(configuration)) {
+            final ExecutorService executor = crypto.primitives().executorService();
+            final ExecutorStatistics statistics = crypto.primitives().executorStatistics();
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final CountDownLatch completed = new CountDownLatch(1);
+            final CountDownLatch callerRuns = new CountDownLatch(1);
+
+            executor.execute(() -> {
+                started.countDown();
+
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+
+                throw new IllegalStateException("Expected failure");
+            });
+
+            started.await();
+            executor.execute(completed::countDown);
+            executor.execute(callerRuns::countDown);
+
+            assertEquals(0, callerRuns.getCount());
+            assertEquals(0, statistics.rejectedCount());
+
+            release.countDown();
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+
+            final Hash expected = crypto.digest().digestSync(new byte[]{1, 2, 3});
+            assertEquals(expected, crypto.digest().digestAsync(new byte[]{1, 2, 3}).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @Order(165)
+    @DisplayName("Cryptography :: ExecutorConfiguration -> Saturated Cooperative Digest")
+    public void testCryptoExecutorConfigurationSaturatedCooperativeDigest() throws Exception {
+        final ExecutorConfiguration configuration = new ExecutorConfiguration();
+        configuration.setCorePoolSize(1);
+        configuration.setMaximumPoolSize(1);
+        configuration.setQueueCapacity(1);
+        configuration.setBackpressurePolicy(BackpressurePolicy.BLOCK);
+
+        final byte[] data = new byte[8 << 20];
+        new Random(165).nextBytes(data);
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance(configuration)) {
+            final Hash expected = crypto.digest().digestSync(HashAlgorithm.BLAKE3_256, data);
+
+            assertEquals(expected, crypto.digest()
+                                         .digestAsync(HashAlgorithm.BLAKE3_256, ByteBuffer.wrap(data))
+                                         .get(30, TimeUnit.SECONDS));
+            assertEquals(0, crypto.primitives().executorStatistics().rejectedCount());
+        }
+    }
+
+    @Test
+    @Order(166)
+    @DisplayName("Cryptography :: ExecutorConfiguration -> Saturated Batch Verification")
+    public void testCryptoExecutorConfigurationSaturatedBatchVerification() throws Exception {
+        final ExecutorConfiguration configuration = new ExecutorConfiguration();
+        configuration.setCorePoolSize(1);
+        configuration.setMaximumPoolSize(1);
+        configuration.setQueueCapacity(1);
+        configuration.setBackpressurePolicy(BackpressurePolicy.BLOCK);
+
+        final SignatureAlgorithm algorithm = SignatureAlgorithm.ECDSA_SHA_384;
+        final KeyPair keyPair = KeyPairGenerator.getInstance(algorithm.keyAlgorithmName()).generateKeyPair();
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance(configuration)) {
+            final List<SignedMessage> messages = new ArrayList<>();
+
+            try (final SignerSession signer = crypto.signature().signerSession(algorithm, keyPair.getPrivate())) {
+                for (int i = 0; i < 512; i++) {
+                    final byte[] data = String.format("message-%d", i).getBytes(StandardCharsets.UTF_8);
+                    messages.add(new SignedMessage(signer.signSync(data), keyPair.getPublic(), data));
+                }
+            }
+
+            final BitSet valid = crypto.signature().verifyBatchAsync(messages).get(30, TimeUnit.SECONDS);
+
+            assertEquals(messages.size(), valid.cardinality());
+            assertEquals(valid, crypto.signature().verifyBatchSync(messages));
+            assertTrue(crypto.signature().verifyAllAsync(messages).get(30, TimeUnit.SECONDS));
+            assertEquals(0, crypto.primitives().executorStatistics().rejectedCount());
+        }
+    }
+
+    @Test
+    @Order(167)
+    @DisplayName("Cryptography :: ExecutorConfiguration -> Saturated File Operations")
+    public void testCryptoExecutorConfigurationSaturatedFileOperations(@TempDir final Path tempDir) throws Exception {
+        final ExecutorConfiguration configuration = new ExecutorConfiguration();
+        configuration.setCorePoolSize(1);
+        configuration.setMaximumPoolSize(1);
+        configuration.setQueueCapacity(1);
+        configuration.setBackpressurePolicy(BackpressurePolicy.BLOCK);
+
+        final byte[] data = new byte[1 << 20];
+        new Random(167).nextBytes(data);
+
+        final Path clearFile = tempDir.resolve("clear.bin");
+        Files.write(clearFile, data);
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance(configuration)) {
+            final CipherTransformation algorithm = crypto.encryption().getDefaultAlgorithm();
+            final KeyGenerator keyGenerator = KeyGenerator.getInstance(algorithm.getAlgorithm().keyAlgorithmName());
+            final SecretKey key = keyGenerator.generateKey();
+            final List<CompletableFuture<?>> futures = new ArrayList<>();
+            final List<Path> cipherFiles = new ArrayList<>();
+            final List<byte[]> ivs = new ArrayList<>();
+
+            for (int i = 0; i < 4; i++) {
+                final Path cipherFile = tempDir.resolve(String.format("cipher-%d.bin", i));
+                final byte[] iv = crypto.encryption().nonceSync(algorithm);
+
+                cipherFiles.add(cipherFile);
+                ivs.add(iv);
+                futures.add(crypto.digest().digestStage(HashAlgorithm.SHA_384, clearFile));
+                futures.add(crypto.mac().authenticateStage(MacAlgorithm.HMAC_SHA_384, key, clearFile));
+                futures.add(crypto.encryption()
+                                  .encryptStage(algorithm, key, iv, clearFile, cipherFile, DurabilityPolicy.NONE));
+            }
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+            assertEquals(crypto.digest().digestSync(HashAlgorithm.SHA_384, data), futures.get(0).get());
+            assertEquals(crypto.mac().authenticateSync(MacAlgorithm.HMAC_SHA_384, key, data), futures.get(1).get());
+
+            for (int i = 0; i < cipherFiles.size(); i++) {
+                final Path decryptedFile = tempDir.resolve(String.format("clear-%d.bin", i));
+
+                crypto.encryption()
+                      .decryptStage(algorithm, key, ivs.get(i), cipherFiles.get(i), decryptedFile,
+                                    DurabilityPolicy.NONE)
+                      .get(30, TimeUnit.SECONDS);
+
+                assertArrayEquals(data, Files.readAllBytes(decryptedFile));
+            }
+
+            assertEquals(0, crypto.primitives().executorStatistics().rejectedCount());
+        }
+    }
+
+    @Test
+    @Order(168)
+    @DisplayName("Cryptography :: ExecutorConfiguration -> Core Threads")
+    public void testCryptoExecutorConfigurationCoreThreads() throws Exception {
+        final ExecutorConfiguration configuration = new ExecutorConfiguration();
+        configuration.setCorePoolSize(2);
+        configuration.setMaximumPoolSize(4);
+        configuration.setKeepAlive(Duration.ofMillis(50));
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance(configuration)) {
+            final ExecutorService executor = crypto.primitives().executorService();
+            final ExecutorStatistics statistics = crypto.primitives().executorStatistics();
+            final CountDownLatch started = new CountDownLatch(4);
+            final CountDownLatch release = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>();
+
+            assertEquals(2, statistics.poolSize());
+
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    release.await();
+                    return null;
+                }));
+            }
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(4, statistics.poolSize());
+            assertEquals(4, statistics.activeCount());
+
+            release.countDown();
+
+            for (final Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+            while (statistics.poolSize() > 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(2, statistics.poolSize());
+        }
+    }
+
+    @Test
+    @Order(175)
+    @DisplayName("Cryptography :: ExecutorConfiguration -> Weighted Lanes")
+    public void testCryptoExecutorConfigurationLanes() throws Exception {
+        final ExecutorConfiguration configuration = new ExecutorConfiguration();
+        configuration.setCorePoolSize(1);
+        configuration.setMaximumPoolSize(1);
+        configuration.setLaneWeight(OperationClass.VERIFY, 4);
+        configuration.setLaneConcurrency(OperationClass.ENCRYPT, 8);
+
+        assertEquals(4, configuration.getLaneWeight(OperationClass.VERIFY));
+        assertEquals(1, configuration.getLaneWeight(OperationClass.ENCRYPT));
+        assertEquals(1, configuration.getLaneConcurrency(OperationClass.ENCRYPT));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setLaneWeight(OperationClass.SIGN, 0));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setLaneConcurrency(null, 1));
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance(configuration)) {
+            final ExecutorService encryptLane = crypto.primitives().executorService(OperationClass.ENCRYPT);
+            final ExecutorService verifyLane = crypto.primitives().executorService(OperationClass.VERIFY);
+            final List<String> completed = Collections.synchronizedList(new ArrayList<>());
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final List<Future<?>> futures = new ArrayList<>();
+
+            futures.add(encryptLane.submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            }));
+
+            started.await();
+
+            for (int i = 0; i < 10; i++) {
+                futures.add(encryptLane.submit(() -> completed.add("encrypt")));
+            }
+
+            for (int i = 0; i < 2; i++) {
+                futures.add(verifyLane.submit(() -> completed.add("verify")));
+            }
+
+            assertEquals(12, crypto.primitives().executorStatistics().queueDepth());
+            release.countDown();
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+
+            assertEquals(List.of("verify", "verify"), completed.subList(0, 2));
+            assertEquals(13, crypto.primitives().executorStatistics().completedCount());
+        }
+    }
+
+    @Test
+    @Order(200)
+    @DisplayName("Cryptography :: PrimitivePoolConfiguration -> Bounded Pool")
+    public void testCryptoPrimitivePoolConfigurationBounded() throws Exception {
+        final PrimitivePoolConfiguration configuration = new PrimitivePoolConfiguration();
+        configuration.setMaximumIdle(1);
+
+        assertThrows(IllegalArgumentException.class, () -> configuration.setMaximumIdle(0));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setIdleTimeout(null));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setIdleTimeout(Duration.ofSeconds(-1)));
+
+        final byte[] emptyHash = HashAlgorithm.SHA_384.instance().digest();
+        final PrimitiveProvider primitives = new PrimitiveProviderImpl(new ExecutorConfiguration(), configuration);
+
+        try (final Cryptography crypto = DefaultCryptographyImpl.newInstance(primitives)) {
+            final MessageDigest first = primitives.primitive(HashAlgorithm.SHA_384);
+            final MessageDigest second = primitives.primitive(HashAlgorithm.SHA_384);
+            assertNotSame(first, second);
+
+            first.update(new byte[]{1, 2, 3});
+            primitives.release(HashAlgorithm.SHA_384, first);
+            primitives.release(HashAlgorithm.SHA_384, second);
+
+            final MessageDigest reused = primitives.primitive(HashAlgorithm.SHA_384);
+            assertSame(first, reused);
+            assertArrayEquals(emptyHash, reused.digest());
+
+            final MessageDigest created = primitives.primitive(HashAlgorithm.SHA_384);
+            assertNotSame(first, created);
+            assertNotSame(second, created);
+
+            primitives.release(HashAlgorithm.SHA_384, reused);
+            assertSame(first, crypto.primitives().executorService()
+                                    .submit(() -> primitives.primitive(HashAlgorithm.SHA_384)).get());
+
+            primitives.release(HashAlgorithm.SHA_384, first);
+            crypto.close();
+
+            assertNotSame(first, primitives.primitive(HashAlgorithm.SHA_384));
+        }
+    }
+
+    @Test
+    @Order(225)
+    @DisplayName("Cryptography :: PrimitivePoolConfiguration -> Idle Eviction")
+    public void testCryptoPrimitivePoolConfigurationIdleEviction() throws Exception {
+        final PrimitivePoolConfiguration configuration = new PrimitivePoolConfiguration();
+        configuration.setMaximumIdle(4);
+        configuration.setIdleTimeout(Duration.ofMillis(50));
+
+        try (final PrimitiveProvider primitives =
+                     new PrimitiveProviderImpl(new ExecutorConfiguration(), configuration)) {
+            final MessageDigest stale = primitives.primitive(HashAlgorithm.SHA_384);
+            final MessageDigest fresh = primitives.primitive(HashAlgorithm.SHA_384);
+
+            primitives.release(HashAlgorithm.SHA_384, stale);
+            Thread.sleep(100);
+            primitives.release(HashAlgorithm.SHA_384, fresh);
+
+            assertSame(fresh, primitives.primitive(HashAlgorithm.SHA_384));
+            assertNotSame(stale, primitives.primitive(HashAlgorithm.SHA_384));
+        }
+    }
+
+    @ParameterizedTest
+    @Order(230)
+    @ValueSource(ints = {3, 5, 9, 17})
+    @DisplayName("Cryptography :: PrimitivePoolConfiguration -> Maximum Idle")
+    public void testCryptoPrimitivePoolConfigurationMaximumIdle(final int maximumIdle) throws Exception {
+        final PrimitivePoolConfiguration configuration = new PrimitivePoolConfiguration();
+        configuration.setMaximumIdle(maximumIdle);
+
+        try (final PrimitiveProvider primitives =
+                     new PrimitiveProviderImpl(new ExecutorConfiguration(), configuration)) {
+            final Set<MessageDigest> released = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            for (int i = 0; i < maximumIdle * 4; i++) {
+                released.add(primitives.primitive(HashAlgorithm.SHA_384));
+            }
+
+            for (final MessageDigest digest : released) {
+                primitives.release(HashAlgorithm.SHA_384, digest);
+            }
+
+            int reused = 0;
+
+            for (int i = 0; i < maximumIdle * 4; i++) {
+                if (released.contains(primitives.primitive(HashAlgorithm.SHA_384))) {
+                    reused++;
+                }
+            }
+
+            assertEquals(maximumIdle, reused);
+        }
+    }
+
+    @ParameterizedTest
+    @Order(240)
+    @EnumSource(ReseedPolicy.class)
+    @DisplayName("Cryptography :: RandomConfiguration -> Reseed Policies")
+    public void testCryptoRandomConfiguration(final ReseedPolicy reseedPolicy) throws Exception {
+        final RandomConfiguration configuration = new RandomConfiguration(reseedPolicy);
+        configuration.setReseedInterval(8);
+        configuration.setReseedPeriod(Duration.ofMillis(1));
+        configuration.setBufferSize(256);
+
+        assertThrows(IllegalArgumentException.class, () -> new RandomConfiguration(null));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setReseedPolicy(null));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setReseedInterval(0));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setReseedPeriod(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setBufferSize(-1));
+
+        try (final PrimitiveProvider primitives = new PrimitiveProviderImpl(new ExecutorConfiguration(),
+                                                                            new PrimitivePoolConfiguration(),
+                                                                            configuration)) {
+            final SecureRandom random = primitives.random();
+            assertSame(random, primitives.random());
+            assertEquals("DRBG", random.getAlgorithm());
+            assertTrue(random.toString().contains(reseedPolicy.name().toLowerCase()));
+
+            final Set<String> nonces = new HashSet<>();
+
+            for (int i = 0; i < 100; i++) {
+                final byte[] nonce = new byte[12];
+                random.nextBytes(nonce);
+                assertTrue(nonces.add(Arrays.toString(nonce)));
+            }
+
+            final byte[] large = new byte[1024];
+            random.nextBytes(large);
+            assertFalse(Arrays.equals(new byte[large.length], large));
+
+            assertDoesNotThrow(() -> random.reseed());
+            assertEquals(16, random.generateSeed(16).length);
+        }
+    }
+
+    @Test
+    @Order(250)
+    @DisplayName("Cryptography :: PrimitiveLease -> Try With Resources")
+    public void testCryptoPrimitiveLease() throws Exception {
+        final byte[] emptyHash = HashAlgorithm.SHA_384.instance().digest();
+
+        try (final PrimitiveProvider primitives =
+                     new PrimitiveProviderImpl(new ExecutorConfiguration(), new PrimitivePoolConfiguration())) {
+            assertThrows(IllegalArgumentException.class, () -> primitives.lease((HashAlgorithm) null));
+
+            final MessageDigest leased;
+            final PrimitiveLease<MessageDigest> escaped;
+
+            try (final PrimitiveLease<MessageDigest> lease = primitives.lease(HashAlgorithm.SHA_384)) {
+                leased = lease.get();
+                leased.update(new byte[]{1, 2, 3});
+                escaped = lease;
+            }
+
+            assertTrue(escaped.isClosed());
+            assertThrows(IllegalStateException.class, escaped::get);
+            escaped.close();
+
+            final PrimitiveLease<MessageDigest> handoff = primitives.lease(HashAlgorithm.SHA_384);
+            assertSame(leased, handoff.get());
+
+            final byte[] hash = primitives.executorService().submit(() -> {
+                try (handoff) {
+                    return handoff.get().digest();
+                }
+            }).get();
+
+            assertArrayEquals(emptyHash, hash);
+            assertTrue(handoff.isClosed());
+
+            try (final PrimitiveLease<MessageDigest> outer = primitives.lease(HashAlgorithm.SHA_384);
+                 final PrimitiveLease<MessageDigest> nested = primitives.lease(HashAlgorithm.SHA_384)) {
+                assertNotSame(outer.get(), nested.get());
+            }
+
+            try (final PrimitiveLease<Mac> lease = primitives.lease(MacAlgorithm.HMAC_SHA_256);
+                 final PrimitiveLease<Signature> signature = primitives.lease(SignatureAlgorithm.RSA_SHA_256);
+                 final PrimitiveLease<Cipher> cipher = primitives.lease(new CipherTransformation())) {
+                assertThrows(IllegalStateException.class, lease::get);
+                assertThrows(IllegalStateException.class, signature::get);
+                assertThrows(IllegalStateException.class, cipher::get);
+                assertThrows(IllegalArgumentException.class, () -> lease.initialize(null));
+                assertThrows(InvalidKeyException.class, () -> lease.initialize(mac -> {
+                    throw new InvalidKeyException();
+                }));
+                assertThrows(IllegalStateException.class, lease::get);
+
+                final SecretKeySpec key = new SecretKeySpec(new byte[32], MacAlgorithm.HMAC_SHA_256.algorithmName());
+                assertSame(lease.initialize(mac -> mac.init(key)), lease.get());
+            }
+        }
+    }
+
+    @Test
+    @Order(275)
+    @DisplayName("Cryptography :: ProviderSelectionConfiguration -> Calibration")
+    public void testCryptoProviderSelection(@TempDir final Path tempDir) throws Exception {
+        final Path selectionFile = tempDir.resolve("providers.properties");
+        final ProviderSelectionConfiguration configuration = new ProviderSelectionConfiguration(selectionFile);
+        configuration.setSampleSize(1024);
+        configuration.setMeasurementPeriod(Duration.ofMillis(1));
+
+        assertThrows(IllegalArgumentException.class, () -> configuration.setSampleSize(0));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setMeasurementPeriod(null));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setMeasurementPeriod(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setTransformations(null));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new PrimitiveProviderImpl(new ExecutorConfiguration(), new PrimitivePoolConfiguration(),
+                                                     new RandomConfiguration(), null));
+
+        // ensure the providers registered by the default implementation are installed before calibrating
+        Cryptography.newDefaultInstance().close();
+
+        try (final PrimitiveProvider primitives = new PrimitiveProviderImpl(new ExecutorConfiguration())) {
+            assertTrue(primitives.selectedProviders().isEmpty());
+        }
+
+        final Map<String, String> calibrated;
+        final byte[] data = new byte[4096];
+        new Random(42).nextBytes(data);
+
+        try (final PrimitiveProvider primitives =
+                     new PrimitiveProviderImpl(new ExecutorConfiguration(), new PrimitivePoolConfiguration(),
+                                               new RandomConfiguration(), configuration)) {
+            calibrated = primitives.selectedProviders();
+
+            assertTrue(Files.exists(selectionFile));
+            assertTrue(calibrated.containsKey("MessageDigest.SHA_256"));
+            assertTrue(calibrated.containsKey("Cipher.AES/GCM/NONE"));
+            assertFalse(calibrated.containsKey("MessageDigest.BLAKE3_256"));
+            assertThrows(UnsupportedOperationException.class, () -> calibrated.put("Mac.NONE", "SUN"));
+
+            final MessageDigest digest = primitives.primitive(HashAlgorithm.SHA_256);
+            assertEquals(calibrated.get("MessageDigest.SHA_256"), digest.getProvider().getName());
+            assertArrayEquals(HashAlgorithm.SHA_256.instance().digest(data), digest.digest(data));
+            primitives.release(HashAlgorithm.SHA_256, digest);
+        }
+
+        final ProviderSelectionConfiguration loadOnly = new ProviderSelectionConfiguration();
+        loadOnly.setSelectionFile(selectionFile);
+
+        try (final PrimitiveProvider primitives =
+                     new PrimitiveProviderImpl(new ExecutorConfiguration(), new PrimitivePoolConfiguration(),
+                                               new RandomConfiguration(), loadOnly)) {
+            assertEquals(calibrated, primitives.selectedProviders());
+        }
+
+        Files.writeString(selectionFile, "fingerprint=stale\nMessageDigest.SHA_256=SUN\n");
+
+        try (final PrimitiveProvider primitives =
+                     new PrimitiveProviderImpl(new ExecutorConfiguration(), new PrimitivePoolConfiguration(),
+                                               new RandomConfiguration(), loadOnly)) {
+            assertTrue(primitives.selectedProviders().isEmpty());
+        }
+    }
+
+    @Test
+    @Order(280)
+    @DisplayName("Cryptography :: WarmupConfiguration -> Warm Up")
+    public void testCryptoWarmUp() throws Exception {
+        final WarmupConfiguration configuration = new WarmupConfiguration();
+        configuration.setHashAlgorithms(EnumSet.of(HashAlgorithm.SHA_256, HashAlgorithm.BLAKE2B_256));
+        configuration.setMacAlgorithms(EnumSet.of(MacAlgorithm.HMAC_SHA_256, MacAlgorithm.GMAC_AES));
+        configuration.setSignatureAlgorithms(EnumSet.of(SignatureAlgorithm.ED25519));
+        configuration.setParallelism(2);
+        configuration.setIterations(50);
+        configuration.setSampleSize(256);
+
+        assertThrows(IllegalArgumentException.class, () -> configuration.setHashAlgorithms(null));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setParallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setIterations(-1));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setTimeout(Duration.ZERO));
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            assertSame(crypto.digest(), crypto.digest());
+            assertSame(crypto.encryption(), crypto.encryption());
+            assertSame(crypto.mac(), crypto.mac());
+            assertSame(crypto.signature(), crypto.signature());
+
+            assertThrows(IllegalArgumentException.class, () -> crypto.warmUpAsync(null));
+            assertDoesNotThrow(() -> crypto.warmUpSync(configuration));
+
+            configuration.setIterations(Integer.MAX_VALUE);
+            configuration.setTimeout(Duration.ofMillis(100));
+
+            final long start = System.nanoTime();
+            crypto.warmUpAsync(configuration).get();
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+
+            configuration.setTransformations(
+                    Collections.singleton(new CipherTransformation(CipherAlgorithm.RSA, CipherMode.ECB,
+                                                                   CipherPadding.PKCS1)));
+            assertThrows(CryptographyException.class, () -> crypto.warmUpSync(configuration));
+        }
+    }
 }
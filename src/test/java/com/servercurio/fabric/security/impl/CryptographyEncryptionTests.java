@@ -23,6 +23,12 @@ import com.servercurio.fabric.security.CipherTransformation;
 import com.servercurio.fabric.security.Cryptography;
 import com.servercurio.fabric.security.CryptographyException;
 import com.servercurio.fabric.security.Hash;
+import com.servercurio.fabric.security.HashAlgorithm;
+import com.servercurio.fabric.security.spi.CipherSession;
+import com.servercurio.fabric.security.spi.DurabilityPolicy;
+import com.servercurio.fabric.security.spi.EncryptionProvider;
+import com.servercurio.fabric.security.spi.NonceConfiguration;
+import com.servercurio.fabric.security.spi.NonceGenerator;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -30,10 +36,26 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.SubmissionPublisher;
 import java.util.stream.Stream;
 import javax.crypto.Cipher;
 import javax.crypto.KeyGenerator;
@@ -60,6 +82,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -76,6 +99,8 @@ public class CryptographyEncryptionTests {
     private static final String DECRYPTED_LARGE_FILE_NAME =
             "8b3b606bb5cc9e6e4a05ee6091bb0fbb55d419d414189346e200b7cd240db4a58143bf32fcdea79bf8d71f04aae7adcb.dec";
 
+    private static final String MULTI_BLOCK_FILE_NAME = "cbad3520af182b5d23b60412dff6ea5fa754c82c.bin";
+
     public static Stream<CipherTransformation> transformationSource() {
         return Stream.of(
                 new CipherTransformation(),
@@ -356,6 +381,253 @@ public class CryptographyEncryptionTests {
         }
     }
 
+    @ParameterizedTest
+    @Order(105)
+    @DisplayName("Encryption :: Cipher -> Stage File Channel Encryption")
+    @MethodSource("transformationSource")
+    public void testCryptoCipherStageFileChannelEncryption(CipherTransformation transformation,
+                                                           @TempDir Path tempDir) throws Exception {
+
+        final Path sourceFile = Paths.get(getClass().getClassLoader().getResource(LARGE_FILE_NAME).toURI());
+        final Path encryptedFile = tempDir.resolve(ENCRYPTED_LARGE_FILE_NAME);
+        final Path decryptedFile = tempDir.resolve(DECRYPTED_LARGE_FILE_NAME);
+
+        try (final Cryptography provider = new MockCryptographyImpl()) {
+            final SecureRandom random = provider.primitives().random();
+
+            // Setup OTP structures
+            final byte[] iv = provider.encryption().nonceSync(transformation);
+
+            final KeyGenerator keyGenerator =
+                    KeyGenerator.getInstance(transformation.getAlgorithm().keyAlgorithmName());
+            keyGenerator.init(AES_KEY_SIZE, random);
+
+            final SecretKey secretKey = keyGenerator.generateKey();
+            assertNotNull(secretKey);
+
+            // Encrypt & Decrypt
+            final CompletableFuture<Void> roundTrip = provider.encryption()
+                    .encryptStage(transformation, secretKey, iv, sourceFile, encryptedFile)
+                    .thenCompose(v -> provider.encryption()
+                            .decryptStage(transformation, secretKey, iv, encryptedFile, decryptedFile));
+
+            assertNull(roundTrip.get());
+
+            final Hash sourceHash = provider.digest().digestStage(HashAlgorithm.SHA_384, sourceFile).get();
+            final Hash encryptedHash = provider.digest().digestStage(HashAlgorithm.SHA_384, encryptedFile).get();
+            final Hash decryptedHash = provider.digest().digestStage(HashAlgorithm.SHA_384, decryptedFile).get();
+
+            assertNotEquals(sourceHash, encryptedHash);
+            assertEquals(sourceHash, decryptedHash);
+            assertEquals(Files.size(sourceFile), Files.size(decryptedFile));
+
+            // Every durability policy, with deferred files forced by the next commit
+            for (final DurabilityPolicy durability : DurabilityPolicy.values()) {
+                final Path policyFile = tempDir.resolve(durability + ".dec");
+
+                provider.encryption()
+                        .decryptStage(transformation, secretKey, iv, encryptedFile, policyFile, durability)
+                        .get();
+
+                assertEquals(sourceHash, provider.digest().digestStage(HashAlgorithm.SHA_384, policyFile).get());
+            }
+
+            assertDoesNotThrow(provider.encryption()::commitSync);
+            assertThrows(IllegalArgumentException.class,
+                         () -> provider.encryption()
+                                       .encryptStage(transformation, secretKey, iv, sourceFile, encryptedFile, null));
+        }
+
+    }
+
+    @ParameterizedTest
+    @Order(107)
+    @DisplayName("Encryption :: Cipher -> Sync File Channel Encryption")
+    @MethodSource("transformationSource")
+    public void testCryptoCipherSyncFileChannelEncryption(final CipherTransformation transformation,
+                                                          @TempDir final Path tempDir) throws Exception {
+
+        final Path sourceFile = Paths.get(getClass().getClassLoader().getResource(MULTI_BLOCK_FILE_NAME).toURI());
+        final Path emptyFile = Files.createFile(tempDir.resolve("empty.bin"));
+
+        try (final Cryptography provider = new MockCryptographyImpl()) {
+            final EncryptionProvider encryption = provider.encryption();
+            final SecureRandom random = provider.primitives().random();
+            final KeyGenerator keyGenerator =
+                    KeyGenerator.getInstance(transformation.getAlgorithm().keyAlgorithmName());
+            keyGenerator.init(AES_KEY_SIZE, random);
+
+            final SecretKey secretKey = keyGenerator.generateKey();
+            final Hash sourceHash = provider.digest().digestStage(HashAlgorithm.SHA_384, sourceFile).get();
+
+            for (final DurabilityPolicy durability : DurabilityPolicy.values()) {
+                final byte[] iv = encryption.nonceSync(transformation);
+                final Path encryptedFile = tempDir.resolve(durability + ".enc");
+                final Path decryptedFile = tempDir.resolve(durability + ".dec");
+
+                encryption.encryptSync(transformation, secretKey, iv, sourceFile, encryptedFile, durability);
+                encryption.decryptSync(transformation, secretKey, iv, encryptedFile, decryptedFile, durability);
+
+                assertNotEquals(sourceHash, provider.digest().digestStage(HashAlgorithm.SHA_384, encryptedFile).get());
+                assertEquals(sourceHash, provider.digest().digestStage(HashAlgorithm.SHA_384, decryptedFile).get());
+
+                // Files written using channels interoperate with the stream methods
+                try (final InputStream cipherStream = Files.newInputStream(encryptedFile);
+                     final ByteArrayOutputStream clearStream = new ByteArrayOutputStream()) {
+                    encryption.decryptSync(transformation, secretKey, iv, cipherStream, clearStream);
+                    assertEquals(sourceHash, provider.digest().digestSync(clearStream.toByteArray()));
+                }
+            }
+
+            // Deferred files are forced by the next commit, including files deleted in the meantime
+            Files.delete(tempDir.resolve(DurabilityPolicy.DEFERRED + ".dec"));
+            assertDoesNotThrow(encryption::commitSync);
+            assertDoesNotThrow(encryption::commitSync);
+
+            // Channels which are not seekable and empty input
+            final byte[] iv = encryption.nonceSync(transformation);
+            final Path channelFile = tempDir.resolve("channel.enc");
+
+            try (final ReadableByteChannel clearChannel = Channels.newChannel(Files.newInputStream(sourceFile));
+                 final FileChannel cipherChannel = FileChannel.open(channelFile, StandardOpenOption.CREATE,
+                                                                    StandardOpenOption.WRITE)) {
+                encryption.encryptSync(transformation, secretKey, iv, clearChannel, cipherChannel,
+                                       DurabilityPolicy.DATA);
+                assertTrue(cipherChannel.isOpen());
+            }
+
+            try (final ReadableByteChannel cipherChannel = FileChannel.open(channelFile);
+                 final ByteArrayOutputStream clearStream = new ByteArrayOutputStream();
+                 final WritableByteChannel clearChannel = Channels.newChannel(clearStream)) {
+                encryption.decryptSync(transformation, secretKey, iv, cipherChannel, clearChannel,
+                                       DurabilityPolicy.FULL);
+                assertEquals(sourceHash, provider.digest().digestSync(clearStream.toByteArray()));
+            }
+
+            final byte[] emptyIv = encryption.nonceSync(transformation);
+            final Path emptyEncryptedFile = tempDir.resolve("empty.enc");
+            final Path emptyDecryptedFile = tempDir.resolve("empty.dec");
+            if (Objects.equals(new CipherTransformation(), transformation)) {
+                encryption.encryptSync(secretKey, emptyIv, emptyFile, emptyEncryptedFile, DurabilityPolicy.NONE);
+                encryption.decryptSync(secretKey, emptyIv, emptyEncryptedFile, emptyDecryptedFile,
+                                       DurabilityPolicy.NONE);
+            } else {
+                encryption.encryptSync(transformation, secretKey, emptyIv, emptyFile, emptyEncryptedFile,
+                                       DurabilityPolicy.NONE);
+                encryption.decryptSync(transformation, secretKey, emptyIv, emptyEncryptedFile, emptyDecryptedFile,
+                                       DurabilityPolicy.NONE);
+            }
+            assertEquals(0, Files.size(emptyDecryptedFile));
+
+            // Invalid arguments
+            try (final ReadableByteChannel clearChannel = FileChannel.open(sourceFile);
+                 final WritableByteChannel cipherChannel = Channels.newChannel(new ByteArrayOutputStream())) {
+                assertThrows(IllegalArgumentException.class,
+                             () -> encryption.encryptSync(transformation, secretKey, iv, clearChannel, cipherChannel,
+                                                          DurabilityPolicy.DEFERRED));
+                assertThrows(IllegalArgumentException.class,
+                             () -> encryption.encryptSync(transformation, secretKey, iv, clearChannel, cipherChannel,
+                                                          null));
+                assertThrows(IllegalArgumentException.class,
+                             () -> encryption.encryptSync(transformation, secretKey, iv, (ReadableByteChannel) null,
+                                                          cipherChannel, DurabilityPolicy.NONE));
+            }
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> encryption.encryptSync(transformation, secretKey, iv, sourceFile, null,
+                                                      DurabilityPolicy.NONE));
+            assertThrows(IllegalArgumentException.class,
+                         () -> encryption.decryptSync(transformation, secretKey, iv, sourceFile, channelFile, null));
+            assertThrows(CryptographyException.class,
+                         () -> encryption.encryptSync(transformation, secretKey, iv, tempDir.resolve("missing.bin"),
+                                                      channelFile, DurabilityPolicy.NONE));
+
+            // The destination must not be the source, even when named by a different path
+            final long channelFileSize = Files.size(channelFile);
+            final Path aliasFile = tempDir.resolve(".").resolve(channelFile.getFileName());
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> encryption.encryptSync(transformation, secretKey, iv, channelFile, channelFile,
+                                                      DurabilityPolicy.NONE));
+            assertThrows(IllegalArgumentException.class,
+                         () -> encryption.decryptSync(transformation, secretKey, iv, channelFile, aliasFile,
+                                                      DurabilityPolicy.NONE));
+            assertThrows(IllegalArgumentException.class,
+                         () -> encryption.encryptStage(transformation, secretKey, iv, aliasFile, channelFile));
+            assertEquals(channelFileSize, Files.size(channelFile));
+        }
+    }
+
+    @ParameterizedTest
+    @Order(110)
+    @DisplayName("Encryption :: Cipher -> Processor Encryption")
+    @MethodSource("transformationSource")
+    public void testCryptoCipherProcessorEncryption(CipherTransformation transformation) throws Exception {
+
+        try (final Cryptography provider = new MockCryptographyImpl()) {
+            final byte[] sourceData = new byte[65_537];
+
+            // Acquire random and generate random source data
+            final SecureRandom random = provider.primitives().random();
+            random.nextBytes(sourceData);
+
+            // Setup OTP structures
+            final byte[] iv = provider.encryption().nonceSync(transformation);
+
+            final KeyGenerator keyGenerator =
+                    KeyGenerator.getInstance(transformation.getAlgorithm().keyAlgorithmName());
+            keyGenerator.init(AES_KEY_SIZE, random);
+
+            final SecretKey secretKey = keyGenerator.generateKey();
+            assertNotNull(secretKey);
+
+            // Chain the encryption processor into the decryption processor
+            final Flow.Processor<ByteBuffer, ByteBuffer> encryptor =
+                    provider.encryption().encryptProcessor(transformation, secretKey, iv);
+            final Flow.Processor<ByteBuffer, ByteBuffer> decryptor =
+                    provider.encryption().decryptProcessor(transformation, secretKey, iv);
+
+            final ByteArrayOutputStream clearText = new ByteArrayOutputStream();
+            final CompletableFuture<byte[]> result = new CompletableFuture<>();
+
+            encryptor.subscribe(decryptor);
+            decryptor.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(final ByteBuffer item) {
+                    final byte[] chunk = new byte[item.remaining()];
+                    item.get(chunk);
+                    clearText.writeBytes(chunk);
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    result.complete(clearText.toByteArray());
+                }
+            });
+
+            try (final SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>()) {
+                publisher.subscribe(encryptor);
+
+                for (int offset = 0; offset < sourceData.length; offset += 1000) {
+                    publisher.submit(ByteBuffer.wrap(sourceData, offset, Math.min(1000, sourceData.length - offset)));
+                }
+            }
+
+            assertArrayEquals(sourceData, result.get());
+        }
+
+    }
+
     @ParameterizedTest
     @Order(125)
     @DisplayName("Encryption :: Cipher -> Sync Byte Array Encryption")
@@ -401,6 +673,163 @@ public class CryptographyEncryptionTests {
 
     }
 
+    @Test
+    @Order(130)
+    @DisplayName("Encryption :: Cipher -> Nonce Generator")
+    public void testCryptoCipherNonceGenerator(@TempDir final Path tempDir) throws Exception {
+
+        try (final Cryptography provider = new MockCryptographyImpl()) {
+            final SecureRandom random = provider.primitives().random();
+            final KeyGenerator keyGenerator = KeyGenerator.getInstance(CipherAlgorithm.AES.keyAlgorithmName());
+            keyGenerator.init(AES_KEY_SIZE, random);
+
+            final SecretKey secretKey = keyGenerator.generateKey();
+            final NonceGenerator generator = provider.encryption().nonceGenerator(secretKey);
+
+            assertSame(secretKey, generator.getKey());
+            assertEquals(provider.encryption().getDefaultAlgorithm(), generator.getAlgorithm());
+
+            // Nonces share the fixed field and carry a big-endian invocation counter
+            final byte[] first = generator.next();
+            final byte[] second = generator.next();
+
+            assertEquals(provider.encryption().nonceSync().length, first.length);
+            assertArrayEquals(Arrays.copyOf(first, 4), Arrays.copyOf(second, 4));
+            assertEquals(0, ByteBuffer.wrap(first, 4, Long.BYTES).getLong());
+            assertEquals(1, ByteBuffer.wrap(second, 4, Long.BYTES).getLong());
+
+            // Concurrently issued nonces are unique
+            final Set<String> nonces = ConcurrentHashMap.newKeySet();
+            final List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 4; i++) {
+                futures.add(provider.primitives().executorService().submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        assertTrue(nonces.add(Arrays.toString(generator.next())));
+                    }
+                }));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+
+            assertEquals(4000, nonces.size());
+
+            // Round trip using a generated nonce
+            final byte[] sourceData = new byte[100];
+            random.nextBytes(sourceData);
+
+            final byte[] iv = generator.next();
+            final byte[] cipherText = provider.encryption().encryptSync(secretKey, iv, sourceData);
+            assertArrayEquals(sourceData, provider.encryption().decryptSync(secretKey, iv, cipherText));
+
+            // Exhaustion and checkpoint recovery
+            final Path checkpointFile = tempDir.resolve("nonce.hwm");
+            final NonceConfiguration configuration = new NonceConfiguration();
+            configuration.setReservationSize(3);
+            configuration.setInvocationLimit(5);
+            configuration.setCheckpoint(new FileNonceCheckpoint(checkpointFile));
+
+            assertThrows(IllegalArgumentException.class, () -> configuration.setReservationSize(0));
+            assertThrows(IllegalArgumentException.class, () -> configuration.setInvocationLimit(0));
+
+            final NonceGenerator bounded =
+                    provider.encryption().nonceGenerator(generator.getAlgorithm(), secretKey, configuration);
+
+            bounded.next();
+            assertEquals(3, configuration.getCheckpoint().load());
+            assertEquals(4, bounded.remaining());
+
+            final NonceGenerator restarted =
+                    provider.encryption().nonceGenerator(generator.getAlgorithm(), secretKey, configuration);
+            final byte[] resumed = restarted.next();
+
+            assertEquals(3, ByteBuffer.wrap(resumed, 4, Long.BYTES).getLong());
+            assertEquals(5, configuration.getCheckpoint().load());
+
+            restarted.next();
+            assertEquals(0, restarted.remaining());
+            assertThrows(CryptographyException.class, restarted::next);
+            assertThrows(CryptographyException.class, restarted::next);
+
+            // Unsupported modes and null parameters
+            final CipherTransformation cbc =
+                    new CipherTransformation(CipherAlgorithm.AES, CipherMode.CBC, CipherPadding.PKCS5);
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> provider.encryption().nonceGenerator(cbc, secretKey, new NonceConfiguration()));
+            assertThrows(IllegalArgumentException.class, () -> provider.encryption().nonceGenerator(null));
+            assertThrows(IllegalArgumentException.class,
+                         () -> provider.encryption().nonceGenerator(cbc, secretKey, null));
+        }
+    }
+
+    @ParameterizedTest
+    @Order(135)
+    @DisplayName("Encryption :: Cipher -> Session Encryption")
+    @MethodSource("transformationSource")
+    public void testCryptoCipherSessionEncryption(final CipherTransformation transformation) throws Exception {
+
+        try (final Cryptography provider = new MockCryptographyImpl()) {
+            final SecureRandom random = provider.primitives().random();
+            final KeyGenerator keyGenerator =
+                    KeyGenerator.getInstance(transformation.getAlgorithm().keyAlgorithmName());
+            keyGenerator.init(AES_KEY_SIZE, random);
+
+            final SecretKey secretKey = keyGenerator.generateKey();
+            final byte[] sourceData = new byte[200];
+            random.nextBytes(sourceData);
+
+            try (final CipherSession session = provider.encryption().session(transformation, secretKey)) {
+                assertEquals(transformation, session.getAlgorithm());
+                assertSame(secretKey, session.getKey());
+
+                for (int i = 0; i < 10; i++) {
+                    final byte[] iv = provider.encryption().nonceSync(transformation);
+
+                    // Sessions interoperate with the provider methods
+                    final byte[] cipherText = session.encryptSync(iv, sourceData);
+                    assertArrayEquals(cipherText,
+                                      provider.encryption().encryptSync(transformation, secretKey, iv, sourceData));
+                    assertArrayEquals(sourceData, session.decryptSync(iv, cipherText));
+
+                    assertArrayEquals(sourceData, session.decryptAsync(iv, cipherText).get());
+                    assertEquals(ByteBuffer.wrap(sourceData),
+                                 session.decryptAsync(iv, ByteBuffer.wrap(cipherText)).get());
+
+                    final byte[] bufferIv = provider.encryption().nonceSync(transformation);
+                    final ByteBuffer cipherBuffer =
+                            session.encryptAsync(bufferIv, ByteBuffer.wrap(sourceData)).get();
+                    assertEquals(ByteBuffer.wrap(sourceData), session.decryptSync(bufferIv, cipherBuffer));
+
+                    final byte[] asyncIv = provider.encryption().nonceSync(transformation);
+                    final byte[] asyncCipherText = session.encryptAsync(asyncIv, sourceData).get();
+                    assertArrayEquals(sourceData,
+                                      provider.encryption().decryptSync(transformation, secretKey, asyncIv,
+                                                                        asyncCipherText));
+                }
+
+                assertThrows(IllegalArgumentException.class, () -> session.encryptSync(null, sourceData));
+                assertThrows(IllegalArgumentException.class, () -> session.encryptSync(new byte[0], sourceData));
+                assertThrows(IllegalArgumentException.class, () -> session.decryptSync(new byte[12], (byte[]) null));
+                assertThrows(IllegalArgumentException.class,
+                             () -> session.decryptSync(new byte[12], (ByteBuffer) null));
+
+                if (transformation.getMode() == CipherMode.GCM) {
+                    final byte[] iv = provider.encryption().nonceSync(transformation);
+                    final byte[] cipherText = session.encryptSync(iv, sourceData);
+                    cipherText[0] ^= 1;
+
+                    assertThrows(CryptographyException.class, () -> session.decryptSync(iv, cipherText));
+                }
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> provider.encryption().session(null));
+            assertThrows(IllegalArgumentException.class, () -> provider.encryption().session(transformation, null));
+        }
+    }
+
     @ParameterizedTest
     @Order(175)
     @DisplayName("Encryption :: Cipher -> Sync Byte Buffer Encryption")
@@ -444,6 +873,141 @@ public class CryptographyEncryptionTests {
 
     }
 
+    @ParameterizedTest
+    @Order(180)
+    @DisplayName("Encryption :: Cipher -> Sync Caller Buffer Encryption")
+    @MethodSource("transformationSource")
+    public void testCryptoCipherSyncCallerBufferEncryption(final CipherTransformation transformation) throws Exception {
+
+        try (final Cryptography provider = new MockCryptographyImpl()) {
+            final EncryptionProvider encryption = provider.encryption();
+            final SecureRandom random = provider.primitives().random();
+            final KeyGenerator keyGenerator =
+                    KeyGenerator.getInstance(transformation.getAlgorithm().keyAlgorithmName());
+            keyGenerator.init(AES_KEY_SIZE, random);
+
+            final SecretKey secretKey = keyGenerator.generateKey();
+            final byte[] sourceData = new byte[200];
+            random.nextBytes(sourceData);
+
+            // Output sizes are computed from the remaining bytes rather than the capacity
+            final byte[] windowIv = encryption.nonceSync(transformation);
+            final ByteBuffer window = ByteBuffer.allocate(sourceData.length + 64).position(32);
+            window.put(sourceData).flip().position(32);
+
+            final ByteBuffer windowCipherText = encryption.encryptSync(transformation, secretKey, windowIv, window);
+            assertEquals(ByteBuffer.wrap(sourceData),
+                         encryption.decryptSync(transformation, secretKey, windowIv, windowCipherText.duplicate()));
+
+            final int cipherTextLength = windowCipherText.remaining();
+            assertEquals(windowCipherText.capacity(), cipherTextLength);
+
+            // Byte arrays at an offset
+            final byte[] arrayIv = encryption.nonceSync(transformation);
+            final byte[] cipherArray = new byte[cipherTextLength + 10];
+            assertEquals(cipherTextLength, encryption.encryptSync(transformation, secretKey, arrayIv, sourceData, 0,
+                                                                  sourceData.length, cipherArray, 10));
+            assertArrayEquals(sourceData, encryption.decryptSync(transformation, secretKey, arrayIv,
+                                                                 Arrays.copyOfRange(cipherArray, 10,
+                                                                                    cipherArray.length)));
+
+            final byte[] clearArray = new byte[cipherTextLength];
+            assertEquals(sourceData.length, encryption.decryptSync(transformation, secretKey, arrayIv, cipherArray, 10,
+                                                                   cipherTextLength, clearArray, 0));
+            assertArrayEquals(sourceData, Arrays.copyOf(clearArray, sourceData.length));
+
+            // Byte arrays in place
+            final byte[] recordIv = encryption.nonceSync(transformation);
+            final byte[] record = Arrays.copyOf(sourceData, cipherTextLength);
+            assertEquals(cipherTextLength, encryption.encryptSync(transformation, secretKey, recordIv, record, 0,
+                                                                  sourceData.length, record, 0));
+            assertArrayEquals(sourceData, encryption.decryptSync(transformation, secretKey, recordIv, record));
+            assertEquals(sourceData.length, encryption.decryptSync(transformation, secretKey, recordIv, record, 0,
+                                                                   record.length, record, 0));
+            assertArrayEquals(sourceData, Arrays.copyOf(record, sourceData.length));
+
+            // Direct buffers
+            final byte[] bufferIv = encryption.nonceSync(transformation);
+            final ByteBuffer clearBuffer = ByteBuffer.allocateDirect(cipherTextLength);
+            final ByteBuffer cipherBuffer = ByteBuffer.allocateDirect(cipherTextLength);
+            clearBuffer.put(sourceData).flip();
+
+            assertEquals(cipherTextLength,
+                         encryption.encryptSync(transformation, secretKey, bufferIv, clearBuffer, cipherBuffer));
+            assertFalse(clearBuffer.hasRemaining());
+            assertEquals(cipherTextLength, cipherBuffer.position());
+
+            clearBuffer.clear();
+            assertEquals(sourceData.length,
+                         encryption.decryptSync(transformation, secretKey, bufferIv, cipherBuffer.flip(),
+                                                clearBuffer));
+            assertEquals(ByteBuffer.wrap(sourceData), clearBuffer.flip());
+
+            // Direct buffers in place using a second view of the same memory
+            final byte[] viewIv = encryption.nonceSync(transformation);
+            final ByteBuffer recordBuffer = ByteBuffer.allocateDirect(cipherTextLength);
+            final ByteBuffer recordView = recordBuffer.duplicate();
+            recordBuffer.put(sourceData).flip();
+
+            final int written = encryption.encryptSync(transformation, secretKey, viewIv, recordBuffer,
+                                                       recordView.clear());
+            assertEquals(cipherTextLength, written);
+            assertEquals(sourceData.length, encryption.decryptSync(transformation, secretKey, viewIv,
+                                                                   recordBuffer.clear().limit(written),
+                                                                   recordView.clear()));
+            assertEquals(ByteBuffer.wrap(sourceData), recordView.flip());
+
+            // Sessions produce the same cipher text as the provider
+            try (final CipherSession session = encryption.session(transformation, secretKey)) {
+                final byte[] sessionIv = encryption.nonceSync(transformation);
+                final byte[] sessionRecord = Arrays.copyOf(sourceData, cipherTextLength);
+                assertEquals(cipherTextLength,
+                             session.encryptSync(sessionIv, sessionRecord, 0, sourceData.length, sessionRecord, 0));
+                assertArrayEquals(sourceData, encryption.decryptSync(transformation, secretKey, sessionIv,
+                                                                     sessionRecord));
+                assertEquals(sourceData.length,
+                             session.decryptSync(sessionIv, sessionRecord, 0, sessionRecord.length, sessionRecord, 0));
+                assertArrayEquals(sourceData, Arrays.copyOf(sessionRecord, sourceData.length));
+
+                final byte[] sessionBufferIv = encryption.nonceSync(transformation);
+                clearBuffer.rewind();
+                cipherBuffer.clear();
+                assertEquals(cipherTextLength, session.encryptSync(sessionBufferIv, clearBuffer, cipherBuffer));
+
+                clearBuffer.clear();
+                assertEquals(sourceData.length, session.decryptSync(sessionBufferIv, cipherBuffer.flip(),
+                                                                    clearBuffer));
+                assertEquals(ByteBuffer.wrap(sourceData), clearBuffer.flip());
+
+                assertThrows(IllegalArgumentException.class,
+                             () -> session.encryptSync(sessionBufferIv, clearBuffer, clearBuffer));
+                assertThrows(IndexOutOfBoundsException.class,
+                             () -> session.encryptSync(sessionBufferIv, sourceData, 1, sourceData.length, record, 0));
+            }
+
+            // Invalid arguments
+            final byte[] iv = encryption.nonceSync(transformation);
+            assertThrows(IllegalArgumentException.class,
+                         () -> encryption.encryptSync(transformation, secretKey, iv, clearBuffer, clearBuffer));
+            assertThrows(IllegalArgumentException.class,
+                         () -> encryption.encryptSync(transformation, secretKey, iv, clearBuffer,
+                                                      cipherBuffer.asReadOnlyBuffer()));
+            assertThrows(IllegalArgumentException.class,
+                         () -> encryption.encryptSync(transformation, secretKey, iv, clearBuffer, null));
+            assertThrows(IllegalArgumentException.class,
+                         () -> encryption.encryptSync(transformation, secretKey, iv, null, 0, 0, record, 0));
+            assertThrows(IndexOutOfBoundsException.class,
+                         () -> encryption.encryptSync(transformation, secretKey, iv, sourceData, -1,
+                                                      sourceData.length, record, 0));
+            assertThrows(IndexOutOfBoundsException.class,
+                         () -> encryption.decryptSync(transformation, secretKey, iv, record, 0, record.length, record,
+                                                      record.length + 1));
+            assertThrows(CryptographyException.class,
+                         () -> encryption.encryptSync(transformation, secretKey, iv, sourceData, 0,
+                                                      sourceData.length, new byte[8], 0));
+        }
+    }
+
     @Test
     @Order(225)
     @DisplayName("Encryption :: Cipher -> Sync Exceptions")
@@ -22,14 +22,37 @@ import com.servercurio.fabric.security.CryptographyException;
 import com.servercurio.fabric.security.Hash;
 import com.servercurio.fabric.security.HashAlgorithm;
 import com.servercurio.fabric.security.ImmutableHash;
+import com.servercurio.fabric.security.MacAlgorithm;
 import com.servercurio.fabric.security.MockHash;
 import com.servercurio.fabric.security.spi.DigestProvider;
+import com.servercurio.fabric.security.spi.SecurityProviders;
+import com.servercurio.fabric.security.spi.VerificationCacheConfiguration;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Security;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +61,7 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 
 import static com.servercurio.fabric.lang.ComparableConstants.EQUAL;
 import static com.servercurio.fabric.lang.ComparableConstants.GREATER_THAN;
@@ -110,6 +134,24 @@ public class CryptographyHashTests {
         HASH_OF_WELL_KNOWN_HASHES.setOverrideAlgorithm(null);
     }
 
+    @Test
+    @Order(24)
+    @DisplayName("Hash :: HashAlgorithm -> Fabric Provider")
+    public void testCryptoHashAlgorithmFabricProvider() {
+        assertEquals(FabricProvider.PROVIDER_NAME, HashAlgorithm.CRC32C.instance().getProvider().getName());
+        assertEquals(FabricProvider.PROVIDER_NAME, HashAlgorithm.XXHASH_64.instance().getProvider().getName());
+        assertEquals(FabricProvider.PROVIDER_NAME, HashAlgorithm.MURMUR3_128.instance().getProvider().getName());
+        assertDoesNotThrow(() -> HashAlgorithm.BLAKE3_256.instance());
+        assertDoesNotThrow(() -> MacAlgorithm.KMAC_128.instance());
+        assertDoesNotThrow(() -> MacAlgorithm.KMAC_256.instance());
+        assertDoesNotThrow(() -> HashAlgorithm.CRC32C.instance(FabricProvider.PROVIDER_NAME));
+
+        SecurityProviders.ensureRegistered();
+        assertEquals(1, Arrays.stream(Security.getProviders())
+                              .filter(p -> FabricProvider.PROVIDER_NAME.equals(p.getName()))
+                              .count());
+    }
+
     @Test
     @Order(25)
     @DisplayName("Hash :: HashAlgorithm -> Basic Enum")
@@ -131,6 +173,22 @@ public class CryptographyHashTests {
         assertDoesNotThrow(() -> HashAlgorithm.SHA_384.instance("SUN"));
     }
 
+    @Test
+    @Order(26)
+    @DisplayName("Hash :: HashAlgorithm -> Fallback Provider")
+    public void testCryptoHashAlgorithmFallbackProvider() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> SecurityProviders.lookup(null));
+        assertThrows(NoSuchAlgorithmException.class,
+                     () -> SecurityProviders.lookup(() -> MessageDigest.getInstance("INVALID")));
+        assertTrue(SecurityProviders.isFallbackRegistered());
+        assertNotNull(Security.getProvider(SecurityProviders.FALLBACK_PROVIDER_NAME));
+
+        assertEquals(SecurityProviders.FALLBACK_PROVIDER_NAME,
+                     HashAlgorithm.BLAKE2B_256.instance().getProvider().getName());
+        assertEquals("SUN", HashAlgorithm.SHA_384.instance().getProvider().getName());
+        assertDoesNotThrow(() -> HashAlgorithm.SHA_384.instance(SecurityProviders.FALLBACK_PROVIDER_NAME));
+    }
+
     @Test
     @Order(176)
     @DisplayName("Hash :: SHA_384 -> Async Byte Buffer")
@@ -243,6 +301,220 @@ public class CryptographyHashTests {
         }
     }
 
+    @Test
+    @Order(127)
+    @DisplayName("Hash :: SHA_384 -> Stage Large File")
+    public void testCryptoSha384StageLargeFile() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final DigestProvider provider = crypto.digest();
+            final ClassLoader classLoader = getClass().getClassLoader();
+
+            try (final InputStream stream = classLoader.getResourceAsStream(LARGE_FILE_NAME)) {
+                final CompletableFuture<Hash> fileHash = provider.digestStage(HashAlgorithm.SHA_384, stream);
+
+                assertEquals(LARGE_FILE_KNOWN_HASH, fileHash.get());
+            }
+
+            try (final InputStream stream = classLoader.getResourceAsStream(LARGE_FILE_NAME)) {
+                final CompletableFuture<Hash> fileHash =
+                        provider.digestStage(HashAlgorithm.SHA_384, stream, Duration.ofMinutes(1));
+
+                assertEquals(LARGE_FILE_KNOWN_HASH, fileHash.get());
+            }
+
+            final AtomicLong bytesRead = new AtomicLong();
+            final InputStream endlessStream = new InputStream() {
+                @Override
+                public int read() {
+                    bytesRead.incrementAndGet();
+                    return 0;
+                }
+            };
+
+            final CompletableFuture<Hash> timedOut =
+                    provider.digestStage(HashAlgorithm.SHA_384, endlessStream, Duration.ofMillis(50));
+
+            final ExecutionException ex = assertThrows(ExecutionException.class, timedOut::get);
+            assertTrue(ex.getCause() instanceof TimeoutException);
+
+            final CompletableFuture<Hash> cancelled = provider.digestStage(HashAlgorithm.SHA_384, endlessStream);
+            assertTrue(cancelled.cancel(true));
+
+            Thread.sleep(100);
+            final long readsAfterCancel = bytesRead.get();
+
+            Thread.sleep(100);
+            assertEquals(readsAfterCancel, bytesRead.get());
+            assertEquals(IN_MEMORY_DATA_KNOWN_HASH, provider.digestStage(HashAlgorithm.SHA_384, IN_MEMORY_DATA).get());
+        }
+    }
+
+    @Test
+    @Order(129)
+    @DisplayName("Hash :: SHA_384 -> Stage File Channel")
+    public void testCryptoSha384StageFileChannel(@TempDir Path tempDir) throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final DigestProvider provider = crypto.digest();
+            final Path largeFile = Paths.get(getClass().getClassLoader().getResource(LARGE_FILE_NAME).toURI());
+
+            final CompletableFuture<Hash> fileHash = provider.digestStage(HashAlgorithm.SHA_384, largeFile);
+
+            assertEquals(LARGE_FILE_KNOWN_HASH, fileHash.get());
+            assertArrayEquals(LARGE_FILE_KNOWN_HASH.getValue(), fileHash.get().getValue());
+
+            final Path memoryFile = Files.write(tempDir.resolve("memory.bin"), IN_MEMORY_DATA);
+            assertEquals(IN_MEMORY_DATA_KNOWN_HASH, provider.digestStage(HashAlgorithm.SHA_384, memoryFile).get());
+
+            final Path emptyFile = Files.createFile(tempDir.resolve("empty.bin"));
+            assertEquals(provider.digestSync(HashAlgorithm.SHA_384, new byte[0]),
+                         provider.digestStage(HashAlgorithm.SHA_384, emptyFile).get());
+
+            final CompletableFuture<Hash> missingFile =
+                    provider.digestStage(HashAlgorithm.SHA_384, tempDir.resolve("missing.bin"));
+
+            final ExecutionException ex = assertThrows(ExecutionException.class, missingFile::get);
+            assertTrue(ex.getCause() instanceof CryptographyException);
+
+            assertThrows(IllegalArgumentException.class, () -> provider.digestStage(null, largeFile));
+            assertThrows(IllegalArgumentException.class,
+                         () -> provider.digestStage(HashAlgorithm.SHA_384, (Path) null));
+        }
+    }
+
+    @Test
+    @Order(128)
+    @DisplayName("Hash :: SHA_384 -> Processor Large File")
+    public void testCryptoSha384ProcessorLargeFile() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final DigestProvider provider = crypto.digest();
+            final ClassLoader classLoader = getClass().getClassLoader();
+
+            final Flow.Processor<ByteBuffer, Hash> processor = provider.digestProcessor(HashAlgorithm.SHA_384);
+            final CompletableFuture<Hash> fileHash = new CompletableFuture<>();
+
+            processor.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(final Hash item) {
+                    fileHash.complete(item);
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    fileHash.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    fileHash.completeExceptionally(new IllegalStateException("No hash was published"));
+                }
+            });
+
+            try (final SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>();
+                 final InputStream stream = classLoader.getResourceAsStream(LARGE_FILE_NAME)) {
+                publisher.subscribe(processor);
+
+                final byte[] chunk = new byte[8192];
+                int bytesRead;
+                while ((bytesRead = stream.read(chunk)) >= 0) {
+                    publisher.submit(ByteBuffer.wrap(Arrays.copyOf(chunk, bytesRead)));
+                }
+            }
+
+            assertEquals(LARGE_FILE_KNOWN_HASH, fileHash.get());
+            assertArrayEquals(LARGE_FILE_KNOWN_HASH.getValue(), fileHash.get().getValue());
+        }
+    }
+
+    @Test
+    @Order(130)
+    @DisplayName("Hash :: SHA_384 -> Processor Demand")
+    public void testCryptoSha384ProcessorDemand() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final DigestProvider provider = crypto.digest();
+            final byte[] data = "Processor Demand".getBytes(StandardCharsets.UTF_8);
+
+            final Flow.Processor<ByteBuffer, Hash> processor = provider.digestProcessor(HashAlgorithm.SHA_384);
+            final AtomicLong upstreamRequests = new AtomicLong();
+            final CompletableFuture<Flow.Subscription> downstream = new CompletableFuture<>();
+            final CompletableFuture<Hash> hash = new CompletableFuture<>();
+            final CompletableFuture<Throwable> rejected = new CompletableFuture<>();
+
+            assertThrows(NullPointerException.class, () -> processor.onNext(null));
+            assertThrows(NullPointerException.class, () -> processor.subscribe(null));
+
+            processor.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                    upstreamRequests.addAndGet(n);
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+
+            processor.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription) {
+                    downstream.complete(subscription);
+                }
+
+                @Override
+                public void onNext(final Hash item) {
+                    hash.complete(item);
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    hash.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    hash.completeExceptionally(new IllegalStateException("No hash was published"));
+                }
+            });
+
+            processor.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription) {
+                }
+
+                @Override
+                public void onNext(final Hash item) {
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    rejected.complete(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+            assertTrue(rejected.get() instanceof IllegalStateException);
+
+            final Flow.Subscription subscription = downstream.get();
+            assertEquals(0, upstreamRequests.get());
+
+            subscription.request(1);
+            assertEquals(1, upstreamRequests.get());
+
+            processor.onNext(ByteBuffer.wrap(data));
+            assertEquals(2, upstreamRequests.get());
+
+            processor.onComplete();
+            assertEquals(provider.digestSync(HashAlgorithm.SHA_384, data), hash.get());
+        }
+    }
+
     @Test
     @Order(50)
     @DisplayName("Hash :: SHA_384 -> Basic Hash")
@@ -434,4 +706,150 @@ public class CryptographyHashTests {
             }
         }
     }
+
+    @Test
+    @Order(200)
+    @DisplayName("Hash :: BLAKE2b And BLAKE3 -> Known Answer")
+    public void testCryptoBlakeKnownAnswer() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final DigestProvider provider = crypto.digest();
+            final byte[] abc = "abc".getBytes(StandardCharsets.US_ASCII);
+
+            assertArrayEquals(Hex.decode("bddd813c634239723171ef3fee98579b94964e3bb1cb3e427262c8c068d52319"),
+                              provider.digestSync(HashAlgorithm.BLAKE2B_256, abc).getValue());
+            assertArrayEquals(Hex.decode("ba80a53f981c4d0d6a2797b69f12f6e94c212f14685ac4b74b12bb6fdbffa2d1"
+                                                 + "7d87c5392aab792dc252d5de4533cc9518d38aa8dbf1925ab92386edd4009923"),
+                              provider.digestSync(HashAlgorithm.BLAKE2B_512, abc).getValue());
+            assertArrayEquals(Hex.decode("af1349b9f5f9a1a6a0404dea36dcc9499bcb25c9adc112b7cc9a93cae41f3262"),
+                              provider.digestSync(HashAlgorithm.BLAKE3_256, new byte[0]).getValue());
+
+            assertEquals(HashAlgorithm.BLAKE3_256, HashAlgorithm.valueOf(12));
+            assertEquals(32, HashAlgorithm.BLAKE3_256.bytes());
+            assertEquals(64, HashAlgorithm.BLAKE2B_512.bytes());
+        }
+    }
+
+    @Test
+    @Order(201)
+    @DisplayName("Hash :: BLAKE3 -> Parallel Tree")
+    public void testCryptoBlake3ParallelTree(@TempDir Path tempDir) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final DigestProvider provider = crypto.digest();
+            final Random random = new Random(42);
+
+            for (final int length : new int[]{Blake3Tree.LEAF_LENGTH + 1, 3 * Blake3Tree.LEAF_LENGTH + 1023,
+                    7 * Blake3Tree.LEAF_LENGTH}) {
+                final byte[] data = new byte[length];
+                random.nextBytes(data);
+
+                final byte[] expected = new Blake3MessageDigest().digest(data);
+                final ByteBuffer direct = ByteBuffer.allocateDirect(length).put(data).flip();
+
+                assertArrayEquals(expected, Blake3Tree.digest(executor, ByteBuffer.wrap(data), () -> false));
+                assertArrayEquals(expected, Blake3Tree.digest(executor, direct, () -> false));
+                assertFalse(direct.hasRemaining());
+            }
+
+            final byte[] data = new byte[(int) Blake3Tree.PARALLEL_THRESHOLD + 4097];
+            random.nextBytes(data);
+
+            final Hash expected = new Hash(HashAlgorithm.BLAKE3_256, new Blake3MessageDigest().digest(data));
+            final Path file = Files.write(tempDir.resolve("blake3.bin"), data);
+            final Path smallFile = Files.write(tempDir.resolve("small.bin"), IN_MEMORY_DATA);
+
+            assertEquals(expected, provider.digestSync(HashAlgorithm.BLAKE3_256, ByteBuffer.wrap(data)));
+            assertEquals(expected, provider.digestAsync(HashAlgorithm.BLAKE3_256, ByteBuffer.wrap(data)).get());
+            assertEquals(expected, provider.digestStage(HashAlgorithm.BLAKE3_256, file).get());
+            assertEquals(provider.digestSync(HashAlgorithm.BLAKE3_256, IN_MEMORY_DATA),
+                         provider.digestStage(HashAlgorithm.BLAKE3_256, smallFile).get());
+
+            final ExecutionException ex = assertThrows(ExecutionException.class,
+                                                       () -> provider.digestStage(HashAlgorithm.BLAKE3_256,
+                                                                                  tempDir.resolve("missing.bin"))
+                                                                     .get());
+            assertTrue(ex.getCause() instanceof CryptographyException);
+
+            assertThrows(CancellationException.class,
+                         () -> Blake3Tree.digest(executor, ByteBuffer.wrap(data), () -> true));
+            assertThrows(IllegalArgumentException.class,
+                         () -> Blake3Tree.digest(executor, ByteBuffer.wrap(IN_MEMORY_DATA), () -> false));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Order(210)
+    @DisplayName("Hash :: Checksums -> Known Answer")
+    public void testCryptoChecksumKnownAnswer() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final DigestProvider provider = crypto.digest();
+            final byte[] fox = "The quick brown fox jumps over the lazy dog".getBytes(StandardCharsets.US_ASCII);
+            final byte[] spam = "Nobody inspects the spammish repetition".getBytes(StandardCharsets.US_ASCII);
+
+            assertArrayEquals(Hex.decode("e3069283"),
+                              provider.digestSync(HashAlgorithm.CRC32C,
+                                                  "123456789".getBytes(StandardCharsets.US_ASCII)).getValue());
+            assertArrayEquals(Hex.decode("ef46db3751d8e999"),
+                              provider.digestSync(HashAlgorithm.XXHASH_64, new byte[0]).getValue());
+            assertArrayEquals(Hex.decode("fbcea83c8a378bf1"),
+                              provider.digestSync(HashAlgorithm.XXHASH_64, spam).getValue());
+            assertArrayEquals(Hex.decode("6c1b07bc7bbc4be347939ac4a93c437a"),
+                              provider.digestSync(HashAlgorithm.MURMUR3_128, fox).getValue());
+
+            for (final HashAlgorithm algorithm : new HashAlgorithm[]{HashAlgorithm.CRC32C, HashAlgorithm.XXHASH_64,
+                    HashAlgorithm.MURMUR3_128}) {
+                assertFalse(algorithm.isCryptographic());
+
+                final Hash expected = provider.digestSync(algorithm, IN_MEMORY_DATA);
+                final ByteBuffer direct = ByteBuffer.allocateDirect(IN_MEMORY_DATA.length).put(IN_MEMORY_DATA).flip();
+
+                assertEquals(algorithm.bytes(), expected.getValue().length);
+                assertEquals(expected, provider.digestSync(algorithm, ByteBuffer.wrap(IN_MEMORY_DATA)));
+                assertEquals(expected, provider.digestSync(algorithm, direct));
+                assertEquals(expected, provider.digestAsync(algorithm, IN_MEMORY_DATA).get());
+
+                final MessageDigest digest = algorithm.instance();
+                digest.update(IN_MEMORY_DATA, 0, 3);
+                digest.update(IN_MEMORY_DATA[3]);
+                digest.update(ByteBuffer.wrap(IN_MEMORY_DATA, 4, 37));
+                digest.update(IN_MEMORY_DATA, 41, IN_MEMORY_DATA.length - 41);
+                assertArrayEquals(expected.getValue(), digest.digest());
+            }
+
+            assertTrue(HashAlgorithm.SHA_384.isCryptographic());
+        }
+    }
+
+    @Test
+    @Order(211)
+    @DisplayName("Hash :: CRC32C -> Parallel Combine")
+    public void testCryptoCrc32cParallelCombine(@TempDir Path tempDir) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final DigestProvider provider = crypto.digest();
+            final byte[] data = new byte[(int) Crc32cCombiner.PARALLEL_THRESHOLD + 12345];
+            new Random(42).nextBytes(data);
+
+            final CRC32C checksum = new CRC32C();
+            checksum.update(data);
+
+            final Hash expected = new Hash(HashAlgorithm.CRC32C,
+                                           ByteBuffer.allocate(Integer.BYTES).putInt((int) checksum.getValue())
+                                                     .array());
+            final Path file = Files.write(tempDir.resolve("crc32c.bin"), data);
+
+            assertArrayEquals(expected.getValue(), Crc32cCombiner.digest(executor, ByteBuffer.wrap(data), () -> false));
+            assertEquals(expected, provider.digestSync(HashAlgorithm.CRC32C, ByteBuffer.wrap(data)));
+            assertEquals(expected, provider.digestStage(HashAlgorithm.CRC32C, file).get());
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> new VerificationCacheConfiguration().setHashAlgorithm(HashAlgorithm.CRC32C));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
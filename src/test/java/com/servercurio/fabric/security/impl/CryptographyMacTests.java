@@ -24,14 +24,20 @@ import com.servercurio.fabric.security.HashAlgorithm;
 import com.servercurio.fabric.security.MacAlgorithm;
 import com.servercurio.fabric.security.MockHash;
 import com.servercurio.fabric.security.spi.MacProvider;
+import com.servercurio.fabric.security.spi.MacSession;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,9 +50,11 @@ import org.junit.jupiter.api.TestMethodOrder;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("Cryptography: Message Authentication")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -325,6 +333,137 @@ public class CryptographyMacTests {
         }
     }
 
+    @Test
+    @Order(160)
+    @DisplayName("MAC :: HmacSHA384 -> Session Batch")
+    public void testCryptoHmacSha384Session() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final MacProvider provider = crypto.mac();
+
+            final SecretKey secretKey = new SecretKeySpec(SECRET_KEY_BYTES, MacAlgorithm.HMAC_SHA_384.algorithmName());
+
+            try (final MacSession session = provider.session(secretKey)) {
+                assertEquals(MacAlgorithm.HMAC_SHA_384, session.getAlgorithm());
+                assertEquals(secretKey, session.getKey());
+
+                assertEquals(IN_MEMORY_DATA_KNOWN_HASH, session.authenticateSync(IN_MEMORY_DATA));
+                assertEquals(IN_MEMORY_DATA_KNOWN_HASH, session.authenticateAsync(IN_MEMORY_DATA).get());
+                assertEquals(IN_MEMORY_DATA_KNOWN_HASH, session.authenticateSync(ByteBuffer.wrap(IN_MEMORY_DATA)));
+                assertEquals(IN_MEMORY_DATA_KNOWN_HASH,
+                             session.authenticateAsync(ByteBuffer.wrap(IN_MEMORY_DATA)).get());
+                assertEquals(provider.authenticateSync(secretKey, Hash.EMPTY, null),
+                             session.authenticateSync(Hash.EMPTY, null));
+
+                assertTrue(session.verifySync(IN_MEMORY_DATA, IN_MEMORY_DATA_KNOWN_HASH));
+                assertFalse(session.verifySync(new byte[]{1}, IN_MEMORY_DATA_KNOWN_HASH));
+
+                final List<byte[]> messages = new ArrayList<>();
+
+                for (int i = 0; i < 500; i++) {
+                    messages.add(String.format("token-%d", i).getBytes(StandardCharsets.UTF_8));
+                }
+
+                final List<Hash> macs = session.authenticateSync(messages);
+                assertEquals(macs, session.authenticateAsync(messages).get());
+                assertEquals(provider.authenticateSync(secretKey, messages.get(42)), macs.get(42));
+
+                final List<Hash> tampered = new ArrayList<>(macs);
+                tampered.set(7, macs.get(8));
+                tampered.set(9, null);
+
+                final boolean[] syncResults = session.verifySync(messages, tampered);
+                final boolean[] asyncResults = session.verifyAsync(messages, tampered).get();
+
+                for (int i = 0; i < messages.size(); i++) {
+                    assertEquals(i != 7 && i != 9, syncResults[i]);
+                    assertEquals(i != 7 && i != 9, asyncResults[i]);
+                }
+
+                assertEquals(0, session.authenticateSync(new ArrayList<>()).size());
+                assertThrows(IllegalArgumentException.class, () -> session.verifySync(messages, macs.subList(0, 1)));
+                assertThrows(IllegalArgumentException.class, () -> session.authenticateSync((byte[]) null));
+                assertThrows(IllegalArgumentException.class, () -> session.verifySync(IN_MEMORY_DATA, null));
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> provider.session(null));
+        }
+    }
+
+    @Test
+    @Order(170)
+    @DisplayName("MAC :: KMAC -> Known Answer")
+    public void testCryptoKmacKnownAnswer() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final MacProvider provider = crypto.mac();
+
+            final byte[] keyBytes = new byte[32];
+            for (int i = 0; i < keyBytes.length; i++) {
+                keyBytes[i] = (byte) (0x40 + i);
+            }
+
+            final SecretKey secretKey = new SecretKeySpec(keyBytes, MacAlgorithm.KMAC_128.algorithmName());
+            final byte[] data = new byte[]{0x00, 0x01, 0x02, 0x03};
+
+            final Hash kmac128 = provider.authenticateSync(MacAlgorithm.KMAC_128, secretKey, data);
+            final Hash kmac256 = provider.authenticateSync(MacAlgorithm.KMAC_256, secretKey, data);
+
+            assertArrayEquals(Hex.decode("E5780B0D3EA6F7D3A429C5706AA43A00FADBD7D49628839E3187243F456EE14E"),
+                              kmac128.getValue());
+            assertEquals(MacAlgorithm.KMAC_128.bytes(), kmac128.getValue().length);
+            assertEquals(MacAlgorithm.KMAC_256.bytes(), kmac256.getValue().length);
+            assertEquals(HashAlgorithm.NONE, kmac128.getAlgorithm());
+
+            assertArrayEquals(kmac128.getValue(),
+                              provider.authenticateAsync(MacAlgorithm.KMAC_128, secretKey, ByteBuffer.wrap(data))
+                                      .get().getValue());
+
+            try (final MacSession session = provider.session(MacAlgorithm.KMAC_256, secretKey)) {
+                assertArrayEquals(kmac256.getValue(), session.authenticateSync(data).getValue());
+                assertArrayEquals(kmac256.getValue(), session.authenticateSync(data).getValue());
+            }
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> provider.authenticateSync(MacAlgorithm.KMAC_128, secretKey, new byte[16], data));
+        }
+    }
+
+    @Test
+    @Order(171)
+    @DisplayName("MAC :: Nonce Based -> GMAC And Poly1305")
+    public void testCryptoNonceBasedMac() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final MacProvider provider = crypto.mac();
+
+            for (final MacAlgorithm algorithm : new MacAlgorithm[]{MacAlgorithm.GMAC_AES,
+                    MacAlgorithm.POLY1305_AES}) {
+                final SecretKey secretKey = new SecretKeySpec(Arrays.copyOf(SECRET_KEY_BYTES, 32), "AES");
+                final byte[] nonce = Arrays.copyOf(SECRET_KEY_BYTES, algorithm.nonceSize());
+                final byte[] otherNonce = Arrays.copyOfRange(SECRET_KEY_BYTES, 1, algorithm.nonceSize() + 1);
+
+                final Hash mac = provider.authenticateSync(algorithm, secretKey, nonce, IN_MEMORY_DATA);
+
+                assertEquals(algorithm.bytes(), mac.getValue().length);
+                assertArrayEquals(mac.getValue(), provider.authenticateSync(algorithm, secretKey, nonce,
+                                                                            ByteBuffer.wrap(IN_MEMORY_DATA))
+                                                          .getValue());
+                assertArrayEquals(mac.getValue(),
+                                  provider.authenticateAsync(algorithm, secretKey, nonce, IN_MEMORY_DATA).get()
+                                          .getValue());
+                assertFalse(Arrays.equals(mac.getValue(),
+                                          provider.authenticateSync(algorithm, secretKey, otherNonce, IN_MEMORY_DATA)
+                                                  .getValue()));
+
+                assertThrows(IllegalArgumentException.class,
+                             () -> provider.authenticateSync(algorithm, secretKey, IN_MEMORY_DATA));
+                assertThrows(IllegalArgumentException.class,
+                             () -> provider.authenticateSync(algorithm, secretKey, new byte[3], IN_MEMORY_DATA));
+                assertThrows(IllegalArgumentException.class,
+                             () -> provider.authenticateSync(algorithm, secretKey, null, IN_MEMORY_DATA));
+                assertThrows(IllegalArgumentException.class, () -> provider.session(algorithm, secretKey));
+            }
+        }
+    }
+
     @Test
     @Order(125)
     @DisplayName("MAC :: HmacSHA384 -> Sync Large File")
@@ -382,5 +521,13 @@ public class CryptographyMacTests {
 
         assertDoesNotThrow(() -> MacAlgorithm.HMAC_SHA_384.instance(bcProv));
         assertDoesNotThrow(() -> MacAlgorithm.HMAC_SHA_384.instance("SunJCE"));
+
+        assertEquals(256, MacAlgorithm.KMAC_128.bits());
+        assertEquals(64, MacAlgorithm.KMAC_256.bytes());
+        assertEquals(16, MacAlgorithm.GMAC_AES.bytes());
+        assertEquals(12, MacAlgorithm.GMAC_AES.nonceSize());
+        assertEquals(16, MacAlgorithm.POLY1305_AES.nonceSize());
+        assertEquals(0, MacAlgorithm.HMAC_SHA_384.nonceSize());
+        assertEquals(HashAlgorithm.NONE, MacAlgorithm.KMAC_256.hashAlgorithm());
     }
 }
@@ -18,20 +18,33 @@ package com.servercurio.fabric.security.impl;
 
 import com.servercurio.fabric.security.Cryptography;
 import com.servercurio.fabric.security.CryptographyException;
+import com.servercurio.fabric.security.Hash;
 import com.servercurio.fabric.security.HashAlgorithm;
 import com.servercurio.fabric.security.MockHash;
 import com.servercurio.fabric.security.Seal;
 import com.servercurio.fabric.security.SignatureAlgorithm;
 import com.servercurio.fabric.security.spi.SignatureProvider;
+import com.servercurio.fabric.security.spi.SignedMessage;
+import com.servercurio.fabric.security.spi.SignerSession;
+import com.servercurio.fabric.security.spi.VerificationCache;
+import com.servercurio.fabric.security.spi.VerificationCacheConfiguration;
+import com.servercurio.fabric.security.spi.VerifierSession;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.spec.KeySpec;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
@@ -43,6 +56,8 @@ import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static com.servercurio.fabric.lang.ComparableConstants.EQUAL;
 import static com.servercurio.fabric.lang.ComparableConstants.GREATER_THAN;
@@ -287,6 +302,39 @@ public class CryptographySignatureTests {
         }
     }
 
+    @Test
+    @Order(126)
+    @DisplayName("Signature :: RSA_SHA_384 -> Stage In Memory Data")
+    public void testCryptoSignSha384RsaStageInMemoryData() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final SignatureProvider provider = crypto.signature();
+
+            final KeyFactory keyFactory = KeyFactory.getInstance(SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final KeySpec privateKeySpec =
+                    new PKCS8EncodedKeySpec(PRIVATE_KEY_BYTES, SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final KeySpec publicKeySpec =
+                    new X509EncodedKeySpec(PUBLIC_KEY_BYTES, SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final PrivateKey privateKey = keyFactory.generatePrivate(privateKeySpec);
+            final PublicKey publicKey = keyFactory.generatePublic(publicKeySpec);
+
+            final CompletableFuture<Boolean> pipeline =
+                    crypto.digest().digestStage(HashAlgorithm.SHA_384, IN_MEMORY_DATA)
+                          .thenCompose(hash -> provider.signStage(SignatureAlgorithm.RSA_SHA_384, privateKey, hash))
+                          .thenCompose(seal -> provider.verifyStage(seal, publicKey,
+                                                                    crypto.digest().digestSync(IN_MEMORY_DATA)));
+
+            assertTrue(pipeline.get());
+
+            final Seal explicitSeal = provider.signSync(SignatureAlgorithm.RSA_SHA_384, privateKey, IN_MEMORY_DATA);
+
+            assertTrue(provider.verifyStage(explicitSeal, publicKey, IN_MEMORY_DATA).get());
+            assertFalse(provider.verifyStage(explicitSeal, publicKey, new byte[]{1, 2, 3}).get());
+        }
+    }
+
     @Test
     @Order(125)
     @DisplayName("Signature :: RSA_SHA_384 -> Async In Memory Data")
@@ -450,6 +498,324 @@ public class CryptographySignatureTests {
         }
     }
 
+    @Test
+    @Order(260)
+    @DisplayName("Signature :: RSA_SHA_384 -> Sessions")
+    public void testCryptoSignSha384RsaSessions() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final SignatureProvider provider = crypto.signature();
+            final ClassLoader classLoader = getClass().getClassLoader();
+
+            final KeyFactory keyFactory = KeyFactory.getInstance(SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final KeySpec privateKeySpec =
+                    new PKCS8EncodedKeySpec(PRIVATE_KEY_BYTES, SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final KeySpec publicKeySpec =
+                    new X509EncodedKeySpec(PUBLIC_KEY_BYTES, SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final PrivateKey privateKey = keyFactory.generatePrivate(privateKeySpec);
+            final PublicKey publicKey = keyFactory.generatePublic(publicKeySpec);
+
+            try (final SignerSession signer = provider.signerSession(privateKey);
+                 final VerifierSession verifier = provider.verifierSession(publicKey)) {
+                assertEquals(SignatureAlgorithm.RSA_SHA_384, signer.getAlgorithm());
+                assertEquals(privateKey, signer.getKey());
+                assertEquals(publicKey, verifier.getKey());
+
+                final Seal dataSeal = signer.signSync(IN_MEMORY_DATA);
+
+                assertEquals(provider.signSync(privateKey, IN_MEMORY_DATA), dataSeal);
+                assertEquals(dataSeal, signer.signSync(IN_MEMORY_DATA));
+                assertEquals(dataSeal, signer.signAsync(IN_MEMORY_DATA).get());
+                assertEquals(dataSeal, signer.signSync(ByteBuffer.wrap(IN_MEMORY_DATA)));
+                assertEquals(dataSeal, signer.signAsync(ByteBuffer.wrap(IN_MEMORY_DATA)).get());
+
+                assertTrue(verifier.verifySync(dataSeal, IN_MEMORY_DATA));
+                assertTrue(verifier.verifyAsync(dataSeal, IN_MEMORY_DATA).get());
+                assertTrue(verifier.verifySync(dataSeal, ByteBuffer.wrap(IN_MEMORY_DATA)));
+                assertTrue(verifier.verifyAsync(dataSeal, ByteBuffer.wrap(IN_MEMORY_DATA)).get());
+                assertFalse(verifier.verifySync(dataSeal, new byte[]{1}));
+                assertTrue(verifier.verifySync(dataSeal, IN_MEMORY_DATA));
+
+                final Seal hashSeal = signer.signSync(WELL_KNOWN_HASH, null);
+
+                assertEquals(provider.signSync(privateKey, WELL_KNOWN_HASH, null), hashSeal);
+                assertEquals(hashSeal, signer.signAsync(WELL_KNOWN_HASH, null).get());
+                assertTrue(verifier.verifySync(hashSeal, WELL_KNOWN_HASH, null));
+                assertTrue(verifier.verifyAsync(hashSeal, WELL_KNOWN_HASH, null).get());
+                assertFalse(verifier.verifySync(hashSeal, ALTERNATE_WELL_KNOWN_HASH, null));
+
+                final Seal streamSeal;
+
+                try (final InputStream stream = classLoader.getResourceAsStream(LARGE_FILE_NAME)) {
+                    streamSeal = signer.signSync(stream);
+                }
+
+                try (final InputStream stream = classLoader.getResourceAsStream(LARGE_FILE_NAME)) {
+                    assertEquals(provider.signSync(privateKey, stream), streamSeal);
+                }
+
+                try (final InputStream stream = classLoader.getResourceAsStream(LARGE_FILE_NAME)) {
+                    assertTrue(verifier.verifyAsync(streamSeal, stream).get());
+                }
+
+                final Seal explicitSeal = provider.signSync(SignatureAlgorithm.RSA_SHA_256, privateKey, IN_MEMORY_DATA);
+                assertTrue(verifier.verifySync(explicitSeal, IN_MEMORY_DATA));
+
+                final Seal mismatchedSeal = new Seal(SignatureAlgorithm.ECDSA_SHA_384, dataSeal.getValue());
+                assertThrows(CryptographyException.class, () -> verifier.verifySync(mismatchedSeal, IN_MEMORY_DATA));
+                assertTrue(verifier.verifySync(dataSeal, IN_MEMORY_DATA));
+
+                assertThrows(IllegalArgumentException.class, () -> signer.signSync((byte[]) null));
+                assertThrows(IllegalArgumentException.class, () -> signer.signSync());
+                assertThrows(IllegalArgumentException.class, () -> verifier.verifySync(null, IN_MEMORY_DATA));
+                assertThrows(IllegalArgumentException.class, () -> verifier.verifySync(dataSeal, (ByteBuffer) null));
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> provider.signerSession(null));
+            assertThrows(IllegalArgumentException.class, () -> provider.verifierSession(null));
+            assertThrows(CryptographyException.class,
+                         () -> provider.signerSession(SignatureAlgorithm.ECDSA_SHA_384, privateKey));
+        }
+    }
+
+    @Test
+    @Order(270)
+    @DisplayName("Signature :: RSA_SHA_384 -> Batch Verification")
+    public void testCryptoSignSha384RsaBatchVerification() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final SignatureProvider provider = crypto.signature();
+
+            final KeyFactory keyFactory = KeyFactory.getInstance(SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final KeySpec privateKeySpec =
+                    new PKCS8EncodedKeySpec(PRIVATE_KEY_BYTES, SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final KeySpec publicKeySpec =
+                    new X509EncodedKeySpec(PUBLIC_KEY_BYTES, SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final PrivateKey privateKey = keyFactory.generatePrivate(privateKeySpec);
+            final PublicKey publicKey = keyFactory.generatePublic(publicKeySpec);
+
+            final List<SignedMessage> messages = new ArrayList<>();
+
+            try (final SignerSession signer = provider.signerSession(privateKey)) {
+                for (int i = 0; i < 200; i++) {
+                    final byte[] data = String.format("transaction-%d", i).getBytes(StandardCharsets.UTF_8);
+                    messages.add(new SignedMessage(signer.signSync(data), publicKey, data));
+                }
+            }
+
+            final BitSet allValid = provider.verifyBatchSync(messages);
+
+            assertEquals(messages.size(), allValid.cardinality());
+            assertEquals(allValid, provider.verifyBatchAsync(messages).get());
+            assertTrue(provider.verifyAllSync(messages));
+            assertTrue(provider.verifyAllAsync(messages).get());
+
+            final SignedMessage original = messages.get(150);
+
+            messages.set(17, new SignedMessage(messages.get(18).getSeal(), publicKey, messages.get(17).getData()));
+            messages.set(150, new SignedMessage(new Seal(SignatureAlgorithm.ECDSA_SHA_384,
+                                                         original.getSeal().getValue()),
+                                                publicKey, original.getData()));
+            messages.set(199, new SignedMessage(new Seal(SignatureAlgorithm.RSA_SHA_384, new byte[]{1}),
+                                                publicKey, messages.get(199).getData()));
+
+            final BitSet syncResults = provider.verifyBatchSync(messages);
+            final BitSet asyncResults = provider.verifyBatchAsync(messages).get();
+
+            for (int i = 0; i < messages.size(); i++) {
+                assertEquals(i != 17 && i != 150 && i != 199, syncResults.get(i));
+            }
+
+            assertEquals(syncResults, asyncResults);
+            assertFalse(provider.verifyAllSync(messages));
+            assertFalse(provider.verifyAllAsync(messages).get());
+
+            assertTrue(provider.verifyBatchSync(new ArrayList<>()).isEmpty());
+            assertTrue(provider.verifyAllSync(new ArrayList<>()));
+
+            messages.set(0, null);
+
+            assertThrows(IllegalArgumentException.class, () -> provider.verifyBatchSync(null));
+            assertThrows(IllegalArgumentException.class, () -> provider.verifyBatchSync(messages));
+            assertThrows(IllegalArgumentException.class, () -> provider.verifyAllAsync(messages));
+            assertThrows(IllegalArgumentException.class, () -> new SignedMessage(original.getSeal(), null, null));
+        }
+    }
+
+    @Test
+    @Order(280)
+    @DisplayName("Signature :: RSA_SHA_384 -> Verification Cache")
+    public void testCryptoSignSha384RsaVerificationCache() throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final SignatureProvider provider = crypto.signature();
+
+            final KeyFactory keyFactory = KeyFactory.getInstance(SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final KeySpec privateKeySpec =
+                    new PKCS8EncodedKeySpec(PRIVATE_KEY_BYTES, SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final KeySpec publicKeySpec =
+                    new X509EncodedKeySpec(PUBLIC_KEY_BYTES, SignatureAlgorithm.RSA_SHA_384.keyAlgorithmName());
+
+            final PrivateKey privateKey = keyFactory.generatePrivate(privateKeySpec);
+            final PublicKey publicKey = keyFactory.generatePublic(publicKeySpec);
+
+            final VerificationCacheConfiguration configuration = new VerificationCacheConfiguration();
+            configuration.setMaximumSize(100);
+
+            assertThrows(IllegalArgumentException.class, () -> configuration.setMaximumSize(0));
+            assertThrows(IllegalArgumentException.class, () -> configuration.setHashAlgorithm(null));
+            assertThrows(IllegalArgumentException.class, () -> provider.verificationCache(null));
+
+            final VerificationCache cache = provider.verificationCache(configuration);
+            final Seal seal = provider.signSync(privateKey, IN_MEMORY_DATA);
+            final Seal invalidSeal = provider.signSync(privateKey, new byte[]{1});
+
+            assertEquals(0, cache.hitRate());
+            assertTrue(cache.verifySync(seal, publicKey, IN_MEMORY_DATA));
+            assertEquals(0, cache.hitCount());
+            assertEquals(1, cache.missCount());
+            assertEquals(1, cache.size());
+
+            assertTrue(cache.verifySync(seal, publicKey, IN_MEMORY_DATA));
+            assertTrue(cache.verifyAsync(seal, publicKey, IN_MEMORY_DATA).get());
+            assertEquals(2, cache.hitCount());
+
+            assertFalse(cache.verifySync(invalidSeal, publicKey, IN_MEMORY_DATA));
+            assertFalse(cache.verifySync(invalidSeal, publicKey, IN_MEMORY_DATA));
+            assertFalse(cache.verifySync(seal, publicKey, new byte[]{1}));
+            assertEquals(2, cache.hitCount());
+            assertEquals(4, cache.missCount());
+            assertEquals(2.0 / 6, cache.hitRate());
+            assertEquals(1, cache.size());
+
+            try (final SignerSession signer = provider.signerSession(privateKey)) {
+                for (int i = 0; i < 250; i++) {
+                    final byte[] data = String.format("gossip-%d", i).getBytes(StandardCharsets.UTF_8);
+                    assertTrue(cache.verifySync(signer.signSync(data), publicKey, data));
+                }
+            }
+
+            assertEquals(100, cache.size());
+            assertEquals(151, cache.evictionCount());
+            assertTrue(cache.verifySync(seal, publicKey, IN_MEMORY_DATA));
+            assertEquals(3, cache.hitCount());
+
+            cache.clear();
+
+            assertEquals(0, cache.size());
+            assertTrue(cache.verifySync(seal, publicKey, IN_MEMORY_DATA));
+            assertEquals(3, cache.hitCount());
+            assertThrows(IllegalArgumentException.class, () -> cache.verifySync(null, publicKey, IN_MEMORY_DATA));
+            assertThrows(IllegalArgumentException.class, () -> cache.verifySync(seal, null, IN_MEMORY_DATA));
+            assertThrows(IllegalArgumentException.class, () -> cache.verifySync(seal, publicKey, null));
+        }
+    }
+
+    @ParameterizedTest
+    @Order(290)
+    @DisplayName("Signature :: Prehashed -> Sign And Verify")
+    @EnumSource(value = SignatureAlgorithm.class,
+                names = {"RSA_SHA_256", "RSA_SHA_384", "RSA_SHA_512", "RSA_SHA3_256", "DSA_SHA_256", "DSA_SHA_384",
+                         "DSA_SHA_512", "DSA_SHA3_256", "DSA_SHA3_512", "ECDSA_SHA_256", "ECDSA_SHA_384",
+                         "ECDSA_SHA3_512"})
+    public void testCryptoSignPrehashed(final SignatureAlgorithm algorithm) throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final SignatureProvider provider = crypto.signature();
+
+            final KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm.keyAlgorithmName());
+            generator.initialize((algorithm.prehashedAlgorithm() == SignatureAlgorithm.ECDSA) ? 256 : 2048);
+
+            final KeyPair keyPair = generator.generateKeyPair();
+            final Hash hash = crypto.digest().digestSync(algorithm.hashAlgorithm(), IN_MEMORY_DATA);
+            final Seal dataSeal = provider.signSync(algorithm, keyPair.getPrivate(), IN_MEMORY_DATA);
+            final Seal prehashedSeal = provider.signPrehashedSync(algorithm, keyPair.getPrivate(), hash);
+
+            assertEquals(algorithm, prehashedSeal.getAlgorithm());
+
+            if (algorithm.prehashedAlgorithm() == SignatureAlgorithm.RSA) {
+                assertEquals(dataSeal, prehashedSeal);
+            }
+
+            assertTrue(provider.verifySync(prehashedSeal, keyPair.getPublic(), IN_MEMORY_DATA));
+            assertTrue(provider.verifyPrehashedSync(dataSeal, keyPair.getPublic(), hash));
+            assertTrue(provider.verifyPrehashedAsync(prehashedSeal, keyPair.getPublic(), hash).get());
+            assertTrue(provider.verifySync(provider.signPrehashedAsync(algorithm, keyPair.getPrivate(), hash).get(),
+                                           keyPair.getPublic(), IN_MEMORY_DATA));
+
+            final Hash otherHash = crypto.digest().digestSync(algorithm.hashAlgorithm(), new byte[]{1});
+            assertFalse(provider.verifyPrehashedSync(prehashedSeal, keyPair.getPublic(), otherHash));
+
+            final Hash mismatchedHash = crypto.digest().digestSync(HashAlgorithm.SHA_224, IN_MEMORY_DATA);
+            assertThrows(IllegalArgumentException.class,
+                         () -> provider.signPrehashedSync(algorithm, keyPair.getPrivate(), mismatchedHash));
+            assertThrows(IllegalArgumentException.class,
+                         () -> provider.verifyPrehashedSync(prehashedSeal, keyPair.getPublic(), mismatchedHash));
+            assertThrows(IllegalArgumentException.class,
+                         () -> provider.signPrehashedSync(algorithm.prehashedAlgorithm(), keyPair.getPrivate(),
+                                                          hash));
+            assertThrows(IllegalArgumentException.class,
+                         () -> provider.signPrehashedSync(algorithm, keyPair.getPrivate(), null));
+        }
+    }
+
+    @ParameterizedTest
+    @Order(300)
+    @DisplayName("Signature :: EdDSA -> Sign And Verify")
+    @EnumSource(value = SignatureAlgorithm.class, names = {"ED25519", "ED448"})
+    public void testCryptoSignEdDsa(final SignatureAlgorithm algorithm) throws Exception {
+        try (final Cryptography crypto = Cryptography.newDefaultInstance()) {
+            final SignatureProvider provider = crypto.signature();
+            final ClassLoader classLoader = getClass().getClassLoader();
+            final int sealLength = (algorithm == SignatureAlgorithm.ED25519) ? 64 : 114;
+
+            assertEquals(algorithm, SignatureAlgorithm.valueOf(algorithm.id()));
+            assertEquals(SignatureAlgorithm.NONE, algorithm.prehashedAlgorithm());
+            assertDoesNotThrow(() -> algorithm.instance(new BouncyCastleProvider()));
+
+            final KeyPair keyPair = KeyPairGenerator.getInstance(algorithm.keyAlgorithmName()).generateKeyPair();
+            final KeyFactory keyFactory = KeyFactory.getInstance(algorithm.keyAlgorithmName());
+            final PublicKey publicKey =
+                    keyFactory.generatePublic(new X509EncodedKeySpec(keyPair.getPublic().getEncoded()));
+
+            final Seal dataSeal = provider.signSync(algorithm, keyPair.getPrivate(), IN_MEMORY_DATA);
+
+            assertEquals(sealLength, dataSeal.getValue().length);
+            assertEquals(dataSeal, provider.signSync(algorithm, keyPair.getPrivate(), IN_MEMORY_DATA));
+            assertEquals(dataSeal, provider.signSync(algorithm, keyPair.getPrivate(), ByteBuffer.wrap(IN_MEMORY_DATA)));
+            assertTrue(provider.verifySync(dataSeal, publicKey, IN_MEMORY_DATA));
+            assertTrue(provider.verifyAsync(dataSeal, publicKey, ByteBuffer.wrap(IN_MEMORY_DATA)).get());
+            assertFalse(provider.verifySync(dataSeal, publicKey, new byte[]{1}));
+
+            final Seal hashSeal = provider.signSync(algorithm, keyPair.getPrivate(), WELL_KNOWN_HASH, null);
+            assertTrue(provider.verifySync(hashSeal, publicKey, WELL_KNOWN_HASH, null));
+            assertFalse(provider.verifySync(hashSeal, publicKey, ALTERNATE_WELL_KNOWN_HASH, null));
+
+            final Seal streamSeal;
+
+            try (final InputStream stream = classLoader.getResourceAsStream(LARGE_FILE_NAME)) {
+                streamSeal = provider.signAsync(algorithm, keyPair.getPrivate(), stream).get();
+            }
+
+            try (final InputStream stream = classLoader.getResourceAsStream(LARGE_FILE_NAME)) {
+                assertTrue(provider.verifySync(streamSeal, publicKey, stream));
+            }
+
+            try (final SignerSession signer = provider.signerSession(algorithm, keyPair.getPrivate());
+                 final VerifierSession verifier = provider.verifierSession(publicKey)) {
+                assertEquals(dataSeal, signer.signSync(IN_MEMORY_DATA));
+                assertTrue(verifier.verifySync(dataSeal, IN_MEMORY_DATA));
+            }
+
+            assertThrows(IllegalArgumentException.class,
+                         () -> provider.signPrehashedSync(algorithm, keyPair.getPrivate(), WELL_KNOWN_HASH));
+        }
+    }
+
     @Test
     @Order(150)
     @DisplayName("Signature :: RSA_SHA_384 -> Sync Hash Of Hashes")